@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.data.couchbase.SimpleCouchbaseClientFactory;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.Document;
+
+import com.couchbase.client.core.env.PasswordAuthenticator;
+import com.couchbase.mock.Bucket;
+import com.couchbase.mock.BucketConfiguration;
+import com.couchbase.mock.CouchbaseMock;
+import com.couchbase.mock.memcached.MemcachedServer;
+import com.couchbase.mock.security.sasl.ShaSaslServerFactory;
+
+/**
+ * Throughput of the key-value template operations end to end, from the entity through the callbacks, the converter,
+ * the JSON translation and the SDK to a local CouchbaseMock server and back. The mock answers from memory, so the
+ * numbers are dominated by the client side, which is what this benchmark is meant to show.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouchbaseTemplateBenchmark {
+
+	private static final String BUCKET = "benchmark";
+	private static final String PASSWORD = "password";
+
+	private CouchbaseMock mock;
+	private CouchbaseClientFactory clientFactory;
+	private CouchbaseTemplate template;
+	private final Hotel hotel = new Hotel();
+
+	@Setup
+	public void setUp() throws Exception {
+		BucketConfiguration bucketConfig = new BucketConfiguration();
+		bucketConfig.type = Bucket.BucketType.COUCHBASE;
+		bucketConfig.numNodes = 1;
+		bucketConfig.numReplicas = 0;
+		bucketConfig.name = BUCKET;
+		bucketConfig.password = PASSWORD;
+		mock = new CouchbaseMock(0, Collections.singletonList(bucketConfig));
+		mock.start();
+		mock.waitForStartup();
+
+		StringBuilder connectionString = new StringBuilder();
+		for (MemcachedServer server : mock.getBuckets().get(BUCKET).getServers()) {
+			server.setCccpEnabled(true);
+			List<String> mechs = new ArrayList<>(Arrays.asList(ShaSaslServerFactory.SUPPORTED_MECHS));
+			mechs.add("PLAIN");
+			server.setSaslMechanisms(mechs);
+			connectionString.append(connectionString.length() > 0 ? "," : "").append(server.getHostname()).append(':')
+					.append(server.getPort()).append("=kv,").append(server.getHostname()).append(':')
+					.append(mock.getHttpPort()).append("=manager");
+		}
+
+		clientFactory = new SimpleCouchbaseClientFactory(connectionString.toString(),
+				PasswordAuthenticator.create(BUCKET, PASSWORD), BUCKET);
+		MappingCouchbaseConverter converter = new MappingCouchbaseConverter();
+		converter.afterPropertiesSet();
+		template = new CouchbaseTemplate(clientFactory, converter);
+		template.upsertById(Hotel.class).one(hotel);
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		clientFactory.close();
+		mock.stop();
+	}
+
+	@Benchmark
+	public Object upsertById() {
+		return template.upsertById(Hotel.class).one(hotel);
+	}
+
+	@Benchmark
+	public Object replaceById() {
+		return template.replaceById(Hotel.class).one(hotel);
+	}
+
+	@Benchmark
+	public Object findById() {
+		return template.findById(Hotel.class).one(hotel.id);
+	}
+
+	@Benchmark
+	public boolean existsById() {
+		return template.existsById(Hotel.class).one(hotel.id);
+	}
+
+	@Document
+	static class Hotel {
+		@Id String id = "hotel::1";
+		String name = "Grand Hotel";
+		int stars = 4;
+		List<String> amenities = Arrays.asList("wifi", "pool", "gym", "spa");
+		Address address = new Address();
+	}
+
+	static class Address {
+		String street = "Baker Street";
+		String city = "London";
+		String country = "United Kingdom";
+	}
+
+}
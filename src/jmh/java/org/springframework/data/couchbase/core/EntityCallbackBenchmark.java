@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.couchbase.core.mapping.event.BeforeConvertCallback;
+import org.springframework.data.couchbase.core.mapping.event.ReactiveBeforeConvertCallback;
+import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
+
+/**
+ * Per-entity overhead of the before-convert callback step of the write path. The {@code pipeline} benchmarks always go
+ * through {@link EntityCallbacks} (the behavior before {@link EntityCallbackLookup}), the {@code lookup} benchmarks
+ * consult the per-type {@link EntityCallbackLookup} first, as the template supports do now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityCallbackBenchmark {
+
+	/**
+	 * {@code none}: no callbacks registered, {@code otherType}: a callback for an unrelated domain type,
+	 * {@code sameType}: a callback for the benchmarked domain type.
+	 */
+	@Param({ "none", "otherType", "sameType" }) String callbacks;
+
+	private GenericApplicationContext context;
+	private EntityCallbacks entityCallbacks;
+	private ReactiveEntityCallbacks reactiveEntityCallbacks;
+	private EntityCallbackLookup lookup;
+	private final Entity entity = new Entity();
+
+	@Setup
+	public void setUp() {
+		context = new GenericApplicationContext();
+		if ("otherType".equals(callbacks)) {
+			context.registerBean(OtherCallback.class, OtherCallback::new);
+			context.registerBean(ReactiveOtherCallback.class, ReactiveOtherCallback::new);
+		} else if ("sameType".equals(callbacks)) {
+			context.registerBean(EntityBeforeConvertCallback.class, EntityBeforeConvertCallback::new);
+			context.registerBean(ReactiveEntityBeforeConvertCallback.class, ReactiveEntityBeforeConvertCallback::new);
+		}
+		context.refresh();
+		entityCallbacks = EntityCallbacks.create(context);
+		reactiveEntityCallbacks = ReactiveEntityCallbacks.create(context);
+		lookup = new EntityCallbackLookup(context);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Object pipeline() {
+		return entityCallbacks.callback(BeforeConvertCallback.class, entity, "");
+	}
+
+	@Benchmark
+	public Object lookup() {
+		if (!lookup.hasCallbacks(BeforeConvertCallback.class, entity.getClass())) {
+			return entity;
+		}
+		return entityCallbacks.callback(BeforeConvertCallback.class, entity, "");
+	}
+
+	@Benchmark
+	public Object reactivePipeline() {
+		return reactiveEntityCallbacks.callback(ReactiveBeforeConvertCallback.class, entity, "").block();
+	}
+
+	@Benchmark
+	public Object reactiveLookup() {
+		Mono<Entity> mono = lookup.hasCallbacks(ReactiveBeforeConvertCallback.class, entity.getClass())
+				? reactiveEntityCallbacks.callback(ReactiveBeforeConvertCallback.class, entity, "")
+				: Mono.just(entity);
+		return mono.block();
+	}
+
+	static class Entity {}
+
+	static class Other {}
+
+	static class EntityBeforeConvertCallback implements BeforeConvertCallback<Entity> {
+		@Override
+		public Entity onBeforeConvert(Entity entity, String collection) {
+			return entity;
+		}
+	}
+
+	static class OtherCallback implements BeforeConvertCallback<Other> {
+		@Override
+		public Other onBeforeConvert(Other entity, String collection) {
+			return entity;
+		}
+	}
+
+	static class ReactiveEntityBeforeConvertCallback implements ReactiveBeforeConvertCallback<Entity> {
+		@Override
+		public Mono<Entity> onBeforeConvert(Entity entity, String collection) {
+			return Mono.just(entity);
+		}
+	}
+
+	static class ReactiveOtherCallback implements ReactiveBeforeConvertCallback<Other> {
+		@Override
+		public Mono<Other> onBeforeConvert(Other entity, String collection) {
+			return Mono.just(entity);
+		}
+	}
+
+}
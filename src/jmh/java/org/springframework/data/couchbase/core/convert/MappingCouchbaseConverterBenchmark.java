@@ -0,0 +1,216 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.convert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.core.convert.translation.JacksonTranslationService;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+
+/**
+ * Throughput of the mapping layer for four entity shapes: {@code flat} (simple properties only), {@code nested}
+ * (embedded objects), {@code collections} (lists and maps of simple and embedded values) and {@code polymorphic}
+ * (properties and list elements declared with an abstract type, which need a type key). {@code write} and
+ * {@code read} measure {@link MappingCouchbaseConverter} alone, {@code encode} and {@code decode} add the JSON
+ * translation of {@link JacksonTranslationService}, as on the template path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingCouchbaseConverterBenchmark {
+
+	@Param({ "flat", "nested", "collections", "polymorphic" }) String shape;
+
+	private MappingCouchbaseConverter converter;
+	private JacksonTranslationService translationService;
+	private Object entity;
+	private CouchbaseDocument document;
+	private String json;
+
+	@Setup
+	public void setUp() {
+		converter = new MappingCouchbaseConverter();
+		converter.afterPropertiesSet();
+		translationService = new JacksonTranslationService();
+		translationService.afterPropertiesSet();
+		switch (shape) {
+			case "flat":
+				entity = new FlatEntity();
+				break;
+			case "nested":
+				entity = new NestedEntity();
+				break;
+			case "collections":
+				entity = new CollectionEntity();
+				break;
+			default:
+				entity = new PolymorphicEntity();
+		}
+		CouchbaseDocument written = new CouchbaseDocument();
+		converter.write(entity, written);
+		json = translationService.encode(written);
+		document = (CouchbaseDocument) translationService.decode(json, new CouchbaseDocument(written.getId()));
+	}
+
+	@Benchmark
+	public Object write() {
+		CouchbaseDocument target = new CouchbaseDocument();
+		converter.write(entity, target);
+		return target.export();
+	}
+
+	@Benchmark
+	public Object read() {
+		return converter.read(entity.getClass(), document);
+	}
+
+	@Benchmark
+	public String encode() {
+		CouchbaseDocument target = new CouchbaseDocument();
+		converter.write(entity, target);
+		return translationService.encode(target);
+	}
+
+	@Benchmark
+	public Object decode() {
+		CouchbaseDocument source = (CouchbaseDocument) translationService.decode(json,
+				new CouchbaseDocument(document.getId()));
+		return converter.read(entity.getClass(), source);
+	}
+
+	static class FlatEntity {
+		@Id String id = "flat::1";
+		String name = "Flat entity";
+		String description = "An entity with simple properties only";
+		int count = 42;
+		long total = 4_200_000L;
+		double ratio = 0.42;
+		boolean active = true;
+		Status status = Status.ACTIVE;
+	}
+
+	static class NestedEntity {
+		@Id String id = "nested::1";
+		String name = "Nested entity";
+		Address shipping = new Address("Baker Street", "London", new Country("GB", "United Kingdom"));
+		Address billing = new Address("Champs-Elysees", "Paris", new Country("FR", "France"));
+	}
+
+	static class CollectionEntity {
+		@Id String id = "collections::1";
+		List<String> tags = new ArrayList<>();
+		List<Integer> scores = new ArrayList<>();
+		Map<String, String> attributes = new LinkedHashMap<>();
+		List<Address> addresses = new ArrayList<>();
+
+		CollectionEntity() {
+			for (int i = 0; i < 20; i++) {
+				tags.add("tag" + i);
+				scores.add(i);
+			}
+			for (int i = 0; i < 10; i++) {
+				attributes.put("key" + i, "value" + i);
+			}
+			for (int i = 0; i < 5; i++) {
+				addresses.add(new Address("Street " + i, "City " + i, new Country("C" + i, "Country " + i)));
+			}
+		}
+	}
+
+	static class PolymorphicEntity {
+		@Id String id = "polymorphic::1";
+		Animal pet = new Dog("Rex", 3);
+		List<Animal> animals = new ArrayList<>(
+				Arrays.asList(new Dog("Fido", 1), new Cat("Tom", true), new Dog("Lassie", 5), new Cat("Felix", false)));
+	}
+
+	static class Address {
+		String street;
+		String city;
+		Country country;
+
+		Address() {}
+
+		Address(String street, String city, Country country) {
+			this.street = street;
+			this.city = city;
+			this.country = country;
+		}
+	}
+
+	static class Country {
+		String code;
+		String name;
+
+		Country() {}
+
+		Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	static abstract class Animal {
+		String name;
+	}
+
+	static class Dog extends Animal {
+		int barks;
+
+		Dog() {}
+
+		Dog(String name, int barks) {
+			this.name = name;
+			this.barks = barks;
+		}
+	}
+
+	static class Cat extends Animal {
+		boolean indoor;
+
+		Cat() {}
+
+		Cat(String name, boolean indoor) {
+			this.name = name;
+			this.indoor = indoor;
+		}
+	}
+
+	enum Status {
+		ACTIVE, INACTIVE
+	}
+
+}
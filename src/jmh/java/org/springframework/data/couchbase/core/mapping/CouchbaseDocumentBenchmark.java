@@ -0,0 +1,177 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.core.convert.CouchbaseCustomConversions;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.mapping.model.SimpleTypeHolder;
+
+/**
+ * Cost of building and exporting the intermediate {@link CouchbaseDocument} of an entity with a few simple properties,
+ * two lists and a nested object. The {@code legacy} benchmark builds the same structure the way the containers did
+ * before: sorted maps, a new {@link SimpleTypeHolder} for every list, a type check for every value and a sorted copy on
+ * export. The {@code containers} benchmark uses the current containers and {@link CouchbaseDocument#toMap()}, the
+ * {@code write} benchmarks the converter with and without the type verification. Compare {@code gc.alloc.rate.norm},
+ * the bytes allocated per operation, of {@code mvn -Pbenchmarks test-compile exec:exec
+ * -Djmh.args="-f 1 -prof gc CouchbaseDocumentBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouchbaseDocumentBenchmark {
+
+	private final Entity entity = new Entity();
+	private SimpleTypeHolder simpleTypeHolder;
+	private MappingCouchbaseConverter converter;
+	private MappingCouchbaseConverter unverifiedConverter;
+
+	@Setup
+	public void setUp() {
+		converter = new MappingCouchbaseConverter();
+		converter.afterPropertiesSet();
+		unverifiedConverter = new MappingCouchbaseConverter();
+		unverifiedConverter.setVerifyValueTypes(false);
+		unverifiedConverter.afterPropertiesSet();
+		simpleTypeHolder = new CouchbaseCustomConversions(Collections.emptyList()).getSimpleTypeHolder();
+	}
+
+	@Benchmark
+	public Object legacy() {
+		Map<String, Object> document = new TreeMap<>();
+		legacyPut(CouchbaseSimpleTypes.DOCUMENT_TYPES, document, "_class", Entity.class.getName());
+		legacyPut(CouchbaseSimpleTypes.DOCUMENT_TYPES, document, "name", entity.name);
+		legacyPut(CouchbaseSimpleTypes.DOCUMENT_TYPES, document, "count", entity.count);
+		legacyPut(CouchbaseSimpleTypes.DOCUMENT_TYPES, document, "active", entity.active);
+		legacyPut(CouchbaseSimpleTypes.DOCUMENT_TYPES, document, "tags", legacyList(entity.tags));
+		legacyPut(CouchbaseSimpleTypes.DOCUMENT_TYPES, document, "scores", legacyList(entity.scores));
+		Map<String, Object> address = new TreeMap<>();
+		legacyPut(CouchbaseSimpleTypes.DOCUMENT_TYPES, address, "street", entity.address.street);
+		legacyPut(CouchbaseSimpleTypes.DOCUMENT_TYPES, address, "city", entity.address.city);
+		legacyPut(CouchbaseSimpleTypes.DOCUMENT_TYPES, document, "address", address);
+		return legacyExport(document);
+	}
+
+	@Benchmark
+	public Object containers() {
+		CouchbaseDocument document = new CouchbaseDocument(null, CouchbaseDocument.DEFAULT_EXPIRATION_TIME, 7);
+		document.put("_class", Entity.class.getName());
+		document.put("name", entity.name);
+		document.put("count", entity.count);
+		document.put("active", entity.active);
+		document.put("tags", list(entity.tags));
+		document.put("scores", list(entity.scores));
+		document.put("address", new CouchbaseDocument(null, CouchbaseDocument.DEFAULT_EXPIRATION_TIME, 3)
+				.put("street", entity.address.street).put("city", entity.address.city));
+		return document.toMap();
+	}
+
+	@Benchmark
+	public Object write() {
+		CouchbaseDocument document = new CouchbaseDocument();
+		converter.write(entity, document);
+		return document.toMap();
+	}
+
+	@Benchmark
+	public Object writeUnverified() {
+		CouchbaseDocument document = new CouchbaseDocument();
+		unverifiedConverter.write(entity, document);
+		return document.toMap();
+	}
+
+	private CouchbaseList list(List<?> values) {
+		CouchbaseList list = new CouchbaseList(simpleTypeHolder, values.size());
+		for (Object value : values) {
+			list.put(value);
+		}
+		return list;
+	}
+
+	private List<Object> legacyList(List<?> values) {
+		Set<Class<?>> additionalTypes = new HashSet<>();
+		additionalTypes.add(CouchbaseDocument.class);
+		additionalTypes.add(CouchbaseList.class);
+		SimpleTypeHolder holder = new SimpleTypeHolder(additionalTypes, simpleTypeHolder);
+		List<Object> list = new ArrayList<>();
+		for (Object value : values) {
+			if (!holder.isSimpleType(value.getClass())) {
+				throw new IllegalArgumentException();
+			}
+			list.add(value);
+		}
+		return list;
+	}
+
+	private static void legacyPut(SimpleTypeHolder holder, Map<String, Object> document, String key, Object value) {
+		if (!(value instanceof Map) && !(value instanceof List) && !holder.isSimpleType(value.getClass())) {
+			throw new IllegalArgumentException();
+		}
+		document.put(key, value);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> legacyExport(Map<String, Object> document) {
+		Map<String, Object> toExport = new TreeMap<>(document);
+		for (Map.Entry<String, Object> entry : document.entrySet()) {
+			if (entry.getValue() instanceof Map) {
+				toExport.put(entry.getKey(), legacyExport((Map<String, Object>) entry.getValue()));
+			} else if (entry.getValue() instanceof List) {
+				toExport.put(entry.getKey(), new ArrayList<>((List<Object>) entry.getValue()));
+			}
+		}
+		return toExport;
+	}
+
+	static class Entity {
+		@Id String id = "entity::1";
+		String name = "name";
+		int count = 42;
+		boolean active = true;
+		List<String> tags = Arrays.asList("a", "b", "c", "d");
+		List<Integer> scores = Arrays.asList(1, 2, 3);
+		Address address = new Address();
+	}
+
+	static class Address {
+		String street = "Baker Street";
+		String city = "London";
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+import static org.springframework.data.couchbase.core.query.QueryCriteria.where;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
+
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+
+/**
+ * Throughput of the rendering of the WHERE clause of a criteria chain of 1, 5 or 20 predicates, cycling through plain
+ * operators and operators with a format: {@code inline} renders the values into the statement, {@code positional} and
+ * {@code named} bind them to positional or named parameters as the repository queries do.
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryCriteriaBenchmark {
+
+	@Param({ "1", "5", "20" }) int predicates;
+
+	private CouchbaseConverter converter;
+	private QueryCriteria criteria;
+
+	@Setup
+	public void setUp() {
+		converter = new MappingCouchbaseConverter(new CouchbaseMappingContext());
+		criteria = predicate(where("field0"), 0);
+		QueryCriteria last = criteria;
+		for (int i = 1; i < predicates; i++) {
+			last = predicate(last.and("field" + i), i);
+		}
+	}
+
+	private static QueryCriteria predicate(QueryCriteria criteria, int i) {
+		switch (i % 4) {
+			case 0:
+				return criteria.is("value" + i);
+			case 1:
+				return criteria.gt(i);
+			case 2:
+				return criteria.startingWith("prefix" + i);
+			default:
+				return criteria.between(i, i * 10);
+		}
+	}
+
+	@Benchmark
+	public String inline() {
+		return criteria.export();
+	}
+
+	@Benchmark
+	public String positional() {
+		return criteria.export(new int[] { 0 }, JsonArray.create(), converter);
+	}
+
+	@Benchmark
+	public String named() {
+		return criteria.export(new int[] { -1 }, JsonObject.create(), converter);
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.query;
+
+import java.lang.reflect.Method;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
+import org.springframework.data.couchbase.domain.User;
+import org.springframework.data.couchbase.domain.UserRepository;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
+import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.ParameterAccessor;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Throughput of the statement generation done on every execution of a repository query method, from the parameters
+ * to the N1QL string: {@code derived} and {@code derivedCount} run the {@link N1qlQueryCreator} of
+ * {@code findByFirstnameAndLastname} and render the select and count statements, {@code string} runs the
+ * {@link StringN1qlQueryCreator} of the {@code @Query} method {@code getByFirstnameAndLastname}, which includes the
+ * SpEL parsing of {@link StringBasedN1qlQueryParser}.
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryGenerationBenchmark {
+
+	private static final String BUCKET = "travel-sample";
+
+	private CouchbaseConverter converter;
+	private PartTree tree;
+	private CouchbaseQueryMethod derivedMethod;
+	private ParameterAccessor derivedAccessor;
+	private CouchbaseQueryMethod stringMethod;
+	private ParameterAccessor stringAccessor;
+	private final SpelExpressionParser spelParser = new SpelExpressionParser();
+	private final NamedQueries namedQueries = new PropertiesBasedNamedQueries(new Properties());
+
+	@Setup
+	public void setUp() throws Exception {
+		CouchbaseMappingContext context = new CouchbaseMappingContext();
+		converter = new MappingCouchbaseConverter(context);
+		DefaultRepositoryMetadata metadata = new DefaultRepositoryMetadata(UserRepository.class);
+
+		Method derived = UserRepository.class.getMethod("findByFirstnameAndLastname", String.class, String.class);
+		tree = new PartTree(derived.getName(), User.class);
+		derivedMethod = new CouchbaseQueryMethod(derived, metadata, new SpelAwareProxyProjectionFactory(), context);
+		derivedAccessor = new ParametersParameterAccessor(new DefaultParameters(derived),
+				new Object[] { "Oliver", "Twist" });
+
+		Method string = UserRepository.class.getMethod("getByFirstnameAndLastname", String.class, String.class);
+		stringMethod = new CouchbaseQueryMethod(string, metadata, new SpelAwareProxyProjectionFactory(), context);
+		stringAccessor = new ParametersParameterAccessor(new DefaultParameters(string), new Object[] { "Oliver", "Twist" });
+	}
+
+	@Benchmark
+	public String derived() {
+		return new N1qlQueryCreator(tree, derivedAccessor, derivedMethod, converter, BUCKET).createQuery()
+				.toN1qlSelectString(converter, BUCKET, null, null, User.class, User.class, false, null, null);
+	}
+
+	@Benchmark
+	public String derivedCount() {
+		return new N1qlQueryCreator(tree, derivedAccessor, derivedMethod, converter, BUCKET).createQuery()
+				.toN1qlSelectString(converter, BUCKET, null, null, User.class, User.class, true, null, null);
+	}
+
+	@Benchmark
+	public String string() {
+		return new StringN1qlQueryCreator(stringAccessor, stringMethod, converter, spelParser,
+				QueryMethodEvaluationContextProvider.DEFAULT, namedQueries).createQuery()
+				.toN1qlSelectString(converter, BUCKET, null, null, User.class, User.class, false, null, null);
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.query;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
+import org.springframework.data.couchbase.core.query.Meta;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.domain.User;
+import org.springframework.data.couchbase.domain.UserRepository;
+import org.springframework.data.couchbase.repository.Collection;
+import org.springframework.data.couchbase.repository.ScanConsistency;
+import org.springframework.data.couchbase.repository.Scope;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.ParameterAccessor;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.parser.PartTree;
+
+import com.couchbase.client.core.io.CollectionIdentifier;
+
+/**
+ * Per-invocation overhead of the trivial derived finder {@code UserRepository.findByFirstname(String)}. The
+ * {@code resolve} benchmarks look up the scope, collection and scan consistency annotations on every invocation (the
+ * behavior before {@link CouchbaseQueryMethodMetadata}), the {@code precomputed} benchmarks read them from the metadata
+ * of the {@link CouchbaseQueryMethod}, as the repository queries do now. The {@code finder} variants also create the
+ * N1QL query, to put the difference in proportion.
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryMethodMetadataBenchmark {
+
+	private Method method;
+	private RepositoryMetadata repositoryMetadata;
+	private CouchbaseQueryMethod queryMethod;
+	private CouchbaseConverter converter;
+	private PartTree tree;
+	private ParameterAccessor accessor;
+
+	@Setup
+	public void setUp() throws Exception {
+		CouchbaseMappingContext context = new CouchbaseMappingContext();
+		converter = new MappingCouchbaseConverter(context);
+		method = UserRepository.class.getMethod("findByFirstname", String.class);
+		repositoryMetadata = new DefaultRepositoryMetadata(UserRepository.class);
+		queryMethod = new CouchbaseQueryMethod(method, repositoryMetadata, new SpelAwareProxyProjectionFactory(), context);
+		tree = new PartTree(method.getName(), User.class);
+		accessor = new ParametersParameterAccessor(new DefaultParameters(method), new Object[] { "Oliver" });
+	}
+
+	@Benchmark
+	public void resolve(Blackhole bh) {
+		AnnotatedElement[] annotated = new AnnotatedElement[] { method, method.getDeclaringClass(),
+				repositoryMetadata.getRepositoryInterface(), repositoryMetadata.getDomainType() };
+		bh.consume(OptionsBuilder.annotationString(Scope.class, CollectionIdentifier.DEFAULT_SCOPE, annotated));
+		bh.consume(OptionsBuilder.annotationString(Collection.class, CollectionIdentifier.DEFAULT_COLLECTION, annotated));
+		Meta meta = new Meta();
+		meta.set(Meta.MetaKey.SCAN_CONSISTENCY, OptionsBuilder.annotation(ScanConsistency.class, "query",
+				CollectionIdentifier.DEFAULT_COLLECTION, annotated));
+		bh.consume(meta);
+	}
+
+	@Benchmark
+	public void precomputed(Blackhole bh) {
+		bh.consume(queryMethod.getScope());
+		bh.consume(queryMethod.getCollection());
+		bh.consume(OptionsBuilder.buildMeta(queryMethod, User.class));
+	}
+
+	@Benchmark
+	public void resolveFinder(Blackhole bh) {
+		resolve(bh);
+		bh.consume(new N1qlQueryCreator(tree, accessor, queryMethod, converter, "bucket").createQuery());
+	}
+
+	@Benchmark
+	public void precomputedFinder(Blackhole bh) {
+		precomputed(bh);
+		bh.consume(new N1qlQueryCreator(tree, accessor, queryMethod, converter, "bucket").createQuery());
+	}
+
+}
@@ -18,6 +18,8 @@ package org.springframework.data.couchbase.config;
 
 import static com.couchbase.client.java.ClusterOptions.clusterOptions;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -38,6 +40,10 @@ import org.springframework.data.couchbase.core.convert.translation.JacksonTransl
 import org.springframework.data.couchbase.core.convert.translation.TranslationService;
 import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
 import org.springframework.data.couchbase.core.mapping.Document;
+import org.springframework.data.couchbase.core.mapping.event.CouchbaseMappingEventDispatcher;
+import org.springframework.data.couchbase.core.mapping.event.MappingEventDispatchMode;
+import org.springframework.data.couchbase.core.mapping.id.GenerationStrategy;
+import org.springframework.data.couchbase.core.mapping.id.SequenceIdGenerator;
 import org.springframework.data.couchbase.repository.config.ReactiveRepositoryOperationsMapping;
 import org.springframework.data.couchbase.repository.config.RepositoryOperationsMapping;
 import org.springframework.data.mapping.model.CamelCaseAbbreviatingFieldNamingStrategy;
@@ -157,8 +163,10 @@ public abstract class AbstractCouchbaseConfiguration {
 	@Bean(name = BeanNames.COUCHBASE_TEMPLATE)
 	public CouchbaseTemplate couchbaseTemplate(CouchbaseClientFactory couchbaseClientFactory,
 			MappingCouchbaseConverter mappingCouchbaseConverter, TranslationService couchbaseTranslationService) {
-		return new CouchbaseTemplate(couchbaseClientFactory, mappingCouchbaseConverter, couchbaseTranslationService,
-				getDefaultConsistency());
+		CouchbaseTemplate template = new CouchbaseTemplate(couchbaseClientFactory, mappingCouchbaseConverter,
+				couchbaseTranslationService, getDefaultConsistency());
+		template.setObservationRegistry(observationRegistry());
+		return template;
 	}
 
 	public CouchbaseTemplate couchbaseTemplate(CouchbaseClientFactory couchbaseClientFactory,
@@ -169,8 +177,10 @@ public abstract class AbstractCouchbaseConfiguration {
 	@Bean(name = BeanNames.REACTIVE_COUCHBASE_TEMPLATE)
 	public ReactiveCouchbaseTemplate reactiveCouchbaseTemplate(CouchbaseClientFactory couchbaseClientFactory,
 			MappingCouchbaseConverter mappingCouchbaseConverter, TranslationService couchbaseTranslationService) {
-		return new ReactiveCouchbaseTemplate(couchbaseClientFactory, mappingCouchbaseConverter, couchbaseTranslationService,
-				getDefaultConsistency());
+		ReactiveCouchbaseTemplate template = new ReactiveCouchbaseTemplate(couchbaseClientFactory,
+				mappingCouchbaseConverter, couchbaseTranslationService, getDefaultConsistency());
+		template.setObservationRegistry(observationRegistry());
+		return template;
 	}
 
 	public ReactiveCouchbaseTemplate reactiveCouchbaseTemplate(CouchbaseClientFactory couchbaseClientFactory,
@@ -179,6 +189,47 @@ public abstract class AbstractCouchbaseConfiguration {
 				new JacksonTranslationService());
 	}
 
+	/**
+	 * Override to observe the operations of the templates, typically with the {@link ObservationRegistry} of the
+	 * application context.
+	 *
+	 * @return the registry of the observations, default is {@link ObservationRegistry#NOOP}.
+	 * @see CouchbaseTemplate#setObservationRegistry(ObservationRegistry)
+	 */
+	protected ObservationRegistry observationRegistry() {
+		return ObservationRegistry.NOOP;
+	}
+
+	/**
+	 * Override to change the number of {@link GenerationStrategy#SEQUENCE} ids reserved with one increment of the
+	 * counter document of an entity type. Larger blocks mean fewer round trips, and more ids lost on restarts.
+	 *
+	 * @return the block size, default is {@literal 100}.
+	 * @see SequenceIdGenerator
+	 */
+	protected int idSequenceBlockSize() {
+		return 100;
+	}
+
+	/**
+	 * Creates the {@link CouchbaseMappingEventDispatcher} the templates use to dispatch mapping events.
+	 *
+	 * @see #mappingEventDispatchMode()
+	 */
+	@Bean
+	public CouchbaseMappingEventDispatcher couchbaseMappingEventDispatcher() {
+		return new CouchbaseMappingEventDispatcher(mappingEventDispatchMode());
+	}
+
+	/**
+	 * Override to change how mapping events are dispatched to listeners.
+	 *
+	 * @return the dispatch mode, default is {@link MappingEventDispatchMode#PUBLISH}.
+	 */
+	protected MappingEventDispatchMode mappingEventDispatchMode() {
+		return MappingEventDispatchMode.PUBLISH;
+	}
+
 	@Bean(name = BeanNames.COUCHBASE_OPERATIONS_MAPPING)
 	public RepositoryOperationsMapping couchbaseRepositoryOperationsMapping(CouchbaseTemplate couchbaseTemplate) {
 		// create a base mapping that associates all repositories to the default template
@@ -252,6 +303,28 @@ public abstract class AbstractCouchbaseConfiguration {
 		return MappingCouchbaseConverter.TYPEKEY_DEFAULT;
 	}
 
+	/**
+	 * Override to let the {@link #mappingCouchbaseConverter(CouchbaseMappingContext, CouchbaseCustomConversions)} keep
+	 * snapshots of the documents it reads, so that replacing a document only writes the fields which changed.
+	 *
+	 * @return whether to track dirty fields, default is {@literal false}.
+	 * @see MappingCouchbaseConverter#setDirtyTracking(boolean)
+	 */
+	protected boolean dirtyTracking() {
+		return false;
+	}
+
+	/**
+	 * Override to let the {@link #mappingCouchbaseConverter(CouchbaseMappingContext, CouchbaseCustomConversions)} skip
+	 * the type verification of the values it writes to documents.
+	 *
+	 * @return whether to verify the types of the values written, default is {@literal true}.
+	 * @see MappingCouchbaseConverter#setVerifyValueTypes(boolean)
+	 */
+	protected boolean verifyValueTypes() {
+		return true;
+	}
+
 	/**
 	 * Creates a {@link MappingCouchbaseConverter} using the configured {@link #couchbaseMappingContext}.
 	 */
@@ -260,6 +333,12 @@ public abstract class AbstractCouchbaseConfiguration {
 			CouchbaseCustomConversions couchbaseCustomConversions) {
 		MappingCouchbaseConverter converter = new MappingCouchbaseConverter(couchbaseMappingContext, typeKey());
 		converter.setCustomConversions(couchbaseCustomConversions);
+		converter.setDirtyTracking(dirtyTracking());
+		converter.setVerifyValueTypes(verifyValueTypes());
+		// the counter documents are in the default collection of the scope, looked up when the first ids are reserved
+		converter.setIdGenerator(GenerationStrategy.SEQUENCE,
+				new SequenceIdGenerator(() -> couchbaseClientFactory(couchbaseCluster(couchbaseClusterEnvironment()))
+						.getCollection(null), SequenceIdGenerator.DEFAULT_KEY_PREFIX, idSequenceBlockSize()));
 		return converter;
 	}
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.util.Assert;
+
+/**
+ * How often and how fast a replace which failed on a cas mismatch is retried. The backoff before a retry is a random
+ * duration up to an exponentially growing bound ("full jitter"), so writers contending for the same document spread
+ * out instead of colliding again in lockstep.
+ *
+ * @since 5.0
+ * @see ReactiveReplaceByIdOperation.ReplaceByIdWithRetry
+ */
+public final class CasRetryPolicy {
+
+	private static final CasRetryPolicy DEFAULT = new CasRetryPolicy(10, Duration.ofMillis(1), Duration.ofMillis(100));
+
+	private final int maxAttempts;
+	private final Duration initialBackoff;
+	private final Duration maxBackoff;
+
+	private CasRetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+		this.maxAttempts = maxAttempts;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+	}
+
+	/**
+	 * The policy with 10 attempts and a backoff bound growing from 1ms up to 100ms.
+	 */
+	public static CasRetryPolicy defaultPolicy() {
+		return DEFAULT;
+	}
+
+	/**
+	 * @param maxAttempts the number of attempts including the first one, at least {@literal 1}.
+	 * @param initialBackoff the bound of the backoff before the first retry, doubled for every further retry.
+	 * @param maxBackoff the upper limit of the bound.
+	 */
+	public static CasRetryPolicy of(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+		Assert.isTrue(maxAttempts > 0, "maxAttempts must be positive!");
+		Assert.notNull(initialBackoff, "initialBackoff must not be null!");
+		Assert.notNull(maxBackoff, "maxBackoff must not be null!");
+		Assert.isTrue(!initialBackoff.isNegative(), "initialBackoff must not be negative!");
+		Assert.isTrue(maxBackoff.compareTo(initialBackoff) >= 0, "maxBackoff must not be less than initialBackoff!");
+		return new CasRetryPolicy(maxAttempts, initialBackoff, maxBackoff);
+	}
+
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	public Duration getInitialBackoff() {
+		return initialBackoff;
+	}
+
+	public Duration getMaxBackoff() {
+		return maxBackoff;
+	}
+
+	/**
+	 * The backoff before a retry.
+	 *
+	 * @param retry the number of the retry, starting with {@literal 1}.
+	 * @return a random duration between zero and {@code min(maxBackoff, initialBackoff * 2^(retry - 1))}.
+	 */
+	public Duration backoff(int retry) {
+		Assert.isTrue(retry > 0, "retry must be positive!");
+		long max = maxBackoff.toNanos();
+		long bound = initialBackoff.toNanos();
+		for (int i = 1; i < retry && bound < max; i++) {
+			bound = bound > max / 2 ? max : bound * 2;
+		}
+		bound = Math.min(bound, max);
+		return bound == 0 ? Duration.ZERO : Duration.ofNanos(ThreadLocalRandom.current().nextLong(bound + 1));
+	}
+
+	@Override
+	public String toString() {
+		return "CasRetryPolicy{maxAttempts=" + maxAttempts + ", initialBackoff=" + initialBackoff + ", maxBackoff="
+				+ maxBackoff + "}";
+	}
+
+}
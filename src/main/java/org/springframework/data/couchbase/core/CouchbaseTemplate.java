@@ -16,6 +16,13 @@
 
 package org.springframework.data.couchbase.core;
 
+import io.micrometer.observation.ObservationRegistry;
+
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.function.Function;
+
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -28,10 +35,14 @@ import org.springframework.data.couchbase.core.index.CouchbasePersistentEntityIn
 import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.data.couchbase.observability.CouchbaseObservationConvention;
+import org.springframework.data.couchbase.observability.MappingProfiler;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.lang.Nullable;
 
 import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.query.QueryProfile;
 import com.couchbase.client.java.query.QueryScanConsistency;
 
 /**
@@ -93,6 +104,16 @@ public class CouchbaseTemplate implements CouchbaseOperations, ApplicationContex
 		return new ExecutableReplaceByIdOperationSupport(this).replaceById(domainType);
 	}
 
+	@Override
+	public <T> ExecutableMutateInById<T> mutateInById(Class<T> domainType) {
+		return new ExecutableMutateInByIdOperationSupport(this).mutateInById(domainType);
+	}
+
+	@Override
+	public <T> ExecutableIncrementById<T> incrementById(Class<T> domainType) {
+		return new ExecutableIncrementByIdOperationSupport(this).incrementById(domainType);
+	}
+
 	@Override
 	public <T> ExecutableFindById<T> findById(Class<T> domainType) {
 		return new ExecutableFindByIdOperationSupport(this).findById(domainType);
@@ -113,6 +134,16 @@ public class CouchbaseTemplate implements CouchbaseOperations, ApplicationContex
 		return new ExecutableFindByAnalyticsOperationSupport(this).findByAnalytics(domainType);
 	}
 
+	@Override
+	public <T> ExecutableFindBySearch<T> findBySearch(Class<T> domainType) {
+		return new ExecutableFindBySearchOperationSupport(this).findBySearch(domainType);
+	}
+
+	@Override
+	public <T> ExecutableScanById<T> scanById(Class<T> domainType) {
+		return new ExecutableScanByIdOperationSupport(this).scanById(domainType);
+	}
+
 	@Override
 	@Deprecated
 	public ExecutableRemoveById removeById() {
@@ -179,6 +210,61 @@ public class CouchbaseTemplate implements CouchbaseOperations, ApplicationContex
 		return reactiveCouchbaseTemplate;
 	}
 
+	/**
+	 * Writes the pseudoArgs a blocking scoped repository call bound to the calling thread into the subscriber context of
+	 * the reactive operation a blocking operation delegates to.
+	 */
+	Function<Context, Context> pseudoArgsContext() {
+		return PseudoArgs.fromCallingThread(reactiveCouchbaseTemplate);
+	}
+
+	/**
+	 * Observe the operations of the template with the given registry. The blocking operations run on the reactive
+	 * template, which records the observations.
+	 *
+	 * @param observationRegistry the registry of the observations.
+	 * @since 5.0
+	 * @see ReactiveCouchbaseTemplate#setObservationRegistry(ObservationRegistry)
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		reactiveCouchbaseTemplate.setObservationRegistry(observationRegistry);
+	}
+
+	/**
+	 * @param observationConvention the convention, or {@literal null} for the default.
+	 * @since 5.0
+	 * @see ReactiveCouchbaseTemplate#setObservationConvention(CouchbaseObservationConvention)
+	 */
+	public void setObservationConvention(@Nullable CouchbaseObservationConvention observationConvention) {
+		reactiveCouchbaseTemplate.setObservationConvention(observationConvention);
+	}
+
+	/**
+	 * @param threshold the duration above which query and analytics operations are logged, or {@literal null}.
+	 * @since 5.0
+	 * @see ReactiveCouchbaseTemplate#setSlowOperationThreshold(Duration)
+	 */
+	public void setSlowOperationThreshold(@Nullable Duration threshold) {
+		reactiveCouchbaseTemplate.setSlowOperationThreshold(threshold);
+	}
+
+	/**
+	 * @param profile the profile of the queries.
+	 * @since 5.0
+	 * @see ReactiveCouchbaseTemplate#setSlowOperationProfile(QueryProfile)
+	 */
+	public void setSlowOperationProfile(QueryProfile profile) {
+		reactiveCouchbaseTemplate.setSlowOperationProfile(profile);
+	}
+
+	/**
+	 * @since 5.0
+	 * @see ReactiveCouchbaseTemplate#getMappingProfiler()
+	 */
+	public MappingProfiler getMappingProfiler() {
+		return reactiveCouchbaseTemplate.getMappingProfiler();
+	}
+
 	@Override
 	public void setApplicationContext(final ApplicationContext applicationContext) throws BeansException {
 		prepareIndexCreator(applicationContext);
@@ -26,6 +26,8 @@ import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.CouchbaseDocumentSnapshots;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
 import org.springframework.data.couchbase.core.convert.join.N1qlJoinResolver;
 import org.springframework.data.couchbase.core.convert.translation.TranslationService;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
@@ -37,7 +39,9 @@ import org.springframework.data.couchbase.core.mapping.event.BeforeConvertCallba
 import org.springframework.data.couchbase.core.mapping.event.BeforeConvertEvent;
 import org.springframework.data.couchbase.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.couchbase.core.mapping.event.CouchbaseMappingEvent;
+import org.springframework.data.couchbase.core.mapping.event.CouchbaseMappingEventDispatcher;
 import org.springframework.data.couchbase.core.support.TemplateUtils;
+import org.springframework.data.couchbase.observability.MappingProfiler;
 import org.springframework.data.couchbase.repository.support.MappingCouchbaseEntityInformation;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.callback.EntityCallbacks;
@@ -66,7 +70,9 @@ class CouchbaseTemplateSupport implements ApplicationContextAware, TemplateSuppo
 	private final MappingContext<? extends CouchbasePersistentEntity<?>, CouchbasePersistentProperty> mappingContext;
 	private final TranslationService translationService;
 	private EntityCallbacks entityCallbacks;
+	private EntityCallbackLookup callbackLookup;
 	private ApplicationContext applicationContext;
+	private CouchbaseMappingEventDispatcher eventDispatcher;
 
 	public CouchbaseTemplateSupport(final CouchbaseTemplate template, final CouchbaseConverter converter,
 			final TranslationService translationService) {
@@ -78,12 +84,23 @@ class CouchbaseTemplateSupport implements ApplicationContextAware, TemplateSuppo
 
 	@Override
 	public CouchbaseDocument encodeEntity(final Object entityToEncode) {
-		maybeEmitEvent(new BeforeConvertEvent<>(entityToEncode));
+		if (shouldEmitEvent(BeforeConvertEvent.class, entityToEncode)) {
+			maybeEmitEvent(new BeforeConvertEvent<>(entityToEncode));
+		}
 		Object maybeNewEntity = maybeCallBeforeConvert(entityToEncode, "");
 		final CouchbaseDocument converted = new CouchbaseDocument();
+		MappingProfiler profiler = template.getMappingProfiler();
+		boolean sampled = profiler.sample();
+		long start = sampled ? System.nanoTime() : 0;
 		converter.write(maybeNewEntity, converted);
+		if (sampled) {
+			profiler.recordEncode(maybeNewEntity.getClass(), System.nanoTime() - start,
+					MappingProfiler.utf8Length(translationService.encode(converted)), converted.size(true));
+		}
 		maybeCallAfterConvert(entityToEncode, converted, "");
-		maybeEmitEvent(new BeforeSaveEvent<>(entityToEncode, converted));
+		if (shouldEmitEvent(BeforeSaveEvent.class, entityToEncode)) {
+			maybeEmitEvent(new BeforeSaveEvent<>(entityToEncode, converted));
+		}
 		return converted;
 	}
 
@@ -136,10 +153,19 @@ class CouchbaseTemplateSupport implements ApplicationContextAware, TemplateSuppo
 			}
 		}
 
+		MappingProfiler profiler = template.getMappingProfiler();
+		boolean sampled = profiler.sample();
+		long start = sampled ? System.nanoTime() : 0;
 		// if the constructor has an argument that is long version, then construction will fail if the 'version'
 		// is not available as 'null' is not a legal value for a long. Changing the arg to "Long version" would solve this.
 		// (Version doesn't come from 'source', it comes from the cas argument to decodeEntity)
-		T readEntity = converter.read(entityClass, (CouchbaseDocument) translationService.decode(source, converted));
+		CouchbaseDocument decoded = (CouchbaseDocument) translationService.decode(source, converted);
+		T readEntity = converter.read(entityClass, decoded);
+		if (sampled) {
+			profiler.recordDecode(readEntity.getClass(), System.nanoTime() - start, MappingProfiler.utf8Length(source),
+					decoded.size(true));
+		}
+		maybeRecordSnapshot(decoded, persistentEntity, cas, scope, collection);
 		final ConvertingPropertyAccessor<T> accessor = getPropertyAccessor(readEntity);
 
 		persistentEntity = couldBePersistentEntity(readEntity.getClass());
@@ -151,6 +177,21 @@ class CouchbaseTemplateSupport implements ApplicationContextAware, TemplateSuppo
 		return accessor.getBean();
 	}
 
+	/**
+	 * Keeps the snapshot of a document read with its cas if the converter tracks dirty fields. The version put into the
+	 * document for the entity construction is not stored in the document and is not part of the snapshot.
+	 */
+	private void maybeRecordSnapshot(CouchbaseDocument decoded, CouchbasePersistentEntity<?> persistentEntity, Long cas,
+			String scope, String collection) {
+		CouchbaseDocumentSnapshots snapshots = converter instanceof MappingCouchbaseConverter
+				? ((MappingCouchbaseConverter) converter).getDocumentSnapshots()
+				: null;
+		if (snapshots == null || cas == null || cas == 0 || persistentEntity.getVersionProperty() == null) {
+			return;
+		}
+		snapshots.record(scope, collection, decoded, cas, persistentEntity.getVersionProperty().getName());
+	}
+
 	CouchbasePersistentEntity couldBePersistentEntity(Class<?> entityClass) {
 		if (ClassUtils.isPrimitiveOrWrapper(entityClass) || entityClass == String.class) {
 			return null;
@@ -176,7 +217,9 @@ class CouchbaseTemplateSupport implements ApplicationContextAware, TemplateSuppo
 		} else {
 			returnValue = entity;
 		}
-		maybeEmitEvent(new AfterSaveEvent(returnValue, converted));
+		if (shouldEmitEvent(AfterSaveEvent.class, returnValue)) {
+			maybeEmitEvent(new AfterSaveEvent(returnValue, converted));
+		}
 
 		return returnValue;
 	}
@@ -226,8 +269,16 @@ class CouchbaseTemplateSupport implements ApplicationContextAware, TemplateSuppo
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		this.applicationContext = applicationContext;
+		if (eventDispatcher == null) {
+			setEventDispatcher(applicationContext.getBeanProvider(CouchbaseMappingEventDispatcher.class).getIfUnique(() -> {
+				CouchbaseMappingEventDispatcher dispatcher = new CouchbaseMappingEventDispatcher();
+				dispatcher.setApplicationContext(applicationContext);
+				return dispatcher;
+			}));
+		}
 		if (entityCallbacks == null) {
 			setEntityCallbacks(EntityCallbacks.create(applicationContext));
+			this.callbackLookup = EntityCallbackLookup.of(applicationContext);
 		}
 	}
 
@@ -244,12 +295,13 @@ class CouchbaseTemplateSupport implements ApplicationContextAware, TemplateSuppo
 	public void setEntityCallbacks(EntityCallbacks entityCallbacks) {
 		Assert.notNull(entityCallbacks, "EntityCallbacks must not be null!");
 		this.entityCallbacks = entityCallbacks;
+		this.callbackLookup = null; // callbacks of a custom instance are unknown, always invoke them
 	}
 
 	public void maybeEmitEvent(CouchbaseMappingEvent<?> event) {
 		if (canPublishEvent()) {
 			try {
-				this.applicationContext.publishEvent(event);
+				this.eventDispatcher.dispatch(event);
 			} catch (Exception e) {
 				LOG.warn("{} thrown during {}", e, event);
 				throw e;
@@ -261,11 +313,35 @@ class CouchbaseTemplateSupport implements ApplicationContextAware, TemplateSuppo
 	}
 
 	private boolean canPublishEvent() {
-		return this.applicationContext != null;
+		return this.applicationContext != null && this.eventDispatcher != null;
+	}
+
+	/**
+	 * Whether an event of the given type for the entity needs to be created at all. Does not check for an application
+	 * context so that {@link #maybeEmitEvent(CouchbaseMappingEvent)} can still report a missing one.
+	 */
+	private boolean shouldEmitEvent(Class<?> eventType, Object entity) {
+		return eventDispatcher == null || eventDispatcher.hasListeners(eventType, entity.getClass());
+	}
+
+	/**
+	 * Set the {@link CouchbaseMappingEventDispatcher} used to dispatch mapping events. Defaults to the
+	 * {@link CouchbaseMappingEventDispatcher} bean of the application context or one publishing every event through the
+	 * application context.
+	 *
+	 * @param eventDispatcher must not be {@literal null}.
+	 * @throws IllegalArgumentException if the given instance is {@literal null}.
+	 */
+	public void setEventDispatcher(CouchbaseMappingEventDispatcher eventDispatcher) {
+		Assert.notNull(eventDispatcher, "EventDispatcher must not be null!");
+		this.eventDispatcher = eventDispatcher;
 	}
 
 	protected <T> T maybeCallBeforeConvert(T object, String collection) {
 		if (entityCallbacks != null) {
+			if (callbackLookup != null && !callbackLookup.hasCallbacks(BeforeConvertCallback.class, object.getClass())) {
+				return object;
+			}
 			return entityCallbacks.callback(BeforeConvertCallback.class, object, collection);
 		} else {
 			LOG.info("maybeCallBeforeConvert called, but CouchbaseTemplate not initialized with applicationContext");
@@ -275,6 +351,9 @@ class CouchbaseTemplateSupport implements ApplicationContextAware, TemplateSuppo
 
 	protected <T> T maybeCallAfterConvert(T object, CouchbaseDocument document, String collection) {
 		if (null != entityCallbacks) {
+			if (callbackLookup != null && !callbackLookup.hasCallbacks(AfterConvertCallback.class, object.getClass())) {
+				return object;
+			}
 			return entityCallbacks.callback(AfterConvertCallback.class, object, document, collection);
 		} else {
 			LOG.info("maybeCallAfterConvert called, but CouchbaseTemplate not initialized with applicationContext");
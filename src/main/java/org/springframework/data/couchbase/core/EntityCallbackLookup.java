@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.data.couchbase.core.mapping.event.AfterConvertCallback;
+import org.springframework.data.couchbase.core.mapping.event.AuditingEntityCallback;
+import org.springframework.data.couchbase.core.mapping.event.ReactiveAfterConvertCallback;
+import org.springframework.data.couchbase.core.mapping.event.ReactiveAuditingEntityCallback;
+import org.springframework.data.mapping.callback.EntityCallback;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Caches the {@link EntityCallback} beans that apply to a (callback type, domain type) pair, so that the templates
+ * resolve them once per domain type and can skip the {@link org.springframework.data.mapping.callback.EntityCallbacks}
+ * pipeline for entities without callbacks. The callbacks themselves are still invoked through the
+ * {@link org.springframework.data.mapping.callback.EntityCallbacks}. The resolved callbacks are dropped when a context
+ * is refreshed or a bean definition is registered; callback beans registered otherwise are picked up after
+ * {@link #clearCallbackCache()}. The after-convert callbacks of the auditing callbacks do nothing and are not counted.
+ *
+ * @since 5.0
+ */
+class EntityCallbackLookup implements ApplicationListener<ContextRefreshedEvent> {
+
+	private final ListableBeanFactory beanFactory;
+	private final Map<Class<?>, Map<Class<?>, List<EntityCallback<?>>>> callbacks = new ConcurrentHashMap<>();
+	private volatile int beanDefinitionCount;
+
+	EntityCallbackLookup(ListableBeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+		this.beanDefinitionCount = beanFactory.getBeanDefinitionCount();
+	}
+
+	/**
+	 * The lookup of the callback beans of the context, which drops the resolved callbacks on the refresh of the context.
+	 *
+	 * @param applicationContext the context of the callback beans.
+	 * @return the lookup.
+	 */
+	static EntityCallbackLookup of(ApplicationContext applicationContext) {
+		EntityCallbackLookup lookup = new EntityCallbackLookup(applicationContext);
+		if (applicationContext instanceof ConfigurableApplicationContext) {
+			((ConfigurableApplicationContext) applicationContext).addApplicationListener(lookup);
+		}
+		return lookup;
+	}
+
+	/**
+	 * Drops the resolved callbacks on the refresh of the context, or of a child context, which may add callbacks.
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		clearCallbackCache();
+	}
+
+	/**
+	 * Drops the resolved callbacks, so that callbacks registered since are found for the next entities.
+	 */
+	void clearCallbackCache() {
+		this.beanDefinitionCount = beanFactory.getBeanDefinitionCount();
+		this.callbacks.clear();
+	}
+
+	/**
+	 * @param callbackType the {@link EntityCallback} sub-interface, e.g. {@code BeforeConvertCallback}.
+	 * @param domainType the class of the entity.
+	 * @return whether at least one callback of the callback type applies to the domain type.
+	 */
+	boolean hasCallbacks(Class<?> callbackType, Class<?> domainType) {
+		return !getCallbacks(callbackType, domainType).isEmpty();
+	}
+
+	/**
+	 * @param callbackType the {@link EntityCallback} sub-interface, e.g. {@code BeforeConvertCallback}.
+	 * @param domainType the class of the entity.
+	 * @return the ordered callbacks of the callback type that apply to the domain type.
+	 */
+	List<EntityCallback<?>> getCallbacks(Class<?> callbackType, Class<?> domainType) {
+		if (beanDefinitionCount != beanFactory.getBeanDefinitionCount()) { // registered in the bean factory since
+			clearCallbackCache();
+		}
+		return callbacks.computeIfAbsent(callbackType, k -> new ConcurrentHashMap<>()).computeIfAbsent(domainType,
+				k -> resolveCallbacks(callbackType, domainType));
+	}
+
+	private List<EntityCallback<?>> resolveCallbacks(Class<?> callbackType, Class<?> domainType) {
+		List<EntityCallback<?>> matching = new ArrayList<>();
+		for (Object callback : beanFactory.getBeansOfType(callbackType).values()) {
+			if (isNoOp(callbackType, callback)) {
+				continue;
+			}
+			// lambdas and raw implementations have no resolvable entity type, they may apply to any entity
+			Class<?> entityType = ResolvableType.forClass(callbackType, ClassUtils.getUserClass(callback))
+					.resolveGeneric(0);
+			if (entityType == null || ClassUtils.isAssignable(entityType, domainType)) {
+				matching.add((EntityCallback<?>) callback);
+			}
+		}
+		AnnotationAwareOrderComparator.sort(matching);
+		return matching.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(matching);
+	}
+
+	/**
+	 * The auditing callbacks only audit before converting, subclasses may do more.
+	 */
+	private static boolean isNoOp(Class<?> callbackType, Object callback) {
+		return (callbackType == AfterConvertCallback.class && callback.getClass() == AuditingEntityCallback.class)
+				|| (callbackType == ReactiveAfterConvertCallback.class
+						&& callback.getClass() == ReactiveAuditingEntityCallback.class);
+	}
+
+}
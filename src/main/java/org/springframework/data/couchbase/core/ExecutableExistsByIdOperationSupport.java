@@ -66,12 +66,12 @@ public class ExecutableExistsByIdOperationSupport implements ExecutableExistsByI
 
 		@Override
 		public boolean one(final String id) {
-			return reactiveSupport.one(id).block();
+			return reactiveSupport.one(id).contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
 		public Map<String, Boolean> all(final Collection<String> ids) {
-			return reactiveSupport.all(ids).block();
+			return reactiveSupport.all(ids).contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
@@ -71,17 +71,17 @@ public class ExecutableFindByAnalyticsOperationSupport implements ExecutableFind
 
 		@Override
 		public T oneValue() {
-			return reactiveSupport.one().block();
+			return reactiveSupport.one().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
 		public T firstValue() {
-			return reactiveSupport.first().block();
+			return reactiveSupport.first().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
 		public List<T> all() {
-			return reactiveSupport.all().collectList().block();
+			return reactiveSupport.all().collectList().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
@@ -131,17 +131,17 @@ public class ExecutableFindByAnalyticsOperationSupport implements ExecutableFind
 
 		@Override
 		public Stream<T> stream() {
-			return reactiveSupport.all().toStream();
+			return reactiveSupport.all().contextWrite(template.pseudoArgsContext()).toStream();
 		}
 
 		@Override
 		public long count() {
-			return reactiveSupport.count().block();
+			return reactiveSupport.count().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
 		public boolean exists() {
-			return count() > 0;
+			return reactiveSupport.exists().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 	}
@@ -120,6 +120,14 @@ public interface ExecutableFindByIdOperation {
 		 */
 		@Override
 		FindByIdInScope<T> project(String... fields);
+
+		/**
+		 * Define the type the document is mapped to. The whole document is read, the documents of other entity types are
+		 * skipped.
+		 *
+		 * @param returnType the type to map the document to.
+		 */
+		<R> FindByIdInScope<R> as(Class<R> returnType);
 	}
 
 	interface FindByIdWithExpiry<T> extends FindByIdWithProjection<T>, WithExpiry<T> {
@@ -36,14 +36,15 @@ public class ExecutableFindByIdOperationSupport implements ExecutableFindByIdOpe
 
 	@Override
 	public <T> ExecutableFindById<T> findById(Class<T> domainType) {
-		return new ExecutableFindByIdSupport<>(template, domainType, OptionsBuilder.getScopeFrom(domainType),
+		return new ExecutableFindByIdSupport<>(template, domainType, domainType, OptionsBuilder.getScopeFrom(domainType),
 				OptionsBuilder.getCollectionFrom(domainType),null, null, null);
 	}
 
 	static class ExecutableFindByIdSupport<T> implements ExecutableFindById<T> {
 
 		private final CouchbaseTemplate template;
-		private final Class<T> domainType;
+		private final Class<?> domainType;
+		private final Class<T> returnType;
 		private final String scope;
 		private final String collection;
 		private final GetOptions options;
@@ -51,54 +52,62 @@ public class ExecutableFindByIdOperationSupport implements ExecutableFindByIdOpe
 		private final Duration expiry;
 		private final ReactiveFindByIdSupport<T> reactiveSupport;
 
-		ExecutableFindByIdSupport(CouchbaseTemplate template, Class<T> domainType, String scope, String collection,
-				GetOptions options, List<String> fields, Duration expiry) {
+		ExecutableFindByIdSupport(CouchbaseTemplate template, Class<?> domainType, Class<T> returnType, String scope,
+				String collection, GetOptions options, List<String> fields, Duration expiry) {
 			this.template = template;
 			this.domainType = domainType;
+			this.returnType = returnType;
 			this.scope = scope;
 			this.collection = collection;
 			this.options = options;
 			this.fields = fields;
 			this.expiry = expiry;
-			this.reactiveSupport = new ReactiveFindByIdSupport<>(template.reactive(), domainType, scope, collection, options,
-					fields, expiry, new NonReactiveSupportWrapper(template.support()));
+			this.reactiveSupport = new ReactiveFindByIdSupport<>(template.reactive(), domainType, returnType, scope, collection,
+					options, fields, expiry, new NonReactiveSupportWrapper(template.support()));
 		}
 
 		@Override
 		public T one(final String id) {
-			return reactiveSupport.one(id).block();
+			return reactiveSupport.one(id).contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
 		public Collection<? extends T> all(final Collection<String> ids) {
-			return reactiveSupport.all(ids).collectList().block();
+			return reactiveSupport.all(ids).collectList().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
 		public TerminatingFindById<T> withOptions(final GetOptions options) {
 			Assert.notNull(options, "Options must not be null.");
-			return new ExecutableFindByIdSupport<>(template, domainType, scope, collection, options, fields, expiry);
+			return new ExecutableFindByIdSupport<>(template, domainType, returnType, scope, collection, options, fields, expiry);
 		}
 
 		@Override
 		public FindByIdWithOptions<T> inCollection(final String collection) {
-			return new ExecutableFindByIdSupport<>(template, domainType, scope, collection != null ? collection : this.collection, options, fields, expiry);
+			return new ExecutableFindByIdSupport<>(template, domainType, returnType, scope, collection != null ? collection : this.collection, options, fields, expiry);
 		}
 
 		@Override
 		public FindByIdInCollection<T> inScope(final String scope) {
-			return new ExecutableFindByIdSupport<>(template, domainType, scope != null ? scope : this.scope, collection, options, fields, expiry);
+			return new ExecutableFindByIdSupport<>(template, domainType, returnType, scope != null ? scope : this.scope, collection, options, fields, expiry);
 		}
 
 		@Override
 		public FindByIdInScope<T> project(String... fields) {
 			Assert.notEmpty(fields, "Fields must not be null.");
-			return new ExecutableFindByIdSupport<>(template, domainType, scope, collection, options, Arrays.asList(fields), expiry);
+			return new ExecutableFindByIdSupport<>(template, domainType, returnType, scope, collection, options, Arrays.asList(fields), expiry);
+		}
+
+		@Override
+		public <R> FindByIdInScope<R> as(final Class<R> returnType) {
+			Assert.notNull(returnType, "returnType must not be null!");
+			return new ExecutableFindByIdSupport<>(template, domainType, returnType, scope, collection, options, fields,
+					expiry);
 		}
 
 		@Override
 		public FindByIdWithProjection<T> withExpiry(final Duration expiry) {
-			return new ExecutableFindByIdSupport<>(template, domainType, scope, collection, options, fields,
+			return new ExecutableFindByIdSupport<>(template, domainType, returnType, scope, collection, options, fields,
 					expiry);
 		}
 
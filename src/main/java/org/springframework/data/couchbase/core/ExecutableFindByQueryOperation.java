@@ -103,7 +103,8 @@ public interface ExecutableFindByQueryOperation {
 		List<T> all();
 
 		/**
-		 * Stream all matching elements.
+		 * Stream all matching elements. The rows are requested from the query result in bounded batches and converted one
+		 * at a time while the stream is consumed, rather than all read up front. Closing the stream cancels the query.
 		 *
 		 * @return a {@link Stream} of results. Never {@literal null}.
 		 */
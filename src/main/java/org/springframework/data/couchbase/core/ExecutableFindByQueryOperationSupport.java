@@ -82,17 +82,17 @@ public class ExecutableFindByQueryOperationSupport implements ExecutableFindByQu
 
 		@Override
 		public T oneValue() {
-			return reactiveSupport.one().block();
+			return reactiveSupport.one().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
 		public T firstValue() {
-			return reactiveSupport.first().block();
+			return reactiveSupport.first().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
 		public List<T> all() {
-			return reactiveSupport.all().collectList().block();
+			return reactiveSupport.all().collectList().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
@@ -149,12 +149,12 @@ public class ExecutableFindByQueryOperationSupport implements ExecutableFindByQu
 
 		@Override
 		public Stream<T> stream() {
-			return reactiveSupport.all().toStream();
+			return reactiveSupport.all().contextWrite(template.pseudoArgsContext()).toStream();
 		}
 
 		@Override
 		public long count() {
-			Long l = reactiveSupport.count().block();
+			Long l = reactiveSupport.count().contextWrite(template.pseudoArgsContext()).block();
 			if (l == null) {
 				throw new CouchbaseQueryExecutionException("count query did not return a count : " + query.export());
 			}
@@ -163,7 +163,7 @@ public class ExecutableFindByQueryOperationSupport implements ExecutableFindByQu
 
 		@Override
 		public boolean exists() {
-			return count() > 0;
+			return reactiveSupport.exists().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
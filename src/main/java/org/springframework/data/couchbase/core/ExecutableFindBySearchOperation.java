@@ -0,0 +1,234 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.couchbase.core.mapping.TextScore;
+import org.springframework.data.couchbase.core.support.InCollection;
+import org.springframework.data.couchbase.core.support.InScope;
+import org.springframework.data.couchbase.core.support.OneAndAll;
+import org.springframework.lang.Nullable;
+
+import com.couchbase.client.java.search.SearchOptions;
+import com.couchbase.client.java.search.SearchQuery;
+
+/**
+ * Full-text search of entities with the search service, blocking on {@link ReactiveFindBySearchOperation}. The score
+ * of a hit is set into the property of the entity annotated with {@link TextScore}, if there is one. Hits whose
+ * document no longer exists are skipped.
+ *
+ * @since 5.0
+ */
+public interface ExecutableFindBySearchOperation {
+
+	/**
+	 * Searches a full-text search index.
+	 *
+	 * @param domainType the entity type to use for the results.
+	 */
+	<T> ExecutableFindBySearch<T> findBySearch(Class<T> domainType);
+
+	/**
+	 * Terminating operations invoking the actual execution.
+	 */
+	interface TerminatingFindBySearch<T> extends OneAndAll<T> {
+
+		/**
+		 * Get exactly zero or one result.
+		 *
+		 * @return {@link Optional#empty()} if no match found.
+		 * @throws IncorrectResultSizeDataAccessException if more than one match found.
+		 */
+		default Optional<T> one() {
+			return Optional.ofNullable(oneValue());
+		}
+
+		/**
+		 * Get exactly zero or one result.
+		 *
+		 * @return {@literal null} if no match found.
+		 * @throws IncorrectResultSizeDataAccessException if more than one match found.
+		 */
+		@Nullable
+		T oneValue();
+
+		/**
+		 * Get the first or no result.
+		 *
+		 * @return {@link Optional#empty()} if no match found.
+		 */
+		default Optional<T> first() {
+			return Optional.ofNullable(firstValue());
+		}
+
+		/**
+		 * Get the first or no result.
+		 *
+		 * @return {@literal null} if no match found.
+		 */
+		@Nullable
+		T firstValue();
+
+		/**
+		 * Get all matching elements, up to the limit of the {@link SearchOptions}.
+		 *
+		 * @return never {@literal null}.
+		 */
+		List<T> all();
+
+		/**
+		 * Stream all matching elements, fetching the entities as the hits are read.
+		 *
+		 * @return a {@link Stream} of results. Never {@literal null}.
+		 */
+		Stream<T> stream();
+
+		/**
+		 * Get the total number of hits, as reported by the search service, without fetching any entity.
+		 *
+		 * @return total number of matching elements.
+		 */
+		long count();
+
+		/**
+		 * Check for the presence of matching elements.
+		 *
+		 * @return {@literal true} if at least one matching element exists.
+		 */
+		boolean exists();
+
+	}
+
+	interface FindBySearchWithQuery<T> {
+
+		/**
+		 * Set the search query.
+		 *
+		 * @param query must not be {@literal null}.
+		 * @throws IllegalArgumentException if query is {@literal null}.
+		 */
+		TerminatingFindBySearch<T> matching(SearchQuery query);
+
+	}
+
+	/**
+	 * Fluent method to page with the sort values of the last hit of the previous page.
+	 *
+	 * @param <T> the entity type to use.
+	 */
+	interface FindBySearchAfter<T> extends FindBySearchWithQuery<T> {
+
+		/**
+		 * Returns the hits after the given sort values ({@code search_after}), which are those of the last hit of the
+		 * previous page for the sort of the {@link SearchOptions}, e.g. its document id when sorting by {@code _id}. The
+		 * sort must end with a unique field for the pages not to skip nor repeat hits.
+		 *
+		 * @param sortValues the sort values of the last hit of the previous page.
+		 */
+		FindBySearchWithQuery<T> searchAfter(Object... sortValues);
+
+	}
+
+	/**
+	 * Fluent method to specify options.
+	 *
+	 * @param <T> the entity type to use.
+	 */
+	interface FindBySearchWithOptions<T> extends FindBySearchAfter<T> {
+
+		/**
+		 * Fluent method to specify options to use for execution, e.g. the limit, the skip and the sort.
+		 *
+		 * @param options to use for execution
+		 */
+		FindBySearchAfter<T> withOptions(SearchOptions options);
+
+	}
+
+	/**
+	 * Fluent method to specify the index.
+	 *
+	 * @param <T> the entity type to use.
+	 */
+	interface FindBySearchWithIndex<T> {
+
+		/**
+		 * The full-text search index to search.
+		 *
+		 * @param indexName the name of the index, must not be {@literal null}.
+		 */
+		FindBySearchWithOptions<T> withIndex(String indexName);
+
+	}
+
+	/**
+	 * Fluent method to specify the collection the entities are fetched from.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface FindBySearchInCollection<T> extends FindBySearchWithIndex<T>, InCollection<T> {
+
+		/**
+		 * With a different collection
+		 *
+		 * @param collection the collection to use.
+		 */
+		@Override
+		FindBySearchWithIndex<T> inCollection(String collection);
+
+	}
+
+	/**
+	 * Fluent method to specify the scope the entities are fetched from.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface FindBySearchInScope<T> extends FindBySearchInCollection<T>, InScope<T> {
+
+		/**
+		 * With a different scope
+		 *
+		 * @param scope the scope to use.
+		 */
+		@Override
+		FindBySearchInCollection<T> inScope(String scope);
+
+	}
+
+	/**
+	 * Result type override (Optional).
+	 */
+	interface FindBySearchWithProjection<T> extends FindBySearchInScope<T> {
+
+		/**
+		 * Define the target type the documents should be mapped to. <br />
+		 * Skip this step if you are anyway only interested in the original domain type.
+		 *
+		 * @param returnType must not be {@literal null}.
+		 * @return new instance of {@link FindBySearchInScope}.
+		 * @throws IllegalArgumentException if returnType is {@literal null}.
+		 */
+		<R> FindBySearchInScope<R> as(Class<R> returnType);
+
+	}
+
+	interface ExecutableFindBySearch<T> extends FindBySearchWithProjection<T> {}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.couchbase.core.ReactiveFindBySearchOperationSupport.ReactiveFindBySearchSupport;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.search.SearchOptions;
+import com.couchbase.client.java.search.SearchQuery;
+
+/**
+ * {@link ExecutableFindBySearchOperation} implementation.
+ *
+ * @since 5.0
+ */
+public class ExecutableFindBySearchOperationSupport implements ExecutableFindBySearchOperation {
+
+	private final CouchbaseTemplate template;
+
+	public ExecutableFindBySearchOperationSupport(final CouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> ExecutableFindBySearch<T> findBySearch(final Class<T> domainType) {
+		return new ExecutableFindBySearchSupport<>(template, domainType, domainType,
+				OptionsBuilder.getScopeFrom(domainType), OptionsBuilder.getCollectionFrom(domainType), null, null, null, null);
+	}
+
+	static class ExecutableFindBySearchSupport<T> implements ExecutableFindBySearch<T>, FindBySearchWithOptions<T>,
+			TerminatingFindBySearch<T> {
+
+		private final CouchbaseTemplate template;
+		private final Class<?> domainType;
+		private final Class<T> returnType;
+		private final String scope;
+		private final String collection;
+		private final String indexName;
+		private final SearchOptions options;
+		private final Object[] searchAfter;
+		private final SearchQuery query;
+		private final ReactiveFindBySearchSupport<T> reactiveSupport;
+
+		ExecutableFindBySearchSupport(final CouchbaseTemplate template, final Class<?> domainType,
+				final Class<T> returnType, final String scope, final String collection, final String indexName,
+				final SearchOptions options, final Object[] searchAfter, final SearchQuery query) {
+			this.template = template;
+			this.domainType = domainType;
+			this.returnType = returnType;
+			this.scope = scope;
+			this.collection = collection;
+			this.indexName = indexName;
+			this.options = options;
+			this.searchAfter = searchAfter;
+			this.query = query;
+			this.reactiveSupport = new ReactiveFindBySearchSupport<>(template.reactive(), domainType, returnType, scope,
+					collection, indexName, options, searchAfter, query);
+		}
+
+		@Override
+		public <R> FindBySearchInScope<R> as(final Class<R> returnType) {
+			Assert.notNull(returnType, "returnType must not be null!");
+			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, scope, collection, indexName,
+					options, searchAfter, query);
+		}
+
+		@Override
+		public FindBySearchInCollection<T> inScope(final String scope) {
+			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, scope != null ? scope : this.scope,
+					collection, indexName, options, searchAfter, query);
+		}
+
+		@Override
+		public FindBySearchWithIndex<T> inCollection(final String collection) {
+			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, scope,
+					collection != null ? collection : this.collection, indexName, options, searchAfter, query);
+		}
+
+		@Override
+		public FindBySearchWithOptions<T> withIndex(final String indexName) {
+			Assert.hasText(indexName, "Index name must not be empty!");
+			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, scope, collection, indexName,
+					options, searchAfter, query);
+		}
+
+		@Override
+		public FindBySearchAfter<T> withOptions(final SearchOptions options) {
+			Assert.notNull(options, "Options must not be null!");
+			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, scope, collection, indexName,
+					options, searchAfter, query);
+		}
+
+		@Override
+		public FindBySearchWithQuery<T> searchAfter(final Object... sortValues) {
+			Assert.notEmpty(sortValues, "Sort values must not be empty!");
+			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, scope, collection, indexName,
+					options, sortValues.clone(), query);
+		}
+
+		@Override
+		public TerminatingFindBySearch<T> matching(final SearchQuery query) {
+			Assert.notNull(query, "Query must not be null!");
+			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, scope, collection, indexName,
+					options, searchAfter, query);
+		}
+
+		@Override
+		public T oneValue() {
+			return reactiveSupport.one().contextWrite(template.pseudoArgsContext()).block();
+		}
+
+		@Override
+		public T firstValue() {
+			return reactiveSupport.first().contextWrite(template.pseudoArgsContext()).block();
+		}
+
+		@Override
+		public List<T> all() {
+			return reactiveSupport.all().collectList().contextWrite(template.pseudoArgsContext()).block();
+		}
+
+		@Override
+		public Stream<T> stream() {
+			return reactiveSupport.all().contextWrite(template.pseudoArgsContext()).toStream();
+		}
+
+		@Override
+		public long count() {
+			return reactiveSupport.count().contextWrite(template.pseudoArgsContext()).block();
+		}
+
+		@Override
+		public boolean exists() {
+			return reactiveSupport.exists().contextWrite(template.pseudoArgsContext()).block();
+		}
+
+	}
+
+}
@@ -61,12 +61,12 @@ public class ExecutableFindFromReplicasByIdOperationSupport implements Executabl
 
 		@Override
 		public T any(String id) {
-			return reactiveSupport.any(id).block();
+			return reactiveSupport.any(id).contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
 		public Collection<? extends T> any(Collection<String> ids) {
-			return reactiveSupport.any(ids).collectList().block();
+			return reactiveSupport.any(ids).collectList().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
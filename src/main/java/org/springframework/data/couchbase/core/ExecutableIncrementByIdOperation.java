@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.time.Duration;
+
+import org.springframework.data.couchbase.core.mapping.Counter;
+import org.springframework.data.couchbase.core.support.InCollection;
+import org.springframework.data.couchbase.core.support.InScope;
+import org.springframework.data.couchbase.core.support.WithDurability;
+import org.springframework.data.couchbase.core.support.WithExpiry;
+import org.springframework.data.couchbase.core.support.WithMutateInOptions;
+
+import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.kv.MutateInOptions;
+import com.couchbase.client.java.kv.PersistTo;
+import com.couchbase.client.java.kv.ReplicateTo;
+
+/**
+ * Counter Operations. A numeric field of a stored document is incremented or decremented atomically by the data
+ * service with a sub-document mutation, in one round trip and without reading the document first. The field is
+ * created with the delta if the document does not have it yet, the document itself must exist.
+ *
+ * @since 5.0
+ */
+public interface ExecutableIncrementByIdOperation {
+
+	/**
+	 * Increment counters of documents using the KV service.
+	 *
+	 * @param domainType the entity type of the documents.
+	 */
+	<T> ExecutableIncrementById<T> incrementById(Class<T> domainType);
+
+	/**
+	 * Terminating operations invoking the actual execution.
+	 */
+	interface TerminatingIncrementById<T> {
+
+		/**
+		 * Add a delta to the {@link Counter} property of the entity.
+		 *
+		 * @param id the id of the document.
+		 * @param delta the value to add, negative to decrement, not {@literal 0}.
+		 * @return the value of the counter after the increment.
+		 * @throws IllegalStateException if the entity does not have exactly one {@link Counter} property.
+		 */
+		long one(String id, long delta);
+
+		/**
+		 * Add a delta to a numeric property.
+		 *
+		 * @param id the id of the document.
+		 * @param path the property path of the entity (e.g. {@code stats.visits}), translated to the stored field names.
+		 * @param delta the value to add, negative to decrement, not {@literal 0}.
+		 * @return the value of the counter after the increment.
+		 */
+		long one(String id, String path, long delta);
+
+	}
+
+	/**
+	 * Fluent method to specify options.
+	 *
+	 * @param <T> the entity type to use.
+	 */
+	interface IncrementByIdWithOptions<T> extends TerminatingIncrementById<T>, WithMutateInOptions<T> {
+		/**
+		 * Fluent method to specify options to use for execution
+		 *
+		 * @param options to use for execution
+		 */
+		@Override
+		TerminatingIncrementById<T> withOptions(MutateInOptions options);
+	}
+
+	/**
+	 * Fluent method to specify the collection.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface IncrementByIdInCollection<T> extends IncrementByIdWithOptions<T>, InCollection<Object> {
+		/**
+		 * With a different collection
+		 *
+		 * @param collection the collection to use.
+		 */
+		@Override
+		IncrementByIdWithOptions<T> inCollection(String collection);
+	}
+
+	/**
+	 * Fluent method to specify the scope.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface IncrementByIdInScope<T> extends IncrementByIdInCollection<T>, InScope<Object> {
+		/**
+		 * With a different scope
+		 *
+		 * @param scope the scope to use.
+		 */
+		@Override
+		IncrementByIdInCollection<T> inScope(String scope);
+	}
+
+	interface IncrementByIdWithDurability<T> extends IncrementByIdInScope<T>, WithDurability<T> {
+		@Override
+		IncrementByIdInScope<T> withDurability(DurabilityLevel durabilityLevel);
+
+		@Override
+		IncrementByIdInScope<T> withDurability(PersistTo persistTo, ReplicateTo replicateTo);
+
+	}
+
+	interface IncrementByIdWithExpiry<T> extends IncrementByIdWithDurability<T>, WithExpiry<T> {
+		@Override
+		IncrementByIdWithDurability<T> withExpiry(Duration expiry);
+	}
+
+	/**
+	 * Provides methods for incrementing counters in a fluent way.
+	 *
+	 * @param <T> the entity type of the documents
+	 */
+	interface ExecutableIncrementById<T> extends IncrementByIdWithExpiry<T> {}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.time.Duration;
+
+import org.springframework.data.couchbase.core.ReactiveIncrementByIdOperationSupport.ReactiveIncrementByIdSupport;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.kv.MutateInOptions;
+import com.couchbase.client.java.kv.PersistTo;
+import com.couchbase.client.java.kv.ReplicateTo;
+
+/**
+ * {@link ExecutableIncrementByIdOperation} implementations for Couchbase.
+ *
+ * @since 5.0
+ */
+public class ExecutableIncrementByIdOperationSupport implements ExecutableIncrementByIdOperation {
+
+	private final CouchbaseTemplate template;
+
+	public ExecutableIncrementByIdOperationSupport(final CouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> ExecutableIncrementById<T> incrementById(final Class<T> domainType) {
+		Assert.notNull(domainType, "DomainType must not be null!");
+		return new ExecutableIncrementByIdSupport<>(template,
+				new ReactiveIncrementByIdSupport<>(template.reactive(), domainType, OptionsBuilder.getScopeFrom(domainType),
+						OptionsBuilder.getCollectionFrom(domainType), null, PersistTo.NONE, ReplicateTo.NONE, DurabilityLevel.NONE,
+						null));
+	}
+
+	static class ExecutableIncrementByIdSupport<T> implements ExecutableIncrementById<T> {
+
+		private final CouchbaseTemplate template;
+		private final ReactiveIncrementByIdSupport<T> reactiveSupport;
+
+		ExecutableIncrementByIdSupport(final CouchbaseTemplate template,
+				final ReactiveIncrementByIdSupport<T> reactiveSupport) {
+			this.template = template;
+			this.reactiveSupport = reactiveSupport;
+		}
+
+		@Override
+		public long one(final String id, final long delta) {
+			return reactiveSupport.one(id, delta).contextWrite(template.pseudoArgsContext()).block();
+		}
+
+		@Override
+		public long one(final String id, final String path, final long delta) {
+			return reactiveSupport.one(id, path, delta).contextWrite(template.pseudoArgsContext()).block();
+		}
+
+		// the reactive support holds the state, every step wraps its next step
+
+		@SuppressWarnings("unchecked")
+		private ExecutableIncrementByIdSupport<T> with(Object reactiveSupport) {
+			return new ExecutableIncrementByIdSupport<>(template, (ReactiveIncrementByIdSupport<T>) reactiveSupport);
+		}
+
+		@Override
+		public TerminatingIncrementById<T> withOptions(final MutateInOptions options) {
+			Assert.notNull(options, "Options must not be null.");
+			return with(reactiveSupport.withOptions(options));
+		}
+
+		@Override
+		public IncrementByIdWithOptions<T> inCollection(final String collection) {
+			return with(reactiveSupport.inCollection(collection));
+		}
+
+		@Override
+		public IncrementByIdInCollection<T> inScope(final String scope) {
+			return with(reactiveSupport.inScope(scope));
+		}
+
+		@Override
+		public IncrementByIdInScope<T> withDurability(final DurabilityLevel durabilityLevel) {
+			Assert.notNull(durabilityLevel, "Durability Level must not be null.");
+			return with(reactiveSupport.withDurability(durabilityLevel));
+		}
+
+		@Override
+		public IncrementByIdInScope<T> withDurability(final PersistTo persistTo, final ReplicateTo replicateTo) {
+			Assert.notNull(persistTo, "PersistTo must not be null.");
+			Assert.notNull(replicateTo, "ReplicateTo must not be null.");
+			return with(reactiveSupport.withDurability(persistTo, replicateTo));
+		}
+
+		@Override
+		public IncrementByIdWithDurability<T> withExpiry(final Duration expiry) {
+			Assert.notNull(expiry, "expiry must not be null.");
+			return with(reactiveSupport.withExpiry(expiry));
+		}
+
+	}
+
+}
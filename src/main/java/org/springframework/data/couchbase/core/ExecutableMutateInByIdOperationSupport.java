@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.data.couchbase.core.ReactiveMutateInByIdOperationSupport.ReactiveMutateInByIdSupport;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.kv.MutateInOptions;
+import com.couchbase.client.java.kv.PersistTo;
+import com.couchbase.client.java.kv.ReplicateTo;
+
+/**
+ * {@link ExecutableMutateInByIdOperation} implementations for Couchbase.
+ *
+ * @since 5.0
+ */
+public class ExecutableMutateInByIdOperationSupport implements ExecutableMutateInByIdOperation {
+
+	private final CouchbaseTemplate template;
+
+	public ExecutableMutateInByIdOperationSupport(final CouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> ExecutableMutateInById<T> mutateInById(final Class<T> domainType) {
+		Assert.notNull(domainType, "DomainType must not be null!");
+		return new ExecutableMutateInByIdSupport<>(template,
+				new ReactiveMutateInByIdSupport<>(template.reactive(), domainType, OptionsBuilder.getScopeFrom(domainType),
+						OptionsBuilder.getCollectionFrom(domainType), null, PersistTo.NONE, ReplicateTo.NONE, DurabilityLevel.NONE,
+						null, new NonReactiveSupportWrapper(template.support()), Collections.emptyList(), Collections.emptyList(),
+						Collections.emptyList(), Collections.emptyList(), false));
+	}
+
+	static class ExecutableMutateInByIdSupport<T> implements ExecutableMutateInById<T> {
+
+		private final CouchbaseTemplate template;
+		private final ReactiveMutateInByIdSupport<T> reactiveSupport;
+
+		ExecutableMutateInByIdSupport(final CouchbaseTemplate template,
+				final ReactiveMutateInByIdSupport<T> reactiveSupport) {
+			this.template = template;
+			this.reactiveSupport = reactiveSupport;
+		}
+
+		@Override
+		public T one(final T object) {
+			return reactiveSupport.one(object).contextWrite(template.pseudoArgsContext()).block();
+		}
+
+		@Override
+		public Collection<? extends T> all(Collection<? extends T> objects) {
+			return reactiveSupport.all(objects).collectList().contextWrite(template.pseudoArgsContext()).block();
+		}
+
+		// the reactive support holds the state (and translates the paths), every step wraps its next step
+
+		@SuppressWarnings("unchecked")
+		private ExecutableMutateInByIdSupport<T> with(Object reactiveSupport) {
+			return new ExecutableMutateInByIdSupport<>(template, (ReactiveMutateInByIdSupport<T>) reactiveSupport);
+		}
+
+		@Override
+		public MutateInByIdWithPaths<T> withUpsertPaths(final String... upsertPaths) {
+			return with(reactiveSupport.withUpsertPaths(upsertPaths));
+		}
+
+		@Override
+		public MutateInByIdWithPaths<T> withInsertPaths(final String... insertPaths) {
+			return with(reactiveSupport.withInsertPaths(insertPaths));
+		}
+
+		@Override
+		public MutateInByIdWithPaths<T> withReplacePaths(final String... replacePaths) {
+			return with(reactiveSupport.withReplacePaths(replacePaths));
+		}
+
+		@Override
+		public MutateInByIdWithPaths<T> withRemovePaths(final String... removePaths) {
+			return with(reactiveSupport.withRemovePaths(removePaths));
+		}
+
+		@Override
+		public MutateInByIdWithPaths<T> withCasProvided() {
+			return with(reactiveSupport.withCasProvided());
+		}
+
+		@Override
+		public MutateInByIdWithPaths<T> withOptions(final MutateInOptions options) {
+			Assert.notNull(options, "Options must not be null.");
+			return with(reactiveSupport.withOptions(options));
+		}
+
+		@Override
+		public MutateInByIdWithOptions<T> inCollection(final String collection) {
+			return with(reactiveSupport.inCollection(collection));
+		}
+
+		@Override
+		public MutateInByIdInCollection<T> inScope(final String scope) {
+			return with(reactiveSupport.inScope(scope));
+		}
+
+		@Override
+		public MutateInByIdInScope<T> withDurability(final DurabilityLevel durabilityLevel) {
+			Assert.notNull(durabilityLevel, "Durability Level must not be null.");
+			return with(reactiveSupport.withDurability(durabilityLevel));
+		}
+
+		@Override
+		public MutateInByIdInScope<T> withDurability(final PersistTo persistTo, final ReplicateTo replicateTo) {
+			Assert.notNull(persistTo, "PersistTo must not be null.");
+			Assert.notNull(replicateTo, "ReplicateTo must not be null.");
+			return with(reactiveSupport.withDurability(persistTo, replicateTo));
+		}
+
+		@Override
+		public MutateInByIdWithDurability<T> withExpiry(final Duration expiry) {
+			Assert.notNull(expiry, "expiry must not be null.");
+			return with(reactiveSupport.withExpiry(expiry));
+		}
+
+	}
+
+}
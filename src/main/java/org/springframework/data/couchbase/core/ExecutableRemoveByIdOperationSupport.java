@@ -80,12 +80,12 @@ public class ExecutableRemoveByIdOperationSupport implements ExecutableRemoveByI
 
 		@Override
 		public RemoveResult one(final String id) {
-			return reactiveRemoveByIdSupport.one(id).block();
+			return reactiveRemoveByIdSupport.one(id).contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
 		public List<RemoveResult> all(final Collection<String> ids) {
-			return reactiveRemoveByIdSupport.all(ids).collectList().block();
+			return reactiveRemoveByIdSupport.all(ids).collectList().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
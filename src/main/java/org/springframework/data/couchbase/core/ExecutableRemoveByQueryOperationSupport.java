@@ -67,7 +67,7 @@ public class ExecutableRemoveByQueryOperationSupport implements ExecutableRemove
 
 		@Override
 		public List<RemoveResult> all() {
-			return reactiveSupport.all().collectList().block();
+			return reactiveSupport.all().collectList().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
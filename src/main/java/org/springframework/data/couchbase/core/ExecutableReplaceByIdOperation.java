@@ -17,6 +17,7 @@ package org.springframework.data.couchbase.core;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.function.UnaryOperator;
 
 import org.springframework.data.couchbase.core.support.InCollection;
 import org.springframework.data.couchbase.core.support.InScope;
@@ -68,19 +69,35 @@ public interface ExecutableReplaceByIdOperation {
 
 	}
 
+	/**
+	 * Fluent method to retry on cas mismatches.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface ReplaceByIdWithRetry<T> extends TerminatingReplaceById<T> {
+		/**
+		 * Apply a mutation to the entity and replace it, retrying with the re-read entity on cas mismatches.
+		 *
+		 * @param mutator applies the change to an entity, may be called once per attempt.
+		 * @param policy the attempts and backoff.
+		 * @see ReactiveReplaceByIdOperation.ReplaceByIdWithRetry#withRetry(UnaryOperator, CasRetryPolicy)
+		 */
+		TerminatingReplaceById<T> withRetry(UnaryOperator<T> mutator, CasRetryPolicy policy);
+	}
+
 	/**
 	 * Fluent method to specify options.
 	 *
 	 * @param <T> the entity type to use for the results.
 	 */
-	interface ReplaceByIdWithOptions<T> extends TerminatingReplaceById<T>, WithReplaceOptions<T> {
+	interface ReplaceByIdWithOptions<T> extends ReplaceByIdWithRetry<T>, WithReplaceOptions<T> {
 		/**
 		 * Fluent method to specify options to use for execution
 		 *
 		 * @param options to use for execution
 		 */
 		@Override
-		TerminatingReplaceById<T> withOptions(ReplaceOptions options);
+		ReplaceByIdWithRetry<T> withOptions(ReplaceOptions options);
 	}
 
 	/**
@@ -17,6 +17,7 @@ package org.springframework.data.couchbase.core;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.function.UnaryOperator;
 
 import org.springframework.data.couchbase.core.ReactiveReplaceByIdOperationSupport.ReactiveReplaceByIdSupport;
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
@@ -74,12 +75,12 @@ public class ExecutableReplaceByIdOperationSupport implements ExecutableReplaceB
 
 		@Override
 		public T one(final T object) {
-			return reactiveSupport.one(object).block();
+			return reactiveSupport.one(object).contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
 		public Collection<? extends T> all(Collection<? extends T> objects) {
-			return reactiveSupport.all(objects).collectList().block();
+			return reactiveSupport.all(objects).collectList().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
@@ -111,12 +112,30 @@ public class ExecutableReplaceByIdOperationSupport implements ExecutableReplaceB
 		}
 
 		@Override
-		public TerminatingReplaceById<T> withOptions(final ReplaceOptions options) {
+		public ReplaceByIdWithRetry<T> withOptions(final ReplaceOptions options) {
 			Assert.notNull(options, "Options must not be null.");
 			return new ExecutableReplaceByIdSupport<>(template, domainType, scope, collection, options, persistTo,
 					replicateTo, durabilityLevel, expiry);
 		}
 
+		@Override
+		public TerminatingReplaceById<T> withRetry(final UnaryOperator<T> mutator, final CasRetryPolicy policy) {
+			ReactiveReplaceByIdOperation.TerminatingReplaceById<T> retrying = reactiveSupport.withRetry(mutator, policy);
+			return new TerminatingReplaceById<T>() {
+
+				@Override
+				public T one(final T object) {
+					return retrying.one(object).contextWrite(template.pseudoArgsContext()).block();
+				}
+
+				@Override
+				public Collection<? extends T> all(Collection<? extends T> objects) {
+					return retrying.all(objects).collectList().contextWrite(template.pseudoArgsContext()).block();
+				}
+
+			};
+		}
+
 		@Override
 		public ReplaceByIdInCollection<T> inScope(final String scope) {
 			return new ExecutableReplaceByIdSupport<>(template, domainType, scope != null ? scope : this.scope, collection,
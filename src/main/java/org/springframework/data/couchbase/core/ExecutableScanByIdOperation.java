@@ -0,0 +1,153 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.couchbase.core.support.InCollection;
+import org.springframework.data.couchbase.core.support.InScope;
+import org.springframework.data.couchbase.core.support.WithConsistency;
+import org.springframework.lang.Nullable;
+
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+/**
+ * Iteration over the entities of a range of document ids, in the order of the ids, blocking on
+ * {@link ReactiveScanByIdOperation}. The entities are read as the {@link Stream} is consumed, which must be closed when
+ * it is not consumed to its end.
+ *
+ * @since 5.0
+ */
+public interface ExecutableScanByIdOperation {
+
+	/**
+	 * Scan the ids of the collection of the entity type.
+	 *
+	 * @param domainType the entity type to use for the results.
+	 */
+	<T> ExecutableScanById<T> scanById(Class<T> domainType);
+
+	/**
+	 * Terminating operations invoking the actual execution.
+	 */
+	interface TerminatingScanById<T> {
+
+		/**
+		 * Get the entities whose id starts with a prefix, as for the ids generated from an {@code @IdPrefix}.
+		 *
+		 * @param prefix the prefix of the ids, must not be {@literal null}.
+		 * @return the entities, in the order of their ids.
+		 */
+		Stream<T> prefix(String prefix);
+
+		/**
+		 * Get the entities whose id is in a range.
+		 *
+		 * @param from the lowest id, inclusive, {@literal null} for the first id.
+		 * @param to the highest id, exclusive, {@literal null} for past the last id.
+		 * @return the entities, in the order of their ids.
+		 */
+		Stream<T> range(@Nullable String from, @Nullable String to);
+
+	}
+
+	/**
+	 * Fluent method to specify the number of entities read concurrently.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface ScanByIdWithBatchSize<T> extends TerminatingScanById<T> {
+
+		/**
+		 * The number of entities read concurrently, and of ids read ahead of them.
+		 *
+		 * @param batchSize a positive number.
+		 */
+		TerminatingScanById<T> withBatchSize(int batchSize);
+
+	}
+
+	/**
+	 * Fluent method to specify the scan consistency of the index.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface ScanByIdWithConsistency<T> extends ScanByIdWithBatchSize<T>, WithConsistency<T> {
+
+		/**
+		 * Allows to override the default scan consistency of the primary index.
+		 *
+		 * @param scanConsistency the custom scan consistency to use for this scan.
+		 */
+		@Override
+		ScanByIdWithBatchSize<T> withConsistency(QueryScanConsistency scanConsistency);
+
+	}
+
+	/**
+	 * Fluent method to specify the collection.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface ScanByIdInCollection<T> extends ScanByIdWithConsistency<T>, InCollection<T> {
+
+		/**
+		 * With a different collection
+		 *
+		 * @param collection the collection to use.
+		 */
+		@Override
+		ScanByIdWithConsistency<T> inCollection(String collection);
+
+	}
+
+	/**
+	 * Fluent method to specify the scope.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface ScanByIdInScope<T> extends ScanByIdInCollection<T>, InScope<T> {
+
+		/**
+		 * With a different scope
+		 *
+		 * @param scope the scope to use.
+		 */
+		@Override
+		ScanByIdInCollection<T> inScope(String scope);
+
+	}
+
+	/**
+	 * Result type override (Optional).
+	 */
+	interface ScanByIdWithProjection<T> extends ScanByIdInScope<T> {
+
+		/**
+		 * Define the target type fields should be mapped to. <br />
+		 * Skip this step if you are anyway only interested in the original domain type.
+		 *
+		 * @param returnType must not be {@literal null}.
+		 * @return new instance of {@link ScanByIdInScope}.
+		 * @throws IllegalArgumentException if returnType is {@literal null}.
+		 */
+		<R> ScanByIdInScope<R> as(Class<R> returnType);
+
+	}
+
+	interface ExecutableScanById<T> extends ScanByIdWithProjection<T> {}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.couchbase.core.ReactiveScanByIdOperationSupport.ReactiveScanByIdSupport;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+/**
+ * {@link ExecutableScanByIdOperation} implementation.
+ *
+ * @since 5.0
+ */
+public class ExecutableScanByIdOperationSupport implements ExecutableScanByIdOperation {
+
+	private final CouchbaseTemplate template;
+
+	public ExecutableScanByIdOperationSupport(final CouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> ExecutableScanById<T> scanById(final Class<T> domainType) {
+		return new ExecutableScanByIdSupport<>(template, domainType, domainType, OptionsBuilder.getScopeFrom(domainType),
+				OptionsBuilder.getCollectionFrom(domainType), null, ReactiveScanByIdOperationSupport.DEFAULT_BATCH_SIZE);
+	}
+
+	static class ExecutableScanByIdSupport<T> implements ExecutableScanById<T> {
+
+		private final CouchbaseTemplate template;
+		private final Class<?> domainType;
+		private final Class<T> returnType;
+		private final String scope;
+		private final String collection;
+		private final QueryScanConsistency scanConsistency;
+		private final int batchSize;
+		private final ReactiveScanByIdSupport<T> reactiveSupport;
+
+		ExecutableScanByIdSupport(final CouchbaseTemplate template, final Class<?> domainType, final Class<T> returnType,
+				final String scope, final String collection, final QueryScanConsistency scanConsistency,
+				final int batchSize) {
+			this.template = template;
+			this.domainType = domainType;
+			this.returnType = returnType;
+			this.scope = scope;
+			this.collection = collection;
+			this.scanConsistency = scanConsistency;
+			this.batchSize = batchSize;
+			this.reactiveSupport = new ReactiveScanByIdSupport<>(template.reactive(), domainType, returnType, scope,
+					collection, scanConsistency, batchSize);
+		}
+
+		@Override
+		public <R> ScanByIdInScope<R> as(final Class<R> returnType) {
+			Assert.notNull(returnType, "returnType must not be null!");
+			return new ExecutableScanByIdSupport<>(template, domainType, returnType, scope, collection, scanConsistency,
+					batchSize);
+		}
+
+		@Override
+		public ScanByIdInCollection<T> inScope(final String scope) {
+			return new ExecutableScanByIdSupport<>(template, domainType, returnType, scope != null ? scope : this.scope,
+					collection, scanConsistency, batchSize);
+		}
+
+		@Override
+		public ScanByIdWithConsistency<T> inCollection(final String collection) {
+			return new ExecutableScanByIdSupport<>(template, domainType, returnType, scope,
+					collection != null ? collection : this.collection, scanConsistency, batchSize);
+		}
+
+		@Override
+		public ScanByIdWithBatchSize<T> withConsistency(final QueryScanConsistency scanConsistency) {
+			return new ExecutableScanByIdSupport<>(template, domainType, returnType, scope, collection, scanConsistency,
+					batchSize);
+		}
+
+		@Override
+		public TerminatingScanById<T> withBatchSize(final int batchSize) {
+			Assert.isTrue(batchSize > 0, "Batch size must be positive!");
+			return new ExecutableScanByIdSupport<>(template, domainType, returnType, scope, collection, scanConsistency,
+					batchSize);
+		}
+
+		@Override
+		public Stream<T> prefix(final String prefix) {
+			return reactiveSupport.prefix(prefix).contextWrite(template.pseudoArgsContext()).toStream(batchSize);
+		}
+
+		@Override
+		public Stream<T> range(@Nullable final String from, @Nullable final String to) {
+			return reactiveSupport.range(from, to).contextWrite(template.pseudoArgsContext()).toStream(batchSize);
+		}
+
+	}
+
+}
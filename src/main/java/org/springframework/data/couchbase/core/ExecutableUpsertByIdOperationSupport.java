@@ -74,12 +74,12 @@ public class ExecutableUpsertByIdOperationSupport implements ExecutableUpsertByI
 
 		@Override
 		public T one(final T object) {
-			return reactiveSupport.one(object).block();
+			return reactiveSupport.one(object).contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
 		public Collection<? extends T> all(Collection<? extends T> objects) {
-			return reactiveSupport.all(objects).collectList().block();
+			return reactiveSupport.all(objects).collectList().contextWrite(template.pseudoArgsContext()).block();
 		}
 
 		@Override
@@ -16,18 +16,33 @@
 
 package org.springframework.data.couchbase.core;
 
+import io.micrometer.observation.ObservationRegistry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.data.couchbase.core.ReactiveFindByIdOperationSupport.ReactiveFindByIdSupport;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
 import org.springframework.data.couchbase.core.convert.translation.JacksonTranslationService;
 import org.springframework.data.couchbase.core.convert.translation.TranslationService;
 import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.data.couchbase.observability.CouchbaseObservationConvention;
+import org.springframework.data.couchbase.observability.CouchbaseObservationSupport;
+import org.springframework.data.couchbase.observability.MappingProfiler;
+import org.springframework.data.couchbase.observability.SlowOperationReporter;
+import org.springframework.lang.Nullable;
 
 import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.query.QueryProfile;
 import com.couchbase.client.java.query.QueryScanConsistency;
 
 /**
@@ -44,8 +59,12 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 	private final CouchbaseConverter converter;
 	private final PersistenceExceptionTranslator exceptionTranslator;
 	private final ReactiveCouchbaseTemplateSupport templateSupport;
-	private ThreadLocal<PseudoArgs<?>> threadLocalArgs = new ThreadLocal<>();
+	private final ThreadLocal<PseudoArgs<?>> threadLocalArgs = new ThreadLocal<>();
 	private QueryScanConsistency scanConsistency;
+	private CouchbaseObservationSupport observationSupport = CouchbaseObservationSupport.NOOP;
+	private final SlowOperationReporter slowOperationReporter = new SlowOperationReporter();
+	private final MappingProfiler mappingProfiler = new MappingProfiler();
+	private final Map<List<Object>, List<String>> lookupPaths = new ConcurrentHashMap<>();
 
 	public ReactiveCouchbaseTemplate(final CouchbaseClientFactory clientFactory, final CouchbaseConverter converter) {
 		this(clientFactory, converter, new JacksonTranslationService());
@@ -85,6 +104,16 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 		return new ReactiveFindByAnalyticsOperationSupport(this).findByAnalytics(domainType);
 	}
 
+	@Override
+	public <T> ReactiveFindBySearch<T> findBySearch(Class<T> domainType) {
+		return new ReactiveFindBySearchOperationSupport(this).findBySearch(domainType);
+	}
+
+	@Override
+	public <T> ReactiveScanById<T> scanById(Class<T> domainType) {
+		return new ReactiveScanByIdOperationSupport(this).scanById(domainType);
+	}
+
 	@Override
 	public <T> ReactiveFindByQuery<T> findByQuery(Class<T> domainType) {
 		return new ReactiveFindByQueryOperationSupport(this).findByQuery(domainType);
@@ -120,6 +149,16 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 		return new ReactiveReplaceByIdOperationSupport(this).replaceById(domainType);
 	}
 
+	@Override
+	public <T> ReactiveMutateInById<T> mutateInById(Class<T> domainType) {
+		return new ReactiveMutateInByIdOperationSupport(this).mutateInById(domainType);
+	}
+
+	@Override
+	public <T> ReactiveIncrementById<T> incrementById(Class<T> domainType) {
+		return new ReactiveIncrementByIdOperationSupport(this).incrementById(domainType);
+	}
+
 	@Override
 	public <T> ReactiveUpsertById<T> upsertById(Class<T> domainType) {
 		return new ReactiveUpsertByIdOperationSupport(this).upsertById(domainType);
@@ -176,18 +215,22 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 	}
 
 	/**
-	 * @return the pseudoArgs from the ThreadLocal field
+	 * @return the pseudoArgs bound to the current thread by a blocking scoped repository call, or null
 	 */
 	public PseudoArgs<?> getPseudoArgs() {
-		return threadLocalArgs == null ? null : threadLocalArgs.get();
+		return threadLocalArgs.get();
 	}
 
 	/**
-	 * set the ThreadLocal field
+	 * bind the pseudoArgs of a blocking scoped repository call to the current thread, or unbind them with null. Reactive
+	 * scoped repositories carry them in the subscriber context instead.
 	 */
-	public void setPseudoArgs(PseudoArgs<?> threadLocalArgs) {
-		this.threadLocalArgs = new ThreadLocal<>();
-		this.threadLocalArgs.set(threadLocalArgs);
+	public void setPseudoArgs(PseudoArgs<?> pseudoArgs) {
+		if (pseudoArgs == null) {
+			threadLocalArgs.remove();
+		} else {
+			threadLocalArgs.set(pseudoArgs);
+		}
 	}
 
 	/**
@@ -198,4 +241,85 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 		return scanConsistency;
 	}
 
+	/**
+	 * Observe the operations of the template with the given registry. The default is {@link ObservationRegistry#NOOP},
+	 * which does not observe them.
+	 *
+	 * @param observationRegistry the registry of the observations.
+	 * @since 5.0
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		this.observationSupport = new CouchbaseObservationSupport(observationRegistry,
+				observationSupport.getObservationConvention());
+	}
+
+	/**
+	 * @return the registry of the observations of the operations.
+	 * @since 5.0
+	 */
+	public ObservationRegistry getObservationRegistry() {
+		return observationSupport.getObservationRegistry();
+	}
+
+	/**
+	 * Name and tag the observations of the operations with the given convention instead of the
+	 * {@link org.springframework.data.couchbase.observability.DefaultCouchbaseObservationConvention}.
+	 *
+	 * @param observationConvention the convention, or {@literal null} for the default.
+	 * @since 5.0
+	 */
+	public void setObservationConvention(@Nullable CouchbaseObservationConvention observationConvention) {
+		this.observationSupport = new CouchbaseObservationSupport(observationSupport.getObservationRegistry(),
+				observationConvention);
+	}
+
+	CouchbaseObservationSupport observations() {
+		return observationSupport;
+	}
+
+	/**
+	 * Log the query and analytics operations which take longer than the given threshold, with their statement and the
+	 * metrics of the server. The default is {@literal null}, which logs none.
+	 *
+	 * @param threshold the duration above which operations are logged, or {@literal null}.
+	 * @since 5.0
+	 * @see SlowOperationReporter
+	 */
+	public void setSlowOperationThreshold(@Nullable Duration threshold) {
+		slowOperationReporter.setThreshold(threshold);
+	}
+
+	/**
+	 * Profile the queries while a slow operation threshold is set, and log the profile of the slow ones, e.g. the phase
+	 * timings with {@link QueryProfile#PHASES}. The default is {@link QueryProfile#OFF}.
+	 *
+	 * @param profile the profile of the queries.
+	 * @since 5.0
+	 */
+	public void setSlowOperationProfile(QueryProfile profile) {
+		slowOperationReporter.setProfile(profile);
+	}
+
+	SlowOperationReporter slowOperations() {
+		return slowOperationReporter;
+	}
+
+	/**
+	 * The stored field paths findById reads with lookupIn for the projected fields of a domain type, resolved once.
+	 */
+	List<String> lookupPaths(Class<?> domainType, List<String> fields) {
+		return lookupPaths.computeIfAbsent(Arrays.asList(domainType, fields),
+				key -> ReactiveFindByIdSupport.lookupPaths(converter, domainType, fields));
+	}
+
+	/**
+	 * The profiler of the conversions between entities and documents done by this template. It samples nothing until
+	 * {@link MappingProfiler#setSampleRate(double)} is called.
+	 *
+	 * @since 5.0
+	 */
+	public MappingProfiler getMappingProfiler() {
+		return mappingProfiler;
+	}
+
 }
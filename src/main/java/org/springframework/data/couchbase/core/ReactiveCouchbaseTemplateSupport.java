@@ -30,6 +30,8 @@ import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.CouchbaseDocumentSnapshots;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
 import org.springframework.data.couchbase.core.convert.join.N1qlJoinResolver;
 import org.springframework.data.couchbase.core.convert.translation.TranslationService;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
@@ -39,8 +41,10 @@ import org.springframework.data.couchbase.core.mapping.event.AfterSaveEvent;
 import org.springframework.data.couchbase.core.mapping.event.BeforeConvertEvent;
 import org.springframework.data.couchbase.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.couchbase.core.mapping.event.CouchbaseMappingEvent;
+import org.springframework.data.couchbase.core.mapping.event.CouchbaseMappingEventDispatcher;
 import org.springframework.data.couchbase.core.mapping.event.ReactiveAfterConvertCallback;
 import org.springframework.data.couchbase.core.mapping.event.ReactiveBeforeConvertCallback;
+import org.springframework.data.couchbase.observability.MappingProfiler;
 import org.springframework.data.couchbase.repository.support.MappingCouchbaseEntityInformation;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.callback.EntityCallbacks;
@@ -65,7 +69,9 @@ class ReactiveCouchbaseTemplateSupport implements ApplicationContextAware, React
 	private final MappingContext<? extends CouchbasePersistentEntity<?>, CouchbasePersistentProperty> mappingContext;
 	private final TranslationService translationService;
 	private ReactiveEntityCallbacks reactiveEntityCallbacks;
+	private EntityCallbackLookup callbackLookup;
 	private ApplicationContext applicationContext;
+	private CouchbaseMappingEventDispatcher eventDispatcher;
 
 	public ReactiveCouchbaseTemplateSupport(final ReactiveCouchbaseTemplate template, final CouchbaseConverter converter,
 			final TranslationService translationService) {
@@ -77,13 +83,32 @@ class ReactiveCouchbaseTemplateSupport implements ApplicationContextAware, React
 
 	@Override
 	public Mono<CouchbaseDocument> encodeEntity(final Object entityToEncode) {
-		return Mono.just(entityToEncode).doOnNext(entity -> maybeEmitEvent(new BeforeConvertEvent<>(entity)))
-				.flatMap(entity -> maybeCallBeforeConvert(entity, "")).map(maybeNewEntity -> {
-					final CouchbaseDocument converted = new CouchbaseDocument();
-					converter.write(maybeNewEntity, converted);
-					return converted;
-				}).flatMap(converted -> maybeCallAfterConvert(entityToEncode, converted, "").thenReturn(converted))
-				.doOnNext(converted -> maybeEmitEvent(new BeforeSaveEvent<>(entityToEncode, converted)));
+		return Mono.just(entityToEncode).doOnNext(entity -> {
+			if (shouldEmitEvent(BeforeConvertEvent.class, entity)) {
+				maybeEmitEvent(new BeforeConvertEvent<>(entity));
+			}
+		}).flatMap(entity -> maybeCallBeforeConvert(entity, "")).flatMap(maybeNewEntity -> {
+			// wait for a generated id here instead of blocking in the converter
+			return converter instanceof MappingCouchbaseConverter
+					? ((MappingCouchbaseConverter) converter).idGeneratorReady(maybeNewEntity).thenReturn(maybeNewEntity)
+					: Mono.just(maybeNewEntity);
+		}).map(maybeNewEntity -> {
+			final CouchbaseDocument converted = new CouchbaseDocument();
+			MappingProfiler profiler = template.getMappingProfiler();
+			boolean sampled = profiler.sample();
+			long start = sampled ? System.nanoTime() : 0;
+			converter.write(maybeNewEntity, converted);
+			if (sampled) {
+				profiler.recordEncode(maybeNewEntity.getClass(), System.nanoTime() - start,
+						MappingProfiler.utf8Length(translationService.encode(converted)), converted.size(true));
+			}
+			return converted;
+		}).flatMap(converted -> maybeCallAfterConvert(entityToEncode, converted, "").thenReturn(converted))
+				.doOnNext(converted -> {
+					if (shouldEmitEvent(BeforeSaveEvent.class, entityToEncode)) {
+						maybeEmitEvent(new BeforeSaveEvent<>(entityToEncode, converted));
+					}
+				});
 	}
 
 	@Override
@@ -136,10 +161,19 @@ class ReactiveCouchbaseTemplateSupport implements ApplicationContextAware, React
 				}
 			}
 
+			MappingProfiler profiler = template.getMappingProfiler();
+			boolean sampled = profiler.sample();
+			long start = sampled ? System.nanoTime() : 0;
 			// if the constructor has an argument that is long version, then construction will fail if the 'version'
 			// is not available as 'null' is not a legal value for a long. Changing the arg to "Long version" would solve this.
 			// (Version doesn't come from 'source', it comes from the cas argument to decodeEntity)
-			T readEntity = converter.read(entityClass, (CouchbaseDocument) translationService.decode(source, converted));
+			CouchbaseDocument decoded = (CouchbaseDocument) translationService.decode(source, converted);
+			T readEntity = converter.read(entityClass, decoded);
+			if (sampled) {
+				profiler.recordDecode(readEntity.getClass(), System.nanoTime() - start, MappingProfiler.utf8Length(source),
+						decoded.size(true));
+			}
+			maybeRecordSnapshot(decoded, persistentEntity, cas, scope, collection);
 			final ConvertingPropertyAccessor<T> accessor = getPropertyAccessor(readEntity);
 
 			persistentEntity = couldBePersistentEntity(readEntity.getClass());
@@ -152,6 +186,21 @@ class ReactiveCouchbaseTemplateSupport implements ApplicationContextAware, React
 		});
 	}
 
+	/**
+	 * Keeps the snapshot of a document read with its cas if the converter tracks dirty fields. The version put into the
+	 * document for the entity construction is not stored in the document and is not part of the snapshot.
+	 */
+	private void maybeRecordSnapshot(CouchbaseDocument decoded, CouchbasePersistentEntity<?> persistentEntity, Long cas,
+			String scope, String collection) {
+		CouchbaseDocumentSnapshots snapshots = converter instanceof MappingCouchbaseConverter
+				? ((MappingCouchbaseConverter) converter).getDocumentSnapshots()
+				: null;
+		if (snapshots == null || cas == null || cas == 0 || persistentEntity.getVersionProperty() == null) {
+			return;
+		}
+		snapshots.record(scope, collection, decoded, cas, persistentEntity.getVersionProperty().getName());
+	}
+
 	CouchbasePersistentEntity couldBePersistentEntity(Class<?> entityClass) {
 		if (ClassUtils.isPrimitiveOrWrapper(entityClass) || entityClass == String.class) {
 			return null;
@@ -179,7 +228,9 @@ class ReactiveCouchbaseTemplateSupport implements ApplicationContextAware, React
 			} else {
 				returnValue = entity;
 			}
-			maybeEmitEvent(new AfterSaveEvent(returnValue, converted));
+			if (shouldEmitEvent(AfterSaveEvent.class, returnValue)) {
+				maybeEmitEvent(new AfterSaveEvent(returnValue, converted));
+			}
 			return returnValue;
 		});
 	}
@@ -232,8 +283,16 @@ class ReactiveCouchbaseTemplateSupport implements ApplicationContextAware, React
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		this.applicationContext = applicationContext;
+		if (eventDispatcher == null) {
+			setEventDispatcher(applicationContext.getBeanProvider(CouchbaseMappingEventDispatcher.class).getIfUnique(() -> {
+				CouchbaseMappingEventDispatcher dispatcher = new CouchbaseMappingEventDispatcher();
+				dispatcher.setApplicationContext(applicationContext);
+				return dispatcher;
+			}));
+		}
 		if (reactiveEntityCallbacks == null) {
 			setReactiveEntityCallbacks(ReactiveEntityCallbacks.create(applicationContext));
+			this.callbackLookup = EntityCallbackLookup.of(applicationContext);
 		}
 	}
 
@@ -250,12 +309,13 @@ class ReactiveCouchbaseTemplateSupport implements ApplicationContextAware, React
 	public void setReactiveEntityCallbacks(ReactiveEntityCallbacks reactiveEntityCallbacks) {
 		Assert.notNull(reactiveEntityCallbacks, "EntityCallbacks must not be null!");
 		this.reactiveEntityCallbacks = reactiveEntityCallbacks;
+		this.callbackLookup = null; // callbacks of a custom instance are unknown, always invoke them
 	}
 
 	public void maybeEmitEvent(CouchbaseMappingEvent<?> event) {
 		if (canPublishEvent()) {
 			try {
-				this.applicationContext.publishEvent(event);
+				this.eventDispatcher.dispatch(event);
 			} catch (Exception e) {
 				LOG.warn("{} thrown during {}", e, event);
 				throw e;
@@ -267,11 +327,36 @@ class ReactiveCouchbaseTemplateSupport implements ApplicationContextAware, React
 	}
 
 	private boolean canPublishEvent() {
-		return this.applicationContext != null;
+		return this.applicationContext != null && this.eventDispatcher != null;
+	}
+
+	/**
+	 * Whether an event of the given type for the entity needs to be created at all. Does not check for an application
+	 * context so that {@link #maybeEmitEvent(CouchbaseMappingEvent)} can still report a missing one.
+	 */
+	private boolean shouldEmitEvent(Class<?> eventType, Object entity) {
+		return eventDispatcher == null || eventDispatcher.hasListeners(eventType, entity.getClass());
+	}
+
+	/**
+	 * Set the {@link CouchbaseMappingEventDispatcher} used to dispatch mapping events. Defaults to the
+	 * {@link CouchbaseMappingEventDispatcher} bean of the application context or one publishing every event through the
+	 * application context.
+	 *
+	 * @param eventDispatcher must not be {@literal null}.
+	 * @throws IllegalArgumentException if the given instance is {@literal null}.
+	 */
+	public void setEventDispatcher(CouchbaseMappingEventDispatcher eventDispatcher) {
+		Assert.notNull(eventDispatcher, "EventDispatcher must not be null!");
+		this.eventDispatcher = eventDispatcher;
 	}
 
 	protected <T> Mono<T> maybeCallBeforeConvert(T object, String collection) {
 		if (reactiveEntityCallbacks != null) {
+			if (callbackLookup != null
+					&& !callbackLookup.hasCallbacks(ReactiveBeforeConvertCallback.class, object.getClass())) {
+				return Mono.just(object);
+			}
 			return reactiveEntityCallbacks.callback(ReactiveBeforeConvertCallback.class, object, collection);
 		} else {
 			LOG.info("maybeCallBeforeConvert called, but ReactiveCouchbaseTemplate not initialized with applicationContext");
@@ -281,6 +366,10 @@ class ReactiveCouchbaseTemplateSupport implements ApplicationContextAware, React
 
 	protected <T> Mono<T> maybeCallAfterConvert(T object, CouchbaseDocument document, String collection) {
 		if (null != reactiveEntityCallbacks) {
+			if (callbackLookup != null
+					&& !callbackLookup.hasCallbacks(ReactiveAfterConvertCallback.class, object.getClass())) {
+				return Mono.just(object);
+			}
 			return reactiveEntityCallbacks.callback(ReactiveAfterConvertCallback.class, object, document, collection);
 		} else {
 			LOG.info("maybeCallAfterConvert called, but ReactiveCouchbaseTemplate not initialized with applicationContext");
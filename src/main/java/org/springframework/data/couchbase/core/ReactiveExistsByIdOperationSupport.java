@@ -72,11 +72,19 @@ public class ReactiveExistsByIdOperationSupport implements ReactiveExistsByIdOpe
 
 		@Override
 		public Mono<Boolean> one(final String id) {
-			PseudoArgs<ExistsOptions> pArgs = new PseudoArgs<>(template, scope, collection, options, domainType);
+			return Mono.deferContextual(context -> {
+				PseudoArgs<ExistsOptions> pArgs = new PseudoArgs<>(template, context, scope, collection, options, domainType);
+				return template.observations().observe("existsById", domainType, pArgs.getScope(), pArgs.getCollection(),
+						context, one(id, pArgs));
+			});
+		}
+
+		private Mono<Boolean> one(final String id, PseudoArgs<ExistsOptions> pArgs) {
 			LOG.trace("existsById key={} {}", id, pArgs);
 			return Mono.just(id)
-					.flatMap(docId -> template.getCouchbaseClientFactory().withScope(pArgs.getScope())
-							.getCollection(pArgs.getCollection()).reactive().exists(id, buildOptions(pArgs.getOptions()))
+					.flatMap(docId -> template.observations()
+							.network(template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+									.getCollection(pArgs.getCollection()).reactive().exists(id, buildOptions(pArgs.getOptions())))
 							.map(ExistsResult::exists))
 					.onErrorMap(throwable -> {
 						if (throwable instanceof RuntimeException) {
@@ -18,6 +18,8 @@ package org.springframework.data.couchbase.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.function.Function;
+
 import org.springframework.data.couchbase.core.query.AnalyticsQuery;
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
 import org.springframework.data.couchbase.core.support.TemplateUtils;
@@ -108,54 +110,67 @@ public class ReactiveFindByAnalyticsOperationSupport implements ReactiveFindByAn
 
 		@Override
 		public Flux<T> all() {
-			return Flux.defer(() -> {
+			return Flux.deferContextual(context -> {
 				String statement = assembleEntityQuery(false);
-				return template.getCouchbaseClientFactory().getCluster().reactive()
-						.analyticsQuery(statement, buildAnalyticsOptions()).onErrorMap(throwable -> {
-							if (throwable instanceof RuntimeException) {
-								return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-							} else {
-								return throwable;
-							}
-						}).flatMapMany(ReactiveAnalyticsResult::rowsAsObject).flatMap(row -> {
-							String id = null;
-							Long cas = null;
-							id = row.getString(TemplateUtils.SELECT_ID);
-							if (id == null) {
-								id = row.getString(TemplateUtils.SELECT_ID_3x);
-								row.removeKey(TemplateUtils.SELECT_ID_3x);
-							}
-							cas = row.getLong(TemplateUtils.SELECT_CAS);
-							if (cas == null) {
-								cas = row.getLong(TemplateUtils.SELECT_CAS_3x);
-								row.removeKey(TemplateUtils.SELECT_CAS_3x);
-							}
-							row.removeKey(TemplateUtils.SELECT_ID);
-							row.removeKey(TemplateUtils.SELECT_CAS);
-							return support.decodeEntity(id, row.toString(), cas, returnType, null, null);
-						});
+				Flux<T> rows = analyticsQuery("findByAnalytics", statement, ReactiveAnalyticsResult::rowsAsObject).flatMap(row -> {
+					String id = null;
+					Long cas = null;
+					id = row.getString(TemplateUtils.SELECT_ID);
+					if (id == null) {
+						id = row.getString(TemplateUtils.SELECT_ID_3x);
+						row.removeKey(TemplateUtils.SELECT_ID_3x);
+					}
+					cas = row.getLong(TemplateUtils.SELECT_CAS);
+					if (cas == null) {
+						cas = row.getLong(TemplateUtils.SELECT_CAS_3x);
+						row.removeKey(TemplateUtils.SELECT_CAS_3x);
+					}
+					row.removeKey(TemplateUtils.SELECT_ID);
+					row.removeKey(TemplateUtils.SELECT_CAS);
+					String source = row.toString();
+					return template.observations().decode(support.decodeEntity(id, source, cas, returnType, null, null),
+							source);
+				});
+				return template.observations().observe("findByAnalytics", domainType, scope, collection, context, rows);
 			});
 		}
 
 		@Override
 		public Mono<Long> count() {
-			return Mono.defer(() -> {
+			return Mono.deferContextual(context -> {
 				String statement = assembleEntityQuery(true);
-				return template.getCouchbaseClientFactory().getCluster().reactive()
-						.analyticsQuery(statement, buildAnalyticsOptions()).onErrorMap(throwable -> {
-							if (throwable instanceof RuntimeException) {
-								return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-							} else {
-								return throwable;
-							}
-						}).flatMapMany(ReactiveAnalyticsResult::rowsAsObject)
-						.map(row -> row.getLong(row.getNames().iterator().next())).next();
+				Mono<Long> count = analyticsQuery("count", statement, ReactiveAnalyticsResult::rowsAsObject)
+						.map(row -> row.getLong(row.getNames().iterator().next())).reduce((first, next) -> first);
+				return template.observations().observe("count", domainType, scope, collection, context, count);
 			});
 		}
 
 		@Override
 		public Mono<Boolean> exists() {
-			return count().map(count -> count > 0);
+			return Mono.deferContextual(context -> {
+				String statement = "SELECT VALUE 1 FROM " + support.getJavaNameForEntity(domainType) + " LIMIT 1";
+				Mono<Boolean> exists = analyticsQuery("exists", statement, result -> result.rowsAs(Integer.class)).count()
+						.map(rows -> rows > 0);
+				return template.observations().observe("exists", domainType, scope, collection, context, exists);
+			});
+		}
+
+		/**
+		 * Runs the statement and reads all of its rows, so that the metadata of the result is reported when it is slow.
+		 */
+		private <R> Flux<R> analyticsQuery(String operation, String statement,
+				Function<ReactiveAnalyticsResult, Flux<R>> rows) {
+			AnalyticsOptions opts = buildAnalyticsOptions();
+			Mono<ReactiveAnalyticsResult> result = template.observations()
+					.network(template.getCouchbaseClientFactory().getCluster().reactive().analyticsQuery(statement, opts))
+					.onErrorMap(throwable -> {
+						if (throwable instanceof RuntimeException) {
+							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+						} else {
+							return throwable;
+						}
+					});
+			return template.slowOperations().analytics(operation, statement, opts, result, rows);
 		}
 
 		@Override
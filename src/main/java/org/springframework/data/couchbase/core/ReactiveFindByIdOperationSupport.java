@@ -19,25 +19,38 @@ import static com.couchbase.client.java.kv.GetAndTouchOptions.getAndTouchOptions
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseEntityDescriptor;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
 import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.data.mapping.Alias;
+import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.java.CommonOptions;
 import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.codec.RawJsonTranscoder;
+import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.kv.GetAndTouchOptions;
 import com.couchbase.client.java.kv.GetOptions;
+import com.couchbase.client.java.kv.LookupInOptions;
+import com.couchbase.client.java.kv.LookupInResult;
+import com.couchbase.client.java.kv.LookupInSpec;
 
 public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperation {
 
@@ -50,14 +63,20 @@ public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperati
 
 	@Override
 	public <T> ReactiveFindById<T> findById(Class<T> domainType) {
-		return new ReactiveFindByIdSupport<>(template, domainType, OptionsBuilder.getScopeFrom(domainType),
+		return new ReactiveFindByIdSupport<>(template, domainType, domainType, OptionsBuilder.getScopeFrom(domainType),
 				OptionsBuilder.getCollectionFrom(domainType), null, null, null, template.support());
 	}
 
 	static class ReactiveFindByIdSupport<T> implements ReactiveFindById<T> {
 
+		/**
+		 * The maximum number of specs in one sub-document request.
+		 */
+		private static final int MAX_LOOKUP_SPECS = 16;
+
 		private final ReactiveCouchbaseTemplate template;
-		private final Class<T> domainType;
+		private final Class<?> domainType;
+		private final Class<T> returnType;
 		private final String scope;
 		private final String collection;
 		private final CommonOptions<?> options;
@@ -65,10 +84,12 @@ public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperati
 		private final ReactiveTemplateSupport support;
 		private final Duration expiry;
 
-		ReactiveFindByIdSupport(ReactiveCouchbaseTemplate template, Class<T> domainType, String scope, String collection,
-				CommonOptions<?> options, List<String> fields, Duration expiry, ReactiveTemplateSupport support) {
+		ReactiveFindByIdSupport(ReactiveCouchbaseTemplate template, Class<?> domainType, Class<T> returnType, String scope,
+				String collection, CommonOptions<?> options, List<String> fields, Duration expiry,
+				ReactiveTemplateSupport support) {
 			this.template = template;
 			this.domainType = domainType;
+			this.returnType = returnType;
 			this.scope = scope;
 			this.collection = collection;
 			this.options = options;
@@ -80,20 +101,39 @@ public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperati
 		@Override
 		public Mono<T> one(final String id) {
 
-			CommonOptions<?> gOptions = initGetOptions();
-			PseudoArgs<?> pArgs = new PseudoArgs(template, scope, collection, gOptions, domainType);
+			// only the fields given with project() are read with lookupIn, unless get options or an expiry are given
+			List<String> lookupPaths = expiry == null && options == null && fields != null && !fields.isEmpty()
+					? template.lookupPaths(domainType, fields)
+					: null;
+			CommonOptions<?> gOptions = initGetOptions(lookupPaths);
+			return Mono.deferContextual(context -> {
+				PseudoArgs<?> pArgs = new PseudoArgs(template, context, scope, collection, gOptions, domainType);
+				return template.observations().observe("findById", domainType, pArgs.getScope(), pArgs.getCollection(),
+						context, one(id, pArgs, lookupPaths));
+			});
+		}
+
+		private Mono<T> one(final String id, PseudoArgs<?> pArgs, List<String> lookupPaths) {
 			LOG.trace("findById key={} {}", id, pArgs);
 
 			return Mono.just(id).flatMap(docId -> {
 				ReactiveCollection reactive = template.getCouchbaseClientFactory().withScope(pArgs.getScope())
 						.getCollection(pArgs.getCollection()).reactive();
 				if (pArgs.getOptions() instanceof GetAndTouchOptions) {
-					return reactive.getAndTouch(docId, expiryToUse(), (GetAndTouchOptions) pArgs.getOptions());
+					return template.observations()
+							.network(reactive.getAndTouch(docId, expiryToUse(), (GetAndTouchOptions) pArgs.getOptions()))
+							.map(result -> Tuples.of(result.contentAs(String.class), result.cas()));
+				} else if (lookupPaths != null) {
+					return template.observations()
+							.network(lookupIn(reactive, docId, lookupPaths, (GetOptions) pArgs.getOptions()));
 				} else {
-					return reactive.get(docId, (GetOptions) pArgs.getOptions());
+					return template.observations().network(reactive.get(docId, (GetOptions) pArgs.getOptions()))
+							.map(result -> Tuples.of(result.contentAs(String.class), result.cas()));
 				}
-			}).flatMap(result -> support.decodeEntity(id, result.contentAs(String.class), result.cas(), domainType,
-					pArgs.getScope(), pArgs.getCollection())).onErrorResume(throwable -> {
+			}).filter(result -> !isProjection() || isOfDomainType(result.getT1()))
+					.flatMap(result -> template.observations().decode(support.decodeEntity(id, result.getT1(),
+							result.getT2(), returnType, pArgs.getScope(), pArgs.getCollection()), result.getT1()))
+					.onErrorResume(throwable -> {
 						if (throwable instanceof RuntimeException) {
 							if (throwable instanceof DocumentNotFoundException) {
 								return Mono.empty();
@@ -117,34 +157,136 @@ public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperati
 		@Override
 		public TerminatingFindById<T> withOptions(final GetOptions options) {
 			Assert.notNull(options, "Options must not be null.");
-			return new ReactiveFindByIdSupport<>(template, domainType, scope, collection, options, fields, expiry, support);
+			return new ReactiveFindByIdSupport<>(template, domainType, returnType, scope, collection, options, fields, expiry,
+					support);
 		}
 
 		@Override
 		public FindByIdWithOptions<T> inCollection(final String collection) {
-			return new ReactiveFindByIdSupport<>(template, domainType, scope,
+			return new ReactiveFindByIdSupport<>(template, domainType, returnType, scope,
 					collection != null ? collection : this.collection, options, fields, expiry, support);
 		}
 
 		@Override
 		public FindByIdInCollection<T> inScope(final String scope) {
-			return new ReactiveFindByIdSupport<>(template, domainType, scope != null ? scope : this.scope, collection,
-					options, fields, expiry, support);
+			return new ReactiveFindByIdSupport<>(template, domainType, returnType, scope != null ? scope : this.scope,
+					collection, options, fields, expiry, support);
 		}
 
 		@Override
 		public FindByIdInScope<T> project(String... fields) {
 			Assert.notNull(fields, "Fields must not be null");
-			return new ReactiveFindByIdSupport<>(template, domainType, scope, collection, options, Arrays.asList(fields),
-					expiry, support);
+			return new ReactiveFindByIdSupport<>(template, domainType, returnType, scope, collection, options,
+					Arrays.asList(fields), expiry, support);
+		}
+
+		@Override
+		public <R> FindByIdInScope<R> as(final Class<R> returnType) {
+			Assert.notNull(returnType, "returnType must not be null!");
+			return new ReactiveFindByIdSupport<>(template, domainType, returnType, scope, collection, options, fields, expiry,
+					support);
 		}
 
 		@Override
 		public FindByIdWithProjection<T> withExpiry(final Duration expiry) {
-			return new ReactiveFindByIdSupport<>(template, domainType, scope, collection, options, fields, expiry, support);
+			return new ReactiveFindByIdSupport<>(template, domainType, returnType, scope, collection, options, fields, expiry,
+					support);
+		}
+
+		/**
+		 * Reads the fields with lookupIn requests of up to {@value #MAX_LOOKUP_SPECS} paths each, and assembles the
+		 * document from them. The whole document is read if it changed between the requests. The lookupIn requests use the
+		 * timeout, retry strategy, parent span and client context of the get options.
+		 */
+		static Mono<Tuple2<String, Long>> lookupIn(ReactiveCollection reactive, String docId, List<String> lookupPaths,
+				GetOptions getOptions) {
+			LookupInOptions lookupInOptions = OptionsBuilder.buildLookupInOptions(getOptions);
+			List<List<String>> chunks = new ArrayList<>();
+			for (int i = 0; i < lookupPaths.size(); i += MAX_LOOKUP_SPECS) {
+				chunks.add(lookupPaths.subList(i, Math.min(i + MAX_LOOKUP_SPECS, lookupPaths.size())));
+			}
+			return Flux.fromIterable(chunks).concatMap(chunk -> {
+				List<LookupInSpec> specs = new ArrayList<>(chunk.size());
+				for (String path : chunk) {
+					specs.add(LookupInSpec.get(path));
+				}
+				return reactive.lookupIn(docId, specs, lookupInOptions);
+			}).collectList().flatMap(results -> {
+				long cas = results.get(0).cas();
+				JsonObject content = JsonObject.create();
+				for (int c = 0; c < results.size(); c++) {
+					LookupInResult result = results.get(c);
+					if (result.cas() != cas) {
+						return reactive.get(docId, getOptions)
+								.map(full -> Tuples.of(full.contentAs(String.class), full.cas()));
+					}
+					List<String> chunk = chunks.get(c);
+					for (int i = 0; i < chunk.size(); i++) {
+						if (result.exists(i)) {
+							putPath(content, chunk.get(i), result.contentAs(i, Object.class));
+						}
+					}
+				}
+				return Mono.just(Tuples.of(content.toString(), cas));
+			});
+		}
+
+		private static void putPath(JsonObject content, String path, Object value) {
+			String[] segments = path.split("\\.");
+			JsonObject parent = content;
+			for (int i = 0; i < segments.length - 1; i++) {
+				JsonObject child = parent.getObject(segments[i]);
+				if (child == null) {
+					child = JsonObject.create();
+					parent.put(segments[i], child);
+				}
+				parent = child;
+			}
+			parent.put(segments[segments.length - 1], value);
+		}
+
+		/**
+		 * The stored field paths of the projected fields, to read with lookupIn. The template caches them by domain type
+		 * and fields.
+		 */
+		static List<String> lookupPaths(CouchbaseConverter converter, Class<?> domainType, List<String> fields) {
+			MappingContext<? extends CouchbasePersistentEntity<?>, CouchbasePersistentProperty> mappingContext = converter
+					.getMappingContext();
+			List<String> paths = new ArrayList<>();
+			CouchbasePersistentEntity<?> entity = mappingContext.getPersistentEntity(domainType);
+			for (String field : fields) {
+				CouchbasePersistentProperty property = entity != null ? entity.getPersistentProperty(field.split("\\.")[0])
+						: null;
+				if (property == null || !(property.isIdProperty() || property.isVersionProperty())) {
+					paths.add(ReactiveMutateInByIdOperationSupport.toFieldPath(mappingContext, domainType, field));
+				}
+			}
+			paths.add(converter.getTypeKey());
+			return Collections.unmodifiableList(paths);
+		}
+
+		private boolean isProjection() {
+			return returnType != domainType || (fields != null && !fields.isEmpty());
+		}
+
+		/**
+		 * Whether the type key of a document is the one of the domain type, like the type key predicate of the queries.
+		 * Projections map any document without failing, so a document of another entity type with the same id would be
+		 * returned otherwise. Documents without the type key are not rejected.
+		 */
+		private boolean isOfDomainType(String content) {
+			CouchbaseConverter converter = template.getConverter();
+			Object type = JsonObject.fromJson(content).get(converter.getTypeKey());
+			if (type == null) {
+				return true;
+			}
+			CouchbaseEntityDescriptor descriptor = converter.getMappingContext().getRequiredPersistentEntity(domainType)
+					.getDescriptor();
+			Alias alias = converter.getTypeAlias(descriptor.getTypeInformation());
+			return type.equals(alias != null && alias.isPresent() ? alias.toString() : descriptor.getType().getName());
 		}
 
-		private CommonOptions<?> initGetOptions() {
+		private CommonOptions<?> initGetOptions(List<String> lookupPaths) {
 			CommonOptions<?> getOptions;
 			if (expiry != null || options instanceof GetAndTouchOptions) {
 				GetAndTouchOptions gOptions = options != null ? (GetAndTouchOptions) options : getAndTouchOptions();
@@ -157,7 +299,7 @@ public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperati
 				if (gOptions.build().transcoder() == null) {
 					gOptions.transcoder(RawJsonTranscoder.INSTANCE);
 				}
-				if (fields != null && !fields.isEmpty()) {
+				if (lookupPaths == null && fields != null && !fields.isEmpty()) {
 					gOptions.project(fields);
 				}
 				getOptions = gOptions;
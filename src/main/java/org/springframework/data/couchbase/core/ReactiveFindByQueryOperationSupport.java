@@ -170,21 +170,29 @@ public class ReactiveFindByQueryOperationSupport implements ReactiveFindByQueryO
 
 		@Override
 		public Flux<T> all() {
-			PseudoArgs<QueryOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType);
+			return Flux.deferContextual(context -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs<>(template, context, scope, collection, options, domainType);
+				return template.observations().observe("findByQuery", domainType, pArgs.getScope(), pArgs.getCollection(),
+						context, all(pArgs));
+			});
+		}
+
+		private Flux<T> all(PseudoArgs<QueryOptions> pArgs) {
 			String statement = assembleEntityQuery(false, distinctFields, pArgs.getScope(), pArgs.getCollection());
 			LOG.trace("findByQuery {} statement: {}", pArgs, statement);
+			QueryOptions opts = buildOptions(pArgs.getOptions());
 			Mono<ReactiveQueryResult> allResult = pArgs.getScope() == null
-					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement,
-							buildOptions(pArgs.getOptions()))
+					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement, opts)
 					: template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getScope().reactive().query(statement,
-							buildOptions(pArgs.getOptions()));
-			return Flux.defer(() -> allResult.onErrorMap(throwable -> {
-				if (throwable instanceof RuntimeException) {
-					return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-				} else {
-					return throwable;
-				}
-			}).flatMapMany(ReactiveQueryResult::rowsAsObject).flatMap(row -> {
+							opts);
+			return Flux.defer(() -> template.slowOperations().query("findByQuery", statement, opts,
+					template.observations().network(allResult).onErrorMap(throwable -> {
+						if (throwable instanceof RuntimeException) {
+							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+						} else {
+							return throwable;
+						}
+					}), ReactiveQueryResult::rowsAsObject).flatMap(row -> {
 				String id = null;
 				Long cas = null;
 				if (query.isDistinct() || distinctFields != null) {
@@ -204,38 +212,73 @@ public class ReactiveFindByQueryOperationSupport implements ReactiveFindByQueryO
 					row.removeKey(TemplateUtils.SELECT_ID);
 					row.removeKey(TemplateUtils.SELECT_CAS);
 				}
-				return support.decodeEntity(id, row.toString(), cas, returnType, pArgs.getScope(), pArgs.getCollection());
+				String source = row.toString();
+				return template.observations().decode(
+						support.decodeEntity(id, source, cas, returnType, pArgs.getScope(), pArgs.getCollection()), source);
 			}));
 		}
 
 		public QueryOptions buildOptions(QueryOptions options) {
 			QueryScanConsistency qsc = scanConsistency != null ? scanConsistency : template.getConsistency();
-			return query.buildQueryOptions(options, qsc);
+			return template.slowOperations().apply(query.buildQueryOptions(options, qsc));
 		}
 
 		@Override
 		public Mono<Long> count() {
-			PseudoArgs<QueryOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType);
+			return Mono.deferContextual(context -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs<>(template, context, scope, collection, options, domainType);
+				return template.observations().observe("count", domainType, pArgs.getScope(), pArgs.getCollection(),
+						context, count(pArgs));
+			});
+		}
+
+		private Mono<Long> count(PseudoArgs<QueryOptions> pArgs) {
 			String statement = assembleEntityQuery(true, distinctFields, pArgs.getScope(), pArgs.getCollection());
 			LOG.trace("findByQuery {} statement: {}", pArgs, statement);
+			QueryOptions opts = buildOptions(pArgs.getOptions());
 			Mono<ReactiveQueryResult> countResult = pArgs.getScope() == null
-					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement,
-							buildOptions(pArgs.getOptions()))
+					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement, opts)
 					: template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getScope().reactive().query(statement,
-							buildOptions(pArgs.getOptions()));
-			return Mono.defer(() -> countResult.onErrorMap(throwable -> {
-				if (throwable instanceof RuntimeException) {
-					return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-				} else {
-					return throwable;
-				}
-			}).flatMapMany(ReactiveQueryResult::rowsAsObject).map(row -> row.getLong(row.getNames().iterator().next()))
-					.next());
+							opts);
+			// reduce instead of next() reads the whole result, so that its metadata is reported
+			return Mono.defer(() -> template.slowOperations().query("count", statement, opts,
+					template.observations().network(countResult).onErrorMap(throwable -> {
+						if (throwable instanceof RuntimeException) {
+							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+						} else {
+							return throwable;
+						}
+					}), ReactiveQueryResult::rowsAsObject).map(row -> row.getLong(row.getNames().iterator().next()))
+					.reduce((first, next) -> first));
 		}
 
 		@Override
 		public Mono<Boolean> exists() {
-			return count().map(count -> count > 0); // not efficient, just need the first one
+			return Mono.deferContextual(context -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs<>(template, context, scope, collection, options, domainType);
+				return template.observations().observe("exists", domainType, pArgs.getScope(), pArgs.getCollection(),
+						context, exists(pArgs));
+			});
+		}
+
+		private Mono<Boolean> exists(PseudoArgs<QueryOptions> pArgs) {
+			String statement = query.toN1qlExistsString(template.getConverter(), template.getBucketName(), pArgs.getScope(),
+					pArgs.getCollection(), domainType);
+			LOG.trace("findByQuery {} statement: {}", pArgs, statement);
+			QueryOptions opts = buildOptions(pArgs.getOptions());
+			Mono<ReactiveQueryResult> existsResult = pArgs.getScope() == null
+					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement, opts)
+					: template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getScope().reactive().query(statement,
+							opts);
+			// the statement has LIMIT 1, reading the whole result is reading one row at most
+			return Mono.defer(() -> template.slowOperations().query("exists", statement, opts,
+					template.observations().network(existsResult).onErrorMap(throwable -> {
+						if (throwable instanceof RuntimeException) {
+							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+						} else {
+							return throwable;
+						}
+					}), result -> result.rowsAs(Integer.class)).count().map(rows -> rows > 0));
 		}
 
 		private String assembleEntityQuery(final boolean count, String[] distinctFields, String scope, String collection) {
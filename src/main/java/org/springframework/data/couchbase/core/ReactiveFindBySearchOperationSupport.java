@@ -0,0 +1,246 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.search.SearchOptions;
+import com.couchbase.client.java.search.SearchQuery;
+import com.couchbase.client.java.search.result.ReactiveSearchResult;
+import com.couchbase.client.java.search.result.SearchRow;
+
+/**
+ * {@link ReactiveFindBySearchOperation} implementation.
+ *
+ * @since 5.0
+ */
+public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearchOperation {
+
+	private final ReactiveCouchbaseTemplate template;
+
+	public ReactiveFindBySearchOperationSupport(final ReactiveCouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> ReactiveFindBySearch<T> findBySearch(final Class<T> domainType) {
+		return new ReactiveFindBySearchSupport<>(template, domainType, domainType, OptionsBuilder.getScopeFrom(domainType),
+				OptionsBuilder.getCollectionFrom(domainType), null, null, null, null);
+	}
+
+	static class ReactiveFindBySearchSupport<T> implements ReactiveFindBySearch<T>, FindBySearchWithOptions<T>,
+			TerminatingFindBySearch<T> {
+
+		private final ReactiveCouchbaseTemplate template;
+		private final Class<?> domainType;
+		private final Class<T> returnType;
+		private final String scope;
+		private final String collection;
+		private final String indexName;
+		private final SearchOptions options;
+		private final Object[] searchAfter;
+		private final SearchQuery query;
+
+		ReactiveFindBySearchSupport(final ReactiveCouchbaseTemplate template, final Class<?> domainType,
+				final Class<T> returnType, final String scope, final String collection, final String indexName,
+				final SearchOptions options, final Object[] searchAfter, final SearchQuery query) {
+			this.template = template;
+			this.domainType = domainType;
+			this.returnType = returnType;
+			this.scope = scope;
+			this.collection = collection;
+			this.indexName = indexName;
+			this.options = options;
+			this.searchAfter = searchAfter;
+			this.query = query;
+		}
+
+		@Override
+		public <R> FindBySearchInScope<R> as(final Class<R> returnType) {
+			Assert.notNull(returnType, "returnType must not be null!");
+			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, scope, collection, indexName,
+					options, searchAfter, query);
+		}
+
+		@Override
+		public FindBySearchInCollection<T> inScope(final String scope) {
+			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, scope != null ? scope : this.scope,
+					collection, indexName, options, searchAfter, query);
+		}
+
+		@Override
+		public FindBySearchWithIndex<T> inCollection(final String collection) {
+			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, scope,
+					collection != null ? collection : this.collection, indexName, options, searchAfter, query);
+		}
+
+		@Override
+		public FindBySearchWithOptions<T> withIndex(final String indexName) {
+			Assert.hasText(indexName, "Index name must not be empty!");
+			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, scope, collection, indexName,
+					options, searchAfter, query);
+		}
+
+		@Override
+		public FindBySearchAfter<T> withOptions(final SearchOptions options) {
+			Assert.notNull(options, "Options must not be null!");
+			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, scope, collection, indexName,
+					options, searchAfter, query);
+		}
+
+		@Override
+		public FindBySearchWithQuery<T> searchAfter(final Object... sortValues) {
+			Assert.notEmpty(sortValues, "Sort values must not be empty!");
+			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, scope, collection, indexName,
+					options, sortValues.clone(), query);
+		}
+
+		@Override
+		public TerminatingFindBySearch<T> matching(final SearchQuery query) {
+			Assert.notNull(query, "Query must not be null!");
+			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, scope, collection, indexName,
+					options, searchAfter, query);
+		}
+
+		@Override
+		public Mono<T> one() {
+			return all().singleOrEmpty();
+		}
+
+		@Override
+		public Mono<T> first() {
+			return all().next();
+		}
+
+		@Override
+		public Flux<T> all() {
+			return Flux.deferContextual(context -> {
+				CouchbasePersistentEntity<?> entity = template.getConverter().getMappingContext()
+						.getPersistentEntity(returnType);
+				CouchbasePersistentProperty scoreProperty = entity != null ? entity.getTextScoreProperty() : null;
+				// the gets run concurrently while the hits are streamed, the entities are emitted in the order of the hits.
+				// The documents are read as the domain type, and converted to the return type.
+				Flux<T> entities = searchQuery(buildSearchOptions(false)).flatMapMany(ReactiveSearchResult::rows)
+						.flatMapSequential(row -> template.findById(domainType).as(returnType).inScope(scope)
+								.inCollection(collection).one(row.id()).map(found -> withScore(found, row, entity, scoreProperty)));
+				return template.observations().observe("findBySearch", domainType, scope, collection, context, entities);
+			});
+		}
+
+		@Override
+		public Mono<Long> count() {
+			return Mono.deferContextual(context -> {
+				Mono<Long> count = searchQuery(buildSearchOptions(true)).flatMap(ReactiveSearchResult::metaData)
+						.map(metaData -> metaData.metrics().totalRows());
+				return template.observations().observe("count", domainType, scope, collection, context, count);
+			});
+		}
+
+		@Override
+		public Mono<Boolean> exists() {
+			return count().map(count -> count > 0);
+		}
+
+		private Mono<ReactiveSearchResult> searchQuery(SearchOptions opts) {
+			Assert.notNull(indexName, "Index name must be set with withIndex()!");
+			Assert.notNull(query, "Query must be set with matching()!");
+			return template.observations()
+					.network(template.getCouchbaseClientFactory().getCluster().reactive().searchQuery(indexName, query, opts))
+					.onErrorMap(throwable -> {
+						if (throwable instanceof RuntimeException) {
+							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+						} else {
+							return throwable;
+						}
+					});
+		}
+
+		@SuppressWarnings("unchecked")
+		private T withScore(T found, SearchRow row, CouchbasePersistentEntity<?> entity,
+				CouchbasePersistentProperty scoreProperty) {
+			if (scoreProperty == null) {
+				return found;
+			}
+			ConvertingPropertyAccessor<T> accessor = new ConvertingPropertyAccessor<>(
+					(PersistentPropertyAccessor<T>) entity.getPropertyAccessor(found),
+					template.getConverter().getConversionService());
+			accessor.setProperty(scoreProperty, row.score());
+			return accessor.getBean();
+		}
+
+		/**
+		 * The options of the search, which only asks for the total number of hits when counting. The sort values to page
+		 * after are passed as the raw {@code search_after} parameter of the search request, on a copy of the given options
+		 * as they may be used for other searches.
+		 */
+		private SearchOptions buildSearchOptions(boolean count) {
+			if (count) {
+				// new options, as the limit of the given ones must remain for the other executions
+				SearchOptions opts = SearchOptions.searchOptions().limit(0);
+				if (options != null) {
+					SearchOptions.Built built = options.build();
+					built.timeout().ifPresent(opts::timeout);
+					built.parentSpan().ifPresent(opts::parentSpan);
+				}
+				return opts;
+			}
+			if (searchAfter == null) {
+				return options != null ? options : SearchOptions.searchOptions();
+			}
+			SearchOptions opts = options != null ? copy(options) : SearchOptions.searchOptions();
+			return opts.raw("search_after", JsonArray.from(searchAfter));
+		}
+
+		/**
+		 * Copies the options, with the parameters they inject into the search request as raw parameters.
+		 */
+		private SearchOptions copy(SearchOptions options) {
+			SearchOptions.Built built = options.build();
+			SearchOptions copy = SearchOptions.searchOptions();
+			built.timeout().ifPresent(copy::timeout);
+			built.retryStrategy().ifPresent(copy::retryStrategy);
+			built.parentSpan().ifPresent(copy::parentSpan);
+			if (built.clientContext() != null) {
+				copy.clientContext(built.clientContext());
+			}
+			if (built.serializer() != null) {
+				copy.serializer(built.serializer());
+			}
+			// the control parameters hold the timeout, which is the one the cluster would use for the copy
+			Duration timeout = built.timeout().orElseGet(() -> template.getCouchbaseClientFactory().getCluster()
+					.environment().timeoutConfig().searchTimeout());
+			JsonObject params = JsonObject.create();
+			built.injectParams(indexName, params, timeout);
+			for (String name : params.getNames()) {
+				copy.raw(name, params.get(name));
+			}
+			return copy;
+		}
+	}
+
+}
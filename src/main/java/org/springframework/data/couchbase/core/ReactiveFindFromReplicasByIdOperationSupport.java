@@ -74,13 +74,25 @@ public class ReactiveFindFromReplicasByIdOperationSupport implements ReactiveFin
 			if (garOptions.build().transcoder() == null) {
 				garOptions.transcoder(RawJsonTranscoder.INSTANCE);
 			}
-			PseudoArgs<GetAnyReplicaOptions> pArgs = new PseudoArgs<>(template, scope, collection, garOptions, domainType);
+			return Mono.deferContextual(context -> {
+				PseudoArgs<GetAnyReplicaOptions> pArgs = new PseudoArgs<>(template, context, scope, collection, garOptions,
+						domainType);
+				return template.observations().observe("findFromReplicasById", domainType, pArgs.getScope(),
+						pArgs.getCollection(), context, any(id, pArgs));
+			});
+		}
+
+		private Mono<T> any(final String id, PseudoArgs<GetAnyReplicaOptions> pArgs) {
 			LOG.trace("getAnyReplica key={} {}", id, pArgs);
 			return Mono.just(id)
-					.flatMap(docId -> template.getCouchbaseClientFactory().withScope(pArgs.getScope())
-							.getCollection(pArgs.getCollection()).reactive().getAnyReplica(docId, pArgs.getOptions()))
-					.flatMap(result -> support.decodeEntity(id, result.contentAs(String.class), result.cas(), returnType,
-							pArgs.getScope(), pArgs.getCollection()))
+					.flatMap(docId -> template.observations()
+							.network(template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+									.getCollection(pArgs.getCollection()).reactive().getAnyReplica(docId, pArgs.getOptions())))
+					.flatMap(result -> {
+						String source = result.contentAs(String.class);
+						return template.observations().decode(support.decodeEntity(id, source, result.cas(), returnType,
+								pArgs.getScope(), pArgs.getCollection()), source);
+					})
 					.onErrorMap(throwable -> {
 						if (throwable instanceof RuntimeException) {
 							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
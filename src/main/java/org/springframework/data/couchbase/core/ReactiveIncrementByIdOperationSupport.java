@@ -0,0 +1,203 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.mapping.Counter;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.kv.MutateInOptions;
+import com.couchbase.client.java.kv.MutateInSpec;
+import com.couchbase.client.java.kv.PersistTo;
+import com.couchbase.client.java.kv.ReplicateTo;
+
+/**
+ * {@link ReactiveIncrementByIdOperation} implementations for Couchbase.
+ *
+ * @since 5.0
+ */
+public class ReactiveIncrementByIdOperationSupport implements ReactiveIncrementByIdOperation {
+
+	private final ReactiveCouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(ReactiveIncrementByIdOperationSupport.class);
+
+	public ReactiveIncrementByIdOperationSupport(final ReactiveCouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> ReactiveIncrementById<T> incrementById(final Class<T> domainType) {
+		Assert.notNull(domainType, "DomainType must not be null!");
+		return new ReactiveIncrementByIdSupport<>(template, domainType, OptionsBuilder.getScopeFrom(domainType),
+				OptionsBuilder.getCollectionFrom(domainType), null, PersistTo.NONE, ReplicateTo.NONE, DurabilityLevel.NONE,
+				null);
+	}
+
+	/**
+	 * The spec adding a delta to the field at a path.
+	 *
+	 * @param fieldPath the dot-separated field path.
+	 * @param delta the value to add, negative to decrement.
+	 * @return the spec.
+	 */
+	static MutateInSpec incrementSpec(String fieldPath, long delta) {
+		Assert.isTrue(delta != 0 && delta != Long.MIN_VALUE, "Delta must not be 0 nor Long.MIN_VALUE!");
+		return delta > 0 ? MutateInSpec.increment(fieldPath, delta).createPath()
+				: MutateInSpec.decrement(fieldPath, -delta).createPath();
+	}
+
+	static class ReactiveIncrementByIdSupport<T> implements ReactiveIncrementById<T> {
+
+		private final ReactiveCouchbaseTemplate template;
+		private final Class<T> domainType;
+		private final String scope;
+		private final String collection;
+		private final MutateInOptions options;
+		private final PersistTo persistTo;
+		private final ReplicateTo replicateTo;
+		private final DurabilityLevel durabilityLevel;
+		private final Duration expiry;
+
+		ReactiveIncrementByIdSupport(final ReactiveCouchbaseTemplate template, final Class<T> domainType,
+				final String scope, final String collection, final MutateInOptions options, final PersistTo persistTo,
+				final ReplicateTo replicateTo, final DurabilityLevel durabilityLevel, final Duration expiry) {
+			this.template = template;
+			this.domainType = domainType;
+			this.scope = scope;
+			this.collection = collection;
+			this.options = options;
+			this.persistTo = persistTo;
+			this.replicateTo = replicateTo;
+			this.durabilityLevel = durabilityLevel;
+			this.expiry = expiry;
+		}
+
+		@Override
+		public Mono<Long> one(final String id, final long delta) {
+			return one(id, counterProperty().getName(), delta);
+		}
+
+		@Override
+		public Mono<Long> one(final String id, final String path, final long delta) {
+			Assert.notNull(id, "Id must not be null!");
+			String fieldPath = ReactiveMutateInByIdOperationSupport.toFieldPath(template.getConverter().getMappingContext(),
+					domainType, path);
+			MutateInSpec spec = incrementSpec(fieldPath, delta);
+			return Mono.deferContextual(context -> {
+				PseudoArgs<MutateInOptions> pArgs = new PseudoArgs<>(template, context, scope, collection, options, domainType);
+				return template.observations().observe("incrementById", domainType, pArgs.getScope(), pArgs.getCollection(),
+						context, one(id, spec, pArgs));
+			});
+		}
+
+		private Mono<Long> one(String id, MutateInSpec spec, PseudoArgs<MutateInOptions> pArgs) {
+			LOG.trace("incrementById key={} {}", id, pArgs);
+			return template.observations()
+					.network(template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+							.getCollection(pArgs.getCollection()).reactive()
+							.mutateIn(id, Collections.singletonList(spec), buildMutateInOptions(pArgs.getOptions(), id)))
+					.map(result -> result.contentAs(0, Long.class)).onErrorMap(throwable -> {
+						if (throwable instanceof RuntimeException) {
+							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+						} else {
+							return throwable;
+						}
+					});
+		}
+
+		private CouchbasePersistentProperty counterProperty() {
+			CouchbasePersistentProperty counter = null;
+			for (CouchbasePersistentProperty property : entity().getPersistentProperties(Counter.class)) {
+				if (counter != null) {
+					throw new IllegalStateException(
+							domainType.getName() + " has more than one @Counter property, the path must be given!");
+				}
+				counter = property;
+			}
+			if (counter == null) {
+				throw new IllegalStateException(domainType.getName() + " has no @Counter property!");
+			}
+			return counter;
+		}
+
+		private CouchbasePersistentEntity<?> entity() {
+			return template.getConverter().getMappingContext().getRequiredPersistentEntity(domainType);
+		}
+
+		/**
+		 * The expiry of the entity applies when none is given, as it does for the other mutations.
+		 */
+		private MutateInOptions buildMutateInOptions(MutateInOptions options, String id) {
+			CouchbaseDocument doc = new CouchbaseDocument(id, (int) entity().getExpiryDuration().getSeconds());
+			return OptionsBuilder.buildMutateInOptions(options, persistTo, replicateTo, durabilityLevel, expiry, null, doc);
+		}
+
+		@Override
+		public TerminatingIncrementById<T> withOptions(final MutateInOptions options) {
+			Assert.notNull(options, "Options must not be null.");
+			return new ReactiveIncrementByIdSupport<>(template, domainType, scope, collection, options, persistTo,
+					replicateTo, durabilityLevel, expiry);
+		}
+
+		@Override
+		public IncrementByIdWithOptions<T> inCollection(final String collection) {
+			return new ReactiveIncrementByIdSupport<>(template, domainType, scope,
+					collection != null ? collection : this.collection, options, persistTo, replicateTo, durabilityLevel, expiry);
+		}
+
+		@Override
+		public IncrementByIdInCollection<T> inScope(final String scope) {
+			return new ReactiveIncrementByIdSupport<>(template, domainType, scope != null ? scope : this.scope, collection,
+					options, persistTo, replicateTo, durabilityLevel, expiry);
+		}
+
+		@Override
+		public IncrementByIdInScope<T> withDurability(final DurabilityLevel durabilityLevel) {
+			Assert.notNull(durabilityLevel, "Durability Level must not be null.");
+			return new ReactiveIncrementByIdSupport<>(template, domainType, scope, collection, options, persistTo,
+					replicateTo, durabilityLevel, expiry);
+		}
+
+		@Override
+		public IncrementByIdInScope<T> withDurability(final PersistTo persistTo, final ReplicateTo replicateTo) {
+			Assert.notNull(persistTo, "PersistTo must not be null.");
+			Assert.notNull(replicateTo, "ReplicateTo must not be null.");
+			return new ReactiveIncrementByIdSupport<>(template, domainType, scope, collection, options, persistTo,
+					replicateTo, durabilityLevel, expiry);
+		}
+
+		@Override
+		public IncrementByIdWithDurability<T> withExpiry(final Duration expiry) {
+			Assert.notNull(expiry, "expiry must not be null.");
+			return new ReactiveIncrementByIdSupport<>(template, domainType, scope, collection, options, persistTo,
+					replicateTo, durabilityLevel, expiry);
+		}
+
+	}
+
+}
@@ -80,12 +80,20 @@ public class ReactiveInsertByIdOperationSupport implements ReactiveInsertByIdOpe
 
 		@Override
 		public Mono<T> one(T object) {
-			PseudoArgs<InsertOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType);
+			return Mono.deferContextual(context -> {
+				PseudoArgs<InsertOptions> pArgs = new PseudoArgs<>(template, context, scope, collection, options, domainType);
+				return template.observations().observe("insertById", domainType, pArgs.getScope(), pArgs.getCollection(),
+						context, one(object, pArgs));
+			});
+		}
+
+		private Mono<T> one(T object, PseudoArgs<InsertOptions> pArgs) {
 			LOG.trace("insertById object={} {}", object, pArgs);
-			return Mono.just(object).flatMap(support::encodeEntity)
-					.flatMap(converted -> template.getCouchbaseClientFactory().withScope(pArgs.getScope())
-							.getCollection(pArgs.getCollection()).reactive()
-							.insert(converted.getId(), converted.export(), buildOptions(pArgs.getOptions(), converted))
+			return Mono.just(object).flatMap(entity -> template.observations().encode(support.encodeEntity(entity)))
+					.flatMap(converted -> template.observations()
+							.network(template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+									.getCollection(pArgs.getCollection()).reactive()
+									.insert(converted.getId(), converted.toMap(), buildOptions(pArgs.getOptions(), converted)))
 							.flatMap(result -> support.applyUpdatedId(object, converted.getId())
 									.flatMap(updatedObject -> support.applyUpdatedCas(updatedObject, converted, result.cas()))))
 					.onErrorMap(throwable -> {
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import org.springframework.data.couchbase.core.support.InCollection;
+import org.springframework.data.couchbase.core.support.InScope;
+import org.springframework.data.couchbase.core.support.OneAndAllEntityReactive;
+import org.springframework.data.couchbase.core.support.WithDurability;
+import org.springframework.data.couchbase.core.support.WithExpiry;
+import org.springframework.data.couchbase.core.support.WithMutateInOptions;
+import org.springframework.data.couchbase.core.support.WithMutateInPaths;
+
+import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.kv.MutateInOptions;
+import com.couchbase.client.java.kv.PersistTo;
+import com.couchbase.client.java.kv.ReplicateTo;
+
+/**
+ * Sub-document mutation (patch) Operations. Only the given paths of the entity are written to the stored document.
+ *
+ * @since 5.0
+ */
+public interface ReactiveMutateInByIdOperation {
+
+	/**
+	 * Mutate parts of a document using the KV service.
+	 *
+	 * @param domainType the entity type to mutate.
+	 */
+	<T> ReactiveMutateInById<T> mutateInById(Class<T> domainType);
+
+	/**
+	 * Terminating operations invoking the actual execution.
+	 */
+	interface TerminatingMutateInById<T> extends OneAndAllEntityReactive<T> {
+
+		/**
+		 * Mutate one entity.
+		 *
+		 * @return Mutated entity.
+		 */
+		@Override
+		Mono<T> one(T object);
+
+		/**
+		 * Mutate a collection of entities.
+		 *
+		 * @return Mutated entities
+		 */
+		@Override
+		Flux<? extends T> all(Collection<? extends T> objects);
+
+	}
+
+	/**
+	 * Fluent methods to specify the paths to mutate. The values are taken from the entity. Paths are property paths of
+	 * the entity (e.g. {@code address.street}) and are translated to the stored field names. A null property is never
+	 * written as a JSON null: its replace path is removed, its upsert and insert paths are skipped.
+	 *
+	 * @param <T> the entity type to use.
+	 */
+	interface MutateInByIdWithPaths<T> extends TerminatingMutateInById<T>, WithMutateInPaths<T> {
+
+		@Override
+		MutateInByIdWithPaths<T> withUpsertPaths(String... upsertPaths);
+
+		@Override
+		MutateInByIdWithPaths<T> withInsertPaths(String... insertPaths);
+
+		@Override
+		MutateInByIdWithPaths<T> withReplacePaths(String... replacePaths);
+
+		@Override
+		MutateInByIdWithPaths<T> withRemovePaths(String... removePaths);
+
+		/**
+		 * Send the cas of the entity's version property with the mutation, failing it if the document has been modified.
+		 */
+		@Override
+		MutateInByIdWithPaths<T> withCasProvided();
+	}
+
+	/**
+	 * Fluent method to specify options.
+	 *
+	 * @param <T> the entity type to use.
+	 */
+	interface MutateInByIdWithOptions<T> extends MutateInByIdWithPaths<T>, WithMutateInOptions<T> {
+		/**
+		 * Fluent method to specify options to use for execution
+		 *
+		 * @param options to use for execution
+		 */
+		@Override
+		MutateInByIdWithPaths<T> withOptions(MutateInOptions options);
+	}
+
+	/**
+	 * Fluent method to specify the collection.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface MutateInByIdInCollection<T> extends MutateInByIdWithOptions<T>, InCollection<Object> {
+		/**
+		 * With a different collection
+		 *
+		 * @param collection the collection to use.
+		 */
+		@Override
+		MutateInByIdWithOptions<T> inCollection(String collection);
+	}
+
+	/**
+	 * Fluent method to specify the scope.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface MutateInByIdInScope<T> extends MutateInByIdInCollection<T>, InScope<Object> {
+		/**
+		 * With a different scope
+		 *
+		 * @param scope the scope to use.
+		 */
+		@Override
+		MutateInByIdInCollection<T> inScope(String scope);
+	}
+
+	interface MutateInByIdWithDurability<T> extends MutateInByIdInScope<T>, WithDurability<T> {
+		@Override
+		MutateInByIdInScope<T> withDurability(DurabilityLevel durabilityLevel);
+
+		@Override
+		MutateInByIdInScope<T> withDurability(PersistTo persistTo, ReplicateTo replicateTo);
+
+	}
+
+	interface MutateInByIdWithExpiry<T> extends MutateInByIdWithDurability<T>, WithExpiry<T> {
+		@Override
+		MutateInByIdWithDurability<T> withExpiry(Duration expiry);
+	}
+
+	/**
+	 * Provides methods for constructing KV sub-document mutations in a fluent way.
+	 *
+	 * @param <T> the entity type to mutate
+	 */
+	interface ReactiveMutateInById<T> extends MutateInByIdWithExpiry<T> {}
+
+}
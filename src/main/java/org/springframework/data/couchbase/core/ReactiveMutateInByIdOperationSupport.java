@@ -0,0 +1,336 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.CouchbaseList;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.kv.MutateInOptions;
+import com.couchbase.client.java.kv.MutateInSpec;
+import com.couchbase.client.java.kv.PersistTo;
+import com.couchbase.client.java.kv.ReplicateTo;
+
+/**
+ * {@link ReactiveMutateInByIdOperation} implementations for Couchbase.
+ *
+ * @since 5.0
+ */
+public class ReactiveMutateInByIdOperationSupport implements ReactiveMutateInByIdOperation {
+
+	private final ReactiveCouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(ReactiveMutateInByIdOperationSupport.class);
+
+	public ReactiveMutateInByIdOperationSupport(final ReactiveCouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> ReactiveMutateInById<T> mutateInById(final Class<T> domainType) {
+		Assert.notNull(domainType, "DomainType must not be null!");
+		return new ReactiveMutateInByIdSupport<>(template, domainType, OptionsBuilder.getScopeFrom(domainType),
+				OptionsBuilder.getCollectionFrom(domainType), null, PersistTo.NONE, ReplicateTo.NONE, DurabilityLevel.NONE,
+				null, template.support(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+				Collections.emptyList(), false);
+	}
+
+	/**
+	 * Translates a property path of the domain type (e.g. {@code address.street}) into the path of the stored field
+	 * (using {@link CouchbasePersistentProperty#getFieldName()} for every segment). Segments which are not properties
+	 * are used as-is.
+	 *
+	 * @param mappingContext the mapping context.
+	 * @param domainType the class of the entity.
+	 * @param propertyPath the dot-separated property path.
+	 * @return the dot-separated field path.
+	 */
+	static String toFieldPath(
+			MappingContext<? extends CouchbasePersistentEntity<?>, CouchbasePersistentProperty> mappingContext,
+			Class<?> domainType, String propertyPath) {
+		Assert.hasText(propertyPath, "Path must not be empty!");
+		StringBuilder fieldPath = new StringBuilder();
+		CouchbasePersistentEntity<?> entity = mappingContext.getPersistentEntity(domainType);
+		for (String segment : propertyPath.split("\\.")) {
+			CouchbasePersistentProperty property = entity != null ? entity.getPersistentProperty(segment) : null;
+			if (fieldPath.length() > 0) {
+				fieldPath.append('.');
+			}
+			if (property == null) {
+				fieldPath.append(segment);
+				entity = null;
+			} else {
+				if (property.isIdProperty() || property.isVersionProperty()) {
+					throw new IllegalArgumentException(
+							"id and version are not stored in the document and cannot be mutated: " + propertyPath);
+				}
+				fieldPath.append(property.getFieldName());
+				entity = property.isEntity() ? mappingContext.getPersistentEntity(property) : null;
+			}
+		}
+		return fieldPath.toString();
+	}
+
+	/**
+	 * The value at the field path in the converted document, nested documents and lists are exported.
+	 *
+	 * @param document the converted entity.
+	 * @param fieldPath the dot-separated field path.
+	 * @return the value or {@literal null} if there is none.
+	 */
+	static Object getFieldValue(CouchbaseDocument document, String fieldPath) {
+		Object value = document;
+		for (String segment : fieldPath.split("\\.")) {
+			if (!(value instanceof CouchbaseDocument)) {
+				return null;
+			}
+			value = ((CouchbaseDocument) value).get(segment);
+		}
+		if (value instanceof CouchbaseDocument) {
+			return ((CouchbaseDocument) value).toMap();
+		} else if (value instanceof CouchbaseList) {
+			return ((CouchbaseList) value).toList();
+		}
+		return value;
+	}
+
+	/**
+	 * The specs writing the values of the converted entity at the field paths. The converter does not write null
+	 * properties, so a path without a value is removed when it is a replace path, which requires the field to exist, and
+	 * left alone when it is an upsert or insert path, instead of being overwritten with a JSON null.
+	 */
+	static List<MutateInSpec> buildSpecs(CouchbaseDocument converted, List<String> upsertPaths,
+			List<String> insertPaths, List<String> replacePaths, List<String> removePaths) {
+		List<MutateInSpec> specs = new ArrayList<>(
+				upsertPaths.size() + insertPaths.size() + replacePaths.size() + removePaths.size());
+		for (String path : upsertPaths) {
+			Object value = getFieldValue(converted, path);
+			if (value != null) {
+				specs.add(MutateInSpec.upsert(path, value).createPath());
+			}
+		}
+		for (String path : insertPaths) {
+			Object value = getFieldValue(converted, path);
+			if (value != null) {
+				specs.add(MutateInSpec.insert(path, value).createPath());
+			}
+		}
+		for (String path : replacePaths) {
+			Object value = getFieldValue(converted, path);
+			specs.add(value != null ? MutateInSpec.replace(path, value) : MutateInSpec.remove(path));
+		}
+		for (String path : removePaths) {
+			specs.add(MutateInSpec.remove(path));
+		}
+		return specs;
+	}
+
+	static class ReactiveMutateInByIdSupport<T> implements ReactiveMutateInById<T> {
+
+		private final ReactiveCouchbaseTemplate template;
+		private final Class<T> domainType;
+		private final String scope;
+		private final String collection;
+		private final MutateInOptions options;
+		private final PersistTo persistTo;
+		private final ReplicateTo replicateTo;
+		private final DurabilityLevel durabilityLevel;
+		private final Duration expiry;
+		private final ReactiveTemplateSupport support;
+		private final List<String> upsertPaths;
+		private final List<String> insertPaths;
+		private final List<String> replacePaths;
+		private final List<String> removePaths;
+		private final boolean casProvided;
+
+		ReactiveMutateInByIdSupport(final ReactiveCouchbaseTemplate template, final Class<T> domainType, final String scope,
+				final String collection, final MutateInOptions options, final PersistTo persistTo,
+				final ReplicateTo replicateTo, final DurabilityLevel durabilityLevel, final Duration expiry,
+				ReactiveTemplateSupport support, final List<String> upsertPaths, final List<String> insertPaths,
+				final List<String> replacePaths, final List<String> removePaths, final boolean casProvided) {
+			this.template = template;
+			this.domainType = domainType;
+			this.scope = scope;
+			this.collection = collection;
+			this.options = options;
+			this.persistTo = persistTo;
+			this.replicateTo = replicateTo;
+			this.durabilityLevel = durabilityLevel;
+			this.expiry = expiry;
+			this.support = support;
+			this.upsertPaths = upsertPaths;
+			this.insertPaths = insertPaths;
+			this.replacePaths = replacePaths;
+			this.removePaths = removePaths;
+			this.casProvided = casProvided;
+		}
+
+		@Override
+		public Mono<T> one(T object) {
+			Assert.isTrue(!(upsertPaths.isEmpty() && insertPaths.isEmpty() && replacePaths.isEmpty()
+					&& removePaths.isEmpty()), "At least one path to mutate must be specified!");
+			return Mono.deferContextual(context -> {
+				PseudoArgs<MutateInOptions> pArgs = new PseudoArgs<>(template, context, scope, collection, options, domainType);
+				return template.observations().observe("mutateInById", domainType, pArgs.getScope(), pArgs.getCollection(),
+						context, one(object, pArgs));
+			});
+		}
+
+		private Mono<T> one(T object, PseudoArgs<MutateInOptions> pArgs) {
+			LOG.trace("mutateInById object={} {}", object, pArgs);
+			return Mono.just(object).flatMap(entity -> template.observations().encode(support.encodeEntity(entity)))
+					.flatMap(converted -> {
+						List<MutateInSpec> specs = buildSpecs(converted, upsertPaths, insertPaths, replacePaths, removePaths);
+						if (specs.isEmpty()) { // only absent values, nothing to write
+							return Mono.just(object);
+						}
+						return template.observations()
+								.network(template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+										.getCollection(pArgs.getCollection()).reactive()
+										.mutateIn(converted.getId(), specs, buildMutateInOptions(pArgs.getOptions(), object, converted)))
+								.flatMap(result -> support.applyUpdatedCas(object, converted, result.cas()));
+					})
+					.onErrorMap(throwable -> {
+						if (throwable instanceof RuntimeException) {
+							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+						} else {
+							return throwable;
+						}
+					});
+		}
+
+		@Override
+		public Flux<? extends T> all(Collection<? extends T> objects) {
+			return Flux.fromIterable(objects).flatMap(this::one);
+		}
+
+		private MutateInOptions buildMutateInOptions(MutateInOptions options, T object, CouchbaseDocument doc) {
+			return OptionsBuilder.buildMutateInOptions(options, persistTo, replicateTo, durabilityLevel, expiry,
+					casProvided ? support.getCas(object) : null, doc);
+		}
+
+		private List<String> toFieldPaths(String... paths) {
+			List<String> fieldPaths = new ArrayList<>(paths.length);
+			for (String path : paths) {
+				fieldPaths.add(toFieldPath(template.getConverter().getMappingContext(), domainType, path));
+			}
+			return Collections.unmodifiableList(fieldPaths);
+		}
+
+		@Override
+		public MutateInByIdWithPaths<T> withUpsertPaths(final String... upsertPaths) {
+			Assert.notNull(upsertPaths, "UpsertPaths must not be null.");
+			return new ReactiveMutateInByIdSupport<>(template, domainType, scope, collection, options, persistTo,
+					replicateTo, durabilityLevel, expiry, support, toFieldPaths(upsertPaths), insertPaths, replacePaths,
+					removePaths, casProvided);
+		}
+
+		@Override
+		public MutateInByIdWithPaths<T> withInsertPaths(final String... insertPaths) {
+			Assert.notNull(insertPaths, "InsertPaths must not be null.");
+			return new ReactiveMutateInByIdSupport<>(template, domainType, scope, collection, options, persistTo,
+					replicateTo, durabilityLevel, expiry, support, upsertPaths, toFieldPaths(insertPaths), replacePaths,
+					removePaths, casProvided);
+		}
+
+		@Override
+		public MutateInByIdWithPaths<T> withReplacePaths(final String... replacePaths) {
+			Assert.notNull(replacePaths, "ReplacePaths must not be null.");
+			return new ReactiveMutateInByIdSupport<>(template, domainType, scope, collection, options, persistTo,
+					replicateTo, durabilityLevel, expiry, support, upsertPaths, insertPaths, toFieldPaths(replacePaths),
+					removePaths, casProvided);
+		}
+
+		@Override
+		public MutateInByIdWithPaths<T> withRemovePaths(final String... removePaths) {
+			Assert.notNull(removePaths, "RemovePaths must not be null.");
+			return new ReactiveMutateInByIdSupport<>(template, domainType, scope, collection, options, persistTo,
+					replicateTo, durabilityLevel, expiry, support, upsertPaths, insertPaths, replacePaths,
+					toFieldPaths(removePaths), casProvided);
+		}
+
+		@Override
+		public MutateInByIdWithPaths<T> withCasProvided() {
+			return new ReactiveMutateInByIdSupport<>(template, domainType, scope, collection, options, persistTo,
+					replicateTo, durabilityLevel, expiry, support, upsertPaths, insertPaths, replacePaths, removePaths, true);
+		}
+
+		@Override
+		public MutateInByIdWithPaths<T> withOptions(final MutateInOptions options) {
+			Assert.notNull(options, "Options must not be null.");
+			return new ReactiveMutateInByIdSupport<>(template, domainType, scope, collection, options, persistTo,
+					replicateTo, durabilityLevel, expiry, support, upsertPaths, insertPaths, replacePaths, removePaths,
+					casProvided);
+		}
+
+		@Override
+		public MutateInByIdWithOptions<T> inCollection(final String collection) {
+			return new ReactiveMutateInByIdSupport<>(template, domainType, scope,
+					collection != null ? collection : this.collection, options, persistTo, replicateTo, durabilityLevel, expiry,
+					support, upsertPaths, insertPaths, replacePaths, removePaths, casProvided);
+		}
+
+		@Override
+		public MutateInByIdInCollection<T> inScope(final String scope) {
+			return new ReactiveMutateInByIdSupport<>(template, domainType, scope != null ? scope : this.scope, collection,
+					options, persistTo, replicateTo, durabilityLevel, expiry, support, upsertPaths, insertPaths, replacePaths,
+					removePaths, casProvided);
+		}
+
+		@Override
+		public MutateInByIdInScope<T> withDurability(final DurabilityLevel durabilityLevel) {
+			Assert.notNull(durabilityLevel, "Durability Level must not be null.");
+			return new ReactiveMutateInByIdSupport<>(template, domainType, scope, collection, options, persistTo,
+					replicateTo, durabilityLevel, expiry, support, upsertPaths, insertPaths, replacePaths, removePaths,
+					casProvided);
+		}
+
+		@Override
+		public MutateInByIdInScope<T> withDurability(final PersistTo persistTo, final ReplicateTo replicateTo) {
+			Assert.notNull(persistTo, "PersistTo must not be null.");
+			Assert.notNull(replicateTo, "ReplicateTo must not be null.");
+			return new ReactiveMutateInByIdSupport<>(template, domainType, scope, collection, options, persistTo,
+					replicateTo, durabilityLevel, expiry, support, upsertPaths, insertPaths, replacePaths, removePaths,
+					casProvided);
+		}
+
+		@Override
+		public MutateInByIdWithDurability<T> withExpiry(final Duration expiry) {
+			Assert.notNull(expiry, "expiry must not be null.");
+			return new ReactiveMutateInByIdSupport<>(template, domainType, scope, collection, options, persistTo,
+					replicateTo, durabilityLevel, expiry, support, upsertPaths, insertPaths, replacePaths, removePaths,
+					casProvided);
+		}
+
+	}
+
+}
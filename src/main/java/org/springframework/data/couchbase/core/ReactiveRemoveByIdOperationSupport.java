@@ -81,11 +81,19 @@ public class ReactiveRemoveByIdOperationSupport implements ReactiveRemoveByIdOpe
 
 		@Override
 		public Mono<RemoveResult> one(final String id) {
-			PseudoArgs<RemoveOptions> pArgs = new PseudoArgs<>(template, scope, collection, options, domainType);
+			return Mono.deferContextual(context -> {
+				PseudoArgs<RemoveOptions> pArgs = new PseudoArgs<>(template, context, scope, collection, options, domainType);
+				return template.observations().observe("removeById", domainType, pArgs.getScope(), pArgs.getCollection(),
+						context, one(id, pArgs));
+			});
+		}
+
+		private Mono<RemoveResult> one(final String id, PseudoArgs<RemoveOptions> pArgs) {
 			LOG.trace("removeById key={} {}", id, pArgs);
 			return Mono.just(id)
-					.flatMap(docId -> template.getCouchbaseClientFactory().withScope(pArgs.getScope())
-							.getCollection(pArgs.getCollection()).reactive().remove(id, buildRemoveOptions(pArgs.getOptions()))
+					.flatMap(docId -> template.observations()
+							.network(template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+									.getCollection(pArgs.getCollection()).reactive().remove(id, buildRemoveOptions(pArgs.getOptions())))
 							.map(r -> RemoveResult.from(docId, r)))
 					.onErrorMap(throwable -> {
 						if (throwable instanceof RuntimeException) {
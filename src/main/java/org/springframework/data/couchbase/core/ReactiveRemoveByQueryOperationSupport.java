@@ -72,28 +72,36 @@ public class ReactiveRemoveByQueryOperationSupport implements ReactiveRemoveByQu
 
 		@Override
 		public Flux<RemoveResult> all() {
-			PseudoArgs<QueryOptions> pArgs = new PseudoArgs<>(template, scope, collection, options, domainType);
+			return Flux.deferContextual(context -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs<>(template, context, scope, collection, options, domainType);
+				return template.observations().observe("removeByQuery", domainType, pArgs.getScope(), pArgs.getCollection(),
+						context, all(pArgs));
+			});
+		}
+
+		private Flux<RemoveResult> all(PseudoArgs<QueryOptions> pArgs) {
 			String statement = assembleDeleteQuery(pArgs.getScope(), pArgs.getCollection());
 			LOG.trace("removeByQuery {} statement: {}", pArgs, statement);
+			QueryOptions opts = buildQueryOptions(pArgs.getOptions());
 			Mono<ReactiveQueryResult> allResult = pArgs.getScope() == null
-					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement,
-							buildQueryOptions(pArgs.getOptions()))
+					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement, opts)
 					: template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getScope().reactive().query(statement,
-							buildQueryOptions(pArgs.getOptions()));
-			return Flux.defer(() -> allResult.onErrorMap(throwable -> {
-				if (throwable instanceof RuntimeException) {
-					return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-				} else {
-					return throwable;
-				}
-			}).flatMapMany(ReactiveQueryResult::rowsAsObject)
+							opts);
+			return Flux.defer(() -> template.slowOperations().query("removeByQuery", statement, opts,
+					template.observations().network(allResult).onErrorMap(throwable -> {
+						if (throwable instanceof RuntimeException) {
+							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+						} else {
+							return throwable;
+						}
+					}), ReactiveQueryResult::rowsAsObject)
 					.map(row -> new RemoveResult(row.getString(TemplateUtils.SELECT_ID), row.getLong(TemplateUtils.SELECT_CAS),
 							Optional.empty())));
 		}
 
 		private QueryOptions buildQueryOptions(QueryOptions options) {
 			QueryScanConsistency qsc = scanConsistency != null ? scanConsistency : template.getConsistency();
-			return query.buildQueryOptions(options, qsc);
+			return template.slowOperations().apply(query.buildQueryOptions(options, qsc));
 		}
 
 		@Override
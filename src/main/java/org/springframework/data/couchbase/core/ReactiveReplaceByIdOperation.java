@@ -20,6 +20,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.function.UnaryOperator;
 
 import org.springframework.data.couchbase.core.support.InCollection;
 import org.springframework.data.couchbase.core.support.InScope;
@@ -69,19 +70,38 @@ public interface ReactiveReplaceByIdOperation {
 
 	}
 
+	/**
+	 * Fluent method to retry on cas mismatches.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface ReplaceByIdWithRetry<T> extends TerminatingReplaceById<T> {
+		/**
+		 * Apply a mutation to the entity and replace it. When the replace fails on a cas mismatch because the document was
+		 * changed since the entity was read, the document is read again, the mutation is applied to the new entity and the
+		 * replace is retried after a backoff, up to the attempts of the policy. Retries are recorded as contention on the
+		 * observation of the operation. Only entities with a {@link org.springframework.data.annotation.Version} property
+		 * are replaced with their cas.
+		 *
+		 * @param mutator applies the change to an entity, may be called once per attempt.
+		 * @param policy the attempts and backoff.
+		 */
+		TerminatingReplaceById<T> withRetry(UnaryOperator<T> mutator, CasRetryPolicy policy);
+	}
+
 	/**
 	 * Fluent method to specify options.
 	 *
 	 * @param <T> the entity type to use for the results.
 	 */
-	interface ReplaceByIdWithOptions<T> extends TerminatingReplaceById<T>, WithReplaceOptions<RemoveResult> {
+	interface ReplaceByIdWithOptions<T> extends ReplaceByIdWithRetry<T>, WithReplaceOptions<RemoveResult> {
 		/**
 		 * Fluent method to specify options to use for execution
 		 *
 		 * @param options to use for execution
 		 */
 		@Override
-		TerminatingReplaceById<T> withOptions(ReplaceOptions options);
+		ReplaceByIdWithRetry<T> withOptions(ReplaceOptions options);
 	}
 
 	/**
@@ -19,16 +19,28 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.couchbase.core.convert.CouchbaseDocumentSnapshots;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.CouchbaseList;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
 import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.ReactiveCollection;
+import com.couchbase.client.java.kv.MutateInSpec;
+import com.couchbase.client.java.kv.MutationResult;
 import com.couchbase.client.java.kv.PersistTo;
 import com.couchbase.client.java.kv.ReplaceOptions;
 import com.couchbase.client.java.kv.ReplicateTo;
@@ -52,6 +64,11 @@ public class ReactiveReplaceByIdOperationSupport implements ReactiveReplaceByIdO
 
 	static class ReactiveReplaceByIdSupport<T> implements ReactiveReplaceById<T> {
 
+		/**
+		 * The maximum number of specs in one sub-document request.
+		 */
+		private static final int MAX_PATCH_SPECS = 16;
+
 		private final ReactiveCouchbaseTemplate template;
 		private final Class<T> domainType;
 		private final String scope;
@@ -80,14 +97,32 @@ public class ReactiveReplaceByIdOperationSupport implements ReactiveReplaceByIdO
 
 		@Override
 		public Mono<T> one(T object) {
-			PseudoArgs<ReplaceOptions> pArgs = new PseudoArgs<>(template, scope, collection, options, domainType);
+			return Mono.deferContextual(context -> {
+				PseudoArgs<ReplaceOptions> pArgs = new PseudoArgs<>(template, context, scope, collection, options, domainType);
+				return template.observations().observe("replaceById", domainType, pArgs.getScope(), pArgs.getCollection(),
+						context, one(object, pArgs));
+			});
+		}
+
+		private Mono<T> one(T object, PseudoArgs<ReplaceOptions> pArgs) {
 			LOG.trace("replaceById object={} {}", object, pArgs);
-			return Mono.just(object).flatMap(support::encodeEntity)
-					.flatMap(converted -> template.getCouchbaseClientFactory().withScope(pArgs.getScope())
-							.getCollection(pArgs.getCollection()).reactive()
-							.replace(converted.getId(), converted.export(),
-									buildReplaceOptions(pArgs.getOptions(), object, converted))
-							.flatMap(result -> support.applyUpdatedCas(object, converted, result.cas())))
+			return Mono.just(object).flatMap(entity -> template.observations().encode(support.encodeEntity(entity)))
+					.flatMap(converted -> {
+						ReactiveCollection rc = template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+								.getCollection(pArgs.getCollection()).reactive();
+						Long cas = support.getCas(object);
+						List<MutateInSpec> patch = pArgs.getOptions() == null
+								? buildPatch(getDocumentSnapshots(), pArgs.getScope(), pArgs.getCollection(), converted, cas)
+								: null;
+						Mono<? extends MutationResult> write = patch != null
+								? rc.mutateIn(converted.getId(), patch, OptionsBuilder.buildMutateInOptions(null, persistTo,
+										replicateTo, durabilityLevel, expiry, cas, converted))
+								: rc.replace(converted.getId(), converted.toMap(),
+										buildReplaceOptions(pArgs.getOptions(), object, converted));
+						return template.observations().network(write)
+								.doOnNext(result -> maybeRecordSnapshot(pArgs, converted, result.cas()))
+								.flatMap(result -> support.applyUpdatedCas(object, converted, result.cas()));
+					})
 					.onErrorMap(throwable -> {
 						if (throwable instanceof RuntimeException) {
 							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
@@ -102,18 +137,72 @@ public class ReactiveReplaceByIdOperationSupport implements ReactiveReplaceByIdO
 			return Flux.fromIterable(objects).flatMap(this::one);
 		}
 
+		/**
+		 * With dirty tracking, the sub-document specs writing only the top-level fields changed since the document was read
+		 * with the cas. {@literal null} if the whole document should be replaced: there is no snapshot, nothing or most
+		 * of the fields changed, or there are more changes than fit into one sub-document request.
+		 */
+		static List<MutateInSpec> buildPatch(CouchbaseDocumentSnapshots snapshots, String scope, String collection,
+				CouchbaseDocument converted, Long cas) {
+			if (snapshots == null || cas == null || cas == 0) {
+				return null;
+			}
+			List<String> changed = snapshots.changedFields(scope, collection, converted, cas);
+			if (changed == null || changed.isEmpty() || changed.size() > MAX_PATCH_SPECS
+					|| changed.size() * 2 > snapshots.size(scope, collection, converted.getId(), cas)) {
+				return null;
+			}
+			List<MutateInSpec> specs = new ArrayList<>(changed.size());
+			for (String field : changed) {
+				if (field.indexOf('.') >= 0 || field.indexOf('[') >= 0 || field.indexOf('`') >= 0) {
+					return null; // not addressable as a top-level path without escaping
+				}
+				Object value = converted.get(field);
+				if (value instanceof CouchbaseDocument) {
+					specs.add(MutateInSpec.upsert(field, ((CouchbaseDocument) value).toMap()));
+				} else if (value instanceof CouchbaseList) {
+					specs.add(MutateInSpec.upsert(field, ((CouchbaseList) value).toList()));
+				} else if (converted.containsKey(field)) {
+					specs.add(MutateInSpec.upsert(field, value));
+				} else {
+					specs.add(MutateInSpec.remove(field));
+				}
+			}
+			return specs;
+		}
+
+		private void maybeRecordSnapshot(PseudoArgs<ReplaceOptions> pArgs, CouchbaseDocument converted, long cas) {
+			CouchbaseDocumentSnapshots snapshots = getDocumentSnapshots();
+			if (snapshots != null) {
+				snapshots.record(pArgs.getScope(), pArgs.getCollection(), converted, cas, null);
+			}
+		}
+
+		private CouchbaseDocumentSnapshots getDocumentSnapshots() {
+			return template.getConverter() instanceof MappingCouchbaseConverter
+					? ((MappingCouchbaseConverter) template.getConverter()).getDocumentSnapshots()
+					: null;
+		}
+
 		private ReplaceOptions buildReplaceOptions(ReplaceOptions options, T object, CouchbaseDocument doc) {
 			return OptionsBuilder.buildReplaceOptions(options, persistTo, replicateTo, durabilityLevel, expiry,
 					support.getCas(object), doc);
 		}
 
 		@Override
-		public TerminatingReplaceById<T> withOptions(final ReplaceOptions options) {
+		public ReplaceByIdWithRetry<T> withOptions(final ReplaceOptions options) {
 			Assert.notNull(options, "Options must not be null.");
 			return new ReactiveReplaceByIdSupport<>(template, domainType, scope, collection, options, persistTo, replicateTo,
 					durabilityLevel, expiry, support);
 		}
 
+		@Override
+		public TerminatingReplaceById<T> withRetry(final UnaryOperator<T> mutator, final CasRetryPolicy policy) {
+			Assert.notNull(mutator, "Mutator must not be null!");
+			Assert.notNull(policy, "CasRetryPolicy must not be null!");
+			return new ReactiveRetryingReplaceByIdSupport<>(this, mutator, policy);
+		}
+
 		@Override
 		public ReplaceByIdWithDurability<T> inCollection(final String collection) {
 			return new ReactiveReplaceByIdSupport<>(template, domainType, scope,
@@ -151,4 +240,70 @@ public class ReactiveReplaceByIdOperationSupport implements ReactiveReplaceByIdO
 
 	}
 
+	/**
+	 * Replaces with the {@link ReactiveReplaceByIdSupport} it was created from, and on a cas mismatch re-reads the
+	 * document, reapplies the mutation and replaces again.
+	 */
+	static class ReactiveRetryingReplaceByIdSupport<T> implements TerminatingReplaceById<T> {
+
+		private final ReactiveReplaceByIdSupport<T> replace;
+		private final UnaryOperator<T> mutator;
+		private final CasRetryPolicy policy;
+
+		ReactiveRetryingReplaceByIdSupport(final ReactiveReplaceByIdSupport<T> replace, final UnaryOperator<T> mutator,
+				final CasRetryPolicy policy) {
+			this.replace = replace;
+			this.mutator = mutator;
+			this.policy = policy;
+		}
+
+		@Override
+		public Mono<T> one(T object) {
+			return Mono.deferContextual(context -> {
+				PseudoArgs<ReplaceOptions> pArgs = new PseudoArgs<>(replace.template, context, replace.scope,
+						replace.collection, replace.options, replace.domainType);
+				return replace.template.observations().observe("replaceByIdWithRetry", replace.domainType, pArgs.getScope(),
+						pArgs.getCollection(), context, Mono.defer(() -> attempt(pArgs, object, getId(object), 1)));
+			});
+		}
+
+		@Override
+		public Flux<? extends T> all(Collection<? extends T> objects) {
+			return Flux.fromIterable(objects).flatMap(this::one);
+		}
+
+		/**
+		 * Every attempt replaces in, and re-reads from, the scope and collection resolved for the first one.
+		 */
+		private Mono<T> attempt(PseudoArgs<ReplaceOptions> pArgs, T object, String id, int attempt) {
+			return Mono.fromSupplier(() -> mutator.apply(object))
+					.flatMap(mutated -> replace.inScope(pArgs.getScope()).inCollection(pArgs.getCollection()).one(mutated))
+					.onErrorResume(OptimisticLockingFailureException.class, e -> {
+						if (attempt >= policy.getMaxAttempts()) {
+							LOG.debug("replaceById gave up on cas mismatches key={} attempts={}", id, attempt);
+							return Mono.error(e);
+						}
+						LOG.trace("replaceById cas mismatch key={} attempt={}", id, attempt);
+						return replace.template.observations().casRetry(id).then(Mono.delay(policy.backoff(attempt)))
+								.then(replace.template.findById(replace.domainType).inScope(pArgs.getScope())
+										.inCollection(pArgs.getCollection()).one(id))
+								.switchIfEmpty(Mono.error(() -> new DataRetrievalFailureException(
+										"Document with id " + id + " was removed while retrying the replace")))
+								.flatMap(reloaded -> attempt(pArgs, reloaded, id, attempt + 1));
+					});
+		}
+
+		/**
+		 * The id is read once up front, the mutation may change the entity in place.
+		 */
+		private String getId(T object) {
+			CouchbasePersistentEntity<?> entity = replace.template.getConverter().getMappingContext()
+					.getRequiredPersistentEntity(replace.domainType);
+			Object id = entity.getPropertyAccessor(object).getProperty(entity.getRequiredIdProperty());
+			Assert.notNull(id, "The id of the entity to replace must not be null!");
+			return id.toString();
+		}
+
+	}
+
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.springframework.data.couchbase.core.query.N1QLExpression.i;
+import static org.springframework.data.couchbase.core.query.N1QLExpression.s;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseEntityDescriptor;
+import org.springframework.data.couchbase.core.query.N1QLExpression;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.data.mapping.Alias;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryScanConsistency;
+import com.couchbase.client.java.query.ReactiveQueryResult;
+
+/**
+ * {@link ReactiveScanByIdOperation} implementation.
+ *
+ * @since 5.0
+ */
+public class ReactiveScanByIdOperationSupport implements ReactiveScanByIdOperation {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ReactiveScanByIdOperationSupport.class);
+
+	/**
+	 * The default number of entities read concurrently.
+	 */
+	static final int DEFAULT_BATCH_SIZE = 64;
+
+	private final ReactiveCouchbaseTemplate template;
+
+	public ReactiveScanByIdOperationSupport(final ReactiveCouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> ReactiveScanById<T> scanById(final Class<T> domainType) {
+		return new ReactiveScanByIdSupport<>(template, domainType, domainType, OptionsBuilder.getScopeFrom(domainType),
+				OptionsBuilder.getCollectionFrom(domainType), null, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * The id right after all the ids starting with a prefix, {@literal null} if there is none.
+	 */
+	@Nullable
+	static String prefixEnd(String prefix) {
+		int end = prefix.length();
+		while (end > 0 && prefix.charAt(end - 1) == Character.MAX_VALUE) {
+			end--;
+		}
+		if (end == 0) {
+			return null;
+		}
+		return prefix.substring(0, end - 1) + (char) (prefix.charAt(end - 1) + 1);
+	}
+
+	/**
+	 * The statement reading the ids of the documents of an entity type in a range of a keyspace in order, with the
+	 * {@code $from} and {@code $to} named parameters for the bounds which are not {@literal null}.
+	 */
+	static String statement(String keyspace, String typeKey, String typeValue, @Nullable String from,
+			@Nullable String to) {
+		StringBuilder statement = new StringBuilder(
+				N1QLExpression.select(N1QLExpression.x("RAW meta().id")).from(keyspace).toString()).append(" WHERE");
+		if (from != null) {
+			statement.append(" meta().id >= $from AND");
+		}
+		if (to != null) {
+			statement.append(" meta().id < $to AND");
+		}
+		return statement.append(" ").append(i(typeKey).eq(s(typeValue))).append(" ORDER BY meta().id").toString();
+	}
+
+	static class ReactiveScanByIdSupport<T> implements ReactiveScanById<T> {
+
+		private final ReactiveCouchbaseTemplate template;
+		private final Class<?> domainType;
+		private final Class<T> returnType;
+		private final String scope;
+		private final String collection;
+		private final QueryScanConsistency scanConsistency;
+		private final int batchSize;
+
+		ReactiveScanByIdSupport(final ReactiveCouchbaseTemplate template, final Class<?> domainType,
+				final Class<T> returnType, final String scope, final String collection,
+				final QueryScanConsistency scanConsistency, final int batchSize) {
+			this.template = template;
+			this.domainType = domainType;
+			this.returnType = returnType;
+			this.scope = scope;
+			this.collection = collection;
+			this.scanConsistency = scanConsistency;
+			this.batchSize = batchSize;
+		}
+
+		@Override
+		public <R> ScanByIdInScope<R> as(final Class<R> returnType) {
+			Assert.notNull(returnType, "returnType must not be null!");
+			return new ReactiveScanByIdSupport<>(template, domainType, returnType, scope, collection, scanConsistency,
+					batchSize);
+		}
+
+		@Override
+		public ScanByIdInCollection<T> inScope(final String scope) {
+			return new ReactiveScanByIdSupport<>(template, domainType, returnType, scope != null ? scope : this.scope,
+					collection, scanConsistency, batchSize);
+		}
+
+		@Override
+		public ScanByIdWithConsistency<T> inCollection(final String collection) {
+			return new ReactiveScanByIdSupport<>(template, domainType, returnType, scope,
+					collection != null ? collection : this.collection, scanConsistency, batchSize);
+		}
+
+		@Override
+		public ScanByIdWithBatchSize<T> withConsistency(final QueryScanConsistency scanConsistency) {
+			return new ReactiveScanByIdSupport<>(template, domainType, returnType, scope, collection, scanConsistency,
+					batchSize);
+		}
+
+		@Override
+		public TerminatingScanById<T> withBatchSize(final int batchSize) {
+			Assert.isTrue(batchSize > 0, "Batch size must be positive!");
+			return new ReactiveScanByIdSupport<>(template, domainType, returnType, scope, collection, scanConsistency,
+					batchSize);
+		}
+
+		@Override
+		public Flux<T> prefix(final String prefix) {
+			Assert.notNull(prefix, "Prefix must not be null!");
+			return range(prefix.isEmpty() ? null : prefix, prefixEnd(prefix));
+		}
+
+		@Override
+		public Flux<T> range(@Nullable final String from, @Nullable final String to) {
+			return Flux.deferContextual(context -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs<>(template, context, scope, collection, null, domainType);
+				return template.observations().observe("scanById", domainType, pArgs.getScope(), pArgs.getCollection(),
+						context, range(from, to, pArgs));
+			});
+		}
+
+		private Flux<T> range(String from, String to, PseudoArgs<QueryOptions> pArgs) {
+			String keyspace = pArgs.getCollection() != null ? pArgs.getCollection() : template.getBucketName();
+			String statement = statement(keyspace, template.getConverter().getTypeKey(), typeValue(), from, to);
+			LOG.trace("scanById {} statement: {}", pArgs, statement);
+			QueryOptions opts = buildOptions(from, to);
+			Mono<ReactiveQueryResult> ids = pArgs.getScope() == null
+					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement, opts)
+					: template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getScope().reactive().query(statement,
+							opts);
+			// the ids are requested batchSize at a time, and the entities are emitted in the order of the ids
+			return Flux.defer(() -> template.slowOperations().query("scanById", statement, opts,
+					template.observations().network(ids).onErrorMap(throwable -> {
+						if (throwable instanceof RuntimeException) {
+							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+						} else {
+							return throwable;
+						}
+					}), result -> result.rowsAs(String.class)).limitRate(batchSize)
+					.flatMapSequential(id -> template.findById(domainType).as(returnType).inScope(pArgs.getScope())
+							.inCollection(pArgs.getCollection()).one(id), batchSize));
+		}
+
+		/**
+		 * The value of the type key of the documents of the entity type, as in the queries of the entity type.
+		 */
+		private String typeValue() {
+			CouchbaseConverter converter = template.getConverter();
+			CouchbaseEntityDescriptor descriptor = converter.getMappingContext().getRequiredPersistentEntity(domainType)
+					.getDescriptor();
+			Alias alias = converter.getTypeAlias(descriptor.getTypeInformation());
+			return alias != null && alias.isPresent() ? alias.toString() : descriptor.getType().getName();
+		}
+
+		private QueryOptions buildOptions(String from, String to) {
+			JsonObject parameters = JsonObject.create();
+			if (from != null) {
+				parameters.put("from", from);
+			}
+			if (to != null) {
+				parameters.put("to", to);
+			}
+			QueryOptions opts = QueryOptions.queryOptions().parameters(parameters)
+					.scanConsistency(scanConsistency != null ? scanConsistency : template.getConsistency());
+			return template.slowOperations().apply(opts);
+		}
+	}
+
+}
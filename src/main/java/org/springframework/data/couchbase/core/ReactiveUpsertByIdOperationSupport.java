@@ -24,6 +24,8 @@ import java.util.Collection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.mapping.Counter;
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
 import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.util.Assert;
@@ -80,12 +82,21 @@ public class ReactiveUpsertByIdOperationSupport implements ReactiveUpsertByIdOpe
 
 		@Override
 		public Mono<T> one(T object) {
-			PseudoArgs<UpsertOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType);
+			return Mono.deferContextual(context -> {
+				PseudoArgs<UpsertOptions> pArgs = new PseudoArgs<>(template, context, scope, collection, options, domainType);
+				return template.observations().observe("upsertById", domainType, pArgs.getScope(), pArgs.getCollection(),
+						context, one(object, pArgs));
+			});
+		}
+
+		private Mono<T> one(T object, PseudoArgs<UpsertOptions> pArgs) {
 			LOG.trace("upsertById object={} {}", object, pArgs);
-			return Mono.just(object).flatMap(support::encodeEntity)
-					.flatMap(converted -> template.getCouchbaseClientFactory().withScope(pArgs.getScope())
-							.getCollection(pArgs.getCollection()).reactive()
-							.upsert(converted.getId(), converted.export(), buildUpsertOptions(pArgs.getOptions(), converted))
+			return Mono.just(object).doOnNext(this::assertNoCounter)
+					.flatMap(entity -> template.observations().encode(support.encodeEntity(entity)))
+					.flatMap(converted -> template.observations()
+							.network(template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+									.getCollection(pArgs.getCollection()).reactive()
+									.upsert(converted.getId(), converted.toMap(), buildUpsertOptions(pArgs.getOptions(), converted)))
 							.flatMap(result -> support.applyUpdatedId(object, converted.getId())
 									.flatMap(updatedObject -> support.applyUpdatedCas(updatedObject, converted, result.cas()))))
 					.onErrorMap(throwable -> {
@@ -97,6 +108,18 @@ public class ReactiveUpsertByIdOperationSupport implements ReactiveUpsertByIdOpe
 					});
 		}
 
+		/**
+		 * An upsert does not check the version, it would put back the counter the entity was read with.
+		 */
+		private void assertNoCounter(T object) {
+			CouchbasePersistentProperty counter = template.getConverter().getMappingContext()
+					.getRequiredPersistentEntity(object.getClass()).getPersistentProperty(Counter.class);
+			if (counter != null) {
+				throw new IllegalArgumentException(object.getClass().getName() + " has the counter property "
+						+ counter.getName() + ", it must be inserted or replaced instead of upserted!");
+			}
+		}
+
 		@Override
 		public Flux<? extends T> all(Collection<? extends T> objects) {
 			return Flux.fromIterable(objects).flatMap(this::one);
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.core.convert;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.CouchbaseList;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import com.couchbase.client.core.io.CollectionIdentifier;
+
+/**
+ * Compact snapshots of the documents read by the {@link MappingCouchbaseConverter} when dirty tracking is enabled. A
+ * snapshot holds the cas and a 64-bit hash of every top-level field of the document, so that a later write of the same
+ * document (with the same cas) can tell which top-level fields changed. Snapshots are kept per scope, collection and
+ * id, softly referenced and may be dropped by the garbage collector at any time.
+ *
+ * @since 5.0
+ */
+public class CouchbaseDocumentSnapshots {
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final Map<String, Snapshot> snapshots = new ConcurrentReferenceHashMap<>(64,
+			ConcurrentReferenceHashMap.ReferenceType.SOFT);
+
+	/**
+	 * Records the snapshot of a document as of the given cas, replacing any previous snapshot of the document. The
+	 * document is not modified.
+	 *
+	 * @param scope the scope of the document, {@literal null} for the default scope.
+	 * @param collection the collection of the document, {@literal null} for the default collection.
+	 * @param document the document, with its id.
+	 * @param cas the cas of the document.
+	 * @param ignoredField a top-level field which is not stored, like the version, may be {@literal null}.
+	 */
+	public void record(@Nullable String scope, @Nullable String collection, CouchbaseDocument document, long cas,
+			@Nullable String ignoredField) {
+		Assert.notNull(document.getId(), "Document id must not be null!");
+		Map<String, Long> hashes = new HashMap<>(document.getContent().size() * 4 / 3 + 1);
+		for (Map.Entry<String, Object> entry : document.getContent().entrySet()) {
+			if (!entry.getKey().equals(ignoredField)) {
+				hashes.put(entry.getKey(), hash(entry.getValue()));
+			}
+		}
+		snapshots.put(key(scope, collection, document.getId()), new Snapshot(cas, hashes));
+	}
+
+	/**
+	 * The top-level fields of the document that differ from the snapshot recorded with the given cas: changed, added and
+	 * removed fields.
+	 *
+	 * @param scope the scope of the document, {@literal null} for the default scope.
+	 * @param collection the collection of the document, {@literal null} for the default collection.
+	 * @param document the document about to be written.
+	 * @param cas the cas the document is written with.
+	 * @return the names of the changed fields, or {@literal null} if there is no snapshot for the document and cas.
+	 */
+	@Nullable
+	public List<String> changedFields(@Nullable String scope, @Nullable String collection, CouchbaseDocument document,
+			long cas) {
+		Snapshot snapshot = document.getId() != null ? snapshots.get(key(scope, collection, document.getId())) : null;
+		if (snapshot == null || snapshot.cas != cas) {
+			return null;
+		}
+		List<String> changed = new ArrayList<>();
+		for (Map.Entry<String, Object> entry : document.getContent().entrySet()) {
+			Long previous = snapshot.hashes.get(entry.getKey());
+			if (previous == null || previous != hash(entry.getValue())) {
+				changed.add(entry.getKey());
+			}
+		}
+		for (String field : snapshot.hashes.keySet()) {
+			if (!document.containsKey(field)) {
+				changed.add(field);
+			}
+		}
+		return changed.isEmpty() ? Collections.emptyList() : changed;
+	}
+
+	/**
+	 * The number of top-level fields in the snapshot recorded with the given cas, or -1 if there is none.
+	 */
+	public int size(@Nullable String scope, @Nullable String collection, String id, long cas) {
+		Snapshot snapshot = snapshots.get(key(scope, collection, id));
+		return snapshot != null && snapshot.cas == cas ? snapshot.hashes.size() : -1;
+	}
+
+	/**
+	 * Drops the snapshot of the document.
+	 *
+	 * @param scope the scope of the document, {@literal null} for the default scope.
+	 * @param collection the collection of the document, {@literal null} for the default collection.
+	 * @param id the id of the document.
+	 */
+	public void evict(@Nullable String scope, @Nullable String collection, String id) {
+		snapshots.remove(key(scope, collection, id));
+	}
+
+	/**
+	 * Drops all snapshots.
+	 */
+	public void clear() {
+		snapshots.clear();
+	}
+
+	private static String key(@Nullable String scope, @Nullable String collection, String id) {
+		// '/' is neither allowed in scope nor in collection names
+		return (scope != null ? scope : CollectionIdentifier.DEFAULT_SCOPE) + '/'
+				+ (collection != null ? collection : CollectionIdentifier.DEFAULT_COLLECTION) + '/' + id;
+	}
+
+	/**
+	 * Hashes the stored form of a value. Documents and maps are hashed independently of their key order and scalars by
+	 * their JSON type and string form, so that a value decoded from the server hashes like the same value written by the
+	 * converter (e.g. an int and a long), but a number does not hash like the string of its digits.
+	 */
+	static long hash(@Nullable Object value) {
+		if (value instanceof CouchbaseDocument) {
+			return hashMap(((CouchbaseDocument) value).getContent());
+		} else if (value instanceof Map) {
+			return hashMap((Map<?, ?>) value);
+		} else if (value instanceof CouchbaseList) {
+			CouchbaseList list = (CouchbaseList) value;
+			long h = mix(FNV_OFFSET, '[');
+			for (int i = 0; i < list.size(); i++) {
+				h = mix(h, hash(list.get(i)));
+			}
+			return h;
+		} else if (value instanceof Collection) {
+			long h = mix(FNV_OFFSET, '[');
+			for (Object element : (Collection<?>) value) {
+				h = mix(h, hash(element));
+			}
+			return h;
+		}
+		if (value == null) {
+			return 0;
+		}
+		char type = value instanceof Number ? 'n' : value instanceof Boolean ? 'b' : 's';
+		return mix(hash(String.valueOf(value)), type);
+	}
+
+	private static long hashMap(Map<?, ?> map) {
+		long h = 0;
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			h += mix(hash(String.valueOf(entry.getKey())), hash(entry.getValue()));
+		}
+		return mix(h, '{');
+	}
+
+	private static long hash(String s) {
+		long h = FNV_OFFSET;
+		for (byte b : s.getBytes(StandardCharsets.UTF_8)) {
+			h ^= b;
+			h *= FNV_PRIME;
+		}
+		return h;
+	}
+
+	private static long mix(long h, long value) {
+		h ^= value;
+		h *= FNV_PRIME;
+		return h ^ (h >>> 32);
+	}
+
+	private static class Snapshot {
+
+		private final long cas;
+		private final Map<String, Long> hashes;
+
+		Snapshot(long cas, Map<String, Long> hashes) {
+			this.cas = cas;
+			this.hashes = hashes;
+		}
+	}
+
+}
@@ -16,18 +16,22 @@
 
 package org.springframework.data.couchbase.core.convert;
 
-import static org.springframework.data.couchbase.core.mapping.id.GenerationStrategy.UNIQUE;
+import static org.springframework.data.couchbase.core.mapping.id.GenerationStrategy.SEQUENCE;
 import static org.springframework.data.couchbase.core.mapping.id.GenerationStrategy.USE_ATTRIBUTES;
 
+import reactor.core.publisher.Mono;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -41,11 +45,16 @@ import org.springframework.data.couchbase.core.mapping.CouchbaseList;
 import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.mapping.TextScore;
 import org.springframework.data.couchbase.core.mapping.event.AfterConvertCallback;
+import org.springframework.data.couchbase.core.mapping.id.Base62IdGenerator;
 import org.springframework.data.couchbase.core.mapping.id.GeneratedValue;
+import org.springframework.data.couchbase.core.mapping.id.GenerationStrategy;
 import org.springframework.data.couchbase.core.mapping.id.IdAttribute;
+import org.springframework.data.couchbase.core.mapping.id.IdGenerator;
 import org.springframework.data.couchbase.core.mapping.id.IdPrefix;
 import org.springframework.data.couchbase.core.mapping.id.IdSuffix;
+import org.springframework.data.couchbase.core.mapping.id.TimeOrderedIdGenerator;
 import org.springframework.data.couchbase.core.query.N1qlJoin;
 import org.springframework.data.mapping.Alias;
 import org.springframework.data.mapping.Association;
@@ -118,6 +127,27 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 	 */
 	private @Nullable EntityCallbacks entityCallbacks;
 
+	/**
+	 * Snapshots of the documents read, if dirty tracking is enabled.
+	 */
+	private @Nullable CouchbaseDocumentSnapshots documentSnapshots;
+
+	/**
+	 * Whether the documents and lists written verify the types of the values put.
+	 */
+	private boolean verifyValueTypes = true;
+
+	/**
+	 * The generators of the unique parts of generated ids, by strategy.
+	 */
+	private final Map<GenerationStrategy, IdGenerator> idGenerators = Collections.synchronizedMap(
+			new EnumMap<>(GenerationStrategy.class));
+
+	/**
+	 * The key layouts of the entities with generated ids, built on their first generated id.
+	 */
+	private final Map<CouchbasePersistentEntity<?>, IdLayout> idLayouts = new ConcurrentHashMap<>();
+
 	public MappingCouchbaseConverter() {
 		this(new CouchbaseMappingContext(), null);
 	}
@@ -153,6 +183,9 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		((CouchbaseMappingContext) mappingContext).setSimpleTypeHolder(customConversions.getSimpleTypeHolder());
 		typeMapper = new DefaultCouchbaseTypeMapper(typeKey != null ? typeKey : TYPEKEY_DEFAULT);
 		spELContext = new SpELContext(CouchbaseDocumentPropertyAccessor.INSTANCE);
+		idGenerators.put(GenerationStrategy.UNIQUE, entity -> UUID.randomUUID().toString());
+		idGenerators.put(GenerationStrategy.TIME_ORDERED, new TimeOrderedIdGenerator());
+		idGenerators.put(GenerationStrategy.BASE62, new Base62IdGenerator());
 	}
 
 	/**
@@ -342,7 +375,7 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		Assert.notNull(source, "CouchbaseDocument must not be null!");
 
 		Class<?> mapType = typeMapper.readType(source, type).getType();
-		Map<Object, Object> map = CollectionFactory.createMap(mapType, source.export().keySet().size());
+		Map<Object, Object> map = CollectionFactory.createMap(mapType, source.size());
 		Map<String, Object> sourceMap = source.getContent();
 
 		for (Map.Entry<String, Object> entry : sourceMap.entrySet()) {
@@ -410,6 +443,16 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		boolean isCustom = conversions.getCustomWriteTarget(source.getClass(), CouchbaseDocument.class).isPresent();
 		TypeInformation<?> type = ClassTypeInformation.from(source.getClass());
 
+		if (!verifyValueTypes) {
+			target.setVerifyValueTypes(false);
+		}
+		if (!isCustom && !Map.class.isAssignableFrom(source.getClass())) {
+			CouchbasePersistentEntity<?> entity = mappingContext.getPersistentEntity(source.getClass());
+			if (entity != null) {
+				target.ensureCapacity(entity.getPropertyCount() + 1);
+			}
+		}
+
 		if (!isCustom) {
 			typeMapper.writeType(type, target);
 		}
@@ -500,11 +543,6 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		final CouchbasePersistentProperty idProperty = withId ? entity.getIdProperty() : null;
 		final CouchbasePersistentProperty versionProperty = entity.getVersionProperty();
 
-		GeneratedValue generatedValueInfo = null;
-		final TreeMap<Integer, String> prefixes = new TreeMap<>();
-		final TreeMap<Integer, String> suffixes = new TreeMap<>();
-		final TreeMap<Integer, String> idAttributes = new TreeMap<>();
-
 		target.setExpiration((int) (entity.getExpiryDuration().getSeconds()));
 
 		entity.doWithProperties(new PropertyHandler<CouchbasePersistentProperty>() {
@@ -512,32 +550,17 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 			public void doWithPersistentProperty(final CouchbasePersistentProperty prop) {
 				if (prop.equals(idProperty) || (versionProperty != null && prop.equals(versionProperty))) {
 					return;
-				} else if (prop.isAnnotationPresent(N1qlJoin.class)) {
+				} else if (prop.isAnnotationPresent(N1qlJoin.class) || prop.isAnnotationPresent(TextScore.class)) {
 					return;
 				}
 
 				Object propertyObj = accessor.getProperty(prop, prop.getType());
 				if (null != propertyObj) {
-					if (prop.isAnnotationPresent(IdPrefix.class)) {
-						IdPrefix prefix = prop.findAnnotation(IdPrefix.class);
-						int order = prefix.order();
-						prefixes.put(order, convertToString(propertyObj));
+					// the prefixes and suffixes are only part of the id, the id attributes are also stored
+					if (prop.isAnnotationPresent(IdPrefix.class) || prop.isAnnotationPresent(IdSuffix.class)) {
 						return;
 					}
 
-					if (prop.isAnnotationPresent(IdSuffix.class)) {
-						IdSuffix suffix = prop.findAnnotation(IdSuffix.class);
-						int order = suffix.order();
-						suffixes.put(order, convertToString(propertyObj));
-						return;
-					}
-
-					if (prop.isAnnotationPresent(IdAttribute.class)) {
-						IdAttribute idAttribute = prop.findAnnotation(IdAttribute.class);
-						int order = idAttribute.order();
-						idAttributes.put(order, convertToString(propertyObj));
-					}
-
 					if (prop.isAnnotationPresent(Transient.class)) {
 						return;
 					}
@@ -554,8 +577,7 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		if (idProperty != null && target.getId() == null) {
 			String id = accessor.getProperty(idProperty, String.class);
 			if (idProperty.isAnnotationPresent(GeneratedValue.class) && (id == null || id.equals(""))) {
-				generatedValueInfo = idProperty.findAnnotation(GeneratedValue.class);
-				String generatedId = generateId(generatedValueInfo, prefixes, suffixes, idAttributes);
+				String generatedId = generateId(entity, accessor);
 				target.setId(generatedId);
 				// this is not effective if id is Immutable, and accessor.setProperty() returns a new object in getBean()
 				accessor.setProperty(idProperty, generatedId);
@@ -630,12 +652,12 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 			return;
 		}
 
-		CouchbaseDocument propertyDoc = new CouchbaseDocument();
-		addCustomTypeKeyIfNecessary(type, source, propertyDoc);
-
 		CouchbasePersistentEntity<?> entity = isSubtype(prop.getType(), source.getClass())
 				? mappingContext.getRequiredPersistentEntity(source.getClass())
 				: mappingContext.getRequiredPersistentEntity(type);
+		CouchbaseDocument propertyDoc = newDocument(entity.getPropertyCount() + 1);
+		addCustomTypeKeyIfNecessary(type, source, propertyDoc);
+
 		writeInternal(source, propertyDoc, entity, false);
 		target.put(name, propertyDoc);
 	}
@@ -651,7 +673,7 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		Assert.notNull(map, "Given map must not be null!");
 		Assert.notNull(prop, "PersistentProperty must not be null!");
 
-		return writeMapInternal(map, new CouchbaseDocument(), prop.getTypeInformation());
+		return writeMapInternal(map, newDocument(map.size()), prop.getTypeInformation());
 	}
 
 	/**
@@ -674,10 +696,11 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 				if (val == null || conversions.isSimpleType(val.getClass())) {
 					writeSimpleInternal(val, target, simpleKey);
 				} else if (val instanceof Collection || val.getClass().isArray()) {
-					target.put(simpleKey, writeCollectionInternal(asCollection(val),
-							new CouchbaseList(conversions.getSimpleTypeHolder()), type.getMapValueType()));
+					Collection<?> collection = asCollection(val);
+					target.put(simpleKey,
+							writeCollectionInternal(collection, newList(collection.size()), type.getMapValueType()));
 				} else {
-					CouchbaseDocument embeddedDoc = new CouchbaseDocument();
+					CouchbaseDocument embeddedDoc = newDocument(0);
 					TypeInformation<?> valueTypeInfo = type.isMap() ? type.getMapValueType() : ClassTypeInformation.OBJECT;
 					writeInternal(val, embeddedDoc, valueTypeInfo, false);
 					target.put(simpleKey, embeddedDoc);
@@ -698,8 +721,16 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 	 * @return the created couchbase list.
 	 */
 	private CouchbaseList createCollection(final Collection<?> collection, final CouchbasePersistentProperty prop) {
-		return writeCollectionInternal(collection, new CouchbaseList(conversions.getSimpleTypeHolder()),
-				prop.getTypeInformation());
+		return writeCollectionInternal(collection, newList(collection.size()), prop.getTypeInformation());
+	}
+
+	private CouchbaseDocument newDocument(int expectedSize) {
+		return new CouchbaseDocument(null, CouchbaseDocument.DEFAULT_EXPIRATION_TIME, expectedSize)
+				.setVerifyValueTypes(verifyValueTypes);
+	}
+
+	private CouchbaseList newList(int expectedSize) {
+		return new CouchbaseList(conversions.getSimpleTypeHolder(), expectedSize).setVerifyValueTypes(verifyValueTypes);
 	}
 
 	/**
@@ -720,11 +751,11 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 			if (elementType == null || conversions.isSimpleType(elementType)) {
 				target.put(getPotentiallyConvertedSimpleWrite(element));
 			} else if (element instanceof Collection || elementType.isArray()) {
-				target.put(writeCollectionInternal(asCollection(element), new CouchbaseList(conversions.getSimpleTypeHolder()),
-						componentType));
+				Collection<?> collection = asCollection(element);
+				target.put(writeCollectionInternal(collection, newList(collection.size()), componentType));
 			} else {
 
-				CouchbaseDocument embeddedDoc = new CouchbaseDocument();
+				CouchbaseDocument embeddedDoc = newDocument(0);
 				writeInternal(element, embeddedDoc, componentType, false);
 				target.put(embeddedDoc);
 			}
@@ -827,6 +858,54 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * Enable or disable dirty tracking. With dirty tracking, a snapshot of every entity document read with a cas is
+	 * kept, and replacing the document with the same cas only writes the top-level fields which changed.
+	 *
+	 * @param dirtyTracking whether to keep snapshots of the documents read.
+	 * @since 5.0
+	 */
+	public void setDirtyTracking(boolean dirtyTracking) {
+		this.documentSnapshots = dirtyTracking ? new CouchbaseDocumentSnapshots() : null;
+	}
+
+	/**
+	 * @return whether dirty tracking is enabled.
+	 * @since 5.0
+	 */
+	public boolean isDirtyTracking() {
+		return documentSnapshots != null;
+	}
+
+	/**
+	 * @return the snapshots of the documents read, or {@literal null} if dirty tracking is disabled.
+	 * @since 5.0
+	 */
+	@Nullable
+	public CouchbaseDocumentSnapshots getDocumentSnapshots() {
+		return documentSnapshots;
+	}
+
+	/**
+	 * Enable or disable the verification of the types of the values written to {@link CouchbaseDocument}s and
+	 * {@link CouchbaseList}s. The converter only writes values it has converted to supported types, so the verification
+	 * can be turned off to save a type lookup per value.
+	 *
+	 * @param verifyValueTypes whether to verify the types of the values written, default is {@literal true}.
+	 * @since 5.0
+	 */
+	public void setVerifyValueTypes(boolean verifyValueTypes) {
+		this.verifyValueTypes = verifyValueTypes;
+	}
+
+	/**
+	 * @return whether the types of the values written are verified.
+	 * @since 5.0
+	 */
+	public boolean isVerifyValueTypes() {
+		return verifyValueTypes;
+	}
+
 	/**
 	 * Helper method to read the value based on the value type.
 	 *
@@ -859,52 +938,135 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		return new ConvertingPropertyAccessor<>(accessor, conversionService);
 	}
 
-	private String generateId(GeneratedValue generatedValue, TreeMap<Integer, String> prefixes,
-			TreeMap<Integer, String> suffixes, TreeMap<Integer, String> idAttributes) {
-		String delimiter = generatedValue.delimiter();
-		StringBuilder sb = new StringBuilder();
-		boolean isAppending = false;
-		if (prefixes.size() > 0) {
-			appendKeyParts(sb, prefixes.values(), delimiter);
-			isAppending = true;
-		}
+	/**
+	 * Register the generator of the unique part of the ids of a strategy. The converter has generators for
+	 * {@link GenerationStrategy#UNIQUE}, {@link GenerationStrategy#TIME_ORDERED} and {@link GenerationStrategy#BASE62};
+	 * {@link GenerationStrategy#SEQUENCE} needs a
+	 * {@link org.springframework.data.couchbase.core.mapping.id.SequenceIdGenerator} with access to the bucket.
+	 *
+	 * @param strategy the strategy, not {@link GenerationStrategy#USE_ATTRIBUTES}.
+	 * @param idGenerator the generator.
+	 * @since 5.0
+	 */
+	public void setIdGenerator(GenerationStrategy strategy, IdGenerator idGenerator) {
+		Assert.notNull(strategy, "GenerationStrategy must not be null!");
+		Assert.notNull(idGenerator, "IdGenerator must not be null!");
+		Assert.isTrue(strategy != USE_ATTRIBUTES, "USE_ATTRIBUTES ids are built from the attributes only!");
+		idGenerators.put(strategy, idGenerator);
+	}
 
-		if (generatedValue.strategy() == USE_ATTRIBUTES && idAttributes.size() > 0) {
-			if (isAppending) {
-				sb.append(delimiter);
-			}
-			appendKeyParts(sb, idAttributes.values(), delimiter);
-			isAppending = true;
+	/**
+	 * @param strategy the strategy.
+	 * @return the generator of the strategy, {@literal null} if there is none.
+	 * @since 5.0
+	 */
+	@Nullable
+	public IdGenerator getIdGenerator(GenerationStrategy strategy) {
+		return idGenerators.get(strategy);
+	}
+
+	/**
+	 * Completes when the id of the source can be written without blocking: when it is not generated, or when the
+	 * {@link IdGenerator} of its strategy is {@link IdGenerator#ready(CouchbasePersistentEntity) ready}.
+	 *
+	 * @param source the entity about to be written.
+	 * @return a {@link Mono} completing when {@link #write(Object, CouchbaseDocument)} does not wait for the id.
+	 * @since 5.0
+	 */
+	public Mono<Void> idGeneratorReady(Object source) {
+		CouchbasePersistentEntity<?> entity = mappingContext.getPersistentEntity(source.getClass());
+		CouchbasePersistentProperty idProperty = entity != null ? entity.getIdProperty() : null;
+		if (idProperty == null || !idProperty.isAnnotationPresent(GeneratedValue.class)) {
+			return Mono.empty();
 		}
+		String id = getPropertyAccessor(source).getProperty(idProperty, String.class);
+		IdGenerator idGenerator = idGenerators.get(idLayouts.computeIfAbsent(entity, IdLayout::new).strategy);
+		return (id == null || id.equals("")) && idGenerator != null ? idGenerator.ready(entity) : Mono.empty();
+	}
+
+	private String generateId(CouchbasePersistentEntity<?> entity, ConvertingPropertyAccessor<Object> accessor) {
+		IdLayout layout = idLayouts.computeIfAbsent(entity, IdLayout::new);
+		StringBuilder sb = new StringBuilder();
+		boolean isAppending = appendKeyParts(sb, layout.prefixes, accessor, layout.delimiter, false);
+		isAppending = appendKeyParts(sb, layout.idAttributes, accessor, layout.delimiter, isAppending);
 
-		if (generatedValue.strategy() == UNIQUE) {
+		if (layout.strategy != USE_ATTRIBUTES) {
+			IdGenerator idGenerator = idGenerators.get(layout.strategy);
+			if (idGenerator == null) {
+				throw new MappingException("No IdGenerator registered for " + layout.strategy + " ids of " + entity.getName());
+			}
 			if (isAppending) {
-				sb.append(delimiter);
+				sb.append(layout.delimiter);
+			} else if (layout.strategy == SEQUENCE) {
+				throw new MappingException("The @IdPrefix of the SEQUENCE id of " + entity.getName() + " must not be null");
 			}
-			sb.append(UUID.randomUUID());
+			sb.append(idGenerator.generateId(entity));
 			isAppending = true;
 		}
 
-		if (suffixes.size() > 0) {
-			if (isAppending) {
-				sb.append(delimiter);
-			}
-			appendKeyParts(sb, suffixes.values(), delimiter);
-		}
+		appendKeyParts(sb, layout.suffixes, accessor, layout.delimiter, isAppending);
 		return sb.toString();
 	}
 
-	private StringBuilder appendKeyParts(StringBuilder sb, Collection<String> values, String delimiter) {
-		boolean isAppending = false;
-		for (String value : values) {
+	private boolean appendKeyParts(StringBuilder sb, CouchbasePersistentProperty[] properties,
+			ConvertingPropertyAccessor<Object> accessor, String delimiter, boolean isAppending) {
+		for (CouchbasePersistentProperty property : properties) {
+			Object value = accessor.getProperty(property, property.getType());
+			if (value == null) {
+				continue;
+			}
 			if (isAppending) {
 				sb.append(delimiter);
 			} else {
 				isAppending = true;
 			}
-			sb.append(value);
+			sb.append(convertToString(value));
 		}
-		return sb;
+		return isAppending;
+	}
+
+	/**
+	 * The parts of the generated ids of an entity, looked up once instead of for every write.
+	 */
+	private static class IdLayout {
+
+		private final GenerationStrategy strategy;
+		private final String delimiter;
+		private final CouchbasePersistentProperty[] prefixes;
+		private final CouchbasePersistentProperty[] idAttributes;
+		private final CouchbasePersistentProperty[] suffixes;
+
+		IdLayout(CouchbasePersistentEntity<?> entity) {
+			GeneratedValue generatedValue = entity.getRequiredIdProperty().findAnnotation(GeneratedValue.class);
+			this.strategy = generatedValue.strategy();
+			this.delimiter = generatedValue.delimiter();
+			// by order, a part replaces the part of a previous property with the same order
+			TreeMap<Integer, CouchbasePersistentProperty> prefixes = new TreeMap<>();
+			TreeMap<Integer, CouchbasePersistentProperty> idAttributes = new TreeMap<>();
+			TreeMap<Integer, CouchbasePersistentProperty> suffixes = new TreeMap<>();
+			CouchbasePersistentProperty versionProperty = entity.getVersionProperty();
+			entity.doWithProperties((PropertyHandler<CouchbasePersistentProperty>) prop -> {
+				if (prop.isIdProperty() || prop.equals(versionProperty) || prop.isAnnotationPresent(N1qlJoin.class)
+						|| prop.isAnnotationPresent(TextScore.class)) {
+					return;
+				}
+				if (prop.isAnnotationPresent(IdPrefix.class)) {
+					prefixes.put(prop.findAnnotation(IdPrefix.class).order(), prop);
+				} else if (prop.isAnnotationPresent(IdSuffix.class)) {
+					suffixes.put(prop.findAnnotation(IdSuffix.class).order(), prop);
+				} else if (prop.isAnnotationPresent(IdAttribute.class) && strategy == USE_ATTRIBUTES) {
+					idAttributes.put(prop.findAnnotation(IdAttribute.class).order(), prop);
+				}
+			});
+			// the numbers of a sequence start at 1 for every entity type, the prefix keeps them apart
+			if (strategy == SEQUENCE && prefixes.isEmpty()) {
+				throw new MappingException("SEQUENCE ids of " + entity.getName() + " need an @IdPrefix");
+			}
+			this.prefixes = prefixes.values().toArray(new CouchbasePersistentProperty[0]);
+			this.idAttributes = idAttributes.values().toArray(new CouchbasePersistentProperty[0]);
+			this.suffixes = suffixes.values().toArray(new CouchbasePersistentProperty[0]);
+		}
+
 	}
 
 	/**
@@ -92,7 +92,7 @@ public class JacksonTranslationService implements TranslationService, Initializi
 	private void encodeRecursive(final CouchbaseStorable source, final JsonGenerator generator) throws IOException {
 		generator.writeStartObject();
 
-		for (Map.Entry<String, Object> entry : ((CouchbaseDocument) source).export().entrySet()) {
+		for (Map.Entry<String, Object> entry : ((CouchbaseDocument) source).toMap().entrySet()) {
 			String key = entry.getKey();
 			Object value = entry.getValue();
 			generator.writeFieldName(key);
@@ -22,12 +22,12 @@ import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.context.EnvironmentAware;
-import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.env.Environment;
 import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.BasicPersistentEntity;
 import org.springframework.data.util.TypeInformation;
-import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -41,6 +41,8 @@ public class BasicCouchbasePersistentEntity<T> extends BasicPersistentEntity<T,
 		implements CouchbasePersistentEntity<T>, EnvironmentAware {
 
 	private Environment environment;
+	private int propertyCount = -1;
+	private volatile CouchbaseEntityDescriptor descriptor;
 
 	/**
 	 * Create a new entity.
@@ -64,6 +66,7 @@ public class BasicCouchbasePersistentEntity<T> extends BasicPersistentEntity<T,
 	@Override
 	public void setEnvironment(Environment environment) {
 		this.environment = environment;
+		this.descriptor = null;
 	}
 
 	// DATACOUCH-145: allows SDK's @Id annotation to be used
@@ -100,7 +103,7 @@ public class BasicCouchbasePersistentEntity<T> extends BasicPersistentEntity<T,
 	@Override
 	@Deprecated
 	public int getExpiry() {
-		return getExpiry(AnnotatedElementUtils.findMergedAnnotation(getType(), Expiry.class), environment);
+		return getDescriptor().getExpiry();
 	}
 
 	@Deprecated
@@ -109,7 +112,7 @@ public class BasicCouchbasePersistentEntity<T> extends BasicPersistentEntity<T,
 			return 0;
 		}
 
-		int expiryValue = getExpiryValue(annotation, environment);
+		int expiryValue = CouchbaseEntityDescriptor.resolveExpiryValue(annotation, environment);
 
 		long secondsShift = annotation.expiryUnit().toSeconds(expiryValue);
 		if (secondsShift > TTL_IN_SECONDS_INCLUSIVE_END) {
@@ -130,49 +133,75 @@ public class BasicCouchbasePersistentEntity<T> extends BasicPersistentEntity<T,
 
 	@Override
 	public Duration getExpiryDuration() {
-		return getExpiryDuration(AnnotatedElementUtils.findMergedAnnotation(getType(), Expiry.class), environment);
+		return getDescriptor().getExpiryDuration();
 	}
 
-	private static Duration getExpiryDuration(Expiry annotation, Environment environment) {
-		if (annotation == null) {
-			return Duration.ZERO;
+	@Override
+	public boolean isTouchOnRead() {
+		return getDescriptor().isTouchOnRead();
+	}
+
+	@Override
+	public void verify() {
+		super.verify();
+		verifyCounterProperties();
+		propertyCount = CouchbasePersistentEntity.super.getPropertyCount();
+		try {
+			descriptor = CouchbaseEntityDescriptor.of(this, environment);
+		} catch (IllegalArgumentException e) {
+			// an expiry expression which cannot be resolved yet is reported by the operations which need the expiry
 		}
-		int expiryValue = getExpiryValue(annotation, environment);
-		long secondsShift = annotation.expiryUnit().toSeconds(expiryValue);
-		return Duration.ofSeconds(secondsShift);
 	}
 
-	private static int getExpiryValue(Expiry annotation, Environment environment) {
-		int expiryValue = annotation.expiry();
-		String expiryExpressionString = annotation.expiryExpression();
-		if (StringUtils.hasLength(expiryExpressionString)) {
-			Assert.notNull(environment, "Environment must be set to use 'expiryExpression'");
-			String expiryWithReplacedPlaceholders = environment.resolveRequiredPlaceholders(expiryExpressionString);
-			try {
-				expiryValue = Integer.parseInt(expiryWithReplacedPlaceholders);
-			} catch (NumberFormatException e) {
-				throw new IllegalArgumentException(
-						"Invalid Integer value for expiry expression: " + expiryWithReplacedPlaceholders);
-			}
+	@Override
+	public CouchbaseEntityDescriptor getDescriptor() {
+		CouchbaseEntityDescriptor descriptor = this.descriptor;
+		if (descriptor == null) {
+			descriptor = CouchbaseEntityDescriptor.of(this, environment);
+			this.descriptor = descriptor;
 		}
-		return expiryValue;
+		return descriptor;
+	}
+
+	/**
+	 * Resolves the {@link CouchbaseEntityDescriptor} of this entity again, e.g. after properties of the environment used
+	 * by an expiry expression changed.
+	 */
+	public void refreshDescriptor() {
+		this.descriptor = CouchbaseEntityDescriptor.of(this, environment);
 	}
 
 	@Override
-	public boolean isTouchOnRead() {
-		org.springframework.data.couchbase.core.mapping.Document annotation = getType()
-				.getAnnotation(org.springframework.data.couchbase.core.mapping.Document.class);
-		return annotation == null ? false : annotation.touchOnRead() && getExpiry() > 0;
+	public int getPropertyCount() {
+		return propertyCount >= 0 ? propertyCount : CouchbasePersistentEntity.super.getPropertyCount();
+	}
+
+	private void verifyCounterProperties() {
+		doWithProperties((PropertyHandler<CouchbasePersistentProperty>) property -> {
+			if (property.isAnnotationPresent(Counter.class)) {
+				Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+				if (type != Long.class && type != Integer.class && type != Short.class) {
+					throw new MappingException(String.format("Counter property %s of %s must be a long, int or short!",
+							property.getName(), getType().getName()));
+				}
+				// a full write of the entity puts back the counter it was read with, the cas of the version prevents it
+				if (!hasVersionProperty()) {
+					throw new MappingException(String.format(
+							"%s has the counter property %s, so it must have a version property!", getType().getName(),
+							property.getName()));
+				}
+			}
+		});
 	}
 
 	@Override
 	public boolean hasTextScoreProperty() {
-		return false;
+		return getTextScoreProperty() != null;
 	}
 
 	@Override
 	public CouchbasePersistentProperty getTextScoreProperty() {
-		return null;
+		return getPersistentProperty(TextScore.class);
 	}
 
 }
@@ -18,15 +18,18 @@ package org.springframework.data.couchbase.core.mapping;
 
 import com.couchbase.client.java.json.JsonObject;
 
-import java.util.TreeMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * A {@link CouchbaseDocument} is an abstract representation of a document stored inside Couchbase Server.
  * <p>
- * It acts like a {@link TreeMap}, but only allows those types to be written that are supported by the underlying
+ * It acts like a {@link LinkedHashMap}, but only allows those types to be written that are supported by the underlying
  * storage format, which is currently JSON. Note that JSON conversion is not happening here, but performed at a
- * different stage based on the payload stored in the {@link CouchbaseDocument}.
+ * different stage based on the payload stored in the {@link CouchbaseDocument}. The attributes keep the order in which
+ * they were put.
  * <p>
  * In addition to the actual content, meta data is also stored. This especially refers to the document ID and its
  * expiration time. Note that this information is not mandatory, since documents can be nested and therefore only the
@@ -42,10 +45,20 @@ public class CouchbaseDocument implements CouchbaseStorable {
 	public static final int DEFAULT_EXPIRATION_TIME = 0;
 
 	/**
-	 * Contains the actual data to be stored.
+	 * Contains the actual data to be stored, created on the first write.
 	 */
 	private Map<String, Object> content;
 
+	/**
+	 * The number of attributes the content is created for.
+	 */
+	private int expectedSize;
+
+	/**
+	 * Whether the types of the values put are verified.
+	 */
+	private boolean verifyValueTypes = true;
+
 	/**
 	 * Represents the document ID used to identify the document in the bucket.
 	 */
@@ -79,9 +92,22 @@ public class CouchbaseDocument implements CouchbaseStorable {
 	 * @param expiration the expiration time of the document.
 	 */
 	public CouchbaseDocument(final String id, final int expiration) {
+		this(id, expiration, 0);
+	}
+
+	/**
+	 * Creates a empty {@link CouchbaseDocument} with ID and expiration time, sized for the expected number of
+	 * attributes.
+	 *
+	 * @param id the document ID.
+	 * @param expiration the expiration time of the document.
+	 * @param expectedSize the expected number of attributes.
+	 * @since 5.0
+	 */
+	public CouchbaseDocument(final String id, final int expiration, final int expectedSize) {
 		this.id = id;
 		this.expiration = expiration;
-		content = new TreeMap<>();
+		this.expectedSize = expectedSize;
 	}
 
 	/**
@@ -92,9 +118,11 @@ public class CouchbaseDocument implements CouchbaseStorable {
 	 * @return the {@link CouchbaseDocument} for chaining.
 	 */
 	public final CouchbaseDocument put(final String key, final Object value) {
-		verifyValueType(value);
+		if (verifyValueTypes) {
+			verifyValueType(value);
+		}
 
-		content.put(key, value);
+		content().put(key, value);
 		return this;
 	}
 
@@ -105,7 +133,7 @@ public class CouchbaseDocument implements CouchbaseStorable {
 	 * @return the value to which the specified key is mapped, or null if does not contain a mapping for the key.
 	 */
 	public final Object get(final String key) {
-		return content.get(key);
+		return content != null ? content.get(key) : null;
 	}
 
 	/**
@@ -114,8 +142,12 @@ public class CouchbaseDocument implements CouchbaseStorable {
 	 * It either returns the raw results or makes sure that the recusrive elements are also exported properly.
 	 *
 	 * @return
+	 * @see #toMap()
 	 */
 	public final TreeMap<String, Object> export() {
+		if (content == null) {
+			return new TreeMap<String, Object>();
+		}
 		TreeMap<String, Object> toExport = new TreeMap<String, Object>(content);
 		for (Map.Entry<String, Object> entry : content.entrySet()) {
 			if (entry.getValue() instanceof CouchbaseDocument) {
@@ -127,6 +159,33 @@ public class CouchbaseDocument implements CouchbaseStorable {
 		return toExport;
 	}
 
+	/**
+	 * Returns a copy of the current payload, including all recursive elements, in the order the attributes were put.
+	 * <p>
+	 * Unlike {@link #export()}, which sorts every level into a {@link TreeMap}, each level is copied into a map sized
+	 * for its attributes. This is how the converted documents are written.
+	 *
+	 * @return a copy of the payload with the nested elements converted by {@link #toMap()} and
+	 *         {@link CouchbaseList#toList()}.
+	 * @since 5.0
+	 */
+	public final Map<String, Object> toMap() {
+		if (content == null) {
+			return new LinkedHashMap<>();
+		}
+		Map<String, Object> toMap = new LinkedHashMap<>((int) (content.size() / 0.75f) + 1);
+		for (Map.Entry<String, Object> entry : content.entrySet()) {
+			Object value = entry.getValue();
+			if (value instanceof CouchbaseDocument) {
+				value = ((CouchbaseDocument) value).toMap();
+			} else if (value instanceof CouchbaseList) {
+				value = ((CouchbaseList) value).toList();
+			}
+			toMap.put(entry.getKey(), value);
+		}
+		return toMap;
+	}
+
 	/**
 	 * Returns true if it contains a payload for the specified key.
 	 *
@@ -134,7 +193,7 @@ public class CouchbaseDocument implements CouchbaseStorable {
 	 * @return true if it contains a payload for the specified key.
 	 */
 	public final boolean containsKey(final String key) {
-		return content.containsKey(key);
+		return content != null && content.containsKey(key);
 	}
 
 	/**
@@ -144,7 +203,7 @@ public class CouchbaseDocument implements CouchbaseStorable {
 	 * @return true if it contains the specified value.
 	 */
 	public final boolean containsValue(final Object value) {
-		return content.containsValue(value);
+		return content != null && content.containsValue(value);
 	}
 
 	/**
@@ -163,7 +222,7 @@ public class CouchbaseDocument implements CouchbaseStorable {
 	 * @return the size of the attributes in this and recursive documents.
 	 */
 	public final int size(final boolean recursive) {
-		int thisSize = content.size();
+		int thisSize = content != null ? content.size() : 0;
 
 		if (!recursive || thisSize == 0) {
 			return thisSize;
@@ -189,7 +248,7 @@ public class CouchbaseDocument implements CouchbaseStorable {
 	 * @return the underlying payload.
 	 */
 	public Map<String, Object> getContent() {
-		return content;
+		return content();
 	}
 
 	/**
@@ -260,6 +319,48 @@ public class CouchbaseDocument implements CouchbaseStorable {
 		return this;
 	}
 
+	/**
+	 * Sizes the payload for the expected number of attributes, if nothing has been stored yet.
+	 *
+	 * @param expectedSize the expected number of attributes.
+	 * @return this document for chaining purposes.
+	 * @since 5.0
+	 */
+	public CouchbaseDocument ensureCapacity(final int expectedSize) {
+		if (content == null) {
+			this.expectedSize = expectedSize;
+		}
+		return this;
+	}
+
+	/**
+	 * Enables or disables the verification of the types of the values put. Disable it only if the values are known to
+	 * be supported, as the converter does for the values it writes.
+	 *
+	 * @param verifyValueTypes whether to verify the types of the values put.
+	 * @return this document for chaining purposes.
+	 * @since 5.0
+	 */
+	public CouchbaseDocument setVerifyValueTypes(final boolean verifyValueTypes) {
+		this.verifyValueTypes = verifyValueTypes;
+		return this;
+	}
+
+	/**
+	 * @return whether the types of the values put are verified.
+	 * @since 5.0
+	 */
+	public boolean isVerifyValueTypes() {
+		return verifyValueTypes;
+	}
+
+	private Map<String, Object> content() {
+		if (content == null) {
+			content = new LinkedHashMap<>(expectedSize > 0 ? (int) (expectedSize / 0.75f) + 1 : 16);
+		}
+		return content;
+	}
+
 	/**
 	 * Verifies that only values of a certain and supported type can be stored.
 	 * <p>
@@ -286,6 +387,7 @@ public class CouchbaseDocument implements CouchbaseStorable {
 	 */
 	@Override
 	public String toString() {
-		return "CouchbaseDocument{" + "id=" + id + ", exp=" + expiration + ", content=" + content + '}';
+		return "CouchbaseDocument{" + "id=" + id + ", exp=" + expiration + ", content="
+				+ (content != null ? content : Collections.emptyMap()) + '}';
 	}
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.mapping;
+
+import java.time.Duration;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The runtime metadata of a {@link CouchbasePersistentEntity} which the template needs on every operation, resolved
+ * once from the annotations of the entity class and the {@link Environment}: the expiry, whether reads touch the
+ * document, the type information used to look up the type alias and the id and version properties. Instances are
+ * immutable; {@link BasicCouchbasePersistentEntity#refreshDescriptor()} replaces the descriptor of an entity, e.g.
+ * after the environment changed.
+ *
+ * @since 5.0
+ */
+public final class CouchbaseEntityDescriptor {
+
+	private final Class<?> type;
+	private final TypeInformation<?> typeInformation;
+	private final @Nullable TimeUnit expiryUnit;
+	private final int expiryValue;
+	private final Duration expiryDuration;
+	private final boolean touchOnRead;
+	private final @Nullable CouchbasePersistentProperty idProperty;
+	private final @Nullable CouchbasePersistentProperty versionProperty;
+
+	private CouchbaseEntityDescriptor(CouchbasePersistentEntity<?> entity, @Nullable Environment environment) {
+		this.type = entity.getType();
+		this.typeInformation = ClassTypeInformation.from(type);
+		Expiry expiry = AnnotatedElementUtils.findMergedAnnotation(type, Expiry.class);
+		this.expiryUnit = expiry != null ? expiry.expiryUnit() : null;
+		this.expiryValue = expiry != null ? resolveExpiryValue(expiry, environment) : 0;
+		this.expiryDuration = expiry != null ? Duration.ofSeconds(expiryUnit.toSeconds(expiryValue)) : Duration.ZERO;
+		Document document = type.getAnnotation(Document.class);
+		this.touchOnRead = document != null && document.touchOnRead() && expiryValue > 0;
+		this.idProperty = entity.getIdProperty();
+		this.versionProperty = entity.getVersionProperty();
+	}
+
+	/**
+	 * Resolves the runtime metadata of an entity.
+	 *
+	 * @param entity the entity.
+	 * @param environment the environment to resolve an {@link Expiry#expiryExpression()}, may be {@literal null} if
+	 *          there is none.
+	 * @return the descriptor.
+	 * @throws IllegalArgumentException if the expiry expression cannot be resolved to an integer.
+	 */
+	public static CouchbaseEntityDescriptor of(CouchbasePersistentEntity<?> entity, @Nullable Environment environment) {
+		return new CouchbaseEntityDescriptor(entity, environment);
+	}
+
+	static int resolveExpiryValue(Expiry annotation, @Nullable Environment environment) {
+		int expiryValue = annotation.expiry();
+		String expiryExpressionString = annotation.expiryExpression();
+		if (StringUtils.hasLength(expiryExpressionString)) {
+			Assert.notNull(environment, "Environment must be set to use 'expiryExpression'");
+			String expiryWithReplacedPlaceholders = environment.resolveRequiredPlaceholders(expiryExpressionString);
+			try {
+				expiryValue = Integer.parseInt(expiryWithReplacedPlaceholders);
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException(
+						"Invalid Integer value for expiry expression: " + expiryWithReplacedPlaceholders);
+			}
+		}
+		return expiryValue;
+	}
+
+	public Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * @return the type information of the entity class, to look up its type alias.
+	 */
+	public TypeInformation<?> getTypeInformation() {
+		return typeInformation;
+	}
+
+	/**
+	 * @return the expiry of the documents of the entity, {@link Duration#ZERO} if they don't expire.
+	 */
+	public Duration getExpiryDuration() {
+		return expiryDuration;
+	}
+
+	/**
+	 * The expiry in the Couchbase format: seconds for up to 30 days, the Unix time of the expiry otherwise. The latter is
+	 * relative to now and computed on each call.
+	 *
+	 * @return the expiry, {@literal 0} if the documents don't expire.
+	 */
+	public int getExpiry() {
+		if (expiryUnit == null) {
+			return 0;
+		}
+		long secondsShift = expiryUnit.toSeconds(expiryValue);
+		if (secondsShift > CouchbasePersistentEntity.TTL_IN_SECONDS_INCLUSIVE_END) {
+			// we want it to be represented as a UNIX timestamp style, seconds since Epoch in UTC
+			Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+			if (expiryUnit == TimeUnit.DAYS) {
+				// makes sure we won't lose resolution
+				cal.add(Calendar.DAY_OF_MONTH, expiryValue);
+			} else {
+				// use the shift in seconds since resolution should be smaller
+				cal.add(Calendar.SECOND, (int) secondsShift);
+			}
+			return (int) (cal.getTimeInMillis() / 1000); // note: Unix UTC time representation in int is okay until year 2038
+		} else {
+			return (int) secondsShift;
+		}
+	}
+
+	public boolean isTouchOnRead() {
+		return touchOnRead;
+	}
+
+	@Nullable
+	public CouchbasePersistentProperty getIdProperty() {
+		return idProperty;
+	}
+
+	@Nullable
+	public CouchbasePersistentProperty getVersionProperty() {
+		return versionProperty;
+	}
+
+	public boolean hasVersionProperty() {
+		return versionProperty != null;
+	}
+
+}
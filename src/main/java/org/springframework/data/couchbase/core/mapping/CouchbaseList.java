@@ -31,6 +31,12 @@ import org.springframework.data.mapping.model.SimpleTypeHolder;
  */
 public class CouchbaseList implements CouchbaseStorable {
 
+	/**
+	 * The last {@link SimpleTypeHolder} extended to also allow {@link CouchbaseDocument} and {@link CouchbaseList}. Lists
+	 * are almost always created with the one holder of the converter, so a single entry is enough.
+	 */
+	private static volatile ExtendedTypeHolder lastTypeHolder;
+
 	/**
 	 * Contains the actual data to be stored.
 	 */
@@ -41,6 +47,11 @@ public class CouchbaseList implements CouchbaseStorable {
 	 */
 	private SimpleTypeHolder simpleTypeHolder;
 
+	/**
+	 * Whether the types of the values put are verified.
+	 */
+	private boolean verifyValueTypes = true;
+
 	/**
 	 * Create a new (empty) list.
 	 */
@@ -66,6 +77,17 @@ public class CouchbaseList implements CouchbaseStorable {
 		this(new ArrayList<Object>(), simpleTypeHolder);
 	}
 
+	/**
+	 * Create a new (empty) list with an existing {@link SimpleTypeHolder}, sized for the expected number of elements.
+	 *
+	 * @param simpleTypeHolder context instance.
+	 * @param expectedSize the expected number of elements.
+	 * @since 5.0
+	 */
+	public CouchbaseList(final SimpleTypeHolder simpleTypeHolder, final int expectedSize) {
+		this(new ArrayList<Object>(expectedSize), simpleTypeHolder);
+	}
+
 	/**
 	 * Create a new list with a given payload on construction and an existing {@link SimpleTypeHolder}.
 	 *
@@ -75,10 +97,12 @@ public class CouchbaseList implements CouchbaseStorable {
 	public CouchbaseList(final List<Object> initialPayload, final SimpleTypeHolder simpleTypeHolder) {
 		this.payload = initialPayload;
 		if (simpleTypeHolder != null) {
-			Set<Class<?>> additionalTypes = new HashSet<Class<?>>();
-			additionalTypes.add(CouchbaseDocument.class);
-			additionalTypes.add(CouchbaseList.class);
-			this.simpleTypeHolder = new SimpleTypeHolder(additionalTypes, simpleTypeHolder);
+			ExtendedTypeHolder last = lastTypeHolder;
+			if (last == null || last.source != simpleTypeHolder) {
+				last = new ExtendedTypeHolder(simpleTypeHolder);
+				lastTypeHolder = last;
+			}
+			this.simpleTypeHolder = last.extended;
 		} else {
 			this.simpleTypeHolder = CouchbaseSimpleTypes.DOCUMENT_TYPES;
 		}
@@ -91,7 +115,9 @@ public class CouchbaseList implements CouchbaseStorable {
 	 * @return the {@link CouchbaseList} object for chaining purposes.
 	 */
 	public final CouchbaseList put(final Object value) {
-		verifyValueType(value);
+		if (verifyValueTypes) {
+			verifyValueType(value);
+		}
 
 		payload.add(value);
 		return this;
@@ -147,6 +173,7 @@ public class CouchbaseList implements CouchbaseStorable {
 	 * It either returns the raw results or makes sure that the recusrive elements are also exported properly.
 	 *
 	 * @return
+	 * @see #toList()
 	 */
 	public final List<Object> export() {
 		List<Object> toExport = new ArrayList<Object>(payload);
@@ -165,6 +192,27 @@ public class CouchbaseList implements CouchbaseStorable {
 		return toExport;
 	}
 
+	/**
+	 * Returns a copy of the current payload, including all recursive elements, with nested documents converted by
+	 * {@link CouchbaseDocument#toMap()} instead of {@link CouchbaseDocument#export()}.
+	 *
+	 * @return a copy of the payload with the nested elements converted.
+	 * @since 5.0
+	 */
+	public final List<Object> toList() {
+		List<Object> toList = new ArrayList<Object>(payload.size());
+		for (Object entry : payload) {
+			if (entry instanceof CouchbaseDocument) {
+				toList.add(((CouchbaseDocument) entry).toMap());
+			} else if (entry instanceof CouchbaseList) {
+				toList.add(((CouchbaseList) entry).toList());
+			} else {
+				toList.add(entry);
+			}
+		}
+		return toList;
+	}
+
 	/**
 	 * Returns true if it contains the given value.
 	 *
@@ -184,6 +232,27 @@ public class CouchbaseList implements CouchbaseStorable {
 		return payload.isEmpty();
 	}
 
+	/**
+	 * Enables or disables the verification of the types of the values put. Disable it only if the values are known to
+	 * be supported, as the converter does for the values it writes.
+	 *
+	 * @param verifyValueTypes whether to verify the types of the values put.
+	 * @return this list for chaining purposes.
+	 * @since 5.0
+	 */
+	public CouchbaseList setVerifyValueTypes(final boolean verifyValueTypes) {
+		this.verifyValueTypes = verifyValueTypes;
+		return this;
+	}
+
+	/**
+	 * @return whether the types of the values put are verified.
+	 * @since 5.0
+	 */
+	public boolean isVerifyValueTypes() {
+		return verifyValueTypes;
+	}
+
 	/**
 	 * Verifies that only values of a certain and supported type can be stored.
 	 * <p>
@@ -214,4 +283,18 @@ public class CouchbaseList implements CouchbaseStorable {
 	public String toString() {
 		return "CouchbaseList{" + "payload=" + payload + '}';
 	}
+
+	private static class ExtendedTypeHolder {
+
+		private final SimpleTypeHolder source;
+		private final SimpleTypeHolder extended;
+
+		ExtendedTypeHolder(SimpleTypeHolder source) {
+			Set<Class<?>> additionalTypes = new HashSet<Class<?>>();
+			additionalTypes.add(CouchbaseDocument.class);
+			additionalTypes.add(CouchbaseList.class);
+			this.source = source;
+			this.extended = new SimpleTypeHolder(additionalTypes, source);
+		}
+	}
 }
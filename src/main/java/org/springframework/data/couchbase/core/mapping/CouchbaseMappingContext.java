@@ -128,6 +128,14 @@ public class CouchbaseMappingContext
 		this.autoIndexCreation = autoCreateIndexes;
 	}
 
+	/**
+	 * Resolves the {@link CouchbaseEntityDescriptor} of all the entities known to this context again, e.g. after
+	 * properties of the environment used by expiry expressions changed.
+	 */
+	public void refreshDescriptors() {
+		getPersistentEntities().forEach(BasicCouchbasePersistentEntity::refreshDescriptor);
+	}
+
 	/**
 	 * override method from AbstractMappingContext as that method will not publishEvent() if it finds the entity has
 	 * already been cached
@@ -19,6 +19,8 @@ package org.springframework.data.couchbase.core.mapping;
 import java.time.Duration;
 
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.lang.Nullable;
 
 /**
  * Represents an entity that can be persisted which contains 0 or more properties.
@@ -62,7 +64,39 @@ public interface CouchbasePersistentEntity<T> extends PersistentEntity<T, Couchb
 	 */
 	boolean isTouchOnRead();
 
+	/**
+	 * The number of persistent properties of the entity, which bounds the number of attributes of its documents (apart
+	 * from the type key).
+	 *
+	 * @return the number of persistent properties.
+	 * @since 5.0
+	 */
+	default int getPropertyCount() {
+		int[] count = { 0 };
+		doWithProperties((PropertyHandler<CouchbasePersistentProperty>) property -> count[0]++);
+		return count[0];
+	}
+
+	/**
+	 * The runtime metadata of the entity, resolved once and kept for the following operations. The default resolves it
+	 * on each call, without an {@link org.springframework.core.env.Environment} for an expiry expression; implementations
+	 * should resolve it once and keep it, as {@link BasicCouchbasePersistentEntity} does.
+	 *
+	 * @return the descriptor of the entity.
+	 * @since 5.0
+	 */
+	default CouchbaseEntityDescriptor getDescriptor() {
+		return CouchbaseEntityDescriptor.of(this, null);
+	}
+
+	/**
+	 * @return whether the entity has a property annotated with {@link TextScore}.
+	 */
 	boolean hasTextScoreProperty();
 
+	/**
+	 * @return the property annotated with {@link TextScore}, {@literal null} if there is none.
+	 */
+	@Nullable
 	CouchbasePersistentProperty getTextScoreProperty();
 }
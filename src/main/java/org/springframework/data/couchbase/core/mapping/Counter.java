@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a numeric property as a counter, which is changed with atomic sub-document increments (see
+ * {@link org.springframework.data.couchbase.core.ReactiveIncrementByIdOperation}) rather than by writing the entity
+ * read before. The property must be a {@code long}, {@code int}, {@code short} or their wrapper.
+ * <p>
+ * The entity must have a {@link org.springframework.data.annotation.Version} property: a replace of the entity is
+ * rejected when the counter was incremented after the entity was read, instead of putting back the value read. An
+ * upsert, which does not check the version, is rejected for such entities.
+ *
+ * @since 5.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface Counter {}
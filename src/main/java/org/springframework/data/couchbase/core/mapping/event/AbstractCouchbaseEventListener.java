@@ -39,6 +39,15 @@ public class AbstractCouchbaseEventListener<E> implements ApplicationListener<Co
 		domainClass = typeArgument == null ? Object.class : typeArgument;
 	}
 
+	/**
+	 * Whether events for entities of the given domain type are handled by this listener.
+	 *
+	 * @param domainType the class of the entity.
+	 */
+	public boolean supportsDomainType(Class<?> domainType) {
+		return domainClass.isAssignableFrom(domainType);
+	}
+
 	@SuppressWarnings("rawtypes")
 	public void onApplicationEvent(CouchbaseMappingEvent<?> event) {
 
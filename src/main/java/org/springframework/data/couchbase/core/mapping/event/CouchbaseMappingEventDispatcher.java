@@ -0,0 +1,246 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.core.mapping.event;
+
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.util.Assert;
+
+/**
+ * Dispatches the {@link CouchbaseMappingEvent}s emitted by the templates.
+ * <p>
+ * With {@link MappingEventDispatchMode#PUBLISH} (the default) every event is published through the
+ * {@link ApplicationContext}. The filtered modes resolve the {@link ApplicationListener} beans interested in an (event
+ * type, domain type) pair once, deliver events to them directly and let the templates skip creating events nobody
+ * listens to. Only listeners registered as beans or added to the context are considered in the filtered modes,
+ * {@code @EventListener} methods are not. The resolved listeners are dropped when a context is refreshed or a listener
+ * is added to the context; listener beans registered otherwise are picked up after {@link #clearListenerCache()}.
+ *
+ * @since 5.0
+ */
+public class CouchbaseMappingEventDispatcher
+		implements ApplicationContextAware, ApplicationListener<ContextRefreshedEvent>, DisposableBean {
+
+	public static final int DEFAULT_BATCH_SIZE = 256;
+	public static final Duration DEFAULT_BATCH_TIMEOUT = Duration.ofMillis(10);
+
+	private static final Logger LOG = LoggerFactory.getLogger(CouchbaseMappingEventDispatcher.class);
+
+	private final MappingEventDispatchMode mode;
+	private final Map<Class<?>, Map<Class<?>, List<ApplicationListener<CouchbaseMappingEvent<?>>>>> listeners = new ConcurrentHashMap<>();
+	private final Sinks.Many<CouchbaseMappingEvent<?>> afterEvents;
+	private volatile List<ApplicationListener<?>> candidates;
+	private volatile int candidatesListenerCount = -1;
+	private ApplicationContext applicationContext;
+
+	public CouchbaseMappingEventDispatcher() {
+		this(MappingEventDispatchMode.PUBLISH);
+	}
+
+	public CouchbaseMappingEventDispatcher(MappingEventDispatchMode mode) {
+		this(mode, DEFAULT_BATCH_SIZE, DEFAULT_BATCH_TIMEOUT);
+	}
+
+	/**
+	 * @param mode how events are dispatched.
+	 * @param batchSize the maximum number of after-events delivered in one batch in
+	 *          {@link MappingEventDispatchMode#FILTERED_ASYNC_AFTER_EVENTS} mode.
+	 * @param batchTimeout the maximum time an after-event waits for its batch to fill up.
+	 */
+	public CouchbaseMappingEventDispatcher(MappingEventDispatchMode mode, int batchSize, Duration batchTimeout) {
+		Assert.notNull(mode, "Mode must not be null!");
+		Assert.isTrue(batchSize > 0, "BatchSize must be greater than zero!");
+		Assert.notNull(batchTimeout, "BatchTimeout must not be null!");
+		this.mode = mode;
+		if (mode == MappingEventDispatchMode.FILTERED_ASYNC_AFTER_EVENTS) {
+			this.afterEvents = Sinks.many().unicast().onBackpressureBuffer();
+			afterEvents.asFlux().bufferTimeout(batchSize, batchTimeout)
+					.publishOn(Schedulers.boundedElastic()).subscribe(this::deliverBatch);
+		} else {
+			this.afterEvents = null;
+		}
+	}
+
+	public MappingEventDispatchMode getMode() {
+		return mode;
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		this.applicationContext = applicationContext;
+		clearListenerCache();
+	}
+
+	/**
+	 * Drops the resolved listeners on the refresh of the context, or of a child context, which may add listeners.
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		clearListenerCache();
+	}
+
+	/**
+	 * Drops the resolved listeners, so that listeners registered since are found for the next events.
+	 */
+	public void clearListenerCache() {
+		this.candidates = null;
+		this.listeners.clear();
+	}
+
+	/**
+	 * Whether an event of the given type for an entity of the given domain type would reach a listener. Always
+	 * {@literal true} in {@link MappingEventDispatchMode#PUBLISH} mode as the listeners are not known up front.
+	 *
+	 * @param eventType the type of the event.
+	 * @param domainType the class of the entity the event would be created for.
+	 */
+	public boolean hasListeners(Class<?> eventType, Class<?> domainType) {
+		return mode == MappingEventDispatchMode.PUBLISH || !getListeners(eventType, domainType).isEmpty();
+	}
+
+	/**
+	 * Dispatch the event according to the {@link MappingEventDispatchMode}.
+	 *
+	 * @param event the event to dispatch.
+	 */
+	public void dispatch(CouchbaseMappingEvent<?> event) {
+		Assert.state(applicationContext != null, "ApplicationContext has not been set!");
+		if (mode == MappingEventDispatchMode.PUBLISH) {
+			applicationContext.publishEvent(event);
+		} else if (afterEvents != null && isAfterEvent(event)) {
+			Sinks.EmitResult result;
+			while ((result = afterEvents.tryEmitNext(event)) == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+				Thread.onSpinWait();
+			}
+			if (result.isFailure()) { // shut down, deliver in the caller
+				deliver(event);
+			}
+		} else {
+			deliver(event);
+		}
+	}
+
+	/**
+	 * Delivers the after-events still queued and stops the asynchronous delivery.
+	 */
+	@Override
+	public void destroy() {
+		if (afterEvents != null) {
+			while (afterEvents.tryEmitComplete() == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+				Thread.onSpinWait();
+			}
+		}
+	}
+
+	private static boolean isAfterEvent(CouchbaseMappingEvent<?> event) {
+		return event instanceof AfterSaveEvent || event instanceof AfterDeleteEvent;
+	}
+
+	private void deliver(CouchbaseMappingEvent<?> event) {
+		for (ApplicationListener<CouchbaseMappingEvent<?>> listener : getListeners(event.getClass(),
+				event.getSource().getClass())) {
+			listener.onApplicationEvent(event);
+		}
+	}
+
+	private void deliverBatch(List<CouchbaseMappingEvent<?>> batch) {
+		for (CouchbaseMappingEvent<?> event : batch) {
+			try {
+				deliver(event);
+			} catch (RuntimeException e) {
+				LOG.warn("{} thrown during asynchronous delivery of {}", e, event);
+			}
+		}
+	}
+
+	private List<ApplicationListener<CouchbaseMappingEvent<?>>> getListeners(Class<?> eventType, Class<?> domainType) {
+		if (candidates != null && candidatesListenerCount != contextListenerCount()) { // added to the context since
+			clearListenerCache();
+		}
+		return listeners.computeIfAbsent(domainType, k -> new ConcurrentHashMap<>()).computeIfAbsent(eventType,
+				k -> resolveListeners(eventType, domainType));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<ApplicationListener<CouchbaseMappingEvent<?>>> resolveListeners(Class<?> eventType,
+			Class<?> domainType) {
+		ResolvableType resolvableEventType = ResolvableType.forClass(eventType);
+		List<ApplicationListener<CouchbaseMappingEvent<?>>> interested = new ArrayList<>();
+		for (ApplicationListener<?> listener : getCandidates()) {
+			boolean supported;
+			if (listener instanceof AbstractCouchbaseEventListener) {
+				supported = ((AbstractCouchbaseEventListener<?>) listener).supportsDomainType(domainType);
+			} else {
+				GenericApplicationListener generic = listener instanceof GenericApplicationListener
+						? (GenericApplicationListener) listener
+						: new GenericApplicationListenerAdapter(listener);
+				supported = generic.supportsEventType(resolvableEventType) && generic.supportsSourceType(domainType);
+			}
+			if (supported) {
+				interested.add((ApplicationListener<CouchbaseMappingEvent<?>>) listener);
+			}
+		}
+		return interested.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(interested);
+	}
+
+	private List<ApplicationListener<?>> getCandidates() {
+		List<ApplicationListener<?>> resolved = candidates;
+		if (resolved == null) {
+			Assert.state(applicationContext != null, "ApplicationContext has not been set!");
+			Set<ApplicationListener<?>> all = new LinkedHashSet<>();
+			candidatesListenerCount = contextListenerCount();
+			if (applicationContext instanceof AbstractApplicationContext) {
+				all.addAll(((AbstractApplicationContext) applicationContext).getApplicationListeners());
+			}
+			all.addAll(applicationContext.getBeansOfType(ApplicationListener.class, false, false).values());
+			resolved = new ArrayList<>(all);
+			AnnotationAwareOrderComparator.sort(resolved);
+			candidates = resolved;
+		}
+		return resolved;
+	}
+
+	private int contextListenerCount() {
+		return applicationContext instanceof AbstractApplicationContext
+				? ((AbstractApplicationContext) applicationContext).getApplicationListeners().size()
+				: 0;
+	}
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.core.mapping.event;
+
+/**
+ * How the templates hand {@link CouchbaseMappingEvent}s to listeners.
+ *
+ * @since 5.0
+ * @see CouchbaseMappingEventDispatcher
+ */
+public enum MappingEventDispatchMode {
+
+	/**
+	 * Every event is created and published through the {@link org.springframework.context.ApplicationContext}. This is
+	 * the default.
+	 */
+	PUBLISH,
+
+	/**
+	 * The listener beans interested in a domain type are resolved once and events are delivered to them directly. No
+	 * event is created for a domain type nobody listens to.
+	 */
+	FILTERED,
+
+	/**
+	 * Like {@link #FILTERED}, but {@link AfterSaveEvent}s and {@link AfterDeleteEvent}s are delivered asynchronously in
+	 * batches.
+	 */
+	FILTERED_ASYNC_AFTER_EVENTS
+
+}
@@ -41,6 +41,7 @@ public class ReactiveAuditingEntityCallback
 		implements ReactiveBeforeConvertCallback<Object>, ReactiveAfterConvertCallback<Object>, Ordered {
 
 	private final ObjectFactory<ReactiveIsNewAwareAuditingHandler> auditingHandlerFactory;
+	private volatile ReactiveIsNewAwareAuditingHandler auditingHandler;
 	private static final Logger LOG = LoggerFactory.getLogger(ReactiveAuditingEntityCallback.class);
 
 	/**
@@ -66,7 +67,7 @@ public class ReactiveAuditingEntityCallback
 		if (LOG.isTraceEnabled()) {
 			LOG.trace("onBeforeConvert {}", entity.toString());
 		}
-		return this.auditingHandlerFactory.getObject().markAudited(entity);
+		return getAuditingHandler().markAudited(entity);
 	}
 
 	/*
@@ -84,6 +85,18 @@ public class ReactiveAuditingEntityCallback
 		return Mono.just(entity);
 	}
 
+	/**
+	 * Looks up the auditing handler once, not for every entity.
+	 */
+	private ReactiveIsNewAwareAuditingHandler getAuditingHandler() {
+		ReactiveIsNewAwareAuditingHandler handler = auditingHandler;
+		if (handler == null) {
+			handler = auditingHandlerFactory.getObject();
+			auditingHandler = handler;
+		}
+		return handler;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
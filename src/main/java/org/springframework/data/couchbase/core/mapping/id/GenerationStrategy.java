@@ -30,5 +30,30 @@ public enum GenerationStrategy {
 	/**
 	 * Uses an uuid generator
 	 */
-	UNIQUE
+	UNIQUE,
+
+	/**
+	 * Uses a generator of version 7 UUIDs, which sort by creation time
+	 *
+	 * @see TimeOrderedIdGenerator
+	 * @since 5.0
+	 */
+	TIME_ORDERED,
+
+	/**
+	 * Uses a generator of random 22 character base62 ids
+	 *
+	 * @see Base62IdGenerator
+	 * @since 5.0
+	 */
+	BASE62,
+
+	/**
+	 * Uses a generator of numbers reserved in blocks from a counter document per entity type, which needs an
+	 * {@link IdPrefix}
+	 *
+	 * @see SequenceIdGenerator
+	 * @since 5.0
+	 */
+	SEQUENCE
 }
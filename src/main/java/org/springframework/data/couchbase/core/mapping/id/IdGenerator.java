@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.mapping.id;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+
+/**
+ * Generates the unique part of the ids of a {@link GenerationStrategy}. The prefixes and suffixes of the entity are
+ * added around it by the converter. Implementations must be thread-safe.
+ *
+ * @since 5.0
+ * @see org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter#setIdGenerator(GenerationStrategy,
+ *      IdGenerator)
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+	/**
+	 * @param entity the entity the id is generated for.
+	 * @return the generated id.
+	 */
+	String generateId(CouchbasePersistentEntity<?> entity);
+
+	/**
+	 * Completes when the next id of the entity can be generated without blocking. The reactive templates wait for it
+	 * before writing the entity, generators which need a round trip for some ids override it.
+	 *
+	 * @param entity the entity the id is generated for.
+	 * @return a {@link Mono} completing when {@link #generateId(CouchbasePersistentEntity)} does not block.
+	 */
+	default Mono<Void> ready(CouchbasePersistentEntity<?> entity) {
+		return Mono.empty();
+	}
+
+}
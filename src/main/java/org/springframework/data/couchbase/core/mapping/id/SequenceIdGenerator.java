@@ -0,0 +1,179 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.mapping.id;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.kv.CounterResult;
+import com.couchbase.client.java.kv.IncrementOptions;
+
+/**
+ * Generates increasing numbers from a counter document per entity type. Instead of a round trip per id, every JVM
+ * reserves a block of ids with one increment of the counter by the block size, and hands them out locally until the
+ * block is used up. The numbers do not repeat within an entity type; they are increasing per JVM, but not across
+ * JVMs, and the unused rest of a block is lost on shutdown. As other entity types count from 1 too, the entities need
+ * an {@link org.springframework.data.couchbase.core.mapping.id.IdPrefix} which is distinct per type to get unique ids.
+ * <p>
+ * The next block is reserved asynchronously when half of the current block is used, so the ids are handed out without
+ * waiting for the server. Only the first id of a type, or ids requested faster than a block is reserved, wait for the
+ * increment: {@link #ready(CouchbasePersistentEntity)} lets the reactive templates wait without blocking, other
+ * callers block in {@link #generateId(CouchbasePersistentEntity)}.
+ *
+ * @since 5.0
+ * @see GenerationStrategy#SEQUENCE
+ */
+public class SequenceIdGenerator implements IdGenerator {
+
+	/**
+	 * The prefix of the ids of the counter documents, followed by the name of the entity type.
+	 */
+	public static final String DEFAULT_KEY_PREFIX = "sequence::";
+
+	private final Supplier<Collection> collection;
+	private final String keyPrefix;
+	private final int blockSize;
+	private final Map<String, Sequence> sequences = new ConcurrentHashMap<>();
+
+	/**
+	 * @param collection the collection of the counter documents.
+	 * @param blockSize the number of ids reserved in one round trip.
+	 */
+	public SequenceIdGenerator(Collection collection, int blockSize) {
+		this(collection, DEFAULT_KEY_PREFIX, blockSize);
+	}
+
+	/**
+	 * @param collection the collection of the counter documents.
+	 * @param keyPrefix the prefix of the ids of the counter documents.
+	 * @param blockSize the number of ids reserved in one round trip.
+	 */
+	public SequenceIdGenerator(Collection collection, String keyPrefix, int blockSize) {
+		this(() -> collection, keyPrefix, blockSize);
+		Assert.notNull(collection, "Collection must not be null!");
+	}
+
+	/**
+	 * @param collection the collection of the counter documents, looked up when a block is reserved.
+	 * @param keyPrefix the prefix of the ids of the counter documents.
+	 * @param blockSize the number of ids reserved in one round trip.
+	 */
+	public SequenceIdGenerator(Supplier<Collection> collection, String keyPrefix, int blockSize) {
+		Assert.notNull(collection, "Collection must not be null!");
+		Assert.notNull(keyPrefix, "KeyPrefix must not be null!");
+		Assert.isTrue(blockSize > 0, "Block size must be positive!");
+		this.collection = collection;
+		this.keyPrefix = keyPrefix;
+		this.blockSize = blockSize;
+	}
+
+	@Override
+	public String generateId(CouchbasePersistentEntity<?> entity) {
+		return Long.toString(sequence(entity).next());
+	}
+
+	@Override
+	public Mono<Void> ready(CouchbasePersistentEntity<?> entity) {
+		return sequence(entity).ready();
+	}
+
+	private Sequence sequence(CouchbasePersistentEntity<?> entity) {
+		return sequences.computeIfAbsent(keyPrefix + entity.getType().getName(), Sequence::new);
+	}
+
+	/**
+	 * The ids of a counter left in the current block, and the reservation of the next block. The lock is only held for
+	 * the local state, never while waiting for the server.
+	 */
+	private class Sequence {
+
+		private final String key;
+		private long next = 1;
+		private long limit = 0;
+		private CompletableFuture<Long> reserved;
+
+		Sequence(String key) {
+			this.key = key;
+		}
+
+		long next() {
+			CompletableFuture<Long> pending;
+			synchronized (this) {
+				if (next <= limit || takeReserved()) {
+					long id = next++;
+					if (reserved == null && limit - next + 1 <= blockSize / 2) {
+						reserve();
+					}
+					return id;
+				}
+				if (reserved == null) {
+					reserve();
+				}
+				pending = reserved;
+			}
+			try {
+				pending.join();
+			} catch (CompletionException e) {
+				// thrown by takeReserved() on the next attempt
+			}
+			return next();
+		}
+
+		synchronized Mono<Void> ready() {
+			if (next <= limit || (reserved != null && reserved.isDone())) {
+				return Mono.empty();
+			}
+			if (reserved == null) {
+				reserve();
+			}
+			// a failure is thrown by next(), and a dependent stage keeps a cancellation from cancelling the reservation
+			return Mono.fromCompletionStage(reserved.handle((content, e) -> (Void) null));
+		}
+
+		private void reserve() {
+			// the counter is created with the first block when it does not exist yet
+			reserved = collection.get().async().binary()
+					.increment(key, IncrementOptions.incrementOptions().delta(blockSize).initial(blockSize))
+					.thenApply(CounterResult::content);
+		}
+
+		private boolean takeReserved() {
+			if (reserved == null || !reserved.isDone()) {
+				return false;
+			}
+			CompletableFuture<Long> done = reserved;
+			reserved = null;
+			try {
+				limit = done.join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+			}
+			next = limit - blockSize + 1;
+			return true;
+		}
+
+	}
+
+}
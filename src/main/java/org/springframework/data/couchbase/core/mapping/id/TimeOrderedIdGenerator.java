@@ -0,0 +1,55 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.mapping.id;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+
+/**
+ * Generates version 7 UUIDs: a millisecond timestamp followed by random bits. The ids sort by creation time as
+ * strings, so documents inserted together are close in the primary index. Within the JVM the 12 bits after the
+ * timestamp count up, which keeps the ids strictly increasing even for many ids in the same millisecond.
+ *
+ * @since 5.0
+ * @see GenerationStrategy#TIME_ORDERED
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+	private static final Random RANDOM = new SecureRandom();
+
+	/**
+	 * The timestamp in milliseconds shifted left by 12, plus the counter within the millisecond.
+	 */
+	private final AtomicLong last = new AtomicLong();
+
+	@Override
+	public String generateId(CouchbasePersistentEntity<?> entity) {
+		return nextUuid().toString();
+	}
+
+	UUID nextUuid() {
+		long now = System.currentTimeMillis() << 12;
+		long next = last.updateAndGet(previous -> Math.max(previous + 1, now));
+		long mostSigBits = ((next >>> 12) << 16) | 0x7000L | (next & 0xfffL);
+		long leastSigBits = (RANDOM.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+import java.util.List;
+
+import org.springframework.data.geo.Box;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.geo.Polygon;
+import org.springframework.data.geo.Shape;
+import org.springframework.util.Assert;
+
+/**
+ * Renders the formats of the exact N1QL predicates of a point field, stored with its {@code x} (longitude) and
+ * {@code y} (latitude) coordinates, against a {@link Shape}. Each predicate starts with a range of the coordinates of
+ * the bounding box of the shape, which an index on them can serve, followed by the exact test:
+ * <ul>
+ * <li>a {@link Box} is only the range,</li>
+ * <li>a {@link Circle} with a {@link Metrics#NEUTRAL neutral} radius is a planar distance, with any other metric a
+ * great circle distance, the coordinates being degrees,</li>
+ * <li>a {@link Polygon} is an even-odd crossing count over its edges, a point on an edge is not within.</li>
+ * </ul>
+ * The coordinates of the shape are rendered as literals, the field as {@code %1$s}.
+ *
+ * @since 5.0
+ */
+final class GeoPredicates {
+
+	private GeoPredicates() {}
+
+	static String within(Shape shape) {
+		Assert.notNull(shape, "Shape must not be null!");
+		if (shape instanceof Box) {
+			Box box = (Box) shape;
+			return box(box.getFirst(), box.getSecond());
+		} else if (shape instanceof Circle) {
+			Circle circle = (Circle) shape;
+			return near(circle.getCenter(), circle.getRadius());
+		} else if (shape instanceof Polygon) {
+			return polygon(((Polygon) shape).getPoints());
+		}
+		throw new IllegalArgumentException("Unsupported shape " + shape.getClass().getName() + "!");
+	}
+
+	static String near(Point center, Distance maxDistance) {
+		Assert.notNull(center, "Point must not be null!");
+		Assert.notNull(maxDistance, "Distance must not be null!");
+		double radius = Math.abs(maxDistance.getNormalizedValue());
+		StringBuilder sb = new StringBuilder("(");
+		if (maxDistance.getMetric() == Metrics.NEUTRAL) {
+			range(sb, "x", center.getX() - radius, center.getX() + radius).append(" and ");
+			range(sb, "y", center.getY() - radius, center.getY() + radius).append(" and ");
+			sb.append("POWER(%1$s.x - ").append(literal(center.getX())).append(", 2) + POWER(%1$s.y - ")
+					.append(literal(center.getY())).append(", 2) <= ").append(literal(radius * radius));
+		} else {
+			// the normalized value of a distance in a metric is in radians, the angle between the point and the center
+			double degrees = Math.toDegrees(radius);
+			double latitude = Math.toRadians(center.getY());
+			range(sb, "y", center.getY() - degrees, center.getY() + degrees).append(" and ");
+			sb.append("ACOS(LEAST(1, SIN(RADIANS(%1$s.y)) * ").append(literal(Math.sin(latitude)))
+					.append(" + COS(RADIANS(%1$s.y)) * ").append(literal(Math.cos(latitude)))
+					.append(" * COS(RADIANS(%1$s.x) - ").append(literal(Math.toRadians(center.getX()))).append("))) <= ")
+					.append(literal(radius));
+		}
+		return sb.append(')').toString();
+	}
+
+	static String box(Point first, Point second) {
+		StringBuilder sb = new StringBuilder("(");
+		range(sb, "x", Math.min(first.getX(), second.getX()), Math.max(first.getX(), second.getX())).append(" and ");
+		range(sb, "y", Math.min(first.getY(), second.getY()), Math.max(first.getY(), second.getY()));
+		return sb.append(')').toString();
+	}
+
+	static String polygon(List<Point> points) {
+		Assert.isTrue(points.size() >= 3, "Polygon must at least contain 3 points!");
+		double xMin = Double.POSITIVE_INFINITY;
+		double yMin = Double.POSITIVE_INFINITY;
+		double xMax = Double.NEGATIVE_INFINITY;
+		double yMax = Double.NEGATIVE_INFINITY;
+		StringBuilder edges = new StringBuilder("[");
+		for (int i = 0; i < points.size(); i++) {
+			Point from = points.get(i);
+			Point to = points.get((i + 1) % points.size());
+			xMin = Math.min(xMin, from.getX());
+			xMax = Math.max(xMax, from.getX());
+			yMin = Math.min(yMin, from.getY());
+			yMax = Math.max(yMax, from.getY());
+			if (i > 0) {
+				edges.append(", ");
+			}
+			edges.append('[').append(literal(from.getX())).append(", ").append(literal(from.getY())).append(", ")
+					.append(literal(to.getX())).append(", ").append(literal(to.getY())).append(']');
+		}
+		edges.append(']');
+		StringBuilder sb = new StringBuilder("(");
+		range(sb, "x", xMin, xMax).append(" and ");
+		range(sb, "y", yMin, yMax).append(" and ");
+		// an edge e = [x1, y1, x2, y2] is crossed by the ray from the point towards +x
+		sb.append("ARRAY_LENGTH(ARRAY 1 FOR e IN ").append(edges)
+				.append(" WHEN (e[1] > %1$s.y) != (e[3] > %1$s.y) AND %1$s.x < (e[2] - e[0]) * (%1$s.y - e[1]) / (e[3] - e[1])")
+				.append(" + e[0] END) %% 2 = 1");
+		return sb.append(')').toString();
+	}
+
+	private static StringBuilder range(StringBuilder sb, String coordinate, double min, double max) {
+		return sb.append("%1$s.").append(coordinate).append(" between ").append(literal(min)).append(" and ")
+				.append(literal(max));
+	}
+
+	private static String literal(double value) {
+		Assert.isTrue(Double.isFinite(value), "Coordinates and distances must be finite!");
+		return Double.toString(value);
+	}
+
+}
@@ -53,4 +53,10 @@ public class N1QLQuery extends Query {
 			String[] fields) {
 		return expression.toString();
 	}
+
+	@Override
+	public String toN1qlExistsString(CouchbaseConverter template, String bucketName, String scopeName,
+			String collectionName, Class domainClass) {
+		return "SELECT RAW 1 FROM (" + expression.toString() + ") predicate_query LIMIT 1";
+	}
 }
@@ -41,7 +41,10 @@ import com.couchbase.client.core.retry.RetryStrategy;
 import com.couchbase.client.java.json.JsonArray;
 import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.kv.ExistsOptions;
+import com.couchbase.client.java.kv.GetOptions;
 import com.couchbase.client.java.kv.InsertOptions;
+import com.couchbase.client.java.kv.LookupInOptions;
+import com.couchbase.client.java.kv.MutateInOptions;
 import com.couchbase.client.java.kv.PersistTo;
 import com.couchbase.client.java.kv.RemoveOptions;
 import com.couchbase.client.java.kv.ReplaceOptions;
@@ -155,6 +158,46 @@ public class OptionsBuilder {
 		return options;
 	}
 
+	public static MutateInOptions buildMutateInOptions(MutateInOptions options, PersistTo persistTo,
+			ReplicateTo replicateTo, DurabilityLevel durabilityLevel, Duration expiry, Long cas, CouchbaseDocument doc) {
+		options = options != null ? options : MutateInOptions.mutateInOptions();
+		if (persistTo != PersistTo.NONE || replicateTo != ReplicateTo.NONE) {
+			options.durability(persistTo, replicateTo);
+		} else if (durabilityLevel != DurabilityLevel.NONE) {
+			options.durability(durabilityLevel);
+		}
+		if (expiry != null) {
+			options.expiry(expiry);
+		} else if (doc.getExpiration() != 0) {
+			options.expiry(Duration.ofSeconds(doc.getExpiration()));
+		}
+		if (cas != null) {
+			options.cas(cas);
+		}
+		if (LOG.isTraceEnabled()) {
+			LOG.trace("mutateIn options: {}", toString(options));
+		}
+		return options;
+	}
+
+	/**
+	 * The options of a lookupIn request reading the fields of a get with the given options: the timeout, retry strategy,
+	 * parent span and client context of the get apply to the lookupIn.
+	 */
+	public static LookupInOptions buildLookupInOptions(GetOptions getOptions) {
+		LookupInOptions options = LookupInOptions.lookupInOptions();
+		if (getOptions != null) {
+			GetOptions.Built optsBuilt = getOptions.build();
+			optsBuilt.timeout().ifPresent(options::timeout);
+			optsBuilt.retryStrategy().ifPresent(options::retryStrategy);
+			optsBuilt.parentSpan().ifPresent(options::parentSpan);
+			if (optsBuilt.clientContext() != null) {
+				options.clientContext(optsBuilt.clientContext());
+			}
+		}
+		return options;
+	}
+
 	public static RemoveOptions buildRemoveOptions(RemoveOptions options, PersistTo persistTo, ReplicateTo replicateTo,
 			DurabilityLevel durabilityLevel, Long cas) {
 		options = options != null ? options : RemoveOptions.removeOptions();
@@ -256,6 +299,23 @@ public class OptionsBuilder {
 		return s.toString();
 	}
 
+	static String toString(MutateInOptions o) {
+		StringBuilder s = new StringBuilder();
+		MutateInOptions.Built b = o.build();
+		s.append("{");
+		s.append("cas: " + b.cas());
+		s.append(", durabilityLevel: " + b.durabilityLevel());
+		s.append(", persistTo: " + b.persistTo());
+		s.append(", replicateTo: " + b.replicateTo());
+		s.append(", storeSemantics: " + b.storeSemantics());
+		s.append(", timeout: " + b.timeout());
+		s.append(", retryStrategy: " + b.retryStrategy());
+		s.append(", clientContext: " + b.clientContext());
+		s.append(", parentSpan: " + b.parentSpan());
+		s.append("}");
+		return s.toString();
+	}
+
 	static String toString(RemoveOptions o) {
 		StringBuilder s = new StringBuilder();
 		RemoveOptions.Built b = o.build();
@@ -321,11 +381,8 @@ public class OptionsBuilder {
 	}
 
 	public static Meta buildMeta(CouchbaseQueryMethod method, Class<?> typeToRead) {
-		Meta meta = new Meta();
-		// Scope and Collection annotations are handled in PseudArgs
-		// this would include a ScanConsistency in a composed annotation as well.
-		meta.set(SCAN_CONSISTENCY, method.getScanConsistencyAnnotation());
-		return meta;
+		// the annotations were resolved when the query method was created
+		return method.getQueryMetadata().createMeta();
 	}
 
 	/**
@@ -27,15 +27,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseEntityDescriptor;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryMethod;
 import org.springframework.data.couchbase.repository.query.StringBasedN1qlQueryParser;
-import org.springframework.data.couchbase.repository.support.MappingCouchbaseEntityInformation;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.Alias;
-import org.springframework.data.util.ClassTypeInformation;
-import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.java.json.JsonArray;
@@ -277,7 +275,7 @@ public class Query {
 				} else {
 					sb.append(" AND ");
 				}
-				sb.append(c.export(paramIndexPtr, parameters, converter));
+				c.export(sb, paramIndexPtr, parameters, converter);
 			}
 		}
 	}
@@ -363,6 +361,24 @@ public class Query {
 		return statement.toString();
 	}
 
+	/**
+	 * The statement of an existence check: {@code SELECT RAW 1 ... LIMIT 1} with the filter and criteria of this query,
+	 * so that the query service can stop at the first match instead of counting all of them. Sort, skip and limit of the
+	 * query do not affect the outcome and are not applied.
+	 */
+	public String toN1qlExistsString(CouchbaseConverter converter, String bucketName, String scopeName,
+			String collectionName, Class domainClass) {
+		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(converter, bucketName, scopeName, collectionName,
+				domainClass, null, true, null, null);
+		final StringBuilder statement = new StringBuilder();
+		appendString(statement, N1QLExpression.select(N1QLExpression.x("RAW 1"))
+				.from(collectionName != null ? collectionName : bucketName).toString()); // select raw 1 ...
+		appendWhereString(statement, n1ql.filter); // typeKey = typeValue
+		appendWhere(statement, new int[] { 0 }, converter); // criteria on this Query
+		statement.append(" LIMIT 1");
+		return statement.toString();
+	}
+
 	public String toN1qlRemoveString(CouchbaseConverter converter, String bucketName, String scopeName,
 			String collectionName, Class domainClass) {
 		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(converter, bucketName, scopeName, collectionName,
@@ -381,10 +397,9 @@ public class Query {
 		String typeKey = converter.getTypeKey();
 		final CouchbasePersistentEntity<?> persistentEntity = converter.getMappingContext()
 				.getRequiredPersistentEntity(domainClass);
-		MappingCouchbaseEntityInformation<?, Object> info = new MappingCouchbaseEntityInformation<>(persistentEntity);
-		String typeValue = info.getJavaType().getName();
-		TypeInformation<?> typeInfo = ClassTypeInformation.from(info.getJavaType());
-		Alias alias = converter.getTypeAlias(typeInfo);
+		CouchbaseEntityDescriptor descriptor = persistentEntity.getDescriptor();
+		String typeValue = descriptor.getType().getName();
+		Alias alias = converter.getTypeAlias(descriptor.getTypeInformation());
 		if (alias != null && alias.isPresent()) {
 			typeValue = alias.toString();
 		}
@@ -17,15 +17,19 @@ package org.springframework.data.couchbase.core.query;
 
 import static org.springframework.data.couchbase.core.query.N1QLExpression.x;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Formatter;
 import java.util.LinkedList;
 import java.util.List;
 
 import com.couchbase.client.core.error.CouchbaseException;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Point;
+import org.springframework.data.geo.Shape;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
 import com.couchbase.client.core.error.InvalidArgumentException;
@@ -40,6 +44,29 @@ import com.couchbase.client.java.json.JsonValue;
  */
 public class QueryCriteria implements QueryCriteriaDefinition {
 
+	// field = 1$, operator = 2$, value=$3, $4, ...
+	private static final Renderer STARTING_WITH = Renderer.compile("%1$s like (%3$s||\"%%\")");
+	private static final Renderer PLUS = Renderer.compile("(%1$s || %3$s)");
+	private static final Renderer ENDING_WITH = Renderer.compile("%1$s like (\"%%\"||%3$s)");
+	private static final Renderer REGEXP_LIKE = Renderer.compile("regexp_like(%1$s, %3$s)");
+	private static final Renderer CONTAINS = Renderer.compile("contains(%1$s, %3$s)");
+	private static final Renderer ARRAY_CONTAINING = Renderer.compile("array_containing(%1$s, %3$s)");
+	private static final Renderer NOT = Renderer.compile("not( %3$s )");
+	private static final Renderer LENGTH = Renderer.compile("LENGTH( %3$s )");
+	private static final Renderer LIKE = Renderer.compile("%1$s like %3$s");
+	private static final Renderer NOT_LIKE = Renderer.compile("not(%1$s like %3$s)");
+	private static final Renderer IS_NULL = Renderer.compile("%1$s is null");
+	private static final Renderer IS_NOT_NULL = Renderer.compile("%1$s is not null");
+	private static final Renderer IS_MISSING = Renderer.compile("%1$s is missing");
+	private static final Renderer IS_NOT_MISSING = Renderer.compile("%1$s is not missing");
+	private static final Renderer IS_VALUED = Renderer.compile("%1$s is valued");
+	private static final Renderer IS_NOT_VALUED = Renderer.compile("%1$s is not valued");
+	private static final Renderer WITHIN = Renderer.compile("%1$s within %3$s");
+	private static final Renderer BETWEEN = Renderer.compile("%1$s between %3$s and %4$s");
+	private static final Renderer IN = Renderer.compile("%1$s in %3$s");
+	private static final Renderer IS_TRUE = Renderer.compile("%1$s");
+	private static final Renderer IS_FALSE = Renderer.compile("not(%1$s)");
+
 	private N1QLExpression key;
 	/**
 	 * Holds the chain itself, the current operator being always the last one.
@@ -51,7 +78,7 @@ public class QueryCriteria implements QueryCriteriaDefinition {
 	private ChainOperator chainOperator;
 	private String operator;
 	private Object[] value;
-	private String format;
+	private Renderer format;
 
 	public QueryCriteria(LinkedList<QueryCriteria> chain, N1QLExpression key, Object[] value,
 			ChainOperator chainOperator) {
@@ -63,7 +90,7 @@ public class QueryCriteria implements QueryCriteriaDefinition {
 	}
 
 	QueryCriteria(LinkedList<QueryCriteria> chain, N1QLExpression key, Object[] value, ChainOperator chainOperator,
-			String operator, String format) {
+			String operator, Renderer format) {
 		this.criteriaChain = chain != null ? chain : new LinkedList<>();
 		this.chainOperator = chainOperator;
 		this.criteriaChain.add(this);// add the new one to the chain. The new one has the chainOperator set
@@ -247,56 +274,56 @@ public class QueryCriteria implements QueryCriteriaDefinition {
 	public QueryCriteria startingWith(@Nullable Object o) {
 		operator = "STARTING_WITH";
 		value = new Object[] { o };
-		format = "%1$s like (%3$s||\"%%\")";
+		format = STARTING_WITH;
 		return this;
 	}
 
 	public QueryCriteria plus(@Nullable Object o) {
 		operator = "PLUS";
 		value = new Object[] { o };
-		format = "(%1$s || %3$s)";
+		format = PLUS;
 		return this;
 	}
 
 	public QueryCriteria endingWith(@Nullable Object o) {
 		operator = "ENDING_WITH";
 		value = new Object[] { o };
-		format = "%1$s like (\"%%\"||%3$s)";
+		format = ENDING_WITH;
 		return this;
 	}
 
 	public QueryCriteria regex(@Nullable Object o) {
 		operator = "REGEXP_LIKE";
 		value = new Object[] { o };
-		format = "regexp_like(%1$s, %3$s)";
+		format = REGEXP_LIKE;
 		return this;
 	}
 
 	public QueryCriteria containing(@Nullable Object o) {
 		operator = "CONTAINS";
 		value = new Object[] { o };
-		format = "contains(%1$s, %3$s)";
+		format = CONTAINS;
 		return this;
 	}
 
 	public QueryCriteria arrayContaining(@Nullable Object o) {
 		operator = "ARRAY_CONTAINING";
 		value = new Object[] { o };
-		format = "array_containing(%1$s, %3$s)";
+		format = ARRAY_CONTAINING;
 		return this;
 	}
 
 	public QueryCriteria notContaining(@Nullable Object o) {
 		replaceThisAsWrapperOf(containing(o));
 		operator = "NOT";
-		format = "not( %3$s )";
+		format = NOT;
 		return this;
 	}
 
 	public QueryCriteria negate() {
 		replaceThisAsWrapperOf(this);
 		operator = "NOT";
-		format = "not( %3$s )";
+		format = NOT;
 		// criteriaChain = new LinkedList<>();
 		// criteriaChain.add(this);
 		return this;
@@ -305,83 +332,108 @@ public class QueryCriteria implements QueryCriteriaDefinition {
 	public QueryCriteria size() {
 		replaceThisAsWrapperOf(this);
 		operator = "LENGTH";
-		format = "LENGTH( %3$s )";
+		format = LENGTH;
 		return this;
 	}
 
 	public QueryCriteria like(@Nullable Object o) {
 		operator = "LIKE";
 		value = new Object[] { o };
-		format = "%1$s like %3$s";
+		format = LIKE;
 		return this;
 	}
 
 	public QueryCriteria notLike(@Nullable Object o) {
 		operator = "NOTLIKE";
 		value = new Object[] { o };
-		format = "not(%1$s like %3$s)";
+		format = NOT_LIKE;
 		return this;
 	}
 
 	public QueryCriteria isNull() {
 		operator = "IS_NULL";
 		value = null;
-		format = "%1$s is null";
+		format = IS_NULL;
 		return this;
 	}
 
 	public QueryCriteria isNotNull() {
 		operator = "IS_NOT_NULL";
 		value = null;
-		format = "%1$s is not null";
+		format = IS_NOT_NULL;
 		return this;
 	}
 
 	public QueryCriteria isMissing() {
 		operator = "IS_MISSING";
 		value = null;
-		format = "%1$s is missing";
+		format = IS_MISSING;
 		return this;
 	}
 
 	public QueryCriteria isNotMissing() {
 		operator = "IS_NOT_MiSSING";
 		value = null;
-		format = "%1$s is not missing";
+		format = IS_NOT_MISSING;
 		return this;
 	}
 
 	public QueryCriteria isValued() {
 		operator = "IS_VALUED";
 		value = null;
-		format = "%1$s is valued";
+		format = IS_VALUED;
 		return this;
 	}
 
 	public QueryCriteria isNotValued() {
 		operator = "IS_NOT_VALUED";
 		value = null;
-		format = "%1$s is not valued";
+		format = IS_NOT_VALUED;
 		return this;
 	}
 
 	public QueryCriteria within(@Nullable Object o) {
 		operator = "WITHIN";
 		value = new Object[] { o };
-		format = "%1$s within %3$s";
+		format = WITHIN;
+		return this;
+	}
+
+	/**
+	 * Matches the documents whose point at this key, with {@code x} and {@code y} coordinates, is within a
+	 * {@link org.springframework.data.geo.Box}, {@link org.springframework.data.geo.Circle} or
+	 * {@link org.springframework.data.geo.Polygon}. The query service evaluates the exact predicate, after a range of
+	 * the coordinates of the bounding box of the shape which an index on them can serve.
+	 */
+	public QueryCriteria within(Shape shape) {
+		operator = "WITHIN";
+		value = null;
+		format = Renderer.compile(GeoPredicates.within(shape));
+		return this;
+	}
+
+	/**
+	 * Matches the documents whose point at this key is at most the given distance from a point.
+	 *
+	 * @see #within(Shape)
+	 */
+	public QueryCriteria near(Point point, Distance maxDistance) {
+		operator = "NEAR";
+		value = null;
+		format = Renderer.compile(GeoPredicates.near(point, maxDistance));
 		return this;
 	}
 
 	public QueryCriteria between(@Nullable Object o1, @Nullable Object o2) {
 		operator = "BETWEEN";
 		value = new Object[] { o1, o2 };
-		format = "%1$s between %3$s and %4$s";
+		format = BETWEEN;
 		return this;
 	}
 
 	public QueryCriteria in(@Nullable Object... o) {
 		operator = "IN";
-		format = "%1$s in %3$s";
+		format = IN;
 		value = new Object[1];
 		if (o.length > 0) {
 			if (o[0] instanceof JsonArray || o[0] instanceof List || o[0] instanceof Object[]) {
@@ -420,14 +472,14 @@ public class QueryCriteria implements QueryCriteriaDefinition {
 	public QueryCriteria TRUE() { // true/false are reserved, use TRUE/FALSE
 		value = null;
 		operator = null;
-		format = "%1$s"; // field = 1$, operator = 2$, value=$3, $4, ...
+		format = IS_TRUE;
 		return this;
 	}
 
 	public QueryCriteria FALSE() {
 		value = null;
 		operator = "NOT";
-		format = "not(%1$s)"; // field = 1$, operator = 2$, value=$3, $4, ...
+		format = IS_FALSE;
 		return this;
 	}
 
@@ -444,6 +496,17 @@ public class QueryCriteria implements QueryCriteriaDefinition {
 	@Override
 	public String export(int[] paramIndexPtr, JsonValue parameters, CouchbaseConverter converter) {
 		StringBuilder output = new StringBuilder();
+		export(output, paramIndexPtr, parameters, converter);
+		return output.toString();
+	}
+
+	/**
+	 * Appends the query criteria chain to a StringBuilder holding an N1QL statement.
+	 *
+	 * @see #export(int[], JsonValue, CouchbaseConverter)
+	 */
+	@Override
+	public void export(StringBuilder output, int[] paramIndexPtr, JsonValue parameters, CouchbaseConverter converter) {
 		boolean first = true;
 		for (QueryCriteria c : this.criteriaChain) {
 			if (!first) {
@@ -451,14 +514,12 @@ public class QueryCriteria implements QueryCriteriaDefinition {
 					throw new IllegalStateException("A chain operator must be present when chaining! \n" + c);
 				}
 				// the consistent place to output this would be in the c.exportSingle(output) about five lines down
-				output.append(" ").append(c.chainOperator.representation).append(" ");
+				output.append(' ').append(c.chainOperator.representation).append(' ');
 			} else {
 				first = false;
 			}
 			c.exportSingle(output, paramIndexPtr, parameters, converter);
 		}
-
-		return output.toString();
 	}
 
 	/**
@@ -485,42 +546,43 @@ public class QueryCriteria implements QueryCriteriaDefinition {
 	 */
 	private StringBuilder exportSingle(StringBuilder sb, int[] paramIndexPtr, JsonValue parameters,
 			CouchbaseConverter converter) {
-		String fieldName = key == null ? null : key.toString(); // maybeBackTic(key);
-		int valueLen = value == null ? 0 : value.length;
-		Object[] v = new Object[valueLen + 2];
-		v[0] = fieldName;
-		v[1] = operator;
-		for (int i = 0; i < valueLen; i++) {
-			if (value[i] instanceof QueryCriteria) {
-				v[i + 2] = "(" + ((QueryCriteria) value[i]).export(paramIndexPtr, parameters, converter) + ")";
-			} else {
-				v[i + 2] = maybeWrapValue(key, value[i], paramIndexPtr, parameters, converter);
-			}
-		}
-
 		if (key == null) { // chaining, the chainingOperator was already output by export()
-			sb.append(v[2]);
+			appendOperand(sb, 0, paramIndexPtr, parameters, converter);
 		} else if (format == null) { // this always has to be fieldname <op> <something>
-			sb.append(fieldName).append(" ").append(operator).append(" ").append(v[2]);
+			sb.append(key).append(' ').append(operator).append(' ');
+			appendOperand(sb, 0, paramIndexPtr, parameters, converter);
 		} else {
-			sb.append(new Formatter().format(format, v));
+			format.render(this, sb, paramIndexPtr, parameters, converter);
 		}
-
 		return sb;
 	}
 
+	/**
+	 * Appends the operand at the given index of the value, in parentheses if it is a nested criteria.
+	 */
+	private void appendOperand(StringBuilder sb, int index, int[] paramIndexPtr, JsonValue parameters,
+			CouchbaseConverter converter) {
+		if (value[index] instanceof QueryCriteria) {
+			sb.append('(');
+			((QueryCriteria) value[index]).export(sb, paramIndexPtr, parameters, converter);
+			sb.append(')');
+		} else {
+			maybeWrapValue(sb, key, value[index], paramIndexPtr, parameters, converter);
+		}
+	}
+
 	/**
 	 * Possibly convert an operand to a positional or named parameter
 	 *
+	 * @param sb - the string builder the operand or its placeholder is appended to
 	 * @param paramIndexPtr - this is a reference to the parameter index to be used for positional parameters There may
 	 *          already be positional parameters in the beginning of the statement, so it may not always start at 1. If it
 	 *          has the value -1, the query is using named parameters. If the pointer is null, the query is not using
 	 *          parameters.
 	 * @param parameters - parameters of the query. If operands are parameterized, their values are added to parameters
-	 * @return string containing part of N1QL query
 	 */
-	private String maybeWrapValue(N1QLExpression key, Object value, int[] paramIndexPtr, JsonValue parameters,
-			CouchbaseConverter converter) {
+	private void maybeWrapValue(StringBuilder sb, N1QLExpression key, Object value, int[] paramIndexPtr,
+			JsonValue parameters, CouchbaseConverter converter) {
 		if (paramIndexPtr != null) {
 			if (paramIndexPtr[0] >= 0) {
 				JsonArray params = (JsonArray) parameters;
@@ -532,43 +594,43 @@ public class QueryCriteria implements QueryCriteriaDefinition {
 					params.add(convert(converter, value));
 				}
 
-				return "$" + (++paramIndexPtr[0]); // these are generated in order
+				sb.append('$').append(++paramIndexPtr[0]); // these are generated in order
 			} else {
 				JsonObject params = (JsonObject) parameters;
+				String name = key.toString();
 				// from StringBasedN1qlQueryParser.getNamedPlaceholderValues()
 				try {
-					params.put(key.toString(), convert(converter, value));
+					params.put(name, convert(converter, value));
 				} catch (InvalidArgumentException iae) {
 					if (value instanceof Object[]) {
-						params.put(key.toString(), JsonArray.from((Object[]) value));
+						params.put(name, JsonArray.from((Object[]) value));
 					} else {
 						throw iae;
 					}
 				}
-				return "$" + key;
+				sb.append('$').append(name);
 			}
+			return;
 		}
 
 		// Did not convert to a parameter. Add quotes or whatever it might need.
 
 		if (value instanceof String) {
-			return "\"" + value + "\"";
+			sb.append('"').append((String) value).append('"');
 		} else if (value == null) {
-			return "null";
+			sb.append("null");
 		} else if (value instanceof Object[]) { // convert array into sequence of comma-separated values
-			StringBuilder l = new StringBuilder();
-			l.append("[");
+			sb.append('[');
 			Object[] array = (Object[]) value;
 			for (int i = 0; i < array.length; i++) {
 				if (i > 0) {
-					l.append(",");
+					sb.append(',');
 				}
-				l.append(maybeWrapValue(null, array[i], null, null, converter));
+				maybeWrapValue(sb, null, array[i], null, null, converter);
 			}
-			l.append("]");
-			return l.toString();
+			sb.append(']');
 		} else {
-			return value.toString();
+			sb.append(value);
 		}
 	}
 
@@ -628,6 +690,80 @@ public class QueryCriteria implements QueryCriteriaDefinition {
 		}
 	}
 
+	/**
+	 * A format of a criteria, with the field as {@code %1$s}, the operator as {@code %2$s} and the operands as
+	 * {@code %3$s}, {@code %4$s}, ..., compiled once into the literal text and the arguments between them, so that
+	 * rendering appends to the statement without a {@link java.util.Formatter}. The operands are rendered, and thus
+	 * bound to parameters, in the order they appear in the format.
+	 */
+	static final class Renderer {
+
+		private static final int FIELD = -1;
+		private static final int OPERATOR = -2;
+		private static final int LITERAL = -3;
+
+		private final String[] literals;
+		private final int[] arguments;
+
+		private Renderer(String[] literals, int[] arguments) {
+			this.literals = literals;
+			this.arguments = arguments;
+		}
+
+		static Renderer compile(String format) {
+			List<String> literals = new ArrayList<>();
+			List<Integer> arguments = new ArrayList<>();
+			StringBuilder literal = new StringBuilder();
+			int i = 0;
+			while (i < format.length()) {
+				char c = format.charAt(i);
+				if (c != '%') {
+					literal.append(c);
+					i++;
+				} else if (format.charAt(i + 1) == '%') {
+					literal.append('%');
+					i += 2;
+				} else {
+					int dollar = format.indexOf("$s", i);
+					Assert.isTrue(dollar > i + 1, "Invalid criteria format " + format + "!");
+					if (literal.length() > 0) {
+						literals.add(literal.toString());
+						arguments.add(LITERAL);
+						literal.setLength(0);
+					}
+					int index = Integer.parseInt(format.substring(i + 1, dollar));
+					literals.add(null);
+					arguments.add(index == 1 ? FIELD : index == 2 ? OPERATOR : index - 3);
+					i = dollar + 2;
+				}
+			}
+			if (literal.length() > 0) {
+				literals.add(literal.toString());
+				arguments.add(LITERAL);
+			}
+			return new Renderer(literals.toArray(new String[0]), arguments.stream().mapToInt(Integer::intValue).toArray());
+		}
+
+		void render(QueryCriteria criteria, StringBuilder sb, int[] paramIndexPtr, JsonValue parameters,
+				CouchbaseConverter converter) {
+			for (int i = 0; i < arguments.length; i++) {
+				switch (arguments[i]) {
+					case LITERAL:
+						sb.append(literals[i]);
+						break;
+					case FIELD:
+						sb.append(criteria.key);
+						break;
+					case OPERATOR:
+						sb.append(criteria.operator);
+						break;
+					default:
+						criteria.appendOperand(sb, arguments[i], paramIndexPtr, parameters, converter);
+				}
+			}
+		}
+	}
+
 	public String toString() {
 		StringBuffer sb = new StringBuffer();
 		sb.append("{key: " + this.key);
@@ -39,6 +39,17 @@ public interface QueryCriteriaDefinition {
 	 */
 	String export(int[] paramIndexPtr, JsonValue parameters, CouchbaseConverter converter);
 
+	/**
+	 * Appends the query criteria to a StringBuilder holding an N1QL statement.
+	 *
+	 * @param sb - the statement
+	 * @see #export(int[], JsonValue, CouchbaseConverter)
+	 * @since 5.0
+	 */
+	default void export(StringBuilder sb, int[] paramIndexPtr, JsonValue parameters, CouchbaseConverter converter) {
+		sb.append(export(paramIndexPtr, parameters, converter));
+	}
+
 	/**
 	 * Export the query criteria to a string without using positional or named parameters.
 	 *
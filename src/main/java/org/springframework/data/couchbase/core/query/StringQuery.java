@@ -18,16 +18,14 @@ package org.springframework.data.couchbase.core.query;
 import java.util.Locale;
 
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseEntityDescriptor;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.core.support.TemplateUtils;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryMethod;
 import org.springframework.data.couchbase.repository.query.StringBasedN1qlQueryParser;
-import org.springframework.data.couchbase.repository.support.MappingCouchbaseEntityInformation;
 import org.springframework.data.mapping.Alias;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
-import org.springframework.data.util.ClassTypeInformation;
-import org.springframework.data.util.TypeInformation;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 import com.couchbase.client.java.json.JsonArray;
@@ -69,26 +67,58 @@ public class StringQuery extends Query {
 	public String toN1qlSelectString(CouchbaseConverter converter, String bucketName, String scope, String collection,
 			Class domainClass, Class resultClass, boolean isCount, String[] distinctFields, String[] fields) {
 
+		String queryString = parseQueryString(converter, bucketName, scope, collection, domainClass, distinctFields,
+				fields);
+		final StringBuilder statement = new StringBuilder();
+		boolean makeCount = isCount && queryString != null && !queryString.toLowerCase(Locale.ROOT).contains("count(");
+		if (makeCount) {
+			statement.append("SELECT COUNT(*) AS " + TemplateUtils.SELECT_COUNT + " FROM (");
+		}
+		statement.append(queryString); // apply the string statement
+		appendCriteria(statement, converter);
+		if (!isCount) {
+			appendSort(statement);
+			appendSkipAndLimit(statement);
+		}
+		if (makeCount) {
+			statement.append(") predicate_query");
+		}
+		return statement.toString();
+	}
+
+	/**
+	 * The string statement is wrapped, as it may already have its own LIMIT.
+	 */
+	@Override
+	public String toN1qlExistsString(CouchbaseConverter converter, String bucketName, String scope, String collection,
+			Class domainClass) {
+		String queryString = parseQueryString(converter, bucketName, scope, collection, domainClass, null, null);
+		final StringBuilder statement = new StringBuilder();
+		statement.append("SELECT RAW 1 FROM (");
+		statement.append(queryString); // apply the string statement
+		appendCriteria(statement, converter);
+		statement.append(") predicate_query LIMIT 1");
+		return statement.toString();
+	}
+
+	private String parseQueryString(CouchbaseConverter converter, String bucketName, String scope, String collection,
+			Class domainClass, String[] distinctFields, String[] fields) {
 		StringBasedN1qlQueryParser parser = getStringN1qlQueryParser(converter, bucketName, scope, collection, domainClass,
 				distinctFields, fields);
 
 		N1QLExpression parsedExpression = parser.getExpression(inlineN1qlQuery, queryMethod, parameterAccessor,
 				spelExpressionParser, evaluationContextProvider);
 
-		String queryString = parsedExpression.toString();
-
 		JsonValue parameters = parser.getPlaceholderValues(parameterAccessor);
 		if (parameters instanceof JsonArray) {
 			this.setPositionalParameters((JsonArray) parameters);
 		} else {
 			this.setNamedParameters((JsonObject) parameters);
 		}
-		final StringBuilder statement = new StringBuilder();
-		boolean makeCount = isCount && queryString != null && !queryString.toLowerCase(Locale.ROOT).contains("count(");
-		if (makeCount) {
-			statement.append("SELECT COUNT(*) AS " + TemplateUtils.SELECT_COUNT + " FROM (");
-		}
-		statement.append(queryString); // apply the string statement
+		return parsedExpression.toString();
+	}
+
+	private void appendCriteria(StringBuilder statement, CouchbaseConverter converter) {
 		// To use generated parameters for literals
 		// we need to figure out if we must use positional or named parameters
 		// If we are using positional parameters, we need to start where
@@ -101,14 +131,6 @@ public class StringQuery extends Query {
 			paramIndexPtr = new int[] { -1 };
 		}
 		appendWhere(statement, paramIndexPtr, converter); // criteria on this Query - should be empty for
-		if (!isCount) {
-			appendSort(statement);
-			appendSkipAndLimit(statement);
-		}
-		if (makeCount) {
-			statement.append(") predicate_query");
-		}
-		return statement.toString();
 	}
 
 	private StringBasedN1qlQueryParser getStringN1qlQueryParser(CouchbaseConverter converter, String bucketName,
@@ -116,10 +138,9 @@ public class StringQuery extends Query {
 		String typeKey = converter.getTypeKey();
 		final CouchbasePersistentEntity<?> persistentEntity = converter.getMappingContext()
 				.getRequiredPersistentEntity(domainClass);
-		MappingCouchbaseEntityInformation<?, Object> info = new MappingCouchbaseEntityInformation<>(persistentEntity);
-		String typeValue = info.getJavaType().getName();
-		TypeInformation<?> typeInfo = ClassTypeInformation.from(info.getJavaType());
-		Alias alias = converter.getTypeAlias(typeInfo);
+		CouchbaseEntityDescriptor descriptor = persistentEntity.getDescriptor();
+		String typeValue = descriptor.getType().getName();
+		Alias alias = converter.getTypeAlias(descriptor.getTypeInformation());
 		if (alias != null && alias.isPresent()) {
 			typeValue = alias.toString();
 		}
@@ -17,6 +17,11 @@ package org.springframework.data.couchbase.core.support;
 
 import static org.springframework.data.couchbase.core.query.OptionsBuilder.fromFirst;
 
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.function.Function;
+
 import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
 
 import com.couchbase.client.core.io.CollectionIdentifier;
@@ -29,6 +34,12 @@ import com.couchbase.client.core.io.CollectionIdentifier;
  * @param <OPTS>
  */
 public class PseudoArgs<OPTS> {
+
+	/**
+	 * key of the pseudoArgs of a scoped repository call in the subscriber context
+	 */
+	private static final Object CONTEXT_KEY = PseudoArgs.class;
+
 	private final OPTS options;
 	private final String scopeName;
 	private final String collectionName;
@@ -53,20 +64,39 @@ public class PseudoArgs<OPTS> {
 	 */
 	public PseudoArgs(ReactiveCouchbaseTemplate template, String scope, String collection, OPTS options,
 			Class<?> domainType) {
+		this(template, Context.empty(), scope, collection, options, domainType);
+	}
+
+	/**
+	 * return scope, collection and options in following precedence <br>
+	 * 1) values from fluent api<br>
+	 * 2) values from dynamic proxy (via the subscriber context)<br>
+	 * 3) the values from the couchbaseClientFactory<br>
+	 *
+	 * @param template which holds ThreadLocal pseudo args
+	 * @param context - the subscriber context of the operation
+	 * @param scope - from calling operation
+	 * @param collection - from calling operation
+	 * @param options - from calling operation
+	 * @param domainType - entity that may have annotations
+	 */
+	public PseudoArgs(ReactiveCouchbaseTemplate template, ContextView context, String scope, String collection,
+			OPTS options, Class<?> domainType) {
 
 		String scopeForQuery = null;
 		String collectionForQuery = null;
 		OPTS optionsForQuery = null;
 
-		// threadlocal comes from the scope/collection of a repository from DynamicProxy via template threadLocal
+		// threadlocal comes from the scope/collection of a repository from DynamicProxy via the subscriber context.
+		// Reactive repositories write it there directly, blocking operations copy it from the calling thread before they
+		// block. It is bound for the whole repository call, not just the first operation.
 		// it - has precedence over the annotation of the method/entityClass/repositoryClass in the scope/collection args.
 		// note that there is no withScope()/withCollection() for repositories, so the scope/collection args can
 		// only be from annotations when scopeForQuery/collectionForQuery are non-null.
 		//
 		// for templates, there is no threadLocal, therefore scopeForQuery/collectionForQuery are always null
 
-		PseudoArgs<OPTS> threadLocal = (PseudoArgs<OPTS>) template.getPseudoArgs();
-		template.setPseudoArgs(null);
+		PseudoArgs<OPTS> threadLocal = context.hasKey(CONTEXT_KEY) ? context.get(CONTEXT_KEY) : null;
 		if (threadLocal != null) {
 			scopeForQuery = threadLocal.getScope();
 			collectionForQuery = threadLocal.getCollection();
@@ -114,6 +144,30 @@ public class PseudoArgs<OPTS> {
 
 	}
 
+	/**
+	 * Carry the pseudoArgs of a reactive scoped repository call to the operations subscribed with the context.
+	 *
+	 * @param context the subscriber context.
+	 * @param pseudoArgs the scope, collection and options of the scoped repository.
+	 * @return the context with the pseudoArgs.
+	 */
+	public static Context putInContext(Context context, PseudoArgs<?> pseudoArgs) {
+		return context.put(CONTEXT_KEY, pseudoArgs);
+	}
+
+	/**
+	 * Carry the pseudoArgs a blocking scoped repository call bound to the calling thread to the reactive operation a
+	 * blocking operation subscribes to. The thread is only read when the operation is assembled, so the pseudoArgs
+	 * survive the thread hops of the reactive operation.
+	 *
+	 * @param template the template the pseudoArgs are bound to.
+	 * @return the function writing the pseudoArgs into the subscriber context, if any are bound.
+	 */
+	public static Function<Context, Context> fromCallingThread(ReactiveCouchbaseTemplate template) {
+		PseudoArgs<?> pseudoArgs = template.getPseudoArgs();
+		return context -> pseudoArgs == null || context.hasKey(CONTEXT_KEY) ? context : putInContext(context, pseudoArgs);
+	}
+
 	/**
 	 * @return the options
 	 */
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.support;
+
+/**
+ * A common interface for those that support specifying the paths of a sub-document mutation. Paths are property paths
+ * of the entity (e.g. {@code address.street}), they are translated to the stored field names.
+ *
+ * @param <T> - the entity class
+ */
+public interface WithMutateInPaths<T> {
+
+	Object withUpsertPaths(String... upsertPaths);
+
+	Object withInsertPaths(String... insertPaths);
+
+	Object withReplacePaths(String... replacePaths);
+
+	Object withRemovePaths(String... removePaths);
+
+	Object withCasProvided();
+}
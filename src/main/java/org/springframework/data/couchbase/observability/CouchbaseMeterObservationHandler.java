@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.observability;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ObservationHandler} which records the phases, the document sizes and the row counts of the observed template
+ * operations in a {@link MeterRegistry}, with the low-cardinality tags of the observation and an {@code error} tag.
+ * The latency of the whole operation is recorded by the {@code DefaultMeterObservationHandler} of Micrometer; this
+ * handler adds
+ * <ul>
+ * <li>{@value #PHASE}, a timer for each of the {@code encode}, {@code network} and {@code decode} phases,</li>
+ * <li>{@value #DOCUMENT_SIZE}, a summary of the average size in UTF-8 bytes of the JSON of the documents read by each
+ * operation,</li>
+ * <li>{@value #ROWS}, a summary of the number of results of each operation,</li>
+ * <li>{@value #CAS_RETRIES}, a counter of the writes retried on cas mismatches, showing where documents are contended.
+ * The id of the contended document is a high-cardinality key value of the observation.</li>
+ * </ul>
+ * Phases an operation does not have, like decoding for a write, are not recorded.
+ *
+ * @since 5.0
+ */
+public class CouchbaseMeterObservationHandler implements ObservationHandler<CouchbaseObservationContext> {
+
+	public static final String PHASE = "spring.data.couchbase.operation.phase";
+	public static final String DOCUMENT_SIZE = "spring.data.couchbase.document.size";
+	public static final String ROWS = "spring.data.couchbase.rows";
+	public static final String CAS_RETRIES = "spring.data.couchbase.cas.retries";
+
+	private final MeterRegistry meterRegistry;
+
+	public CouchbaseMeterObservationHandler(MeterRegistry meterRegistry) {
+		Assert.notNull(meterRegistry, "MeterRegistry must not be null!");
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public boolean supportsContext(Observation.Context context) {
+		return context instanceof CouchbaseObservationContext;
+	}
+
+	@Override
+	public void onStop(CouchbaseObservationContext context) {
+		Tags tags = tags(context);
+		recordPhase("encode", context.getEncodeNanos(), tags);
+		recordPhase("network", context.getNetworkNanos(), tags);
+		recordPhase("decode", context.getDecodeNanos(), tags);
+		if (context.getDocuments() > 0) {
+			DistributionSummary.builder(DOCUMENT_SIZE).baseUnit("bytes").tags(tags).register(meterRegistry)
+					.record((double) context.getDocumentBytes() / context.getDocuments());
+		}
+		DistributionSummary.builder(ROWS).tags(tags).register(meterRegistry).record(context.getRows());
+		if (context.getCasRetries() > 0) {
+			Counter.builder(CAS_RETRIES).tags(tags).register(meterRegistry).increment(context.getCasRetries());
+		}
+	}
+
+	private void recordPhase(String phase, long nanos, Tags tags) {
+		if (nanos > 0) {
+			Timer.builder(PHASE).tags(tags).tag("phase", phase).register(meterRegistry).record(nanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private static Tags tags(CouchbaseObservationContext context) {
+		List<Tag> tags = new ArrayList<>();
+		for (KeyValue keyValue : context.getLowCardinalityKeyValues()) {
+			tags.add(Tag.of(keyValue.getKey(), keyValue.getValue()));
+		}
+		tags.add(Tag.of("error", context.getError() != null ? context.getError().getClass().getSimpleName()
+				: DefaultCouchbaseObservationConvention.NONE));
+		return Tags.of(tags);
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.observability;
+
+import io.micrometer.observation.Observation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.lang.Nullable;
+
+import com.couchbase.client.core.io.CollectionIdentifier;
+
+/**
+ * The {@link Observation.Context} of a template operation. Besides what identifies the operation, it accumulates the
+ * time spent in the encode, network and decode phases, the size of the documents read and the number of results while
+ * the operation runs. The phases of an operation with several documents, like a query, are the sum over all of them.
+ *
+ * @since 5.0
+ */
+public class CouchbaseObservationContext extends Observation.Context {
+
+	private final String operation;
+	private final @Nullable Class<?> domainType;
+	private final String scope;
+	private final String collection;
+	private final @Nullable String repositoryMethod;
+	private final AtomicLong encodeNanos = new AtomicLong();
+	private final AtomicLong networkNanos = new AtomicLong();
+	private final AtomicLong decodeNanos = new AtomicLong();
+	private final AtomicLong documentBytes = new AtomicLong();
+	private final AtomicLong documents = new AtomicLong();
+	private final AtomicLong rows = new AtomicLong();
+	private final AtomicLong casRetries = new AtomicLong();
+	private volatile @Nullable String contendedId;
+
+	/**
+	 * @param operation the name of the fluent operation, e.g. {@code findById}.
+	 * @param domainType the domain type of the operation, may be {@literal null}.
+	 * @param scope the scope of the operation, {@literal null} for the default scope.
+	 * @param collection the collection of the operation, {@literal null} for the default collection.
+	 * @param repositoryMethod the repository method which runs the operation, may be {@literal null}.
+	 */
+	public CouchbaseObservationContext(String operation, @Nullable Class<?> domainType, @Nullable String scope,
+			@Nullable String collection, @Nullable String repositoryMethod) {
+		this.operation = operation;
+		this.domainType = domainType;
+		this.scope = scope != null ? scope : CollectionIdentifier.DEFAULT_SCOPE;
+		this.collection = collection != null ? collection : CollectionIdentifier.DEFAULT_COLLECTION;
+		this.repositoryMethod = repositoryMethod;
+	}
+
+	public String getOperation() {
+		return operation;
+	}
+
+	@Nullable
+	public Class<?> getDomainType() {
+		return domainType;
+	}
+
+	public String getScope() {
+		return scope;
+	}
+
+	public String getCollection() {
+		return collection;
+	}
+
+	@Nullable
+	public String getRepositoryMethod() {
+		return repositoryMethod;
+	}
+
+	/**
+	 * @return the nanoseconds spent converting entities into documents.
+	 */
+	public long getEncodeNanos() {
+		return encodeNanos.get();
+	}
+
+	/**
+	 * @return the nanoseconds spent waiting for the SDK and the cluster.
+	 */
+	public long getNetworkNanos() {
+		return networkNanos.get();
+	}
+
+	/**
+	 * @return the nanoseconds spent converting documents into entities.
+	 */
+	public long getDecodeNanos() {
+		return decodeNanos.get();
+	}
+
+	/**
+	 * @return the total size in UTF-8 bytes of the JSON of the documents decoded.
+	 */
+	public long getDocumentBytes() {
+		return documentBytes.get();
+	}
+
+	/**
+	 * @return the number of documents decoded.
+	 */
+	public long getDocuments() {
+		return documents.get();
+	}
+
+	/**
+	 * @return the number of results emitted by the operation.
+	 */
+	public long getRows() {
+		return rows.get();
+	}
+
+	/**
+	 * @return the number of writes retried because the document was changed concurrently.
+	 */
+	public long getCasRetries() {
+		return casRetries.get();
+	}
+
+	/**
+	 * @return the id of the document of the last retried write, {@literal null} if there was none.
+	 */
+	@Nullable
+	public String getContendedId() {
+		return contendedId;
+	}
+
+	void recordEncode(long nanos) {
+		encodeNanos.addAndGet(nanos);
+	}
+
+	void recordNetwork(long nanos) {
+		networkNanos.addAndGet(nanos);
+	}
+
+	void recordDecode(long nanos, int bytes) {
+		decodeNanos.addAndGet(nanos);
+		documentBytes.addAndGet(bytes);
+		documents.incrementAndGet();
+	}
+
+	void recordRow() {
+		rows.incrementAndGet();
+	}
+
+	void recordCasRetry(String id) {
+		casRetries.incrementAndGet();
+		contendedId = id;
+	}
+
+}
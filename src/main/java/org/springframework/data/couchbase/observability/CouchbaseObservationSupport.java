@@ -0,0 +1,240 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Observes the template operations with an {@link ObservationRegistry}. {@link #observe} wraps a whole operation in an
+ * {@link Observation} and puts its {@link CouchbaseObservationContext} into the subscriber context, where
+ * {@link #encode}, {@link #network} and {@link #decode} find it to time the phases of the operation. With the
+ * {@link ObservationRegistry#NOOP no-op registry} all methods return the publisher they are given, so an unobserved
+ * template does not pay for the instrumentation.
+ *
+ * @since 5.0
+ */
+public class CouchbaseObservationSupport {
+
+	/**
+	 * key of the {@link CouchbaseObservationContext} of the running operation in the subscriber context
+	 */
+	private static final Object CONTEXT_KEY = CouchbaseObservationContext.class;
+
+	/**
+	 * key of the repository method in the subscriber context
+	 */
+	private static final String REPOSITORY_METHOD_KEY = CouchbaseObservationSupport.class.getName() + ".repositoryMethod";
+
+	/**
+	 * key of the current observation in the subscriber context, as propagated by Micrometer
+	 */
+	private static final String PARENT_OBSERVATION_KEY = "micrometer.observation";
+
+	private static final ThreadLocal<String> REPOSITORY_METHOD = new ThreadLocal<>();
+
+	private static final CouchbaseObservationConvention DEFAULT_CONVENTION = new DefaultCouchbaseObservationConvention();
+
+	/**
+	 * The support of templates which are not observed.
+	 */
+	public static final CouchbaseObservationSupport NOOP = new CouchbaseObservationSupport(ObservationRegistry.NOOP,
+			null);
+
+	private final ObservationRegistry registry;
+	private final @Nullable CouchbaseObservationConvention convention;
+
+	/**
+	 * @param registry the registry of the observations.
+	 * @param convention a convention to use instead of the {@link DefaultCouchbaseObservationConvention}, may be
+	 *          {@literal null}.
+	 */
+	public CouchbaseObservationSupport(ObservationRegistry registry,
+			@Nullable CouchbaseObservationConvention convention) {
+		Assert.notNull(registry, "ObservationRegistry must not be null!");
+		this.registry = registry;
+		this.convention = convention;
+	}
+
+	public ObservationRegistry getObservationRegistry() {
+		return registry;
+	}
+
+	@Nullable
+	public CouchbaseObservationConvention getObservationConvention() {
+		return convention;
+	}
+
+	/**
+	 * Observes an operation which emits at most one result.
+	 *
+	 * @param operation the name of the fluent operation.
+	 * @param domainType the domain type of the operation, may be {@literal null}.
+	 * @param scope the scope of the operation, may be {@literal null}.
+	 * @param collection the collection of the operation, may be {@literal null}.
+	 * @param context the subscriber context of the operation.
+	 * @param source the operation.
+	 */
+	public <T> Mono<T> observe(String operation, @Nullable Class<?> domainType, @Nullable String scope,
+			@Nullable String collection, ContextView context, Mono<T> source) {
+		if (registry.isNoop()) {
+			return source;
+		}
+		CouchbaseObservationContext observationContext = new CouchbaseObservationContext(operation, domainType, scope,
+				collection, repositoryMethod(context));
+		Observation observation = start(observationContext, context);
+		return source.doOnNext(result -> observationContext.recordRow()).doOnError(observation::error)
+				.doFinally(signal -> observation.stop()).contextWrite(ctx -> ctx.put(CONTEXT_KEY, observationContext));
+	}
+
+	/**
+	 * Observes an operation which emits any number of results.
+	 *
+	 * @see #observe(String, Class, String, String, ContextView, Mono)
+	 */
+	public <T> Flux<T> observe(String operation, @Nullable Class<?> domainType, @Nullable String scope,
+			@Nullable String collection, ContextView context, Flux<T> source) {
+		if (registry.isNoop()) {
+			return source;
+		}
+		CouchbaseObservationContext observationContext = new CouchbaseObservationContext(operation, domainType, scope,
+				collection, repositoryMethod(context));
+		Observation observation = start(observationContext, context);
+		return source.doOnNext(result -> observationContext.recordRow()).doOnError(observation::error)
+				.doFinally(signal -> observation.stop()).contextWrite(ctx -> ctx.put(CONTEXT_KEY, observationContext));
+	}
+
+	/**
+	 * Times the conversion of an entity into a document.
+	 */
+	public <T> Mono<T> encode(Mono<T> source) {
+		if (registry.isNoop()) {
+			return source;
+		}
+		return Mono.deferContextual(context -> {
+			CouchbaseObservationContext observationContext = context.getOrDefault(CONTEXT_KEY, null);
+			if (observationContext == null) {
+				return source;
+			}
+			long start = System.nanoTime();
+			return source.doFinally(signal -> observationContext.recordEncode(System.nanoTime() - start));
+		});
+	}
+
+	/**
+	 * Times a request to the SDK, up to its response. For queries, this is the response with the first rows.
+	 */
+	public <T> Mono<T> network(Mono<T> source) {
+		if (registry.isNoop()) {
+			return source;
+		}
+		return Mono.deferContextual(context -> {
+			CouchbaseObservationContext observationContext = context.getOrDefault(CONTEXT_KEY, null);
+			if (observationContext == null) {
+				return source;
+			}
+			long start = System.nanoTime();
+			return source.doFinally(signal -> observationContext.recordNetwork(System.nanoTime() - start));
+		});
+	}
+
+	/**
+	 * Times the conversion of a document into an entity, and counts the document and its size in UTF-8 bytes.
+	 *
+	 * @param source the conversion.
+	 * @param json the document, may be {@literal null}.
+	 */
+	public <T> Mono<T> decode(Mono<T> source, @Nullable String json) {
+		if (registry.isNoop()) {
+			return source;
+		}
+		return Mono.deferContextual(context -> {
+			CouchbaseObservationContext observationContext = context.getOrDefault(CONTEXT_KEY, null);
+			if (observationContext == null) {
+				return source;
+			}
+			long start = System.nanoTime();
+			return source.doFinally(signal -> observationContext.recordDecode(System.nanoTime() - start,
+					json != null ? MappingProfiler.utf8Length(json) : 0));
+		});
+	}
+
+	/**
+	 * Counts a retry of a write which failed on a cas mismatch, and records the id of the contended document.
+	 *
+	 * @param id the id of the document.
+	 */
+	public Mono<Void> casRetry(String id) {
+		if (registry.isNoop()) {
+			return Mono.empty();
+		}
+		return Mono.deferContextual(context -> {
+			CouchbaseObservationContext observationContext = context.getOrDefault(CONTEXT_KEY, null);
+			if (observationContext != null) {
+				observationContext.recordCasRetry(id);
+			}
+			return Mono.empty();
+		});
+	}
+
+	/**
+	 * Tag the operations subscribed with the context with the name of a reactive repository method.
+	 *
+	 * @param context the subscriber context.
+	 * @param repositoryMethod the name of the repository method.
+	 * @return the context with the repository method.
+	 */
+	public static Context putRepositoryMethod(Context context, String repositoryMethod) {
+		return context.put(REPOSITORY_METHOD_KEY, repositoryMethod);
+	}
+
+	/**
+	 * Tag the operations of the current thread with the name of a blocking repository method, or untag them with null.
+	 * Blocking operations subscribe on the calling thread, where the name is picked up.
+	 *
+	 * @param repositoryMethod the name of the repository method, or {@literal null}.
+	 */
+	public static void setRepositoryMethod(@Nullable String repositoryMethod) {
+		if (repositoryMethod == null) {
+			REPOSITORY_METHOD.remove();
+		} else {
+			REPOSITORY_METHOD.set(repositoryMethod);
+		}
+	}
+
+	@Nullable
+	private static String repositoryMethod(ContextView context) {
+		return context.hasKey(REPOSITORY_METHOD_KEY) ? context.get(REPOSITORY_METHOD_KEY) : REPOSITORY_METHOD.get();
+	}
+
+	private Observation start(CouchbaseObservationContext observationContext, ContextView context) {
+		Observation observation = Observation.createNotStarted(convention, DEFAULT_CONVENTION, () -> observationContext,
+				registry);
+		Observation parent = context.getOrDefault(PARENT_OBSERVATION_KEY, null);
+		if (parent != null) {
+			observation.parentObservation(parent);
+		}
+		return observation.start();
+	}
+
+}
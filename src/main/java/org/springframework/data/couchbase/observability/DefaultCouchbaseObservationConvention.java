@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.observability;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+/**
+ * The default {@link CouchbaseObservationConvention}. All observations are named {@value #NAME} so that they end up in
+ * one timer, and are told apart by low-cardinality tags only: the operation, the simple name of the domain type, the
+ * scope, the collection and the repository method, {@code none} when there is none. Document sizes and row counts are
+ * high-cardinality values and go to the spans only.
+ *
+ * @since 5.0
+ */
+public class DefaultCouchbaseObservationConvention implements CouchbaseObservationConvention {
+
+	/**
+	 * The name of the observations.
+	 */
+	public static final String NAME = "spring.data.couchbase.operation";
+
+	public static final String DB_SYSTEM = "db.system";
+	public static final String OPERATION = "db.operation";
+	public static final String DOMAIN_TYPE = "spring.data.couchbase.domain.type";
+	public static final String SCOPE = "db.couchbase.scope";
+	public static final String COLLECTION = "db.couchbase.collection";
+	public static final String REPOSITORY_METHOD = "spring.data.couchbase.repository.method";
+	public static final String DOCUMENT_BYTES = "spring.data.couchbase.document.bytes";
+	public static final String ROWS = "spring.data.couchbase.rows";
+	public static final String CAS_RETRIES = "spring.data.couchbase.cas.retries";
+	public static final String CONTENDED_ID = "spring.data.couchbase.contended.id";
+
+	static final String NONE = "none";
+
+	private static final KeyValue COUCHBASE = KeyValue.of(DB_SYSTEM, "couchbase");
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public String getContextualName(CouchbaseObservationContext context) {
+		return context.getDomainType() != null
+				? context.getOperation() + " " + context.getDomainType().getSimpleName()
+				: context.getOperation();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(CouchbaseObservationContext context) {
+		return KeyValues.of(COUCHBASE, KeyValue.of(OPERATION, context.getOperation()),
+				KeyValue.of(DOMAIN_TYPE, context.getDomainType() != null ? context.getDomainType().getSimpleName() : NONE),
+				KeyValue.of(SCOPE, context.getScope()), KeyValue.of(COLLECTION, context.getCollection()),
+				KeyValue.of(REPOSITORY_METHOD, context.getRepositoryMethod() != null ? context.getRepositoryMethod() : NONE));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(CouchbaseObservationContext context) {
+		KeyValues keyValues = KeyValues.of(KeyValue.of(DOCUMENT_BYTES, Long.toString(context.getDocumentBytes())),
+				KeyValue.of(ROWS, Long.toString(context.getRows())));
+		if (context.getContendedId() == null) {
+			return keyValues;
+		}
+		// the id of a hot document goes to the traces only, it would blow up the number of meters
+		return keyValues.and(KeyValue.of(CAS_RETRIES, Long.toString(context.getCasRetries())),
+				KeyValue.of(CONTENDED_ID, context.getContendedId()));
+	}
+
+}
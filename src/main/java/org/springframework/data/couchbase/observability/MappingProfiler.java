@@ -0,0 +1,239 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.observability;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.springframework.util.Assert;
+
+/**
+ * Samples the conversions between entities and documents done by a template and accumulates their cost per entity
+ * class: the nanoseconds spent, the size of the JSON in UTF-8 bytes and the number of properties, nested ones included. Encoding is
+ * the conversion of an entity into a document, decoding the conversion of a JSON document into an entity.
+ * <p>
+ * Profiling is off until a sample rate is set. Only the sampled conversions are timed; for them, the encoded document
+ * is also serialized once more to measure its size, as the SDK serializes it later. {@link #getProfiles()} lists the
+ * entity classes with the most expensive first, which is what an actuator endpoint or a controller would return, and
+ * {@link MappingProfilerMetrics} exports the profiles as Micrometer meters.
+ *
+ * @since 5.0
+ */
+public class MappingProfiler {
+
+	private final Map<Class<?>, TypeProfile> profiles = new ConcurrentHashMap<>();
+	private final List<Consumer<TypeProfile>> listeners = new CopyOnWriteArrayList<>();
+	private volatile double sampleRate;
+
+	/**
+	 * @param sampleRate the fraction of the conversions to profile, from {@literal 0}, none, to {@literal 1}, all.
+	 */
+	public void setSampleRate(double sampleRate) {
+		Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "SampleRate must be between 0 and 1!");
+		this.sampleRate = sampleRate;
+	}
+
+	public double getSampleRate() {
+		return sampleRate;
+	}
+
+	/**
+	 * @return whether to profile the next conversion.
+	 */
+	public boolean sample() {
+		double rate = sampleRate;
+		return rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+	}
+
+	/**
+	 * Records a sampled encoding.
+	 *
+	 * @param type the class of the entity.
+	 * @param nanos the time spent.
+	 * @param bytes the size of the JSON of the document in UTF-8 bytes, see {@link #utf8Length(CharSequence)}.
+	 * @param properties the number of properties of the document.
+	 */
+	public void recordEncode(Class<?> type, long nanos, int bytes, int properties) {
+		profile(type).encode.record(nanos, bytes, properties);
+	}
+
+	/**
+	 * Records a sampled decoding.
+	 *
+	 * @param type the class of the entity.
+	 * @param nanos the time spent.
+	 * @param bytes the size of the JSON of the document in UTF-8 bytes, see {@link #utf8Length(CharSequence)}.
+	 * @param properties the number of properties of the document.
+	 */
+	public void recordDecode(Class<?> type, long nanos, int bytes, int properties) {
+		profile(type).decode.record(nanos, bytes, properties);
+	}
+
+	/**
+	 * The number of bytes of the UTF-8 encoding of the characters, which is how documents are sent and stored, counted
+	 * without encoding them.
+	 *
+	 * @param chars the characters, e.g. a JSON document.
+	 * @return the number of bytes.
+	 */
+	public static int utf8Length(CharSequence chars) {
+		int length = chars.length();
+		int bytes = length;
+		for (int i = 0; i < length; i++) {
+			char c = chars.charAt(i);
+			if (c < 0x80) {
+				continue;
+			}
+			if (c < 0x800) {
+				bytes += 1;
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+				bytes += 2; // four bytes for the two chars of a supplementary code point
+				i++;
+			} else {
+				bytes += 2;
+			}
+		}
+		return bytes;
+	}
+
+	/**
+	 * @return the profiles of the entity classes, the one with the most time spent in its sampled conversions first.
+	 */
+	public List<TypeProfile> getProfiles() {
+		List<TypeProfile> result = new ArrayList<>(profiles.values());
+		result.sort(Comparator.comparingLong(TypeProfile::getTotalNanos).reversed());
+		return result;
+	}
+
+	/**
+	 * Calls the listener with each profile, the existing ones now and the ones of new entity classes when they are
+	 * first sampled.
+	 *
+	 * @param listener the listener.
+	 */
+	public void forEachProfile(Consumer<TypeProfile> listener) {
+		listeners.add(listener);
+		profiles.values().forEach(listener);
+	}
+
+	private TypeProfile profile(Class<?> type) {
+		TypeProfile profile = profiles.get(type);
+		if (profile != null) {
+			return profile;
+		}
+		TypeProfile created = new TypeProfile(type);
+		profile = profiles.putIfAbsent(type, created);
+		if (profile != null) {
+			return profile;
+		}
+		listeners.forEach(listener -> listener.accept(created));
+		return created;
+	}
+
+	/**
+	 * The sampled conversions of an entity class.
+	 */
+	public static class TypeProfile {
+
+		private final Class<?> type;
+		private final Conversions encode = new Conversions();
+		private final Conversions decode = new Conversions();
+
+		TypeProfile(Class<?> type) {
+			this.type = type;
+		}
+
+		public Class<?> getType() {
+			return type;
+		}
+
+		public Conversions getEncode() {
+			return encode;
+		}
+
+		public Conversions getDecode() {
+			return decode;
+		}
+
+		/**
+		 * @return the nanoseconds spent in both directions.
+		 */
+		public long getTotalNanos() {
+			return encode.getNanos() + decode.getNanos();
+		}
+
+		@Override
+		public String toString() {
+			return type.getName() + " encode: " + encode + " decode: " + decode;
+		}
+	}
+
+	/**
+	 * The sampled conversions of an entity class in one direction.
+	 */
+	public static class Conversions {
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+		private final LongAdder bytes = new LongAdder();
+		private final LongAdder properties = new LongAdder();
+
+		void record(long nanos, int bytes, int properties) {
+			this.count.increment();
+			this.nanos.add(nanos);
+			this.bytes.add(bytes);
+			this.properties.add(properties);
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		public long getNanos() {
+			return nanos.sum();
+		}
+
+		public long getBytes() {
+			return bytes.sum();
+		}
+
+		public long getProperties() {
+			return properties.sum();
+		}
+
+		/**
+		 * @return the average nanoseconds of a conversion, {@literal 0} if there was none.
+		 */
+		public long getAverageNanos() {
+			long count = getCount();
+			return count == 0 ? 0 : getNanos() / count;
+		}
+
+		@Override
+		public String toString() {
+			return "count=" + getCount() + " nanos=" + getNanos() + " bytes=" + getBytes() + " properties="
+					+ getProperties();
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.observability;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link MeterBinder} of the profiles of a {@link MappingProfiler}. For each entity class and each of the
+ * {@code encode} and {@code decode} directions, it registers
+ * <ul>
+ * <li>{@value #TIME}, a function timer of the sampled conversions,</li>
+ * <li>{@value #BYTES}, a function counter of the length of their JSON,</li>
+ * <li>{@value #PROPERTIES}, a function counter of their properties,</li>
+ * </ul>
+ * tagged with the {@code spring.data.couchbase.domain.type} and the {@code direction}. The meters of an entity class
+ * are registered when it is first sampled.
+ *
+ * @since 5.0
+ */
+public class MappingProfilerMetrics implements MeterBinder {
+
+	public static final String TIME = "spring.data.couchbase.mapping";
+	public static final String BYTES = "spring.data.couchbase.mapping.bytes";
+	public static final String PROPERTIES = "spring.data.couchbase.mapping.properties";
+
+	private final MappingProfiler profiler;
+
+	public MappingProfilerMetrics(MappingProfiler profiler) {
+		Assert.notNull(profiler, "MappingProfiler must not be null!");
+		this.profiler = profiler;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		profiler.forEachProfile(profile -> {
+			bind(registry, profile, "encode", profile.getEncode());
+			bind(registry, profile, "decode", profile.getDecode());
+		});
+	}
+
+	private static void bind(MeterRegistry registry, MappingProfiler.TypeProfile profile, String direction,
+			MappingProfiler.Conversions conversions) {
+		Tags tags = Tags.of(DefaultCouchbaseObservationConvention.DOMAIN_TYPE, profile.getType().getSimpleName(),
+				"direction", direction);
+		FunctionTimer.builder(TIME, conversions, MappingProfiler.Conversions::getCount,
+				MappingProfiler.Conversions::getNanos, TimeUnit.NANOSECONDS).tags(tags).register(registry);
+		FunctionCounter.builder(BYTES, conversions, MappingProfiler.Conversions::getBytes).baseUnit("bytes").tags(tags)
+				.register(registry);
+		FunctionCounter.builder(PROPERTIES, conversions, MappingProfiler.Conversions::getProperties).tags(tags)
+				.register(registry);
+	}
+
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.observability;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+
+import com.couchbase.client.java.analytics.AnalyticsMetrics;
+import com.couchbase.client.java.analytics.AnalyticsOptions;
+import com.couchbase.client.java.analytics.ReactiveAnalyticsResult;
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryMetaData;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryProfile;
+import com.couchbase.client.java.query.ReactiveQueryResult;
+
+/**
+ * Logs the query and analytics operations of a template which take longer than a threshold, with the statement, the
+ * names of its parameters (never their values) and the metrics the server returns in the metadata of the result:
+ * elapsed and execution time, result count and result size. With a {@link QueryProfile} other than
+ * {@link QueryProfile#OFF}, queries are profiled and the phase timings are logged as well. Operations are timed from
+ * the subscription to the end of the result, after the last row has been consumed. Nothing is requested from the
+ * server, nor logged, while no threshold is set.
+ * <p>
+ * The threshold and the profile can be changed at any time, the change applies to the operations subscribed after it.
+ *
+ * @since 5.0
+ */
+public class SlowOperationReporter {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SlowOperationReporter.class);
+
+	private volatile @Nullable Duration threshold;
+	private volatile QueryProfile profile = QueryProfile.OFF;
+
+	/**
+	 * @param threshold the duration above which operations are logged, {@literal null} to log none.
+	 */
+	public void setThreshold(@Nullable Duration threshold) {
+		this.threshold = threshold;
+	}
+
+	@Nullable
+	public Duration getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * @param profile the profile to request for the queries, {@link QueryProfile#OFF} to request none.
+	 */
+	public void setProfile(QueryProfile profile) {
+		this.profile = profile != null ? profile : QueryProfile.OFF;
+	}
+
+	public QueryProfile getProfile() {
+		return profile;
+	}
+
+	/**
+	 * Requests the metrics, and the profile if there is one, with the options of a query when a threshold is set. The
+	 * given options are not modified, as they may be reused for other queries: the metrics and the profile are requested
+	 * with a copy.
+	 *
+	 * @param options the options of the query.
+	 * @return the options, or a copy of them requesting the metrics.
+	 */
+	public QueryOptions apply(QueryOptions options) {
+		if (threshold == null) {
+			return options;
+		}
+		QueryProfile profile = this.profile;
+		QueryOptions copy = copy(options, profile != QueryProfile.OFF);
+		copy.metrics(true);
+		if (profile != QueryProfile.OFF) {
+			copy.profile(profile);
+		}
+		return copy;
+	}
+
+	/**
+	 * A copy of the options: their common options, and the request parameters they inject as raw parameters, apart from
+	 * the metrics and, if it is replaced, the profile.
+	 */
+	static QueryOptions copy(QueryOptions options, boolean replaceProfile) {
+		QueryOptions.Built built = options.build();
+		QueryOptions copy = QueryOptions.queryOptions().adhoc(built.adhoc());
+		built.timeout().ifPresent(copy::timeout);
+		built.retryStrategy().ifPresent(copy::retryStrategy);
+		built.parentSpan().ifPresent(copy::parentSpan);
+		if (built.clientContext() != null) {
+			copy.clientContext(built.clientContext());
+		}
+		if (built.serializer() != null) {
+			copy.serializer(built.serializer());
+		}
+		JsonObject params = JsonObject.create();
+		built.injectParams(params);
+		for (String name : params.getNames()) {
+			if (!name.equals("metrics") && !(replaceProfile && name.equals("profile"))) {
+				copy.raw(name, params.get(name));
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * Reads the rows of a query, and logs it if it was slow once all of them have been read.
+	 *
+	 * @param operation the name of the operation.
+	 * @param statement the statement of the query.
+	 * @param options the options of the query, with its parameters.
+	 * @param query the query.
+	 * @param rows the rows of the result.
+	 */
+	public <R> Flux<R> query(String operation, String statement, QueryOptions options, Mono<ReactiveQueryResult> query,
+			Function<ReactiveQueryResult, Flux<R>> rows) {
+		Duration threshold = this.threshold;
+		if (threshold == null) {
+			return query.flatMapMany(rows);
+		}
+		return Flux.defer(() -> {
+			long start = System.nanoTime();
+			return query.flatMapMany(result -> rows.apply(result).concatWith(result.metaData().doOnNext(metaData -> {
+				long elapsed = System.nanoTime() - start;
+				if (elapsed >= threshold.toNanos()) {
+					LOG.warn("slow {} took {}ms: statement: {} parameters: {} {}{}", operation,
+							TimeUnit.NANOSECONDS.toMillis(elapsed), statement, parameterNames(options), metrics(metaData),
+							phases(metaData));
+				}
+			}).then(Mono.empty())));
+		});
+	}
+
+	/**
+	 * Reads the rows of an analytics query, and logs it if it was slow once all of them have been read.
+	 *
+	 * @see #query(String, String, QueryOptions, Mono, Function)
+	 */
+	public <R> Flux<R> analytics(String operation, String statement, AnalyticsOptions options,
+			Mono<ReactiveAnalyticsResult> query, Function<ReactiveAnalyticsResult, Flux<R>> rows) {
+		Duration threshold = this.threshold;
+		if (threshold == null) {
+			return query.flatMapMany(rows);
+		}
+		return Flux.defer(() -> {
+			long start = System.nanoTime();
+			return query.flatMapMany(result -> rows.apply(result).concatWith(result.metaData().doOnNext(metaData -> {
+				long elapsed = System.nanoTime() - start;
+				if (elapsed >= threshold.toNanos()) {
+					AnalyticsMetrics metrics = metaData.metrics();
+					LOG.warn("slow {} took {}ms: statement: {} parameters: {} metrics: elapsed={} execution={} "
+							+ "resultCount={} resultSize={}", operation, TimeUnit.NANOSECONDS.toMillis(elapsed), statement,
+							parameterNames(options), metrics.elapsedTime(), metrics.executionTime(), metrics.resultCount(),
+							metrics.resultSize());
+				}
+			}).then(Mono.empty())));
+		});
+	}
+
+	static List<String> parameterNames(QueryOptions options) {
+		JsonObject params = JsonObject.create();
+		options.build().injectParams(params);
+		return parameterNames(params);
+	}
+
+	static List<String> parameterNames(AnalyticsOptions options) {
+		JsonObject params = JsonObject.create();
+		options.build().injectParams(params);
+		return parameterNames(params);
+	}
+
+	/**
+	 * The names of the named parameters, or {@code $1} to {@code $n} for positional ones, in the request parameters of
+	 * a query.
+	 */
+	private static List<String> parameterNames(JsonObject params) {
+		List<String> names = new ArrayList<>();
+		JsonArray args = params.getArray("args");
+		if (args != null) {
+			for (int i = 1; i <= args.size(); i++) {
+				names.add("$" + i);
+			}
+		}
+		for (String name : params.getNames()) {
+			if (name.startsWith("$")) {
+				names.add(name);
+			}
+		}
+		return names;
+	}
+
+	private static String metrics(QueryMetaData metaData) {
+		return metaData.metrics()
+				.map(metrics -> "metrics: elapsed=" + metrics.elapsedTime() + " execution=" + metrics.executionTime()
+						+ " resultCount=" + metrics.resultCount() + " resultSize=" + metrics.resultSize())
+				.orElse("metrics: none");
+	}
+
+	private static String phases(QueryMetaData metaData) {
+		return metaData.profile().map(profile -> {
+			Object phaseTimes = profile.get("phaseTimes");
+			return " phases: " + (phaseTimes != null ? phaseTimes : profile);
+		}).orElse("");
+	}
+
+}
@@ -0,0 +1,10 @@
+/**
+ * This package contains the Micrometer {@link io.micrometer.observation.Observation} support of the template
+ * operations: the context with the encode, network and decode phases of an operation, the conventions which name and
+ * tag the observations and a handler which turns the phases, document sizes and row counts into meters. The
+ * {@link org.springframework.data.couchbase.observability.SlowOperationReporter} logs the queries slower than a
+ * threshold with the metrics of the server, and the
+ * {@link org.springframework.data.couchbase.observability.MappingProfiler} samples the cost of mapping each entity
+ * class.
+ */
+package org.springframework.data.couchbase.observability;
@@ -17,6 +17,7 @@
 package org.springframework.data.couchbase.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.springframework.data.couchbase.core.CouchbaseOperations;
 import org.springframework.data.couchbase.repository.query.CouchbaseEntityInformation;
@@ -48,6 +49,35 @@ public interface CouchbaseRepository<T, ID> extends PagingAndSortingRepository<T
 	@Override
 	List<T> findAllById(Iterable<ID> iterable);
 
+	/**
+	 * Stream the entities whose id starts with a prefix, in the order of their ids, reading them by key instead of with
+	 * a query on their fields. The stream must be closed when it is not consumed to its end.
+	 *
+	 * @param prefix the prefix of the ids, must not be {@literal null}.
+	 * @return the entities.
+	 */
+	Stream<T> findAllByIdStartingWith(String prefix);
+
+	/**
+	 * Atomically add a delta to the {@link org.springframework.data.couchbase.core.mapping.Counter} property of the
+	 * entity with the given id, without reading it.
+	 *
+	 * @param id the id of the entity, must not be {@literal null}.
+	 * @param delta the value to add, negative to decrement.
+	 * @return the value of the counter after the increment.
+	 */
+	long increment(ID id, long delta);
+
+	/**
+	 * Atomically add a delta to a numeric property of the entity with the given id, without reading it.
+	 *
+	 * @param id the id of the entity, must not be {@literal null}.
+	 * @param path the property path of the counter.
+	 * @param delta the value to add, negative to decrement.
+	 * @return the value of the counter after the increment.
+	 */
+	long increment(ID id, String path, long delta);
+
 	CouchbaseEntityInformation<T, String> getEntityInformation();
 
 	CouchbaseOperations getOperations();
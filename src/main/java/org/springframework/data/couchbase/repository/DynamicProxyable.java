@@ -16,8 +16,6 @@
 
 package org.springframework.data.couchbase.repository;
 
-import java.lang.reflect.Proxy;
-
 import org.springframework.data.couchbase.repository.query.CouchbaseEntityInformation;
 import org.springframework.data.couchbase.repository.support.DynamicInvocationHandler;
 
@@ -38,41 +36,31 @@ public interface DynamicProxyable<REPO> {
 	Object getOperations();
 
 	/**
-	 * Support for Couchbase-specific options, scope and collections The three "with" methods will return a new proxy
-	 * instance with the specified options, scope, or collections set. The setters are called with the corresponding
-	 * options, scope and collection to set the ThreadLocal fields on the CouchbaseOperations of the repository just
-	 * before the call is made to the repository, and called again with 'null' just after the call is made. The repository
-	 * method will fetch those values to use in the call.
+	 * Support for Couchbase-specific options, scope and collections The three "with" methods will return a proxy instance
+	 * with the specified options, scope, or collections set. The proxy passes the options, scope and collection to the
+	 * operations of each call - in the subscriber context for reactive repositories, bound to the calling thread for the
+	 * duration of the call for blocking repositories. Proxies without options are cached per scope and collection.
 	 */
 
 	/**
 	 * @param options - the options to set on the returned repository object
 	 */
-	@SuppressWarnings("unchecked")
 	default REPO withOptions(CommonOptions<?> options) {
-		REPO proxyInstance = (REPO) Proxy.newProxyInstance(this.getClass().getClassLoader(),
-				this.getClass().getInterfaces(), new DynamicInvocationHandler(this, options, null, (String) null));
-		return proxyInstance;
+		return DynamicInvocationHandler.proxy(this, options, null, null);
 	}
 
 	/**
 	 * @param scope - the scope to set on the returned repository object
 	 */
-	@SuppressWarnings("unchecked")
 	default REPO withScope(String scope) {
-		REPO proxyInstance = (REPO) Proxy.newProxyInstance(this.getClass().getClassLoader(),
-				this.getClass().getInterfaces(), new DynamicInvocationHandler<>(this, null, null, scope));
-		return proxyInstance;
+		return DynamicInvocationHandler.proxy(this, null, null, scope);
 	}
 
 	/**
 	 * @param collection - the collection to set on the returned repository object
 	 */
-	@SuppressWarnings("unchecked")
 	default REPO withCollection(String collection) {
-		REPO proxyInstance = (REPO) Proxy.newProxyInstance(this.getClass().getClassLoader(),
-				this.getClass().getInterfaces(), new DynamicInvocationHandler<>(this, null, collection, null));
-		return proxyInstance;
+		return DynamicInvocationHandler.proxy(this, null, collection, null);
 	}
 
 }
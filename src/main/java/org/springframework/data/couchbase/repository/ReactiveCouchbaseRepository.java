@@ -15,6 +15,9 @@
  */
 package org.springframework.data.couchbase.repository;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 import org.springframework.data.couchbase.core.ReactiveCouchbaseOperations;
 import org.springframework.data.couchbase.repository.query.CouchbaseEntityInformation;
 import org.springframework.data.repository.NoRepositoryBean;
@@ -31,6 +34,36 @@ import org.springframework.data.repository.reactive.ReactiveSortingRepository;
 @NoRepositoryBean
 public interface ReactiveCouchbaseRepository<T, ID>
 		extends ReactiveSortingRepository<T, ID>, ReactiveCrudRepository<T, ID> {
+
+	/**
+	 * Get the entities whose id starts with a prefix, in the order of their ids, reading them by key instead of with a
+	 * query on their fields.
+	 *
+	 * @param prefix the prefix of the ids, must not be {@literal null}.
+	 * @return the entities.
+	 */
+	Flux<T> findAllByIdStartingWith(String prefix);
+
+	/**
+	 * Atomically add a delta to the {@link org.springframework.data.couchbase.core.mapping.Counter} property of the
+	 * entity with the given id, without reading it.
+	 *
+	 * @param id the id of the entity, must not be {@literal null}.
+	 * @param delta the value to add, negative to decrement.
+	 * @return the value of the counter after the increment.
+	 */
+	Mono<Long> increment(ID id, long delta);
+
+	/**
+	 * Atomically add a delta to a numeric property of the entity with the given id, without reading it.
+	 *
+	 * @param id the id of the entity, must not be {@literal null}.
+	 * @param path the property path of the counter.
+	 * @param delta the value to add, negative to decrement.
+	 * @return the value of the counter after the increment.
+	 */
+	Mono<Long> increment(ID id, String path, long delta);
+
 	ReactiveCouchbaseOperations getOperations();
 
 	CouchbaseEntityInformation<T, String> getEntityInformation();
@@ -21,6 +21,7 @@ import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation.Ex
 import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation.TerminatingFindByQuery;
 import org.springframework.data.couchbase.core.ExecutableRemoveByQueryOperation.ExecutableRemoveByQuery;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.observability.CouchbaseObservationSupport;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.DeleteExecution;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.PagedExecution;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.SlicedExecution;
@@ -90,8 +91,13 @@ public abstract class AbstractCouchbaseQuery extends AbstractCouchbaseQueryBase<
 		CouchbaseQueryExecution execution = getExecution(accessor,
 				new ResultProcessingConverter<>(processor, getOperations(), getInstantiators()), findOp);
 		// the operation should already have the scope and collection. passing again anyway.
-		return execution.execute(query, processor.getReturnedType().getDomainType(), typeToRead, method.getScope(),
-				method.getCollection());
+		CouchbaseObservationSupport.setRepositoryMethod(method.getQueryMetadata().getRepositoryMethod());
+		try {
+			return execution.execute(query, processor.getReturnedType().getDomainType(), typeToRead, method.getScope(),
+					method.getCollection());
+		} finally {
+			CouchbaseObservationSupport.setRepositoryMethod(null);
+		}
 	}
 
 	/**
@@ -15,16 +15,21 @@
  */
 package org.springframework.data.couchbase.repository.query;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseOperations;
 import org.springframework.data.couchbase.core.ReactiveFindByQueryOperation;
 import org.springframework.data.couchbase.core.ReactiveFindByQueryOperation.ReactiveFindByQuery;
 import org.springframework.data.couchbase.core.ReactiveRemoveByQueryOperation.ReactiveRemoveByQuery;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.observability.CouchbaseObservationSupport;
 import org.springframework.data.couchbase.repository.query.ReactiveCouchbaseQueryExecution.DeleteExecution;
+import org.springframework.data.couchbase.repository.query.ReactiveCouchbaseQueryExecution.PagedExecution;
 import org.springframework.data.couchbase.repository.query.ReactiveCouchbaseQueryExecution.ResultProcessingExecution;
+import org.springframework.data.couchbase.repository.query.ReactiveCouchbaseQueryExecution.SlicedExecution;
 import org.springframework.data.repository.core.EntityMetadata;
-import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
@@ -86,36 +91,52 @@ public abstract class AbstractReactiveCouchbaseQuery extends AbstractCouchbaseQu
 		// query = applyAnnotatedCollationIfPresent(query, accessor); // not yet implemented
 		query = applyQueryMetaAttributesIfPresent(query, typeToRead);
 
-		ReactiveCouchbaseQueryExecution execution = getExecution(accessor,
+		ReactiveCouchbaseQueryExecution execution = getExecution(accessor, typeToRead,
 				new ResultProcessingConverter<>(processor, getOperations(), getInstantiators()), findOp);
-		return execution.execute(query, processor.getReturnedType().getDomainType(), typeToRead, method.getScope(),
-				method.getCollection());
+		Object result = execution.execute(query, processor.getReturnedType().getDomainType(), typeToRead,
+				method.getScope(), method.getCollection());
+		String repositoryMethod = method.getQueryMetadata().getRepositoryMethod();
+		if (result instanceof Mono) {
+			return ((Mono<?>) result)
+					.contextWrite(context -> CouchbaseObservationSupport.putRepositoryMethod(context, repositoryMethod));
+		} else if (result instanceof Flux) {
+			return ((Flux<?>) result)
+					.contextWrite(context -> CouchbaseObservationSupport.putRepositoryMethod(context, repositoryMethod));
+		}
+		return result;
 	}
 
 	/**
 	 * Returns the execution instance to use.
 	 *
 	 * @param accessor must not be {@literal null}.
+	 * @param typeToRead the desired component target type. Can be {@literal null}.
 	 * @param resultProcessing must not be {@literal null}.
 	 * @return
 	 */
-	private ReactiveCouchbaseQueryExecution getExecution(ParameterAccessor accessor,
-			Converter<Object, Object> resultProcessing, ReactiveFindByQuery<?> operation) {
-		return new ResultProcessingExecution(getExecutionToWrap(accessor, operation), resultProcessing);
+	private ReactiveCouchbaseQueryExecution getExecution(ParametersParameterAccessor accessor,
+			@Nullable Class<?> typeToRead, Converter<Object, Object> resultProcessing, ReactiveFindByQuery<?> operation) {
+		return new ResultProcessingExecution(getExecutionToWrap(accessor, typeToRead, operation), resultProcessing);
 	}
 
 	/**
 	 * Returns the execution to wrap
 	 *
 	 * @param accessor must not be {@literal null}.
+	 * @param typeToRead the desired component target type. Can be {@literal null}.
 	 * @param operation must not be {@literal null}.
 	 * @return
 	 */
-	private ReactiveCouchbaseQueryExecution getExecutionToWrap(ParameterAccessor accessor,
-			ReactiveFindByQuery<?> operation) {
+	private ReactiveCouchbaseQueryExecution getExecutionToWrap(ParametersParameterAccessor accessor,
+			@Nullable Class<?> typeToRead, ReactiveFindByQuery<?> operation) {
 
 		if (isDeleteQuery()) {
 			return new DeleteExecution(removeOp);
+		} else if (getQueryMethod().isPageQuery()) {
+			return new PagedExecution(operation, accessor.getPageable(),
+					applyQueryMetaAttributesIfPresent(createCountQuery(accessor), typeToRead));
+		} else if (getQueryMethod().isSliceQuery()) {
+			return new SlicedExecution(operation, accessor.getPageable());
 		} else if (isTailable(getQueryMethod())) {
 			return (q, t, r, s, c) -> operation.as(r).inScope(s).inCollection(c).matching(q.with(accessor.getPageable()))
 					.all(); // s/b tail()
@@ -16,9 +16,11 @@
 
 package org.springframework.data.couchbase.repository.query;
 
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
@@ -43,6 +45,28 @@ public class CouchbasePartTree extends PartTree {
 		return distinctFields;
 	}
 
+	/**
+	 * Whether the tree only matches the id property of the entity for equality (e.g. {@code findProjectedById}), so the
+	 * document can be read by key instead of with a query.
+	 *
+	 * @param tree the tree of the query method.
+	 * @param entity the domain entity.
+	 */
+	static boolean isIdLookup(PartTree tree, CouchbasePersistentEntity<?> entity) {
+		if (tree.isDelete() || tree.isCountProjection() || tree.isExistsProjection() || tree.isDistinct()
+				|| tree.isLimiting() || tree.getSort().isSorted() || entity == null || entity.getIdProperty() == null) {
+			return false;
+		}
+		List<Part> parts = tree.getParts().toList();
+		if (parts.size() != 1) {
+			return false;
+		}
+		Part part = parts.get(0);
+		return part.getType() == Part.Type.SIMPLE_PROPERTY && part.shouldIgnoreCase() == Part.IgnoreCaseType.NEVER
+				&& !part.getProperty().hasNext()
+				&& part.getProperty().getSegment().equals(entity.getIdProperty().getName());
+	}
+
 	private void maybeInitDistinctFields(String methodName, Class<?> domainType) {
 		if (isDistinct()) {
 			Matcher grp = DISTINCT_TEMPLATE.matcher(methodName);
@@ -86,7 +86,8 @@ interface CouchbaseQueryExecution {
 	}
 
 	/**
-	 * {@link CouchbaseQueryExecution} for {@link Slice} query methods.
+	 * {@link CouchbaseQueryExecution} for {@link Slice} query methods. Reads one more row than the page size to tell
+	 * whether there is a next slice.
 	 */
 	final class SlicedExecution implements CouchbaseQueryExecution {
 
@@ -113,9 +114,13 @@ interface CouchbaseQueryExecution {
 			// Adjust limit if page would exceed the overall limit
 			if (overallLimit != 0 && pageable.getOffset() + pageable.getPageSize() > overallLimit) {
 				query.limit((int) (overallLimit - pageable.getOffset()));
+			} else if (pageable.isPaged()) {
+				// one more than the page size, to know if there is a next slice
+				query.limit(pageable.getPageSize() + 1);
 			}
 			List<?> results = matching.all();
-			return new SliceImpl(results, pageable, results != null && !results.isEmpty());
+			boolean hasNext = pageable.isPaged() && results.size() > pageable.getPageSize();
+			return new SliceImpl(hasNext ? results.subList(0, pageable.getPageSize()) : results, pageable, hasNext);
 		}
 	}
 
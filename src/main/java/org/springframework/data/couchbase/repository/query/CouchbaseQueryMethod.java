@@ -17,31 +17,23 @@
 package org.springframework.data.couchbase.repository.query;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.util.Locale;
 
 import org.springframework.core.annotation.AnnotatedElementUtils;
-import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
 import org.springframework.data.couchbase.core.query.Dimensional;
-import org.springframework.data.couchbase.core.query.OptionsBuilder;
 import org.springframework.data.couchbase.core.query.View;
 import org.springframework.data.couchbase.core.query.WithConsistency;
-import org.springframework.data.couchbase.repository.Collection;
 import org.springframework.data.couchbase.repository.Query;
 import org.springframework.data.couchbase.repository.ScanConsistency;
-import org.springframework.data.couchbase.repository.Scope;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.util.ReactiveWrapperConverters;
-import org.springframework.util.StringUtils;
-
-import com.couchbase.client.core.io.CollectionIdentifier;
 
 /**
  * Represents a query method with couchbase extensions, allowing to discover if View-based query or N1QL-based query
@@ -56,12 +48,23 @@ public class CouchbaseQueryMethod extends QueryMethod {
 
 	private final Method method;
 	private final RepositoryMetadata repositoryMetadata;
+	private final CouchbaseQueryMethodMetadata queryMetadata;
 
 	public CouchbaseQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
 			MappingContext<? extends CouchbasePersistentEntity<?>, CouchbasePersistentProperty> mappingContext) {
 		super(method, metadata, factory);
 		this.method = method;
 		this.repositoryMetadata = metadata;
+		this.queryMetadata = CouchbaseQueryMethodMetadata.of(method, metadata);
+	}
+
+	/**
+	 * The annotation-driven settings of the method, resolved when the query method was created.
+	 *
+	 * @return the metadata of the method.
+	 */
+	public CouchbaseQueryMethodMetadata getQueryMetadata() {
+		return queryMetadata;
 	}
 
 	/**
@@ -79,7 +82,7 @@ public class CouchbaseQueryMethod extends QueryMethod {
 	 * @return the n1ql annotation if present.
 	 */
 	public Query getN1qlAnnotation() {
-		return method.getAnnotation(Query.class);
+		return queryMetadata.getN1qlAnnotation();
 	}
 
 	/**
@@ -96,7 +99,7 @@ public class CouchbaseQueryMethod extends QueryMethod {
 	}
 
 	public WithConsistency getConsistencyAnnotation() {
-		return method.getAnnotation(WithConsistency.class);
+		return queryMetadata.getWithConsistency();
 	}
 
 	/**
@@ -114,10 +117,7 @@ public class CouchbaseQueryMethod extends QueryMethod {
 	 * @return the @ScanConsistency annotation
 	 */
 	public ScanConsistency getScanConsistencyAnnotation() {
-		AnnotatedElement[] annotated = new AnnotatedElement[] { method, method.getDeclaringClass(),
-				repositoryMetadata.getRepositoryInterface(), repositoryMetadata.getDomainType() };
-		return OptionsBuilder.annotation(ScanConsistency.class, "query", CollectionIdentifier.DEFAULT_COLLECTION,
-				annotated);
+		return queryMetadata.getScanConsistency();
 	}
 
 	/**
@@ -136,8 +136,7 @@ public class CouchbaseQueryMethod extends QueryMethod {
 	 * @return the query statement if present.
 	 */
 	public String getInlineN1qlQuery() {
-		String query = (String) AnnotationUtils.getValue(getN1qlAnnotation());
-		return StringUtils.hasText(query) ? query : null;
+		return queryMetadata.getInlineN1qlQuery();
 	}
 
 	/**
@@ -184,16 +183,12 @@ public class CouchbaseQueryMethod extends QueryMethod {
 
 	public String getCollection() {
 		// Try the repository method, then the repository class, then the entity class
-		AnnotatedElement[] annotated = new AnnotatedElement[] { method, method.getDeclaringClass(),
-				repositoryMetadata.getRepositoryInterface(), repositoryMetadata.getDomainType() };
-		return OptionsBuilder.annotationString(Collection.class, CollectionIdentifier.DEFAULT_COLLECTION, annotated);
+		return queryMetadata.getCollection();
 	}
 
 	public String getScope() {
 		// Try the repository method, then the repository class, then the entity class
-		AnnotatedElement[] annotated = new AnnotatedElement[] { method, method.getDeclaringClass(),
-				repositoryMetadata.getRepositoryInterface(), repositoryMetadata.getDomainType() };
-		return OptionsBuilder.annotationString(Scope.class, CollectionIdentifier.DEFAULT_SCOPE, annotated);
+		return queryMetadata.getScope();
 	}
 
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.query;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.couchbase.core.query.Meta;
+import org.springframework.data.couchbase.core.query.Meta.MetaKey;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.query.WithConsistency;
+import org.springframework.data.couchbase.repository.Collection;
+import org.springframework.data.couchbase.repository.Options;
+import org.springframework.data.couchbase.repository.Query;
+import org.springframework.data.couchbase.repository.ScanConsistency;
+import org.springframework.data.couchbase.repository.Scope;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import com.couchbase.client.core.io.CollectionIdentifier;
+
+/**
+ * The execution settings of a {@link CouchbaseQueryMethod} which come from annotations on the repository method, the
+ * repository interface or the domain type. They are resolved once, when the query method is created, instead of on
+ * every execution.
+ *
+ * @since 5.0
+ */
+public final class CouchbaseQueryMethodMetadata {
+
+	private final @Nullable String scope;
+	private final @Nullable String collection;
+	private final @Nullable ScanConsistency scanConsistency;
+	private final @Nullable WithConsistency withConsistency;
+	private final @Nullable Query n1qlAnnotation;
+	private final @Nullable String inlineN1qlQuery;
+	private final @Nullable Options options;
+	private final @Nullable Duration timeout;
+	private final String repositoryMethod;
+
+	private CouchbaseQueryMethodMetadata(@Nullable String scope, @Nullable String collection,
+			@Nullable ScanConsistency scanConsistency, @Nullable WithConsistency withConsistency,
+			@Nullable Query n1qlAnnotation, @Nullable Options options, String repositoryMethod) {
+		this.scope = scope;
+		this.collection = collection;
+		this.scanConsistency = scanConsistency;
+		this.withConsistency = withConsistency;
+		this.n1qlAnnotation = n1qlAnnotation;
+		String query = n1qlAnnotation != null ? (String) AnnotationUtils.getValue(n1qlAnnotation) : null;
+		this.inlineN1qlQuery = StringUtils.hasText(query) ? query : null;
+		this.options = options;
+		this.timeout = options != null && options.timeoutMs() > 0 ? Duration.ofMillis(options.timeoutMs()) : null;
+		this.repositoryMethod = repositoryMethod;
+	}
+
+	/**
+	 * Resolves the metadata of a query method. Annotations on the method take precedence over those on the declaring
+	 * class, then the repository interface, then the domain type.
+	 *
+	 * @param method the repository method.
+	 * @param repositoryMetadata the metadata of the repository.
+	 */
+	public static CouchbaseQueryMethodMetadata of(Method method, RepositoryMetadata repositoryMetadata) {
+		AnnotatedElement[] annotated = new AnnotatedElement[] { method, method.getDeclaringClass(),
+				repositoryMetadata.getRepositoryInterface(), repositoryMetadata.getDomainType() };
+		return new CouchbaseQueryMethodMetadata(
+				OptionsBuilder.annotationString(Scope.class, CollectionIdentifier.DEFAULT_SCOPE, annotated),
+				OptionsBuilder.annotationString(Collection.class, CollectionIdentifier.DEFAULT_COLLECTION, annotated),
+				OptionsBuilder.annotation(ScanConsistency.class, "query", CollectionIdentifier.DEFAULT_COLLECTION, annotated),
+				method.getAnnotation(WithConsistency.class), method.getAnnotation(Query.class),
+				OptionsBuilder.annotation(Options.class, "timeoutMs", 0L, annotated),
+				repositoryMetadata.getRepositoryInterface().getSimpleName() + "." + method.getName());
+	}
+
+	/**
+	 * @return the scope from the {@link Scope} annotation, or {@literal null}.
+	 */
+	@Nullable
+	public String getScope() {
+		return scope;
+	}
+
+	/**
+	 * @return the collection from the {@link Collection} annotation, or {@literal null}.
+	 */
+	@Nullable
+	public String getCollection() {
+		return collection;
+	}
+
+	/**
+	 * @return the {@link ScanConsistency} annotation, or {@literal null}.
+	 */
+	@Nullable
+	public ScanConsistency getScanConsistency() {
+		return scanConsistency;
+	}
+
+	/**
+	 * @return the {@link WithConsistency} annotation of the method, or {@literal null}.
+	 */
+	@Nullable
+	public WithConsistency getWithConsistency() {
+		return withConsistency;
+	}
+
+	/**
+	 * @return the {@link Query} annotation of the method, or {@literal null}.
+	 */
+	@Nullable
+	public Query getN1qlAnnotation() {
+		return n1qlAnnotation;
+	}
+
+	/**
+	 * @return the statement of the {@link Query} annotation of the method, or {@literal null}.
+	 */
+	@Nullable
+	public String getInlineN1qlQuery() {
+		return inlineN1qlQuery;
+	}
+
+	/**
+	 * @return the {@link Options} annotation with a timeout, or {@literal null}.
+	 */
+	@Nullable
+	public Options getOptions() {
+		return options;
+	}
+
+	/**
+	 * @return the timeout from the {@link Options} annotation, or {@literal null}.
+	 */
+	@Nullable
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * @return the name of the method with the simple name of the repository interface, which tags the observations of
+	 *         its executions.
+	 */
+	public String getRepositoryMethod() {
+		return repositoryMethod;
+	}
+
+	/**
+	 * @return a new {@link Meta} for an execution of the query method.
+	 */
+	public Meta createMeta() {
+		Meta meta = new Meta();
+		// Scope and Collection annotations are handled in PseudArgs
+		// this would include a ScanConsistency in a composed annotation as well.
+		meta.set(MetaKey.SCAN_CONSISTENCY, scanConsistency);
+		if (timeout != null) {
+			meta.set(MetaKey.TIMEOUT, timeout);
+		}
+		return meta;
+	}
+
+	@Override
+	public String toString() {
+		return "CouchbaseQueryMethodMetadata{" + "scope=" + scope + ", collection=" + collection + ", scanConsistency="
+				+ scanConsistency + ", withConsistency=" + withConsistency + ", inlineN1qlQuery=" + inlineN1qlQuery
+				+ ", timeout=" + timeout + '}';
+	}
+
+}
@@ -32,6 +32,10 @@ import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.core.query.QueryCriteria;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Point;
+import org.springframework.data.geo.Shape;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
@@ -128,9 +132,6 @@ public class N1qlQueryCreator extends AbstractQueryCreator<Query, QueryCriteria>
 			final Iterator<Object> parameters) {
 
 		final Part.Type type = part.getType();
-		/*
-		    NEAR(new String[]{"IsNear", "Near"}),
-		 */
 		switch (type) {
 			case GREATER_THAN:
 			case AFTER:
@@ -159,7 +160,10 @@ public class N1qlQueryCreator extends AbstractQueryCreator<Query, QueryCriteria>
 			case NOT_LIKE:
 				return criteria.notLike(parameters.next());
 			case WITHIN:
-				return criteria.within(parameters.next());
+				Object within = parameters.next();
+				return within instanceof Shape ? criteria.within((Shape) within) : criteria.within(within);
+			case NEAR:
+				return near(criteria, parameters);
 			case IS_NULL:
 				return criteria.isNull(/*parameters.next()*/);
 			case IS_NOT_NULL:
@@ -187,6 +191,24 @@ public class N1qlQueryCreator extends AbstractQueryCreator<Query, QueryCriteria>
 		}
 	}
 
+	/**
+	 * Near takes either a {@link Circle}, or a {@link Point} followed by a {@link Distance}.
+	 */
+	private static QueryCriteria near(QueryCriteria criteria, Iterator<Object> parameters) {
+		Object near = parameters.next();
+		if (near instanceof Circle) {
+			return criteria.within((Circle) near);
+		}
+		if (!(near instanceof Point) || !parameters.hasNext()) {
+			throw new IllegalArgumentException("Near requires a Circle, or a Point and a Distance!");
+		}
+		Object distance = parameters.next();
+		if (!(distance instanceof Distance)) {
+			throw new IllegalArgumentException("Near requires a Circle, or a Point and a Distance!");
+		}
+		return criteria.near((Point) near, (Distance) distance);
+	}
+
 	/**
 	 * Translate meta-fields to META(bucketName).id, cas, expiry.<br>
 	 * If bucketName is null, META().id etc, <br>
@@ -86,6 +86,10 @@ public class N1qlRepositoryQueryExecutor {
 		} else if (queryMethod.isPageQuery()) {
 			Pageable p = accessor.getPageable();
 			return new CouchbaseQueryExecution.PagedExecution(operation, p).execute(query, null, null, scope, collection);
+		} else if (queryMethod.isSliceQuery()) {
+			Pageable p = accessor.getPageable();
+			return new CouchbaseQueryExecution.SlicedExecution(operation, p).execute(query, domainClass, domainClass, scope,
+					collection);
 		} else {
 			return operation.inScope(scope).inCollection(collection).matching(query).oneValue();
 		}
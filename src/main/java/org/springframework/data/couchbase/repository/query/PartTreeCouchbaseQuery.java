@@ -24,8 +24,10 @@ import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
 
 /**
  * {@link RepositoryQuery} implementation for Couchbase. Replaces PartTreeN1qlBasedQuery
@@ -37,6 +39,7 @@ public class PartTreeCouchbaseQuery extends AbstractCouchbaseQuery {
 
 	private final CouchbasePartTree tree;
 	private final CouchbaseConverter converter;
+	private final boolean idLookup;
 
 	/**
 	 * Creates a new {@link PartTreeCouchbaseQuery} from the given {@link QueryMethod} and {@link CouchbaseTemplate}.
@@ -54,6 +57,36 @@ public class PartTreeCouchbaseQuery extends AbstractCouchbaseQuery {
 		ResultProcessor processor = method.getResultProcessor();
 		this.tree = new CouchbasePartTree(method.getName(), processor.getReturnedType().getDomainType());
 		this.converter = operations.getConverter();
+		this.idLookup = !method.isCollectionQuery() && !method.isPageQuery() && !method.isSliceQuery()
+				&& !method.isStreamQuery() && CouchbasePartTree.isIdLookup(tree,
+						converter.getMappingContext().getPersistentEntity(processor.getReturnedType().getDomainType()));
+	}
+
+	/**
+	 * Projections of a single document matched by id are read by key: the whole document for a DTO projection, the
+	 * properties accessed by a closed interface projection. Like with the type predicate of the query, a document of
+	 * another entity type is not returned.
+	 */
+	@Override
+	protected Object doExecute(CouchbaseQueryMethod method, ResultProcessor processor,
+			ParametersParameterAccessor accessor, @Nullable Class<?> typeToRead) {
+		ReturnedType returnedType = processor.getReturnedType();
+		Class<?> domainType = returnedType.getDomainType();
+		Object id = idLookup ? accessor.getBindableValue(0) : null;
+		if (idLookup && typeToRead != null && typeToRead != domainType) {
+			Object found = id == null ? null
+					: getOperations().findById(domainType).as(typeToRead).inScope(method.getScope())
+							.inCollection(method.getCollection()).one(id.toString());
+			return new ResultProcessingConverter<>(processor, getOperations(), getInstantiators()).convert(found);
+		}
+		if (idLookup && typeToRead == null && returnedType.isProjecting() && !returnedType.getInputProperties().isEmpty()) {
+			// closed interface projection: read the properties it accesses and let the processor create the proxy
+			Object found = id == null ? null
+					: getOperations().findById(domainType).project(returnedType.getInputProperties().toArray(new String[0]))
+							.inScope(method.getScope()).inCollection(method.getCollection()).one(id.toString());
+			return processor.processResult(found);
+		}
+		return super.doExecute(method, processor, accessor, typeToRead);
 	}
 
 	/**
@@ -15,9 +15,18 @@
  */
 package org.springframework.data.couchbase.repository.query;
 
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.couchbase.core.ReactiveFindByQueryOperation.ReactiveFindByQuery;
 import org.springframework.data.couchbase.core.ReactiveRemoveByQueryOperation.ReactiveRemoveByQuery;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.util.Assert;
 
 /**
@@ -56,6 +65,65 @@ interface ReactiveCouchbaseQueryExecution {
 
 	}
 
+	/**
+	 * {@link ReactiveCouchbaseQueryExecution} for {@link Slice} query methods. Reads one more row than the page size to
+	 * tell whether there is a next slice, without a count.
+	 */
+	final class SlicedExecution implements ReactiveCouchbaseQueryExecution {
+
+		private final ReactiveFindByQuery<?> operation;
+		private final Pageable pageable;
+
+		public SlicedExecution(ReactiveFindByQuery<?> operation, Pageable pageable) {
+			Assert.notNull(operation, "Find must not be null!");
+			Assert.notNull(pageable, "Pageable must not be null!");
+			this.operation = operation;
+			this.pageable = pageable;
+		}
+
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public Object execute(Query query, Class<?> type, Class<?> returnType, String scope, String collection) {
+			if (pageable.isPaged()) {
+				query.limit(pageable.getPageSize() + 1);
+			}
+			return operation.as(returnType).inScope(scope).inCollection(collection).matching(query).all().collectList()
+					.map(results -> {
+						boolean hasNext = pageable.isPaged() && results.size() > pageable.getPageSize();
+						return new SliceImpl(hasNext ? results.subList(0, pageable.getPageSize()) : results, pageable, hasNext);
+					});
+		}
+	}
+
+	/**
+	 * {@link ReactiveCouchbaseQueryExecution} for pagination queries. The content and the count queries run concurrently.
+	 */
+	final class PagedExecution implements ReactiveCouchbaseQueryExecution {
+
+		private final ReactiveFindByQuery<?> operation;
+		private final Pageable pageable;
+		private final Query countQuery;
+
+		public PagedExecution(ReactiveFindByQuery<?> operation, Pageable pageable, Query countQuery) {
+			Assert.notNull(operation, "Operation must not be null!");
+			Assert.notNull(pageable, "Pageable must not be null!");
+			Assert.notNull(countQuery, "Count query must not be null!");
+			this.operation = operation;
+			this.pageable = pageable;
+			this.countQuery = countQuery;
+		}
+
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public Object execute(Query query, Class<?> type, Class<?> returnType, String scope, String collection) {
+			Mono<? extends List<?>> content = operation.as(returnType).inScope(scope).inCollection(collection)
+					.matching(query).all().collectList();
+			Mono<Long> count = operation.inScope(scope).inCollection(collection)
+					.matching(countQuery.skip(-1).limit(-1).withoutSort()).count();
+			return Mono.zip(content, count).map(t -> new PageImpl(t.getT1(), pageable, t.getT2()));
+		}
+	}
+
 	/**
 	 * An {@link ReactiveCouchbaseQueryExecution} that wraps the results of the given delegate with the given result
 	 * processing.
@@ -19,7 +19,6 @@ import static org.springframework.data.repository.util.ClassUtils.hasParameterOf
 
 import java.lang.reflect.Method;
 
-import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
 import org.springframework.data.domain.Page;
@@ -33,7 +32,6 @@ import org.springframework.data.repository.util.ReactiveWrappers;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.Lazy;
 import org.springframework.data.util.TypeInformation;
-import org.springframework.util.ClassUtils;
 
 /**
  * Reactive specific implementation of {@link CouchbaseQueryMethod}.
@@ -71,13 +69,7 @@ public class ReactiveCouchbaseQueryMethod extends CouchbaseQueryMethod {
 					&& (PAGE_TYPE.isAssignableFrom(returnType.getRequiredComponentType())
 							|| SLICE_TYPE.isAssignableFrom(returnType.getRequiredComponentType()));
 
-			if (singleWrapperWithWrappedPageableResult) {
-				throw new InvalidDataAccessApiUsageException(
-						String.format("'%s.%s' must not use sliced or paged execution. Please use Flux.buffer(size, skip).",
-								ClassUtils.getShortName(method.getDeclaringClass()), method.getName()));
-			}
-
-			if (!multiWrapper) {
+			if (!multiWrapper && !singleWrapperWithWrappedPageableResult) {
 				throw new IllegalStateException(String.format(
 						"Method has to use a either multi-item reactive wrapper return type or a wrapped Page/Slice type. Offending method: %s",
 						method.toString()));
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.couchbase.repository.query;
 
+import reactor.core.publisher.Mono;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.couchbase.core.CouchbaseTemplate;
@@ -25,8 +27,11 @@ import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
 
 /**
  * Reactive PartTree {@link RepositoryQuery} implementation for Couchbase. Replaces ReactivePartN1qlBasedQuery
@@ -38,6 +43,7 @@ public class ReactivePartTreeCouchbaseQuery extends AbstractReactiveCouchbaseQue
 
 	private final PartTree tree;
 	private final CouchbaseConverter converter;
+	private final boolean idLookup;
 	private static final Logger LOG = LoggerFactory.getLogger(ReactivePartTreeCouchbaseQuery.class);
 
 	/**
@@ -55,6 +61,36 @@ public class ReactivePartTreeCouchbaseQuery extends AbstractReactiveCouchbaseQue
 		super(method, operations, expressionParser, evaluationContextProvider);
 		this.tree = new PartTree(method.getName(), method.getResultProcessor().getReturnedType().getDomainType());
 		this.converter = operations.getConverter();
+		this.idLookup = !method.isCollectionQuery() && !method.isPageQuery() && !method.isSliceQuery()
+				&& !method.isStreamQuery() && CouchbasePartTree.isIdLookup(tree, converter.getMappingContext()
+						.getPersistentEntity(method.getResultProcessor().getReturnedType().getDomainType()));
+	}
+
+	/**
+	 * Projections of a single document matched by id are read by key: the whole document for a DTO projection, the
+	 * properties accessed by a closed interface projection. Like with the type predicate of the query, a document of
+	 * another entity type is not returned.
+	 */
+	@Override
+	protected Object doExecute(CouchbaseQueryMethod method, ResultProcessor processor,
+			ParametersParameterAccessor accessor, @Nullable Class<?> typeToRead) {
+		ReturnedType returnedType = processor.getReturnedType();
+		Class<?> domainType = returnedType.getDomainType();
+		Object id = idLookup ? accessor.getBindableValue(0) : null;
+		if (idLookup && typeToRead != null && typeToRead != domainType) {
+			Mono<?> found = id == null ? Mono.empty()
+					: getOperations().findById(domainType).as(typeToRead).inScope(method.getScope())
+							.inCollection(method.getCollection()).one(id.toString());
+			return new ResultProcessingConverter<>(processor, getOperations(), getInstantiators()).convert(found);
+		}
+		if (idLookup && typeToRead == null && returnedType.isProjecting() && !returnedType.getInputProperties().isEmpty()) {
+			// closed interface projection: read the properties it accesses and let the processor create the proxy
+			Mono<?> found = id == null ? Mono.empty()
+					: getOperations().findById(domainType).project(returnedType.getInputProperties().toArray(new String[0]))
+							.inScope(method.getScope()).inCollection(method.getCollection()).one(id.toString());
+			return found.map(processor::processResult);
+		}
+		return super.doExecute(method, processor, accessor, typeToRead);
 	}
 
 	/**
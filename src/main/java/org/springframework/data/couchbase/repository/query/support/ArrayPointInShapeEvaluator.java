@@ -0,0 +1,169 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.query.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Point;
+import org.springframework.data.geo.Polygon;
+
+/**
+ * A {@link PointInShapeEvaluator} which evaluates many points at once over primitive arrays of their coordinates.
+ * The loops over the points have no branches nor allocations, so that the JIT compiler can unroll and vectorize them.
+ * {@link #removeFalsePositives(Collection, Converter, Polygon) removeFalsePositives} extracts the coordinates of all
+ * the values first, then evaluates them in one pass per edge of the polygon.
+ *
+ * @since 5.0
+ */
+public class ArrayPointInShapeEvaluator extends PointInShapeEvaluator {
+
+	/**
+	 * Determine which points are contained by a polygon, the points being given by their coordinates.
+	 *
+	 * @param xs the x coordinates of the points.
+	 * @param ys the y coordinates of the points, as many as x coordinates.
+	 * @param polygon the polygon, not necessarily closed.
+	 * @return for each point, whether the polygon contains it.
+	 */
+	public boolean[] pointsInPolygon(double[] xs, double[] ys, Point... polygon) {
+		checkCoordinates(xs, ys);
+		if (polygon == null)
+			throw new NullPointerException("Polygon must at least contain 3 points");
+		if (polygon.length < 3)
+			throw new IllegalArgumentException("Polygon must at least contain 3 points");
+		int n = xs.length;
+		boolean[] inside = new boolean[n];
+		for (int e = 0; e < polygon.length; e++) {
+			double x1 = polygon[e].getX();
+			double y1 = polygon[e].getY();
+			double x2 = polygon[(e + 1) % polygon.length].getX();
+			double y2 = polygon[(e + 1) % polygon.length].getY();
+			if (y1 == y2) {
+				continue; // a horizontal edge is never crossed
+			}
+			double slope = (x2 - x1) / (y2 - y1);
+			for (int i = 0; i < n; i++) {
+				// the ray from the point towards +x crosses the edge
+				inside[i] ^= (y1 > ys[i]) != (y2 > ys[i]) & xs[i] < slope * (ys[i] - y1) + x1;
+			}
+		}
+		return inside;
+	}
+
+	/**
+	 * Determine which points are contained by a circle, the points being given by their coordinates.
+	 *
+	 * @param xs the x coordinates of the points.
+	 * @param ys the y coordinates of the points, as many as x coordinates.
+	 * @param center the center of the circle.
+	 * @param radius the radius of the circle.
+	 * @return for each point, whether the circle contains it.
+	 */
+	public boolean[] pointsInCircle(double[] xs, double[] ys, Point center, Distance radius) {
+		checkCoordinates(xs, ys);
+		double cx = center.getX();
+		double cy = center.getY();
+		double r = radius.getNormalizedValue();
+		double r2 = r * r;
+		int n = xs.length;
+		boolean[] inside = new boolean[n];
+		for (int i = 0; i < n; i++) {
+			double dx = xs[i] - cx;
+			double dy = ys[i] - cy;
+			inside[i] = dx * dx + dy * dy <= r2;
+		}
+		return inside;
+	}
+
+	@Override
+	public boolean pointInPolygon(Point p, Polygon polygon) {
+		return pointInPolygon(p, polygon.getPoints().toArray(new Point[0]));
+	}
+
+	@Override
+	public boolean pointInPolygon(Point p, Point... points) {
+		return pointsInPolygon(new double[] { p.getX() }, new double[] { p.getY() }, points)[0];
+	}
+
+	@Override
+	public boolean pointInCircle(Point p, Circle c) {
+		return pointInCircle(p, c.getCenter(), c.getRadius());
+	}
+
+	@Override
+	public boolean pointInCircle(Point p, Point center, Distance radius) {
+		return pointsInCircle(new double[] { p.getX() }, new double[] { p.getY() }, center, radius)[0];
+	}
+
+	@Override
+	public <T> List<T> removeFalsePositives(Collection<? extends T> boundingBoxResults,
+			Converter<T, Point> locationExtractor, Polygon polygon) {
+		Point[] points = polygon.getPoints().toArray(new Point[0]);
+		return filter(boundingBoxResults, locationExtractor, (xs, ys) -> pointsInPolygon(xs, ys, points));
+	}
+
+	@Override
+	public <T> List<T> removeFalsePositives(Collection<? extends T> boundingBoxResults,
+			Converter<T, Point> locationExtractor, Circle circle) {
+		return filter(boundingBoxResults, locationExtractor,
+				(xs, ys) -> pointsInCircle(xs, ys, circle.getCenter(), circle.getRadius()));
+	}
+
+	@Override
+	public <T> List<T> removeFalsePositives(Collection<? extends T> boundingBoxResults,
+			Converter<T, Point> locationExtractor, Point... polygon) {
+		return filter(boundingBoxResults, locationExtractor, (xs, ys) -> pointsInPolygon(xs, ys, polygon));
+	}
+
+	@Override
+	public <T> List<T> removeFalsePositives(Collection<? extends T> boundingBoxResults,
+			Converter<T, Point> locationExtractor, Point center, Distance radius) {
+		return filter(boundingBoxResults, locationExtractor, (xs, ys) -> pointsInCircle(xs, ys, center, radius));
+	}
+
+	private static <T> List<T> filter(Collection<? extends T> boundingBoxResults, Converter<T, Point> locationExtractor,
+			BiFunction<double[], double[], boolean[]> evaluator) {
+		List<T> values = new ArrayList<>(boundingBoxResults);
+		double[] xs = new double[values.size()];
+		double[] ys = new double[values.size()];
+		for (int i = 0; i < xs.length; i++) {
+			Point p = locationExtractor.convert(values.get(i));
+			xs[i] = p.getX();
+			ys[i] = p.getY();
+		}
+		boolean[] inside = evaluator.apply(xs, ys);
+		ArrayList<T> result = new ArrayList<>(values.size());
+		for (int i = 0; i < inside.length; i++) {
+			if (inside[i]) {
+				result.add(values.get(i));
+			}
+		}
+		result.trimToSize();
+		return result;
+	}
+
+	private static void checkCoordinates(double[] xs, double[] ys) {
+		if (xs.length != ys.length) {
+			throw new IllegalArgumentException("There must be as many x as y coordinates");
+		}
+	}
+}
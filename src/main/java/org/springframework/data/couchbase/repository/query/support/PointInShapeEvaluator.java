@@ -35,9 +35,14 @@ import org.springframework.data.geo.Polygon;
  * end, {@link #removeFalsePositives(Collection, Converter, Circle) additional methods} that return a {@link List} of
  * objects with false positives removed are also provided. However, these need a {@link Converter Converter&lt;T,
  * Point&gt;} to extract the location attribute that should be tested against the polygon/circle.
+ * <p>
+ * Derived {@code Near} and {@code Within} queries evaluate the shapes exactly in the query service, see
+ * {@link org.springframework.data.couchbase.core.query.QueryCriteria#within(org.springframework.data.geo.Shape)}, so
+ * the evaluators are only a fallback for results which were filtered with a bounding box.
  *
  * @author Simon Baslé
  * @see AwtPointInShapeEvaluator for a simple implementation based on AWT standard library.
+ * @see ArrayPointInShapeEvaluator for an implementation evaluating many points at once.
  */
 public abstract class PointInShapeEvaluator {
 
@@ -15,109 +15,170 @@
  */
 package org.springframework.data.couchbase.repository.support;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
-import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.data.couchbase.core.CouchbaseTemplate;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
 import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.data.couchbase.repository.CouchbaseRepository;
 import org.springframework.data.couchbase.repository.ReactiveCouchbaseRepository;
-import org.springframework.data.couchbase.repository.query.CouchbaseEntityInformation;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import com.couchbase.client.java.CommonOptions;
 
 /**
- * Invocation Handler for scope/collection/options proxy for repositories
+ * Invocation Handler for scope/collection/options proxy for repositories. Calls are dispatched to the target with the
+ * {@link Method} of the repository interface. The scope, collection and options are carried to the operations of the
+ * call in the subscriber context. Reactive repositories write them into it directly. Blocking repositories bind them to
+ * the calling thread for the duration of the call, and each blocking operation copies them into the subscriber context
+ * of the reactive operation it delegates to before it blocks. Proxies without options are cached per target, scope and
+ * collection.
  *
  * @param <T>
  * @author Michael Reiche
  */
 public class DynamicInvocationHandler<T> implements InvocationHandler {
+
+	private static final Map<ProxyKey, Object> PROXIES = new ConcurrentReferenceHashMap<>(16,
+			ConcurrentReferenceHashMap.ReferenceType.SOFT);
+
 	final T target;
-	final Class<?> repositoryClass;
-	// needed only to detect parameters of this type to look for methods with parameter of java.lang.Object
-	final CouchbaseEntityInformation<?, String> entityInformation;
+	final Class<?>[] interfaces;
+	final boolean reactive;
 	final ReactiveCouchbaseTemplate reactiveTemplate;
+	final PseudoArgs<?> pseudoArgs;
 	CommonOptions<?> options;
 	String collection;
-	String scope;;
+	String scope;
 
 	public DynamicInvocationHandler(T target, CommonOptions<?> options, String collection, String scope) {
 		this.target = target;
 		if (target instanceof CouchbaseRepository) {
 			reactiveTemplate = ((CouchbaseTemplate) ((CouchbaseRepository) target).getOperations()).reactive();
-			this.entityInformation = ((CouchbaseRepository<?, String>) target).getEntityInformation();
+			reactive = false;
 		} else if (target instanceof ReactiveCouchbaseRepository) {
 			reactiveTemplate = (ReactiveCouchbaseTemplate) ((ReactiveCouchbaseRepository) target).getOperations();
-			this.entityInformation = ((ReactiveCouchbaseRepository<?, String>) target).getEntityInformation();
+			reactive = true;
 		} else {
 			throw new RuntimeException("Unknown target type: " + target.getClass());
 		}
 		this.options = options;
 		this.collection = collection;
 		this.scope = scope;
-		this.repositoryClass = target.getClass();
+		this.interfaces = target.getClass().getInterfaces();
+		this.pseudoArgs = new PseudoArgs<>(scope, collection, options);
+	}
+
+	/**
+	 * A proxy of the repository with the given options, scope and collection. Proxies without options are created once
+	 * per repository, scope and collection.
+	 *
+	 * @param target the repository
+	 * @param options the options, may be null
+	 * @param collection the collection, may be null
+	 * @param scope the scope, may be null
+	 * @return the proxy
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R> R proxy(Object target, CommonOptions<?> options, String collection, String scope) {
+		if (options != null) {
+			return (R) newProxy(new DynamicInvocationHandler<>(target, options, collection, scope));
+		}
+		return (R) PROXIES.computeIfAbsent(new ProxyKey(target, scope, collection),
+				key -> newProxy(new DynamicInvocationHandler<>(target, null, collection, scope)));
+	}
+
+	private static Object newProxy(DynamicInvocationHandler<?> handler) {
+		return Proxy.newProxyInstance(handler.target.getClass().getClassLoader(), handler.interfaces, handler);
 	}
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
 
-		if ("toString".equals(method.getName())) {
+		if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
 			return "proxy -> target:" + target;
 		}
 		/* Cannot fall-through to use these methods on target, as they will not retain
 		 * the scope, collection and options that may already be set on the proxy
 		 */
 
-		if (method.getName().equals("withOptions")) {
-			return Proxy.newProxyInstance(repositoryClass.getClassLoader(), target.getClass().getInterfaces(),
-					new DynamicInvocationHandler<>(target, (CommonOptions) args[0], collection, scope));
-		}
+		if (method.getParameterCount() == 1) {
+			if (method.getName().equals("withOptions")) {
+				return proxy(target, (CommonOptions<?>) args[0], collection, scope);
+			}
 
-		if (method.getName().equals("withScope")) {
-			return Proxy.newProxyInstance(repositoryClass.getClassLoader(), target.getClass().getInterfaces(),
-					new DynamicInvocationHandler<>(target, options, collection, (String) args[0]));
-		}
+			if (method.getName().equals("withScope")) {
+				return proxy(target, options, collection, (String) args[0]);
+			}
 
-		if (method.getName().equals("withCollection")) {
-			return Proxy.newProxyInstance(repositoryClass.getClassLoader(), target.getClass().getInterfaces(),
-					new DynamicInvocationHandler<>(target, options, (String) args[0], scope));
+			if (method.getName().equals("withCollection")) {
+				return proxy(target, options, (String) args[0], scope);
+			}
 		}
 
-		Class<?>[] paramTypes = null;
-		if (args != null) {
-			// the CouchbaseRepository methods - save(entity) etc - will have a parameter type of Object instead of entityType
-			// so change the paramType to match
-			paramTypes = Arrays.stream(args)
-					.map(o -> o == null ? null : (o.getClass() == entityInformation.getJavaType() ? Object.class : o.getClass()))
-					.toArray(Class<?>[]::new);
-			// the CouchbaseRepository methods - findById(id) etc - will have a parameter type of Object instead of ID
-			if (method.getName().endsWith("ById") && args.length == 1) {
-				paramTypes[0] = Object.class;
+		if (reactive) {
+			Object result = invokeTarget(method, args);
+			if (result instanceof Mono) {
+				return ((Mono<?>) result).contextWrite(context -> PseudoArgs.putInContext(context, pseudoArgs));
+			} else if (result instanceof Flux) {
+				return ((Flux<?>) result).contextWrite(context -> PseudoArgs.putInContext(context, pseudoArgs));
 			}
+			return result;
 		}
 
-		Method theMethod = repositoryClass.getMethod(method.getName(), paramTypes);
-		Object result;
+		PseudoArgs<?> previous = reactiveTemplate.getPseudoArgs();
+		reactiveTemplate.setPseudoArgs(pseudoArgs);
+		try {
+			return invokeTarget(method, args);
+		} finally {
+			reactiveTemplate.setPseudoArgs(previous);
+		}
+	}
 
+	private Object invokeTarget(Method method, Object[] args) throws Throwable {
 		try {
-			setThreadLocal();
-			result = theMethod.invoke(target, args);
+			return method.invoke(target, args);
 		} catch (InvocationTargetException ite) {
 			throw ite.getCause();
 		}
-		return result;
 	}
 
-	private void setThreadLocal() {
-		if (reactiveTemplate.getPseudoArgs() != null) {
-			throw new RuntimeException("pseudoArgs not yet consumed by previous caller");
+	private static class ProxyKey {
+
+		private final Object target;
+		private final String scope;
+		private final String collection;
+
+		ProxyKey(Object target, String scope, String collection) {
+			this.target = target;
+			this.scope = scope;
+			this.collection = collection;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof ProxyKey)) {
+				return false;
+			}
+			ProxyKey that = (ProxyKey) o;
+			return target == that.target && Objects.equals(scope, that.scope) && Objects.equals(collection, that.collection);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * System.identityHashCode(target) + Objects.hashCode(scope)) + Objects.hashCode(collection);
 		}
-		reactiveTemplate.setPseudoArgs(new PseudoArgs(this.scope, this.collection, this.options));
 	}
 
 }
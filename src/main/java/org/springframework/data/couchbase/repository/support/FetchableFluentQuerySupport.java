@@ -15,6 +15,8 @@
  */
 package org.springframework.data.couchbase.repository.support;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -22,6 +24,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.util.Assert;
 
 /**
  * Querydsl fluent api
@@ -45,6 +48,38 @@ abstract class FetchableFluentQuerySupport<P, T> implements FluentQuery.Fetchabl
 	protected abstract <R> FetchableFluentQuerySupport<P, R> create(P predicate, Sort sort, Class<R> resultType,
 			List<String> fieldsToInclude);
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery#sortBy(org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public FetchableFluentQuerySupport<P, T> sortBy(Sort sort) {
+		Assert.notNull(sort, "Sort must not be null!");
+		return create(predicate, this.sort.and(sort), resultType, fieldsToInclude);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery#as(java.lang.Class)
+	 */
+	@Override
+	public <R> FetchableFluentQuerySupport<P, R> as(Class<R> resultType) {
+		Assert.notNull(resultType, "Projection target type must not be null!");
+		return create(predicate, sort, resultType, fieldsToInclude);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery#project(java.util.Collection)
+	 */
+	@Override
+	public FetchableFluentQuerySupport<P, T> project(Collection<String> properties) {
+		Assert.notNull(properties, "Projection properties must not be null!");
+		List<String> fields = new ArrayList<>(fieldsToInclude);
+		fields.addAll(properties);
+		return create(predicate, sort, resultType, fields);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery#oneValue()
@@ -69,8 +104,11 @@ abstract class FetchableFluentQuerySupport<P, T> implements FluentQuery.Fetchabl
 	 */
 	public abstract Page<T> page(Pageable pageable);
 
-	/*
-	 * (non-Javadoc)
+	/**
+	 * Streams the results incrementally: rows are requested from the query result in bounded batches and converted, with
+	 * the projection applied, one at a time while the stream is consumed. The stream must be closed, which cancels the
+	 * query if it was not read to the end.
+	 *
 	 * @see org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery#stream()
 	 */
 	public abstract Stream<T> stream();
@@ -15,7 +15,6 @@
  */
 package org.springframework.data.couchbase.repository.support;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -166,7 +165,7 @@ public class QuerydslCouchbasePredicateExecutor<T> extends QuerydslPredicateExec
 	@Override
 	public boolean exists(Predicate predicate) {
 		Assert.notNull(predicate, "Predicate must not be null!");
-		return createQueryFor(predicate).fetchCount() > 0;
+		return createQueryFor(predicate).exists();
 	}
 
 	/*
@@ -251,21 +250,6 @@ public class QuerydslCouchbasePredicateExecutor<T> extends QuerydslPredicateExec
 			return new FluentQuerydsl<>(predicate, sort, resultType, fieldsToInclude);
 		}
 
-		@Override
-		public FetchableFluentQuery sortBy(Sort sort) {
-			return null;
-		}
-
-		@Override
-		public FetchableFluentQuery project(Collection properties) {
-			return null;
-		}
-
-		@Override
-		public FetchableFluentQuery as(Class resultType) {
-			return null;
-		}
-
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery#oneValue()
@@ -329,12 +313,12 @@ public class QuerydslCouchbasePredicateExecutor<T> extends QuerydslPredicateExec
 		 */
 		@Override
 		public boolean exists() {
-			return count() > 0;
+			return createQuery().exists();
 		}
 
 		private SpringDataCouchbaseQuery<T> createQuery() {
 			return new SpringDataCouchbaseQuery<>(couchbaseOperations, typeInformation().getJavaType(), getResultType(),
-					"collection", this::customize).where(getPredicate());
+					null, this::customize).where(getPredicate());
 		}
 
 		private void customize(BasicQuery query) {
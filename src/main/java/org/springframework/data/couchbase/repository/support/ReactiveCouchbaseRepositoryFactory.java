@@ -15,6 +15,8 @@
  */
 package org.springframework.data.couchbase.repository.support;
 
+import static org.springframework.data.querydsl.QuerydslUtils.QUERY_DSL_PRESENT;
+
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.Optional;
@@ -29,10 +31,12 @@ import org.springframework.data.couchbase.repository.query.ReactivePartTreeCouch
 import org.springframework.data.couchbase.repository.query.ReactiveStringBasedCouchbaseQuery;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.querydsl.ReactiveQuerydslPredicateExecutor;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.core.support.RepositoryComposition;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
@@ -130,6 +134,41 @@ public class ReactiveCouchbaseRepositoryFactory extends ReactiveRepositoryFactor
 		return SimpleReactiveCouchbaseRepository.class;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryFragments(org.springframework.data.repository.core.RepositoryMetadata)
+	 */
+	@Override
+	protected RepositoryComposition.RepositoryFragments getRepositoryFragments(RepositoryMetadata metadata) {
+		return getRepositoryFragments(metadata,
+				couchbaseOperationsMapping.resolve(metadata.getRepositoryInterface(), metadata.getDomainType()));
+	}
+
+	/**
+	 * Creates {@link RepositoryComposition.RepositoryFragments} based on {@link RepositoryMetadata} to add
+	 * Couchbase-specific extensions. Typically adds a {@link ReactiveQuerydslCouchbasePredicateExecutor} if the
+	 * repository interface uses Querydsl.
+	 * <p>
+	 * Can be overridden by subclasses to customize {@link RepositoryComposition.RepositoryFragments}.
+	 *
+	 * @param metadata repository metadata.
+	 * @param operations the reactive Couchbase operations manager.
+	 * @return
+	 */
+	protected RepositoryComposition.RepositoryFragments getRepositoryFragments(RepositoryMetadata metadata,
+			ReactiveCouchbaseOperations operations) {
+
+		boolean isQueryDslRepository = QUERY_DSL_PRESENT
+				&& ReactiveQuerydslPredicateExecutor.class.isAssignableFrom(metadata.getRepositoryInterface());
+
+		if (isQueryDslRepository) {
+			return RepositoryComposition.RepositoryFragments.just(
+					new ReactiveQuerydslCouchbasePredicateExecutor<>(getEntityInformation(metadata.getDomainType()), operations));
+		}
+
+		return RepositoryComposition.RepositoryFragments.empty();
+	}
+
 	@Override
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(QueryLookupStrategy.Key key,
 			QueryMethodEvaluationContextProvider contextProvider) {
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.support;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.couchbase.core.ReactiveCouchbaseOperations;
+import org.springframework.data.couchbase.repository.query.CouchbaseEntityInformation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.querydsl.EntityPathResolver;
+import org.springframework.data.querydsl.ReactiveQuerydslPredicateExecutor;
+import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.util.Assert;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+
+/**
+ * Couchbase-specific {@link ReactiveQuerydslPredicateExecutor} that allows execution {@link Predicate}s in various
+ * forms with {@link org.springframework.data.couchbase.core.ReactiveFindByQueryOperation}. Pages are counted
+ * concurrently with the query of their content, and {@link #exists(Predicate)} only asks for the first match.
+ *
+ * @since 5.0
+ */
+public class ReactiveQuerydslCouchbasePredicateExecutor<T> extends QuerydslPredicateExecutorSupport<T>
+		implements ReactiveQuerydslPredicateExecutor<T> {
+
+	private final ReactiveCouchbaseOperations couchbaseOperations;
+
+	/**
+	 * Creates a new {@link ReactiveQuerydslCouchbasePredicateExecutor} for the given {@link CouchbaseEntityInformation}
+	 * and {@link ReactiveCouchbaseOperations}. Uses the {@link SimpleEntityPathResolver} to create an {@link EntityPath}
+	 * for the given domain class.
+	 *
+	 * @param entityInformation must not be {@literal null}.
+	 * @param couchbaseOperations must not be {@literal null}.
+	 */
+	public ReactiveQuerydslCouchbasePredicateExecutor(CouchbaseEntityInformation<T, ?> entityInformation,
+			ReactiveCouchbaseOperations couchbaseOperations) {
+		this(entityInformation, couchbaseOperations, SimpleEntityPathResolver.INSTANCE);
+	}
+
+	/**
+	 * Creates a new {@link ReactiveQuerydslCouchbasePredicateExecutor} for the given {@link CouchbaseEntityInformation},
+	 * {@link ReactiveCouchbaseOperations} and {@link EntityPathResolver}.
+	 *
+	 * @param entityInformation must not be {@literal null}.
+	 * @param couchbaseOperations must not be {@literal null}.
+	 * @param resolver must not be {@literal null}.
+	 */
+	public ReactiveQuerydslCouchbasePredicateExecutor(CouchbaseEntityInformation<T, ?> entityInformation,
+			ReactiveCouchbaseOperations couchbaseOperations, EntityPathResolver resolver) {
+		super(couchbaseOperations.getConverter(), pathBuilderFor(resolver.createPath(entityInformation.getJavaType())),
+				entityInformation);
+		this.couchbaseOperations = couchbaseOperations;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.querydsl.ReactiveQuerydslPredicateExecutor#findOne(com.querydsl.core.types.Predicate)
+	 */
+	@Override
+	public Mono<T> findOne(Predicate predicate) {
+		Assert.notNull(predicate, "Predicate must not be null!");
+		return fetchOne(createQueryFor(predicate));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.querydsl.ReactiveQuerydslPredicateExecutor#findAll(com.querydsl.core.types.Predicate)
+	 */
+	@Override
+	public Flux<T> findAll(Predicate predicate) {
+		Assert.notNull(predicate, "Predicate must not be null!");
+		return createQueryFor(predicate).fetch();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.querydsl.ReactiveQuerydslPredicateExecutor#findAll(com.querydsl.core.types.Predicate, com.querydsl.core.types.OrderSpecifier<?>[])
+	 */
+	@Override
+	public Flux<T> findAll(Predicate predicate, OrderSpecifier<?>... orders) {
+		Assert.notNull(predicate, "Predicate must not be null!");
+		Assert.notNull(orders, "Order specifiers must not be null!");
+		return createQueryFor(predicate).orderBy(orders).fetch();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.querydsl.ReactiveQuerydslPredicateExecutor#findAll(com.querydsl.core.types.Predicate, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public Flux<T> findAll(Predicate predicate, Sort sort) {
+		Assert.notNull(predicate, "Predicate must not be null!");
+		Assert.notNull(sort, "Sort must not be null!");
+		return applySorting(createQueryFor(predicate), sort).fetch();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.querydsl.ReactiveQuerydslPredicateExecutor#findAll(com.querydsl.core.types.OrderSpecifier[])
+	 */
+	@Override
+	public Flux<T> findAll(OrderSpecifier<?>... orders) {
+		Assert.notNull(orders, "Order specifiers must not be null!");
+		return createQuery().orderBy(orders).fetch();
+	}
+
+	/**
+	 * Returns a {@link Page} of entities matching the given {@link Predicate}. The matching entities are counted
+	 * concurrently with the query of the page.
+	 *
+	 * @param predicate must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return the page.
+	 */
+	public Mono<Page<T>> findAll(Predicate predicate, Pageable pageable) {
+		Assert.notNull(predicate, "Predicate must not be null!");
+		Assert.notNull(pageable, "Pageable must not be null!");
+		return createQueryFor(predicate).fetchPage(pageable);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.querydsl.ReactiveQuerydslPredicateExecutor#count(com.querydsl.core.types.Predicate)
+	 */
+	@Override
+	public Mono<Long> count(Predicate predicate) {
+		Assert.notNull(predicate, "Predicate must not be null!");
+		return createQueryFor(predicate).fetchCount();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.querydsl.ReactiveQuerydslPredicateExecutor#exists(com.querydsl.core.types.Predicate)
+	 */
+	@Override
+	public Mono<Boolean> exists(Predicate predicate) {
+		Assert.notNull(predicate, "Predicate must not be null!");
+		return createQueryFor(predicate).exists();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.querydsl.ReactiveQuerydslPredicateExecutor#findBy(com.querydsl.core.types.Predicate, java.util.function.Function)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <S extends T, R, P extends Publisher<R>> P findBy(Predicate predicate,
+			Function<FluentQuery.ReactiveFluentQuery<S>, P> queryFunction) {
+		Assert.notNull(predicate, "Predicate must not be null!");
+		Assert.notNull(queryFunction, "Query function must not be null!");
+		return queryFunction.apply(new ReactiveFluentQuerydsl<>(predicate, (Class<S>) typeInformation().getJavaType()));
+	}
+
+	/**
+	 * Creates a {@link ReactiveSpringDataCouchbaseQuery} for the given {@link Predicate}.
+	 *
+	 * @param predicate
+	 * @return
+	 */
+	private ReactiveSpringDataCouchbaseQuery<T> createQueryFor(Predicate predicate) {
+		return createQuery().where(predicate);
+	}
+
+	/**
+	 * Creates a {@link ReactiveSpringDataCouchbaseQuery}.
+	 *
+	 * @return
+	 */
+	private ReactiveSpringDataCouchbaseQuery<T> createQuery() {
+		return new ReactiveSpringDataCouchbaseQuery<>(couchbaseOperations, typeInformation().getJavaType());
+	}
+
+	/**
+	 * Applies the given {@link Sort} to the given {@link ReactiveSpringDataCouchbaseQuery}.
+	 *
+	 * @param query
+	 * @param sort
+	 * @return
+	 */
+	private ReactiveSpringDataCouchbaseQuery<T> applySorting(ReactiveSpringDataCouchbaseQuery<T> query, Sort sort) {
+		toOrderSpecifiers(sort).forEach(query::orderBy);
+		return query;
+	}
+
+	private static <T> Mono<T> fetchOne(ReactiveSpringDataCouchbaseQuery<T> query) {
+		return query.fetchOne().onErrorMap(IndexOutOfBoundsException.class,
+				e -> new IncorrectResultSizeDataAccessException(e.getMessage(), 1, e));
+	}
+
+	/**
+	 * {@link org.springframework.data.repository.query.FluentQuery.ReactiveFluentQuery} using Querydsl
+	 * {@link Predicate}.
+	 */
+	class ReactiveFluentQuerydsl<S> implements FluentQuery.ReactiveFluentQuery<S> {
+
+		private final Predicate predicate;
+		private final Sort sort;
+		private final Class<S> resultType;
+		private final List<String> fieldsToInclude;
+
+		ReactiveFluentQuerydsl(Predicate predicate, Class<S> resultType) {
+			this(predicate, Sort.unsorted(), resultType, Collections.emptyList());
+		}
+
+		ReactiveFluentQuerydsl(Predicate predicate, Sort sort, Class<S> resultType, List<String> fieldsToInclude) {
+			this.predicate = predicate;
+			this.sort = sort;
+			this.resultType = resultType;
+			this.fieldsToInclude = fieldsToInclude;
+		}
+
+		@Override
+		public FluentQuery.ReactiveFluentQuery<S> sortBy(Sort sort) {
+			Assert.notNull(sort, "Sort must not be null!");
+			return new ReactiveFluentQuerydsl<>(predicate, this.sort.and(sort), resultType, fieldsToInclude);
+		}
+
+		@Override
+		public <R> FluentQuery.ReactiveFluentQuery<R> as(Class<R> resultType) {
+			Assert.notNull(resultType, "Projection target type must not be null!");
+			return new ReactiveFluentQuerydsl<>(predicate, sort, resultType, fieldsToInclude);
+		}
+
+		@Override
+		public FluentQuery.ReactiveFluentQuery<S> project(Collection<String> properties) {
+			Assert.notNull(properties, "Projection properties must not be null!");
+			List<String> fields = new ArrayList<>(fieldsToInclude);
+			fields.addAll(properties);
+			return new ReactiveFluentQuerydsl<>(predicate, sort, resultType, fields);
+		}
+
+		@Override
+		public Mono<S> one() {
+			return fetchOne(createQuery());
+		}
+
+		@Override
+		public Mono<S> first() {
+			return createQuery().fetchFirst();
+		}
+
+		@Override
+		public Flux<S> all() {
+			return createQuery().fetch();
+		}
+
+		@Override
+		public Mono<Page<S>> page(Pageable pageable) {
+			Assert.notNull(pageable, "Pageable must not be null!");
+			return createQuery().fetchPage(pageable);
+		}
+
+		@Override
+		public Mono<Long> count() {
+			return createQuery().fetchCount();
+		}
+
+		@Override
+		public Mono<Boolean> exists() {
+			return createQuery().exists();
+		}
+
+		private ReactiveSpringDataCouchbaseQuery<S> createQuery() {
+			return new ReactiveSpringDataCouchbaseQuery<S>(couchbaseOperations, typeInformation().getJavaType(), resultType,
+					null, this::customize).where(predicate);
+		}
+
+		private void customize(BasicQuery query) {
+
+			if (!fieldsToInclude.isEmpty()) {
+				Map<String, String> fields = new HashMap<>();
+				fieldsToInclude.forEach(field -> fields.put(field, field));
+				query.setProjectionFields(fields);
+			}
+
+			if (sort.isSorted()) {
+				query.with(sort);
+			}
+		}
+
+	}
+}
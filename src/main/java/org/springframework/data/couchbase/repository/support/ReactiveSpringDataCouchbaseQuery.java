@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.support;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.data.couchbase.core.ReactiveCouchbaseOperations;
+import org.springframework.data.couchbase.core.ReactiveFindByQueryOperation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
+
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.QueryModifiers;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+
+/**
+ * Reactive counterpart of {@link SpringDataCouchbaseQuery}, executing the Querydsl query with
+ * {@link ReactiveFindByQueryOperation}.
+ *
+ * @since 5.0
+ */
+public class ReactiveSpringDataCouchbaseQuery<T>
+		extends SpringDataCouchbaseQuerySupport<ReactiveSpringDataCouchbaseQuery<T>> {
+
+	private final Consumer<BasicQuery> queryCustomizer;
+	private final ReactiveFindByQueryOperation.FindByQueryWithQuery<T> find;
+
+	/**
+	 * Creates a new {@link ReactiveSpringDataCouchbaseQuery}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 */
+	public ReactiveSpringDataCouchbaseQuery(ReactiveCouchbaseOperations operations, Class<? extends T> type) {
+		this(operations, type, type, null, it -> {});
+	}
+
+	/**
+	 * Creates a new {@link ReactiveSpringDataCouchbaseQuery}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param resultType must not be {@literal null}.
+	 * @param collectionName the collection, {@literal null} for the one of the domain type.
+	 * @param queryCustomizer must not be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	ReactiveSpringDataCouchbaseQuery(ReactiveCouchbaseOperations operations, Class<?> domainType,
+			Class<? extends T> resultType, @Nullable String collectionName, Consumer<BasicQuery> queryCustomizer) {
+		super(new SpringDataCouchbaseSerializer(operations.getConverter()));
+		this.queryCustomizer = queryCustomizer;
+		this.find = operations.findByQuery(domainType).as((Class<T>) resultType).inCollection(collectionName);
+	}
+
+	/**
+	 * @return the matching entities.
+	 */
+	public Flux<T> fetch() {
+		return find.matching(createQuery()).all();
+	}
+
+	/**
+	 * Fetch a {@link Page}, counting the matching entities concurrently with the query of the page.
+	 *
+	 * @param pageable must not be {@literal null}.
+	 * @return the page.
+	 */
+	public Mono<Page<T>> fetchPage(Pageable pageable) {
+		Mono<List<T>> content = find.matching(createQuery().with(pageable)).all().collectList();
+		return Mono.zip(content, fetchCount())
+				.map(tuple -> PageableExecutionUtils.getPage(tuple.getT1(), pageable, tuple::getT2));
+	}
+
+	/**
+	 * @return the first matching entity, empty if there is none.
+	 */
+	public Mono<T> fetchFirst() {
+		return find.matching(createQuery()).first();
+	}
+
+	/**
+	 * @return the only matching entity, empty if there is none, an error if there is more than one.
+	 */
+	public Mono<T> fetchOne() {
+		return find.matching(createQuery()).one();
+	}
+
+	/**
+	 * @return the number of matching entities, ignoring the limit and the offset.
+	 */
+	public Mono<Long> fetchCount() {
+		return find.matching(createQuery().skip(-1).limit(-1)).count();
+	}
+
+	/**
+	 * Whether any document matches the query, without counting all of them.
+	 *
+	 * @return true if there is a matching document.
+	 */
+	public Mono<Boolean> exists() {
+		return find.matching(createQuery()).exists();
+	}
+
+	protected org.springframework.data.couchbase.core.query.Query createQuery() {
+
+		QueryMetadata metadata = getQueryMixin().getMetadata();
+
+		return createQuery(createFilter(metadata), metadata.getProjection(), metadata.getModifiers(),
+				metadata.getOrderBy());
+	}
+
+	@Override
+	protected Predicate createFilter(QueryMetadata metadata) {
+		return metadata.getWhere();
+	}
+
+	@Override
+	protected List<Object> getIds(Class<?> var1, Predicate var2) {
+		return null;
+	}
+
+	protected org.springframework.data.couchbase.core.query.Query createQuery(@Nullable Predicate filter,
+			@Nullable Expression<?> projection, QueryModifiers modifiers, List<OrderSpecifier<?>> orderBy) {
+
+		Map<String, String> fields = createProjection(projection);
+		BasicQuery basicQuery = new BasicQuery(createCriteria(filter), fields);
+
+		Integer limit = modifiers.getLimitAsInteger();
+		Integer offset = modifiers.getOffsetAsInteger();
+
+		if (limit != null) {
+			basicQuery.limit(limit);
+		}
+		if (offset != null) {
+			basicQuery.skip(offset);
+		}
+		if (orderBy.size() > 0) {
+			basicQuery.setSort(createSort(orderBy));
+		}
+		queryCustomizer.accept(basicQuery);
+		return basicQuery;
+	}
+
+}
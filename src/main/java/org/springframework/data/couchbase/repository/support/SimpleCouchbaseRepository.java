@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.couchbase.core.CouchbaseOperations;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
@@ -117,6 +118,27 @@ public class SimpleCouchbaseRepository<T, ID> extends CouchbaseRepositoryBase<T,
 		return Streamable.of(all).stream().collect(StreamUtils.toUnmodifiableList());
 	}
 
+	@Override
+	public Stream<T> findAllByIdStartingWith(String prefix) {
+		Assert.notNull(prefix, "The given prefix must not be null!");
+		return operations.scanById(getJavaType()).inScope(getScope()).inCollection(getCollection())
+				.withConsistency(getQueryScanConsistency()).prefix(prefix);
+	}
+
+	@Override
+	public long increment(ID id, long delta) {
+		Assert.notNull(id, "The given id must not be null!");
+		return operations.incrementById(getJavaType()).inScope(getScope()).inCollection(getCollection())
+				.one(id.toString(), delta);
+	}
+
+	@Override
+	public long increment(ID id, String path, long delta) {
+		Assert.notNull(id, "The given id must not be null!");
+		return operations.incrementById(getJavaType()).inScope(getScope()).inCollection(getCollection())
+				.one(id.toString(), path, delta);
+	}
+
 	@Override
 	public boolean existsById(ID id) {
 		Assert.notNull(id, "The given id must not be null!");
@@ -142,6 +142,27 @@ public class SimpleReactiveCouchbaseRepository<T, ID> extends CouchbaseRepositor
 				.all(convertedIds);
 	}
 
+	@Override
+	public Flux<T> findAllByIdStartingWith(String prefix) {
+		Assert.notNull(prefix, "The given prefix must not be null!");
+		return operations.scanById(getJavaType()).inScope(getScope()).inCollection(getCollection())
+				.withConsistency(getQueryScanConsistency()).prefix(prefix);
+	}
+
+	@Override
+	public Mono<Long> increment(ID id, long delta) {
+		Assert.notNull(id, "The given id must not be null!");
+		return operations.incrementById(getJavaType()).inScope(getScope()).inCollection(getCollection())
+				.one(id.toString(), delta);
+	}
+
+	@Override
+	public Mono<Long> increment(ID id, String path, long delta) {
+		Assert.notNull(id, "The given id must not be null!");
+		return operations.incrementById(getJavaType()).inScope(getScope()).inCollection(getCollection())
+				.one(id.toString(), path, delta);
+	}
+
 	@Override
 	public Flux<T> findAllById(Publisher<ID> entityStream) {
 		Assert.notNull(entityStream, "The given entityStream must not be null!");
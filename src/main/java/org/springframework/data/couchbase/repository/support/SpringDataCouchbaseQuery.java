@@ -80,7 +80,7 @@ public class SpringDataCouchbaseQuery<T> extends SpringDataCouchbaseQuerySupport
 	 * @param operations must not be {@literal null}.
 	 * @param domainType must not be {@literal null}.
 	 * @param resultType must not be {@literal null}.
-	 * @param collectionName must not be {@literal null} or empty.
+	 * @param collectionName the collection, {@literal null} for the one of the domain type.
 	 * @since 3.3
 	 */
 	SpringDataCouchbaseQuery(CouchbaseOperations operations, Class<?> domainType, Class<? extends T> resultType,
@@ -228,6 +228,19 @@ public class SpringDataCouchbaseQuery<T> extends SpringDataCouchbaseQuerySupport
 		}
 	}
 
+	/**
+	 * Whether any document matches the query, without counting all of them.
+	 *
+	 * @return true if there is a matching document.
+	 */
+	public boolean exists() {
+		try {
+			return find.matching(createQuery()).exists();
+		} catch (RuntimeException e) {
+			return handleException(e, false);
+		}
+	}
+
 	protected org.springframework.data.couchbase.core.query.Query createQuery() {
 
 		QueryMetadata metadata = getQueryMixin().getMetadata();
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the backoff of {@link CasRetryPolicy}.
+ */
+class CasRetryPolicyTests {
+
+	@Test
+	void backoffIsBoundedByTheDoubledInitialBackoff() {
+		CasRetryPolicy policy = CasRetryPolicy.of(10, Duration.ofMillis(4), Duration.ofSeconds(1));
+		for (int i = 0; i < 100; i++) {
+			assertTrue(policy.backoff(1).compareTo(Duration.ofMillis(4)) <= 0);
+			assertTrue(policy.backoff(3).compareTo(Duration.ofMillis(16)) <= 0);
+			assertTrue(!policy.backoff(3).isNegative());
+		}
+	}
+
+	@Test
+	void backoffIsCappedByTheMaxBackoff() {
+		CasRetryPolicy policy = CasRetryPolicy.of(100, Duration.ofMillis(1), Duration.ofMillis(50));
+		for (int i = 0; i < 100; i++) {
+			assertTrue(policy.backoff(99).compareTo(Duration.ofMillis(50)) <= 0);
+		}
+		assertEquals(Duration.ZERO, CasRetryPolicy.of(3, Duration.ZERO, Duration.ZERO).backoff(2));
+	}
+
+	@Test
+	void rejectsInvalidPolicies() {
+		assertThrows(IllegalArgumentException.class, () -> CasRetryPolicy.of(0, Duration.ZERO, Duration.ZERO));
+		assertThrows(IllegalArgumentException.class,
+				() -> CasRetryPolicy.of(3, Duration.ofMillis(10), Duration.ofMillis(1)));
+		assertThrows(IllegalArgumentException.class, () -> CasRetryPolicy.defaultPolicy().backoff(0));
+	}
+
+}
@@ -38,6 +38,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.couchbase.core.ExecutableFindByIdOperation.ExecutableFindById;
@@ -49,6 +50,7 @@ import org.springframework.data.couchbase.core.support.WithDurability;
 import org.springframework.data.couchbase.core.support.WithExpiry;
 import org.springframework.data.couchbase.domain.Address;
 import org.springframework.data.couchbase.domain.NaiveAuditorAware;
+import org.springframework.data.couchbase.domain.PageViews;
 import org.springframework.data.couchbase.domain.PersonValue;
 import org.springframework.data.couchbase.domain.Submission;
 import org.springframework.data.couchbase.domain.User;
@@ -56,6 +58,7 @@ import org.springframework.data.couchbase.domain.UserAnnotated;
 import org.springframework.data.couchbase.domain.UserAnnotated2;
 import org.springframework.data.couchbase.domain.UserAnnotated3;
 import org.springframework.data.couchbase.domain.UserSubmission;
+import org.springframework.data.couchbase.domain.UserSubmissionProjected;
 import org.springframework.data.couchbase.util.ClusterType;
 import org.springframework.data.couchbase.util.IgnoreWhen;
 import org.springframework.data.couchbase.util.JavaIntegrationTests;
@@ -155,6 +158,39 @@ class CouchbaseTemplateKeyValueIntegrationTests extends JavaIntegrationTests {
 		couchbaseTemplate.removeById(User.class).one(user.getId());
 	}
 
+	@Test
+	void findByIdAsProjection() {
+		UserSubmission user = new UserSubmission();
+		user.setId(UUID.randomUUID().toString());
+		user.setUsername("dave");
+		user.setRoles(Arrays.asList("role1", "role2"));
+		Address address = new Address();
+		address.setStreet("1234 Olcott Street");
+		address.setCity("Santa Clara");
+		user.setAddress(address);
+		user.setSubmissions(
+				Arrays.asList(new Submission(UUID.randomUUID().toString(), user.getId(), "tid", "status", 123)));
+		couchbaseTemplate.upsertById(UserSubmission.class).one(user);
+
+		UserSubmissionProjected projected = couchbaseTemplate.findById(UserSubmission.class)
+				.as(UserSubmissionProjected.class).one(user.getId());
+		assertEquals(user.getId(), projected.getId());
+		assertEquals(user.getUsername(), projected.getUsername());
+		assertEquals(user.getRoles(), projected.getRoles());
+		assertEquals(address, projected.getAddress());
+
+		UserSubmission found = couchbaseTemplate.findById(UserSubmission.class).project("address.street", "username")
+				.one(user.getId());
+		assertEquals(user.getUsername(), found.getUsername());
+		assertEquals(address.getStreet(), found.getAddress().getStreet());
+		assertNull(found.getAddress().getCity(), "city should not have been loaded");
+		assertNull(found.getSubmissions(), "submissions should not have been loaded");
+
+		assertNull(couchbaseTemplate.findById(UserSubmission.class).as(UserSubmissionProjected.class)
+				.one(UUID.randomUUID().toString()));
+		couchbaseTemplate.removeById(UserSubmission.class).one(user.getId());
+	}
+
 	@Test
 	void findProjecting() {
 		User user = new User(UUID.randomUUID().toString(), "firstname", "lastname");
@@ -327,6 +363,57 @@ class CouchbaseTemplateKeyValueIntegrationTests extends JavaIntegrationTests {
 
 	}
 
+	@Test
+	void upsertAndMutateInById() {
+		User user = new User(UUID.randomUUID().toString(), "firstname_upsertAndMutateInById", "lastname");
+		User modified = couchbaseTemplate.upsertById(User.class).one(user);
+
+		User toMutate = new User(modified.getId(), "not written", "other lastname");
+		toMutate.setVersion(modified.getVersion());
+		User mutated = couchbaseTemplate.mutateInById(User.class).withReplacePaths("lastname").withCasProvided()
+				.one(toMutate);
+		assertNotEquals(modified.getVersion(), mutated.getVersion());
+
+		User loaded = couchbaseTemplate.findById(User.class).one(toMutate.getId());
+		assertEquals("firstname_upsertAndMutateInById", loaded.getFirstname());
+		assertEquals("other lastname", loaded.getLastname());
+
+		toMutate.setVersion(modified.getVersion()); // stale cas
+		assertThrows(OptimisticLockingFailureException.class,
+				() -> couchbaseTemplate.mutateInById(User.class).withReplacePaths("lastname").withCasProvided().one(toMutate));
+		assertThrows(IllegalArgumentException.class,
+				() -> couchbaseTemplate.mutateInById(User.class).withReplacePaths("id"));
+
+		couchbaseTemplate.removeById().one(toMutate.getId());
+	}
+
+	@Test
+	void insertAndIncrementById() {
+		PageViews page = couchbaseTemplate.insertById(PageViews.class)
+				.one(new PageViews(UUID.randomUUID().toString(), "title", 5));
+
+		assertEquals(7, couchbaseTemplate.incrementById(PageViews.class).one(page.getId(), 2));
+		// the missing field is created with the delta
+		assertEquals(4, couchbaseTemplate.incrementById(PageViews.class).one(page.getId(), "shares", 4));
+		assertThrows(DataRetrievalFailureException.class,
+				() -> couchbaseTemplate.incrementById(PageViews.class).one(UUID.randomUUID().toString(), 1));
+
+		// the page read before the increments would put back their views
+		page.setTitle("other title");
+		assertThrows(OptimisticLockingFailureException.class,
+				() -> couchbaseTemplate.replaceById(PageViews.class).one(page));
+		assertThrows(IllegalArgumentException.class, () -> couchbaseTemplate.upsertById(PageViews.class).one(page));
+
+		PageViews loaded = couchbaseTemplate.findById(PageViews.class).one(page.getId());
+		assertEquals(7, loaded.getViews());
+		assertEquals(4, loaded.getShares());
+		loaded.setTitle("other title");
+		couchbaseTemplate.replaceById(PageViews.class).one(loaded);
+		assertEquals(7, couchbaseTemplate.findById(PageViews.class).one(page.getId()).getViews());
+
+		couchbaseTemplate.removeById(PageViews.class).one(page.getId());
+	}
+
 	@Test
 	void upsertAndRemoveById() {
 		{
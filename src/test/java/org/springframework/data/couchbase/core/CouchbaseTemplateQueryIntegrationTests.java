@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -135,6 +136,26 @@ class CouchbaseTemplateQueryIntegrationTests extends JavaIntegrationTests {
 		assertEquals(1, foundUsers.size());
 	}
 
+	@Test
+	void scanByIdPrefixSkipsDocumentsOfOtherTypes() {
+		String prefix = "scan::" + UUID.randomUUID() + "::";
+		User user1 = new User(prefix + "1", "user1", "user1");
+		User user2 = new User(prefix + "2", "user2", "user2");
+		Airport airport = new Airport(prefix + "0", "jfk", "kjfk");
+		try {
+			couchbaseTemplate.upsertById(User.class).all(Arrays.asList(user1, user2));
+			couchbaseTemplate.upsertById(Airport.class).one(airport);
+
+			try (Stream<User> users = couchbaseTemplate.scanById(User.class).withConsistency(REQUEST_PLUS).prefix(prefix)) {
+				assertEquals(Arrays.asList(user1.getId(), user2.getId()),
+						users.map(User::getId).collect(Collectors.toList()));
+			}
+		} finally {
+			couchbaseTemplate.removeById().one(airport.getId());
+			couchbaseTemplate.removeByQuery(User.class).withConsistency(REQUEST_PLUS).all();
+		}
+	}
+
 	@Test
 	void findAssessmentDO() {
 		AssessmentDO ado = new AssessmentDO();
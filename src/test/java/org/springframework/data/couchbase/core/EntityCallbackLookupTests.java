@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.event.AfterConvertCallback;
+import org.springframework.data.couchbase.core.mapping.event.AuditingEntityCallback;
+import org.springframework.data.couchbase.core.mapping.event.BeforeConvertCallback;
+
+/**
+ * Unit tests for {@link EntityCallbackLookup}.
+ */
+class EntityCallbackLookupTests {
+
+	@Test
+	void resolvesCallbacksOncePerDomainType() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		StringCallback callback = new StringCallback();
+		beanFactory.registerSingleton("stringCallback", callback);
+		EntityCallbackLookup lookup = new EntityCallbackLookup(beanFactory);
+
+		assertThat(lookup.getCallbacks(BeforeConvertCallback.class, String.class)).containsExactly(callback);
+		assertThat(lookup.getCallbacks(BeforeConvertCallback.class, String.class))
+				.isSameAs(lookup.getCallbacks(BeforeConvertCallback.class, String.class));
+		assertThat(lookup.hasCallbacks(BeforeConvertCallback.class, Integer.class)).isFalse();
+		assertThat(lookup.hasCallbacks(AfterConvertCallback.class, String.class)).isFalse();
+	}
+
+	@Test
+	void findsCallbackDefinitionsRegisteredLater() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("stringCallback", new StringCallback());
+		EntityCallbackLookup lookup = new EntityCallbackLookup(beanFactory);
+		assertThat(lookup.hasCallbacks(BeforeConvertCallback.class, Integer.class)).isFalse();
+
+		beanFactory.registerBeanDefinition("integerCallback", new RootBeanDefinition(IntegerCallback.class));
+
+		assertThat(lookup.getCallbacks(BeforeConvertCallback.class, Integer.class))
+				.containsExactly(beanFactory.getBean("integerCallback"));
+	}
+
+	@Test
+	void findsCallbacksRegisteredLaterAfterClearingTheCache() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("stringCallback", new StringCallback());
+		EntityCallbackLookup lookup = new EntityCallbackLookup(beanFactory);
+		assertThat(lookup.hasCallbacks(BeforeConvertCallback.class, Integer.class)).isFalse();
+
+		IntegerCallback callback = new IntegerCallback();
+		beanFactory.registerSingleton("integerCallback", callback);
+		assertThat(lookup.hasCallbacks(BeforeConvertCallback.class, Integer.class)).as("still cached!").isFalse();
+		lookup.clearCallbackCache();
+
+		assertThat(lookup.getCallbacks(BeforeConvertCallback.class, Integer.class)).containsExactly(callback);
+	}
+
+	@Test
+	void findsCallbacksRegisteredLaterOnContextRefresh() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.getBeanFactory().registerSingleton("stringCallback", new StringCallback());
+		context.refresh();
+		EntityCallbackLookup lookup = EntityCallbackLookup.of(context);
+		assertThat(lookup.hasCallbacks(BeforeConvertCallback.class, Integer.class)).isFalse();
+
+		IntegerCallback callback = new IntegerCallback();
+		context.getBeanFactory().registerSingleton("integerCallback", callback);
+		assertThat(lookup.hasCallbacks(BeforeConvertCallback.class, Integer.class)).as("still cached!").isFalse();
+		GenericApplicationContext child = new GenericApplicationContext(context);
+		child.refresh();
+
+		assertThat(lookup.getCallbacks(BeforeConvertCallback.class, Integer.class)).containsExactly(callback);
+		child.close();
+		context.close();
+	}
+
+	@Test
+	void ignoresTheAfterConvertCallbackOfAuditing() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		AuditingEntityCallback auditing = new AuditingEntityCallback(() -> null);
+		beanFactory.registerSingleton("auditingEntityCallback", auditing);
+		EntityCallbackLookup lookup = new EntityCallbackLookup(beanFactory);
+
+		assertThat(lookup.getCallbacks(BeforeConvertCallback.class, String.class)).containsExactly(auditing);
+		assertThat(lookup.hasCallbacks(AfterConvertCallback.class, String.class)).isFalse();
+		assertThat(auditing.onAfterConvert("a", new CouchbaseDocument(), null)).isEqualTo("a");
+	}
+
+	static class StringCallback implements BeforeConvertCallback<String> {
+		@Override
+		public String onBeforeConvert(String entity, String collection) {
+			return entity;
+		}
+	}
+
+	static class IntegerCallback implements BeforeConvertCallback<Integer> {
+		@Override
+		public Integer onBeforeConvert(Integer entity, String collection) {
+			return entity;
+		}
+	}
+
+}
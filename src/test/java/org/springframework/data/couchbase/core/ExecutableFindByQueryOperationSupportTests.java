@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.data.couchbase.observability.CouchbaseObservationSupport;
+import org.springframework.data.couchbase.observability.SlowOperationReporter;
+
+import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.ReactiveCluster;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.ReactiveQueryResult;
+
+/**
+ * Tests the stream of {@link ExecutableFindByQueryOperationSupport}.
+ */
+class ExecutableFindByQueryOperationSupportTests {
+
+	private static final int ROWS = 10_000;
+
+	@Test
+	void streamsRowsIncrementallyAndCancelsQueryOnClose() {
+		AtomicLong requested = new AtomicLong();
+		AtomicBoolean cancelled = new AtomicBoolean();
+		Flux<JsonObject> rows = Flux.range(0, ROWS)
+				.map(i -> JsonObject.create().put(TemplateUtils.SELECT_ID, "r" + i).put(TemplateUtils.SELECT_CAS, 1L))
+				.doOnRequest(requested::addAndGet).doOnCancel(() -> cancelled.set(true));
+		AtomicInteger decoded = new AtomicInteger();
+		ExecutableFindByQueryOperationSupport operations = new ExecutableFindByQueryOperationSupport(
+				template(rows, decoded));
+
+		try (Stream<Row> stream = operations.findByQuery(Row.class).stream()) {
+			Iterator<Row> iterator = stream.iterator();
+			assertThat(iterator.next().id).isEqualTo("r0");
+			assertThat(iterator.next().id).isEqualTo("r1");
+
+			assertThat(requested.get()).isLessThan(ROWS);
+			assertThat(decoded.get()).isLessThan(ROWS);
+			assertThat(cancelled).isFalse();
+		}
+		assertThat(cancelled).isTrue();
+	}
+
+	private static CouchbaseTemplate template(Flux<JsonObject> rows, AtomicInteger decoded) {
+		MappingCouchbaseConverter converter = new MappingCouchbaseConverter();
+		converter.afterPropertiesSet();
+
+		ReactiveQueryResult result = mock(ReactiveQueryResult.class);
+		when(result.rowsAsObject()).thenReturn(rows);
+		ReactiveCluster cluster = mock(ReactiveCluster.class);
+		when(cluster.query(anyString(), any(QueryOptions.class))).thenReturn(Mono.just(result));
+		Cluster blockingCluster = mock(Cluster.class);
+		when(blockingCluster.reactive()).thenReturn(cluster);
+		CouchbaseClientFactory clientFactory = mock(CouchbaseClientFactory.class);
+		when(clientFactory.getCluster()).thenReturn(blockingCluster);
+
+		ReactiveCouchbaseTemplate reactive = mock(ReactiveCouchbaseTemplate.class);
+		when(reactive.getCouchbaseClientFactory()).thenReturn(clientFactory);
+		when(reactive.getConverter()).thenReturn(converter);
+		when(reactive.getBucketName()).thenReturn("bucket");
+		when(reactive.observations()).thenReturn(CouchbaseObservationSupport.NOOP);
+		when(reactive.slowOperations()).thenReturn(new SlowOperationReporter());
+
+		TemplateSupport support = mock(TemplateSupport.class);
+		when(support.decodeEntity(anyString(), anyString(), anyLong(), eq(Row.class), isNull(), isNull()))
+				.thenAnswer(invocation -> {
+					decoded.incrementAndGet();
+					return new Row(invocation.getArgument(0));
+				});
+		CouchbaseTemplate template = mock(CouchbaseTemplate.class);
+		when(template.reactive()).thenReturn(reactive);
+		when(template.pseudoArgsContext()).thenReturn(PseudoArgs.fromCallingThread(reactive));
+		when(template.support()).thenReturn(support);
+		return template;
+	}
+
+	static class Row {
+		@Id String id;
+
+		Row(String id) {
+			this.id = id;
+		}
+	}
+
+}
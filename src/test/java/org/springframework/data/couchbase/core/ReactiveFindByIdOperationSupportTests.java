@@ -0,0 +1,226 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.data.couchbase.core.ReactiveFindByIdOperationSupport.ReactiveFindByIdSupport;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.Field;
+import org.springframework.data.couchbase.observability.CouchbaseObservationSupport;
+
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.ReactiveCollection;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.kv.GetOptions;
+import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.client.java.kv.LookupInOptions;
+import com.couchbase.client.java.kv.LookupInResult;
+import com.couchbase.client.java.kv.LookupInSpec;
+
+/**
+ * Tests the projections and lookupIn reads of {@link ReactiveFindByIdOperationSupport}.
+ */
+class ReactiveFindByIdOperationSupportTests {
+
+	private static final MappingCouchbaseConverter converter = new MappingCouchbaseConverter();
+
+	static {
+		converter.afterPropertiesSet();
+	}
+
+	private static final List<String> SEVENTEEN_FIELDS = Arrays.asList("f1", "f2", "f3", "f4", "f5", "f6", "f7", "f8",
+			"f9", "f10", "f11", "f12", "f13", "f14", "f15", "f16", "f17");
+
+	private ReactiveCollection collection;
+	private ReactiveTemplateSupport support;
+	private ReactiveCouchbaseTemplate template;
+
+	@BeforeEach
+	void beforeEach() {
+		collection = mock(ReactiveCollection.class);
+		Collection blockingCollection = mock(Collection.class);
+		when(blockingCollection.reactive()).thenReturn(collection);
+		CouchbaseClientFactory clientFactory = mock(CouchbaseClientFactory.class);
+		when(clientFactory.withScope(null)).thenReturn(clientFactory);
+		when(clientFactory.getCollection(null)).thenReturn(blockingCollection);
+		support = mock(ReactiveTemplateSupport.class);
+		when(support.decodeEntity(anyString(), anyString(), anyLong(), any(), any(), any()))
+				.thenAnswer(invocation -> Mono.just(mock(invocation.<Class<?>> getArgument(3))));
+
+		template = mock(ReactiveCouchbaseTemplate.class);
+		when(template.getCouchbaseClientFactory()).thenReturn(clientFactory);
+		when(template.getConverter()).thenReturn(converter);
+		when(template.support()).thenReturn(support);
+		when(template.observations()).thenReturn(CouchbaseObservationSupport.NOOP);
+		when(template.lookupPaths(any(), anyList())).thenAnswer(invocation -> ReactiveFindByIdSupport
+				.lookupPaths(converter, invocation.getArgument(0), invocation.getArgument(1)));
+	}
+
+	@Test
+	void looksUpFieldsOfProjection() {
+		assertThat(ReactiveFindByIdSupport.lookupPaths(converter, Wide.class, Arrays.asList("id", "f1")))
+				.containsExactly("first", converter.getTypeKey());
+		assertThat(ReactiveFindByIdSupport.lookupPaths(converter, Wide.class, SEVENTEEN_FIELDS)).hasSize(18)
+				.contains("first", "f17", converter.getTypeKey()).doesNotContain("id", "f18");
+	}
+
+	@Test
+	void resolvesLookupPathsOncePerTemplate() {
+		ReactiveCouchbaseTemplate template = new ReactiveCouchbaseTemplate(mock(CouchbaseClientFactory.class), converter);
+		List<String> paths = template.lookupPaths(Wide.class, Arrays.asList("f1", "f2"));
+		assertThat(template.lookupPaths(Wide.class, Arrays.asList("f1", "f2"))).isSameAs(paths)
+				.containsExactly("first", "f2", converter.getTypeKey());
+	}
+
+	@Test
+	void readsWholeDocumentForOtherReturnType() {
+		getReturns("{\"" + converter.getTypeKey() + "\":\"" + Wide.class.getName() + "\",\"f18\":\"v\"}");
+
+		WideProjection found = new ReactiveFindByIdOperationSupport(template).findById(Wide.class)
+				.as(WideProjection.class).one("w1").block();
+
+		assertThat(found).isNotNull();
+		verify(collection, never()).lookupIn(anyString(), anyList(), any(LookupInOptions.class));
+		verify(support).decodeEntity(eq("w1"), anyString(), eq(5L), eq(WideProjection.class), any(), any());
+	}
+
+	@Test
+	void readsProjectedFieldsWithLookupIn() {
+		LookupInResult result = mock(LookupInResult.class);
+		when(result.cas()).thenReturn(5L);
+		when(result.exists(anyInt())).thenReturn(true);
+		when(result.contentAs(0, Object.class)).thenReturn("v");
+		when(result.contentAs(1, Object.class)).thenReturn(Wide.class.getName());
+		when(collection.lookupIn(eq("w1"), anyList(), any(LookupInOptions.class))).thenReturn(Mono.just(result));
+
+		Wide found = new ReactiveFindByIdOperationSupport(template).findById(Wide.class).project("f1").one("w1").block();
+
+		assertThat(found).isNotNull();
+		verify(collection, never()).get(anyString(), any(GetOptions.class));
+	}
+
+	@Test
+	void skipsProjectionOfDocumentOfOtherType() {
+		getReturns("{\"" + converter.getTypeKey() + "\":\"" + WideProjection.class.getName() + "\",\"first\":\"v\"}");
+
+		assertThat(new ReactiveFindByIdOperationSupport(template).findById(Wide.class).as(WideProjection.class).one("w1")
+				.block()).isNull();
+		verify(support, never()).decodeEntity(anyString(), anyString(), anyLong(), any(), any(), any());
+	}
+
+	@Test
+	void readsMoreThanSixteenPathsInChunksWithOptionsOfGet() {
+		List<String> paths = ReactiveFindByIdSupport.lookupPaths(converter, Wide.class, SEVENTEEN_FIELDS);
+		ReactiveCollection reactive = mock(ReactiveCollection.class);
+		LookupInResult first = lookupInResult(5, 0);
+		LookupInResult second = lookupInResult(5, 16);
+		when(reactive.lookupIn(eq("w1"), anyList(), any(LookupInOptions.class))).thenReturn(Mono.just(first),
+				Mono.just(second));
+
+		Tuple2<String, Long> read = ReactiveFindByIdSupport
+				.lookupIn(reactive, "w1", paths, GetOptions.getOptions().timeout(Duration.ofSeconds(3))).block();
+
+		ArgumentCaptor<List<LookupInSpec>> specs = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<LookupInOptions> options = ArgumentCaptor.forClass(LookupInOptions.class);
+		verify(reactive, times(2)).lookupIn(eq("w1"), specs.capture(), options.capture());
+		assertThat(specs.getAllValues()).extracting(List::size).containsExactly(16, 2);
+		assertThat(options.getAllValues()).allMatch(o -> o.build().timeout().equals(Optional.of(Duration.ofSeconds(3))));
+		verify(reactive, never()).get(anyString(), any(GetOptions.class));
+
+		assertThat(read.getT2()).isEqualTo(5);
+		JsonObject content = JsonObject.fromJson(read.getT1());
+		for (int i = 0; i < paths.size(); i++) {
+			assertThat(content.getString(paths.get(i))).isEqualTo("v" + i);
+		}
+	}
+
+	@Test
+	void readsWholeDocumentIfChangedBetweenChunks() {
+		List<String> paths = ReactiveFindByIdSupport.lookupPaths(converter, Wide.class, SEVENTEEN_FIELDS);
+		ReactiveCollection reactive = mock(ReactiveCollection.class);
+		LookupInResult first = lookupInResult(5, 0);
+		LookupInResult second = lookupInResult(6, 16);
+		when(reactive.lookupIn(eq("w1"), anyList(), any(LookupInOptions.class))).thenReturn(Mono.just(first),
+				Mono.just(second));
+		GetResult whole = mock(GetResult.class);
+		when(whole.contentAs(String.class)).thenReturn("{\"first\":\"changed\"}");
+		when(whole.cas()).thenReturn(6L);
+		GetOptions getOptions = GetOptions.getOptions();
+		when(reactive.get("w1", getOptions)).thenReturn(Mono.just(whole));
+
+		Tuple2<String, Long> read = ReactiveFindByIdSupport.lookupIn(reactive, "w1", paths, getOptions).block();
+
+		assertThat(read.getT1()).isEqualTo("{\"first\":\"changed\"}");
+		assertThat(read.getT2()).isEqualTo(6);
+	}
+
+	private void getReturns(String content) {
+		GetResult result = mock(GetResult.class);
+		when(result.contentAs(String.class)).thenReturn(content);
+		when(result.cas()).thenReturn(5L);
+		when(collection.get(eq("w1"), any(GetOptions.class))).thenReturn(Mono.just(result));
+	}
+
+	/**
+	 * A result of the given cas whose value at each index is "v" followed by the offset plus the index.
+	 */
+	private static LookupInResult lookupInResult(long cas, int offset) {
+		LookupInResult result = mock(LookupInResult.class);
+		when(result.cas()).thenReturn(cas);
+		when(result.exists(anyInt())).thenReturn(true);
+		when(result.contentAs(anyInt(), eq(Object.class)))
+				.thenAnswer(invocation -> "v" + (offset + invocation.<Integer> getArgument(0)));
+		return result;
+	}
+
+	static class Wide {
+		@Id String id;
+		@Field("first") String f1;
+		String f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18;
+	}
+
+	static class WideProjection {
+		@Id String id;
+		@Field("first") String f1;
+		String f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17;
+	}
+
+}
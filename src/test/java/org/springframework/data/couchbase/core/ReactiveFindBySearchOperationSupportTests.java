@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.data.couchbase.core.ReactiveFindByIdOperation.ReactiveFindById;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.TextScore;
+import org.springframework.data.couchbase.observability.CouchbaseObservationSupport;
+
+import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.ReactiveCluster;
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.search.SearchOptions;
+import com.couchbase.client.java.search.SearchQuery;
+import com.couchbase.client.java.search.result.ReactiveSearchResult;
+import com.couchbase.client.java.search.result.SearchRow;
+
+/**
+ * Tests the hydration and paging of {@link ReactiveFindBySearchOperationSupport}.
+ */
+class ReactiveFindBySearchOperationSupportTests {
+
+	private static final SearchQuery QUERY = SearchQuery.queryString("couchbase");
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	void hydratesHitsInOrderAsDomainTypeWithScore() {
+		ReactiveCluster cluster = mock(ReactiveCluster.class);
+		ReactiveSearchResult result = mock(ReactiveSearchResult.class);
+		when(result.rows()).thenReturn(Flux.just(row("d2", 2.5), row("d3", 2.0), row("d1", 1.5)));
+		when(cluster.searchQuery(eq("idx"), eq(QUERY), any(SearchOptions.class))).thenReturn(Mono.just(result));
+		ReactiveCouchbaseTemplate template = template(cluster);
+
+		ReactiveFindById byId = mock(ReactiveFindById.class, RETURNS_SELF);
+		when(template.findById(Article.class)).thenReturn(byId);
+		// the first hit is read last, the third no longer exists
+		when(byId.one("d2")).thenReturn(Mono.delay(Duration.ofMillis(50)).map(delay -> new Summary("d2")));
+		when(byId.one("d3")).thenReturn(Mono.empty());
+		when(byId.one("d1")).thenReturn(Mono.just(new Summary("d1")));
+
+		List<Summary> found = new ReactiveFindBySearchOperationSupport(template).findBySearch(Article.class)
+				.as(Summary.class).withIndex("idx").matching(QUERY).all().collectList().block();
+
+		assertThat(found).extracting(summary -> summary.id).containsExactly("d2", "d1");
+		assertThat(found).extracting(summary -> summary.score).containsExactly(2.5, 1.5);
+		verify(byId, times(3)).as(Summary.class);
+	}
+
+	@Test
+	void pagesAfterSortValuesWithoutModifyingOptions() {
+		ReactiveCluster cluster = mock(ReactiveCluster.class);
+		ReactiveSearchResult result = mock(ReactiveSearchResult.class);
+		when(result.rows()).thenReturn(Flux.empty());
+		when(cluster.searchQuery(eq("idx"), eq(QUERY), any(SearchOptions.class))).thenReturn(Mono.just(result));
+		ReactiveFindBySearchOperationSupport operations = new ReactiveFindBySearchOperationSupport(template(cluster));
+		SearchOptions options = SearchOptions.searchOptions().limit(10).timeout(Duration.ofSeconds(2));
+
+		operations.findBySearch(Article.class).withIndex("idx").withOptions(options).searchAfter("b", 2).matching(QUERY)
+				.all().collectList().block();
+		operations.findBySearch(Article.class).withIndex("idx").withOptions(options).searchAfter("c", 3).matching(QUERY)
+				.all().collectList().block();
+
+		ArgumentCaptor<SearchOptions> sent = ArgumentCaptor.forClass(SearchOptions.class);
+		verify(cluster, times(2)).searchQuery(eq("idx"), eq(QUERY), sent.capture());
+		JsonObject first = params(sent.getAllValues().get(0));
+		JsonObject second = params(sent.getAllValues().get(1));
+		assertThat(first.getArray("search_after")).isEqualTo(JsonArray.from("b", 2));
+		assertThat(second.getArray("search_after")).isEqualTo(JsonArray.from("c", 3));
+		assertThat(first.getInt("size")).isEqualTo(10);
+		assertThat(sent.getAllValues().get(0).build().timeout()).contains(Duration.ofSeconds(2));
+		assertThat(params(options).containsKey("search_after")).isFalse();
+	}
+
+	private static JsonObject params(SearchOptions options) {
+		JsonObject params = JsonObject.create();
+		options.build().injectParams("idx", params, Duration.ofSeconds(2));
+		return params;
+	}
+
+	private static SearchRow row(String id, double score) {
+		SearchRow row = mock(SearchRow.class);
+		when(row.id()).thenReturn(id);
+		when(row.score()).thenReturn(score);
+		return row;
+	}
+
+	private static ReactiveCouchbaseTemplate template(ReactiveCluster reactiveCluster) {
+		MappingCouchbaseConverter converter = new MappingCouchbaseConverter();
+		converter.afterPropertiesSet();
+		Cluster cluster = mock(Cluster.class);
+		when(cluster.reactive()).thenReturn(reactiveCluster);
+		CouchbaseClientFactory clientFactory = mock(CouchbaseClientFactory.class);
+		when(clientFactory.getCluster()).thenReturn(cluster);
+
+		ReactiveCouchbaseTemplate template = mock(ReactiveCouchbaseTemplate.class);
+		when(template.getCouchbaseClientFactory()).thenReturn(clientFactory);
+		when(template.getConverter()).thenReturn(converter);
+		when(template.observations()).thenReturn(CouchbaseObservationSupport.NOOP);
+		return template;
+	}
+
+	static class Article {
+		@Id String id;
+		String title;
+	}
+
+	static class Summary {
+		@Id String id;
+		@TextScore double score;
+
+		Summary(String id) {
+			this.id = id;
+		}
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.Counter;
+import org.springframework.data.couchbase.core.mapping.Field;
+import org.springframework.data.couchbase.observability.CouchbaseObservationSupport;
+
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.ReactiveCollection;
+import com.couchbase.client.java.kv.Decrement;
+import com.couchbase.client.java.kv.Increment;
+import com.couchbase.client.java.kv.MutateInOptions;
+import com.couchbase.client.java.kv.MutateInResult;
+import com.couchbase.client.java.kv.MutateInSpec;
+import com.couchbase.client.java.kv.UpsertOptions;
+
+/**
+ * Tests the counters of {@link ReactiveIncrementByIdOperationSupport}, and that they are not overwritten by upserts.
+ */
+class ReactiveIncrementByIdOperationSupportTests {
+
+	private ReactiveCollection collection;
+	private ReactiveCouchbaseTemplate template;
+
+	@BeforeEach
+	void beforeEach() {
+		MappingCouchbaseConverter converter = new MappingCouchbaseConverter();
+		converter.afterPropertiesSet();
+		collection = mock(ReactiveCollection.class);
+		Collection blockingCollection = mock(Collection.class);
+		when(blockingCollection.reactive()).thenReturn(collection);
+		CouchbaseClientFactory clientFactory = mock(CouchbaseClientFactory.class);
+		when(clientFactory.withScope(null)).thenReturn(clientFactory);
+		when(clientFactory.getCollection(null)).thenReturn(blockingCollection);
+
+		template = mock(ReactiveCouchbaseTemplate.class);
+		when(template.getCouchbaseClientFactory()).thenReturn(clientFactory);
+		when(template.getConverter()).thenReturn(converter);
+		when(template.observations()).thenReturn(CouchbaseObservationSupport.NOOP);
+		when(template.potentiallyConvertRuntimeException(any(RuntimeException.class)))
+				.thenAnswer(invocation -> invocation.getArgument(0) instanceof DocumentNotFoundException
+						? new DataRetrievalFailureException("not found", invocation.getArgument(0))
+						: invocation.getArgument(0));
+	}
+
+	@Test
+	void incrementsCounterOfExistingDocument() {
+		mutateInReturns(42);
+
+		Long value = new ReactiveIncrementByIdOperationSupport(template).incrementById(Visited.class).one("v1", 2).block();
+
+		assertThat(value).isEqualTo(42);
+		MutateInSpec spec = sentSpec();
+		assertThat(spec).isInstanceOf(Increment.class);
+		assertThat(spec.encode(null, 0).path()).isEqualTo("visits");
+	}
+
+	@Test
+	void failsForMissingDocument() {
+		when(collection.mutateIn(eq("v1"), anyList(), any(MutateInOptions.class)))
+				.thenReturn(Mono.error(new DocumentNotFoundException(null)));
+
+		assertThrows(DataRetrievalFailureException.class,
+				() -> new ReactiveIncrementByIdOperationSupport(template).incrementById(Visited.class).one("v1", 1).block());
+	}
+
+	@Test
+	void decrementsPropertyPathAsStoredFieldPath() {
+		mutateInReturns(7);
+
+		Long value = new ReactiveIncrementByIdOperationSupport(template).incrementById(Visited.class)
+				.one("v1", "stats.views", -2).block();
+
+		assertThat(value).isEqualTo(7);
+		MutateInSpec spec = sentSpec();
+		assertThat(spec).isInstanceOf(Decrement.class);
+		assertThat(spec.encode(null, 0).path()).isEqualTo("s.views");
+	}
+
+	@Test
+	void rejectsDeltaOfZero() {
+		assertThrows(IllegalArgumentException.class,
+				() -> ReactiveIncrementByIdOperationSupport.incrementSpec("visits", 0));
+	}
+
+	@Test
+	void rejectsUpsertOfEntityWithCounter() {
+		Visited visited = new Visited();
+		visited.id = "v1";
+
+		assertThrows(IllegalArgumentException.class,
+				() -> new ReactiveUpsertByIdOperationSupport(template).upsertById(Visited.class).one(visited).block());
+		verify(collection, never()).upsert(any(), any(), any(UpsertOptions.class));
+	}
+
+	private void mutateInReturns(long value) {
+		MutateInResult result = mock(MutateInResult.class);
+		when(result.contentAs(0, Long.class)).thenReturn(value);
+		when(collection.mutateIn(eq("v1"), anyList(), any(MutateInOptions.class))).thenReturn(Mono.just(result));
+	}
+
+	@SuppressWarnings("unchecked")
+	private MutateInSpec sentSpec() {
+		ArgumentCaptor<List<MutateInSpec>> specs = ArgumentCaptor.forClass(List.class);
+		verify(collection).mutateIn(eq("v1"), specs.capture(), any(MutateInOptions.class));
+		assertThat(specs.getValue()).hasSize(1);
+		return specs.getValue().get(0);
+	}
+
+	static class Visited {
+		@Id String id;
+		@Version long version;
+		@Counter long visits;
+		@Field("s") Stats stats;
+	}
+
+	static class Stats {
+		long views;
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.Field;
+
+import com.couchbase.client.java.kv.MutateInSpec;
+import com.couchbase.client.java.kv.Remove;
+import com.couchbase.client.java.kv.Replace;
+import com.couchbase.client.java.kv.Upsert;
+
+/**
+ * Tests the specs of {@link ReactiveMutateInByIdOperationSupport}.
+ */
+class ReactiveMutateInByIdOperationSupportTests {
+
+	private static final MappingCouchbaseConverter converter = new MappingCouchbaseConverter();
+
+	static {
+		converter.afterPropertiesSet();
+	}
+
+	@Test
+	void translatesPropertyPathsToFieldNames() {
+		assertThat(ReactiveMutateInByIdOperationSupport.toFieldPath(converter.getMappingContext(), Partial.class, "name"))
+				.isEqualTo("n");
+		assertThat(ReactiveMutateInByIdOperationSupport.toFieldPath(converter.getMappingContext(), Partial.class, "city"))
+				.isEqualTo("city");
+	}
+
+	@Test
+	void doesNotWriteNullsOfAPartialEntity() {
+		Partial partial = new Partial();
+		partial.id = "p1";
+		partial.name = "Pat";
+		CouchbaseDocument converted = new CouchbaseDocument();
+		converter.write(partial, converted);
+
+		List<MutateInSpec> upserts = ReactiveMutateInByIdOperationSupport.buildSpecs(converted, Arrays.asList("n", "city"),
+				Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+		assertThat(upserts).hasSize(1).allMatch(spec -> spec instanceof Upsert);
+
+		List<MutateInSpec> replaces = ReactiveMutateInByIdOperationSupport.buildSpecs(converted,
+				Collections.emptyList(), Collections.singletonList("city"), Arrays.asList("n", "city"),
+				Collections.emptyList());
+		assertThat(replaces).hasSize(2);
+		assertThat(replaces.get(0)).isInstanceOf(Replace.class);
+		assertThat(replaces.get(1)).isInstanceOf(Remove.class);
+
+		assertThat(ReactiveMutateInByIdOperationSupport.buildSpecs(converted, Collections.singletonList("city"),
+				Collections.emptyList(), Collections.emptyList(), Collections.emptyList())).isEmpty();
+	}
+
+	static class Partial {
+		@Id String id;
+		@Field("n") String name;
+		String city;
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.couchbase.core.ReactiveReplaceByIdOperationSupport.ReactiveReplaceByIdSupport;
+import org.springframework.data.couchbase.core.convert.CouchbaseDocumentSnapshots;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+
+import com.couchbase.client.java.kv.MutateInSpec;
+import com.couchbase.client.java.kv.Remove;
+import com.couchbase.client.java.kv.Upsert;
+
+/**
+ * Tests the sub-document patch {@link ReactiveReplaceByIdOperationSupport} writes instead of a full replace.
+ */
+class ReactiveReplaceByIdOperationSupportTests {
+
+	private static final MappingCouchbaseConverter converter = new MappingCouchbaseConverter();
+
+	static {
+		converter.afterPropertiesSet();
+	}
+
+	@Test
+	void patchesChangedField() {
+		CouchbaseDocumentSnapshots snapshots = read();
+		Tracked tracked = tracked();
+		tracked.city = "Paris";
+		List<MutateInSpec> patch = ReactiveReplaceByIdSupport.buildPatch(snapshots, "my_scope", "my_collection",
+				write(tracked), 7L);
+		assertThat(patch).hasSize(1);
+		assertThat(patch.get(0)).isInstanceOf(Upsert.class);
+	}
+
+	@Test
+	void removesRemovedField() {
+		CouchbaseDocumentSnapshots snapshots = read();
+		Tracked tracked = tracked();
+		tracked.city = null;
+		List<MutateInSpec> patch = ReactiveReplaceByIdSupport.buildPatch(snapshots, "my_scope", "my_collection",
+				write(tracked), 7L);
+		assertThat(patch).hasSize(1);
+		assertThat(patch.get(0)).isInstanceOf(Remove.class);
+	}
+
+	@Test
+	void replacesUnchangedEntity() {
+		CouchbaseDocumentSnapshots snapshots = read();
+		assertThat(ReactiveReplaceByIdSupport.buildPatch(snapshots, "my_scope", "my_collection", write(tracked()), 7L))
+				.isNull();
+	}
+
+	@Test
+	void replacesWithoutSnapshotOfKeyspaceOrCas() {
+		CouchbaseDocumentSnapshots snapshots = read();
+		Tracked tracked = tracked();
+		tracked.city = "Paris";
+		assertThat(ReactiveReplaceByIdSupport.buildPatch(snapshots, "my_scope", "other_collection", write(tracked), 7L))
+				.isNull();
+		assertThat(ReactiveReplaceByIdSupport.buildPatch(snapshots, "my_scope", "my_collection", write(tracked), 8L))
+				.isNull();
+	}
+
+	/**
+	 * Records the snapshot of the document as decoded when read with cas 7, including the version.
+	 */
+	private static CouchbaseDocumentSnapshots read() {
+		CouchbaseDocumentSnapshots snapshots = new CouchbaseDocumentSnapshots();
+		CouchbaseDocument decoded = write(tracked());
+		decoded.put("version", 7L);
+		snapshots.record("my_scope", "my_collection", decoded, 7L, "version");
+		return snapshots;
+	}
+
+	private static CouchbaseDocument write(Tracked tracked) {
+		CouchbaseDocument converted = new CouchbaseDocument();
+		converter.write(tracked, converted);
+		return converted;
+	}
+
+	private static Tracked tracked() {
+		Tracked tracked = new Tracked();
+		tracked.id = "t1";
+		tracked.name = "Pat";
+		tracked.city = "London";
+		tracked.age = 42;
+		tracked.version = 7L;
+		return tracked;
+	}
+
+	static class Tracked {
+		@Id String id;
+		@Version long version;
+		String name;
+		String city;
+		int age;
+	}
+
+}
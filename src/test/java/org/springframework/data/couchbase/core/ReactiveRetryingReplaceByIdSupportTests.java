@@ -0,0 +1,214 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.data.couchbase.core.ReactiveFindByIdOperation.ReactiveFindById;
+import org.springframework.data.couchbase.core.ReactiveReplaceByIdOperation.TerminatingReplaceById;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.data.couchbase.observability.CouchbaseObservationSupport;
+
+import com.couchbase.client.core.error.CasMismatchException;
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.ReactiveCollection;
+import com.couchbase.client.java.kv.MutationResult;
+import com.couchbase.client.java.kv.ReplaceOptions;
+
+/**
+ * Tests the cas retries of {@link ReactiveReplaceByIdOperationSupport}.
+ */
+class ReactiveRetryingReplaceByIdSupportTests {
+
+	private static final CasRetryPolicy POLICY = CasRetryPolicy.of(3, Duration.ZERO, Duration.ZERO);
+
+	private CouchbaseClientFactory clientFactory;
+	private ReactiveCollection collection;
+	private ReactiveFindById<Account> findById;
+	private ReactiveCouchbaseTemplate template;
+	private final AtomicInteger mutations = new AtomicInteger();
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void beforeEach() {
+		MappingCouchbaseConverter converter = new MappingCouchbaseConverter();
+		converter.afterPropertiesSet();
+		collection = mock(ReactiveCollection.class);
+		Collection blockingCollection = mock(Collection.class);
+		when(blockingCollection.reactive()).thenReturn(collection);
+		clientFactory = mock(CouchbaseClientFactory.class);
+		when(clientFactory.withScope(null)).thenReturn(clientFactory);
+		when(clientFactory.getCollection(null)).thenReturn(blockingCollection);
+		findById = mock(ReactiveFindById.class, RETURNS_SELF);
+
+		template = mock(ReactiveCouchbaseTemplate.class);
+		when(template.getCouchbaseClientFactory()).thenReturn(clientFactory);
+		when(template.getConverter()).thenReturn(converter);
+		when(template.observations()).thenReturn(CouchbaseObservationSupport.NOOP);
+		when(template.support()).thenReturn(support());
+		when(template.findById(Account.class)).thenReturn(findById);
+		CouchbaseExceptionTranslator translator = new CouchbaseExceptionTranslator();
+		when(template.potentiallyConvertRuntimeException(any(RuntimeException.class))).thenAnswer(invocation -> {
+			RuntimeException translated = translator.translateExceptionIfPossible(invocation.getArgument(0));
+			return translated != null ? translated : invocation.getArgument(0);
+		});
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void reappliesMutationToReloadedEntityOnCasMismatch() {
+		when(collection.replace(eq("a1"), any(), any(ReplaceOptions.class)))
+				.thenReturn(Mono.error(new CasMismatchException(null)), Mono.just(mutationResult(9)));
+		when(findById.one("a1")).thenReturn(Mono.just(new Account("a1", 10, 5)));
+
+		Account replaced = replaceWithRetry().one(new Account("a1", 1, 1)).block();
+
+		assertThat(replaced.balance).isEqualTo(11);
+		assertThat(replaced.version).isEqualTo(9);
+		assertThat(mutations).hasValue(2);
+		ArgumentCaptor<Map<String, Object>> written = ArgumentCaptor.forClass(Map.class);
+		verify(collection, times(2)).replace(eq("a1"), written.capture(), any(ReplaceOptions.class));
+		assertThat(written.getAllValues()).extracting(content -> content.get("balance")).containsExactly(2L, 11L);
+		verify(findById).one("a1");
+	}
+
+	@Test
+	void surfacesCasMismatchAfterMaxAttempts() {
+		when(collection.replace(eq("a1"), any(), any(ReplaceOptions.class)))
+				.thenAnswer(invocation -> Mono.error(new CasMismatchException(null)));
+		when(findById.one("a1")).thenAnswer(invocation -> Mono.just(new Account("a1", 10, 5)));
+
+		assertThrows(OptimisticLockingFailureException.class,
+				() -> replaceWithRetry().one(new Account("a1", 1, 1)).block());
+
+		verify(collection, times(POLICY.getMaxAttempts())).replace(eq("a1"), any(), any(ReplaceOptions.class));
+		verify(findById, times(POLICY.getMaxAttempts() - 1)).one("a1");
+		assertThat(mutations).hasValue(POLICY.getMaxAttempts());
+	}
+
+	@Test
+	void doesNotRetryOtherErrors() {
+		when(collection.replace(eq("a1"), any(), any(ReplaceOptions.class)))
+				.thenReturn(Mono.error(new DocumentNotFoundException(null)));
+
+		assertThrows(DataRetrievalFailureException.class, () -> replaceWithRetry().one(new Account("a1", 1, 1)).block());
+
+		verify(collection).replace(eq("a1"), any(), any(ReplaceOptions.class));
+		verify(findById, never()).one("a1");
+	}
+
+	@Test
+	void failsIfRemovedWhileRetrying() {
+		when(collection.replace(eq("a1"), any(), any(ReplaceOptions.class)))
+				.thenReturn(Mono.error(new CasMismatchException(null)));
+		when(findById.one("a1")).thenReturn(Mono.empty());
+
+		assertThrows(DataRetrievalFailureException.class, () -> replaceWithRetry().one(new Account("a1", 1, 1)).block());
+		assertThat(mutations).hasValue(1);
+	}
+
+	@Test
+	void retriesInCollectionOfScopedRepository() {
+		Collection blockingCollection = mock(Collection.class);
+		when(blockingCollection.reactive()).thenReturn(collection);
+		CouchbaseClientFactory scopedFactory = mock(CouchbaseClientFactory.class);
+		when(scopedFactory.getCollection("c")).thenReturn(blockingCollection);
+		when(clientFactory.withScope("s")).thenReturn(scopedFactory);
+		when(collection.replace(eq("a1"), any(), any(ReplaceOptions.class)))
+				.thenReturn(Mono.error(new CasMismatchException(null)), Mono.just(mutationResult(9)));
+		when(findById.one("a1")).thenReturn(Mono.just(new Account("a1", 10, 5)));
+
+		Account replaced = replaceWithRetry().one(new Account("a1", 1, 1))
+				.contextWrite(context -> PseudoArgs.putInContext(context, new PseudoArgs<>("s", "c", null))).block();
+
+		assertThat(replaced.balance).isEqualTo(11);
+		verify(findById).inScope("s");
+		verify(findById).inCollection("c");
+		verify(scopedFactory, times(2)).getCollection("c");
+		verify(clientFactory, never()).getCollection(null);
+	}
+
+	private TerminatingReplaceById<Account> replaceWithRetry() {
+		return new ReactiveReplaceByIdOperationSupport(template).replaceById(Account.class).withRetry(account -> {
+			mutations.incrementAndGet();
+			account.balance++;
+			return account;
+		}, POLICY);
+	}
+
+	private static MutationResult mutationResult(long cas) {
+		MutationResult result = mock(MutationResult.class);
+		when(result.cas()).thenReturn(cas);
+		return result;
+	}
+
+	/**
+	 * Writes the balance of an account, and keeps the cas in its version.
+	 */
+	private static ReactiveTemplateSupport support() {
+		ReactiveTemplateSupport support = mock(ReactiveTemplateSupport.class);
+		when(support.encodeEntity(any())).thenAnswer(invocation -> {
+			Account account = invocation.getArgument(0);
+			return Mono.just(new CouchbaseDocument(account.id).put("balance", account.balance));
+		});
+		when(support.getCas(any())).thenAnswer(invocation -> ((Account) invocation.getArgument(0)).version);
+		when(support.applyUpdatedCas(any(), any(), anyLong())).thenAnswer(invocation -> {
+			Account account = invocation.getArgument(0);
+			account.version = invocation.getArgument(2);
+			return Mono.just(account);
+		});
+		return support;
+	}
+
+	static class Account {
+		@Id String id;
+		long balance;
+		long version;
+
+		Account(String id, long balance, long version) {
+			this.id = id;
+			this.balance = balance;
+			this.version = version;
+		}
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.observability.CouchbaseObservationSupport;
+import org.springframework.data.couchbase.observability.SlowOperationReporter;
+
+import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.ReactiveCluster;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.ReactiveQueryResult;
+
+/**
+ * Tests the statements of {@link ReactiveScanByIdOperationSupport}.
+ */
+class ReactiveScanByIdOperationSupportTests {
+
+	@Test
+	void prefixEnd() {
+		assertEquals("airlinf", ReactiveScanByIdOperationSupport.prefixEnd("airline"));
+		assertEquals("airline:", ReactiveScanByIdOperationSupport.prefixEnd("airline9"));
+		assertEquals("b", ReactiveScanByIdOperationSupport.prefixEnd("a" + Character.MAX_VALUE));
+		assertNull(ReactiveScanByIdOperationSupport.prefixEnd(String.valueOf(Character.MAX_VALUE)));
+		assertNull(ReactiveScanByIdOperationSupport.prefixEnd(""));
+	}
+
+	@Test
+	void prefixEndIsPastAllIdsWithThePrefix() {
+		String end = ReactiveScanByIdOperationSupport.prefixEnd("user::");
+		assertTrue("user::".compareTo(end) < 0);
+		assertTrue("user::zzzz".compareTo(end) < 0);
+		assertTrue("user:;".compareTo(end) >= 0);
+	}
+
+	@Test
+	void statement() {
+		assertEquals("SELECT RAW meta().id FROM `travel-sample` WHERE meta().id >= $from AND meta().id < $to"
+				+ " AND `_class` = \"airline\" ORDER BY meta().id",
+				ReactiveScanByIdOperationSupport.statement("travel-sample", "_class", "airline", "a", "b"));
+		assertEquals("SELECT RAW meta().id FROM `airline` WHERE meta().id < $to AND `_class` = \"airline\""
+				+ " ORDER BY meta().id", ReactiveScanByIdOperationSupport.statement("airline", "_class", "airline", null, "b"));
+		assertEquals("SELECT RAW meta().id FROM `airline` WHERE meta().id >= $from AND `_class` = \"airline\""
+				+ " ORDER BY meta().id", ReactiveScanByIdOperationSupport.statement("airline", "_class", "airline", "a", null));
+		assertEquals("SELECT RAW meta().id FROM `airline` WHERE `_class` = \"airline\" ORDER BY meta().id",
+				ReactiveScanByIdOperationSupport.statement("airline", "_class", "airline", null, null));
+	}
+
+	@Test
+	void scansDocumentsOfTypeAlias() {
+		assertEquals("SELECT RAW meta().id FROM `bucket` WHERE meta().id >= $from AND meta().id < $to"
+				+ " AND `_class` = \"aliased\" ORDER BY meta().id", scannedStatement(Aliased.class));
+	}
+
+	@Test
+	void scansDocumentsOfClassName() {
+		assertEquals("SELECT RAW meta().id FROM `bucket` WHERE meta().id >= $from AND meta().id < $to"
+				+ " AND `_class` = \"" + Plain.class.getName() + "\" ORDER BY meta().id", scannedStatement(Plain.class));
+	}
+
+	/**
+	 * The statement the prefix scan of the entity type runs.
+	 */
+	private static String scannedStatement(Class<?> domainType) {
+		MappingCouchbaseConverter converter = new MappingCouchbaseConverter();
+		converter.afterPropertiesSet();
+		ReactiveQueryResult result = mock(ReactiveQueryResult.class);
+		when(result.rowsAs(String.class)).thenReturn(Flux.empty());
+		ReactiveCluster cluster = mock(ReactiveCluster.class);
+		when(cluster.query(anyString(), any(QueryOptions.class))).thenReturn(Mono.just(result));
+		Cluster blockingCluster = mock(Cluster.class);
+		when(blockingCluster.reactive()).thenReturn(cluster);
+		CouchbaseClientFactory clientFactory = mock(CouchbaseClientFactory.class);
+		when(clientFactory.getCluster()).thenReturn(blockingCluster);
+
+		ReactiveCouchbaseTemplate template = mock(ReactiveCouchbaseTemplate.class);
+		when(template.getCouchbaseClientFactory()).thenReturn(clientFactory);
+		when(template.getConverter()).thenReturn(converter);
+		when(template.getBucketName()).thenReturn("bucket");
+		when(template.observations()).thenReturn(CouchbaseObservationSupport.NOOP);
+		when(template.slowOperations()).thenReturn(new SlowOperationReporter());
+
+		new ReactiveScanByIdOperationSupport(template).scanById(domainType).prefix("a::").blockLast();
+
+		ArgumentCaptor<String> statement = ArgumentCaptor.forClass(String.class);
+		verify(cluster).query(statement.capture(), any(QueryOptions.class));
+		return statement.getValue();
+	}
+
+	@TypeAlias("aliased")
+	static class Aliased {
+		@Id String id;
+	}
+
+	static class Plain {
+		@Id String id;
+	}
+
+}
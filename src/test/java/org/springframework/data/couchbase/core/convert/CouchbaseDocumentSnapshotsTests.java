@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.core.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.CouchbaseList;
+
+/**
+ * Unit tests for {@link CouchbaseDocumentSnapshots}.
+ */
+class CouchbaseDocumentSnapshotsTests {
+
+	@Test
+	void noChangesForSameDocument() {
+		CouchbaseDocumentSnapshots snapshots = new CouchbaseDocumentSnapshots();
+		snapshots.record(null, null, document(), 1, null);
+		assertThat(snapshots.changedFields(null, null, document(), 1)).isEmpty();
+		assertThat(snapshots.size(null, null, "doc1", 1)).isEqualTo(4);
+	}
+
+	@Test
+	void reportsChangedAddedAndRemovedFields() {
+		CouchbaseDocumentSnapshots snapshots = new CouchbaseDocumentSnapshots();
+		snapshots.record(null, null, document(), 1, null);
+		CouchbaseDocument modified = document();
+		modified.put("counter", 43);
+		modified.put("added", "value");
+		modified.getContent().remove("name");
+		((CouchbaseDocument) modified.get("address")).put("city", "Paris");
+		assertThat(snapshots.changedFields(null, null, modified, 1)).containsExactlyInAnyOrder("counter", "added", "name",
+				"address");
+	}
+
+	@Test
+	void noSnapshotForOtherCas() {
+		CouchbaseDocumentSnapshots snapshots = new CouchbaseDocumentSnapshots();
+		snapshots.record(null, null, document(), 1, null);
+		assertThat(snapshots.changedFields(null, null, document(), 2)).isNull();
+		assertThat(snapshots.size(null, null, "doc1", 2)).isEqualTo(-1);
+		snapshots.evict(null, null, "doc1");
+		assertThat(snapshots.changedFields(null, null, document(), 1)).isNull();
+	}
+
+	@Test
+	void snapshotsAreKeptPerCollection() {
+		CouchbaseDocumentSnapshots snapshots = new CouchbaseDocumentSnapshots();
+		snapshots.record("my_scope", "my_collection", document(), 1, null);
+		CouchbaseDocument other = document();
+		other.getContent().remove("tags");
+		snapshots.record("my_scope", "other_collection", other, 2, null);
+		assertThat(snapshots.changedFields("my_scope", "my_collection", document(), 1)).isEmpty();
+		assertThat(snapshots.changedFields(null, null, document(), 1)).isNull();
+		assertThat(snapshots.size("my_scope", "other_collection", "doc1", 2)).isEqualTo(3);
+		snapshots.evict("my_scope", "other_collection", "doc1");
+		assertThat(snapshots.size("my_scope", "my_collection", "doc1", 1)).isEqualTo(4);
+	}
+
+	@Test
+	void recordSkipsIgnoredFieldWithoutModifyingDocument() {
+		CouchbaseDocumentSnapshots snapshots = new CouchbaseDocumentSnapshots();
+		CouchbaseDocument decoded = document();
+		decoded.put("version", 1L);
+		snapshots.record(null, null, decoded, 1, "version");
+		assertThat(decoded.containsKey("version")).isTrue();
+		assertThat(snapshots.size(null, null, "doc1", 1)).isEqualTo(4);
+		assertThat(snapshots.changedFields(null, null, document(), 1)).isEmpty();
+	}
+
+	@Test
+	void typeChangesAreReported() {
+		CouchbaseDocumentSnapshots snapshots = new CouchbaseDocumentSnapshots();
+		CouchbaseDocument decoded = document();
+		decoded.put("flag", true);
+		snapshots.record(null, null, decoded, 1, null);
+		CouchbaseDocument modified = document();
+		modified.put("counter", "42");
+		modified.put("flag", "true");
+		assertThat(snapshots.changedFields(null, null, modified, 1)).containsExactlyInAnyOrder("counter", "flag");
+		assertThat(CouchbaseDocumentSnapshots.hash(5)).isNotEqualTo(CouchbaseDocumentSnapshots.hash("5"));
+		assertThat(CouchbaseDocumentSnapshots.hash(true)).isNotEqualTo(CouchbaseDocumentSnapshots.hash("true"));
+	}
+
+	@Test
+	void decodedAndWrittenValuesHashAlike() {
+		Map<String, Object> address = new HashMap<>();
+		address.put("city", "London");
+		address.put("street", "Baker Street");
+		assertThat(CouchbaseDocumentSnapshots.hash(address))
+				.isEqualTo(CouchbaseDocumentSnapshots.hash(document().get("address")));
+		assertThat(CouchbaseDocumentSnapshots.hash(42L)).isEqualTo(CouchbaseDocumentSnapshots.hash(42));
+		assertThat(CouchbaseDocumentSnapshots.hash(Arrays.asList("a", "b")))
+				.isEqualTo(CouchbaseDocumentSnapshots.hash(new CouchbaseList().put("a").put("b")));
+		assertThat(CouchbaseDocumentSnapshots.hash(Arrays.asList("a", "b")))
+				.isNotEqualTo(CouchbaseDocumentSnapshots.hash(Arrays.asList("b", "a")));
+	}
+
+	private static CouchbaseDocument document() {
+		CouchbaseDocument document = new CouchbaseDocument("doc1");
+		document.put("name", "name");
+		document.put("counter", 42);
+		document.put("tags", new CouchbaseList().put("a").put("b"));
+		document.put("address", new CouchbaseDocument().put("street", "Baker Street").put("city", "London"));
+		return document;
+	}
+
+}
@@ -27,6 +27,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.mock.env.MockPropertySource;
 import org.springframework.test.context.TestPropertySource;
@@ -160,12 +163,27 @@ public class BasicCouchbasePersistentEntityTests {
 	}
 
 	@Test
-	void usesGetExpiryExpressionAndRespectsPropertyUpdates() {
+	void usesGetExpiryExpressionAndRespectsPropertyUpdatesAfterRefresh() {
 		BasicCouchbasePersistentEntity entity = getBasicCouchbasePersistentEntity(ExpiryWithValidExpression.class);
 		assertThat(entity.getExpiry()).isEqualTo(10);
 
-		environment.getPropertySources().addFirst(new MockPropertySource().withProperty("valid.document.expiry", "20"));
+		environment.getPropertySources()
+				.addFirst(new MockPropertySource("updated").withProperty("valid.document.expiry", "20"));
+		assertThat(entity.getExpiry()).isEqualTo(10);
+		entity.refreshDescriptor();
 		assertThat(entity.getExpiry()).isEqualTo(20);
+		environment.getPropertySources().remove("updated");
+	}
+
+	@Test
+	void describesEntity() {
+		BasicCouchbasePersistentEntity entity = getBasicCouchbasePersistentEntity(SimpleDocumentWithTouchOnRead.class);
+		CouchbaseEntityDescriptor descriptor = entity.getDescriptor();
+
+		assertThat(descriptor.getType()).isEqualTo(SimpleDocumentWithTouchOnRead.class);
+		assertThat(descriptor.getExpiryDuration().getSeconds()).isEqualTo(10);
+		assertThat(descriptor.isTouchOnRead()).isTrue();
+		assertThat(entity.getDescriptor()).isSameAs(descriptor);
 	}
 
 	@Test
@@ -180,6 +198,25 @@ public class BasicCouchbasePersistentEntityTests {
 				() -> getBasicCouchbasePersistentEntity(ExpiryAndExpression.class).getExpiry());
 	}
 
+	@Test
+	void acceptsIntegralCounter() {
+		CouchbaseMappingContext mappingContext = new CouchbaseMappingContext();
+		CouchbasePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(WithCounter.class);
+		assertThat(entity.getPersistentProperty(Counter.class).getName()).isEqualTo("visits");
+	}
+
+	@Test
+	void doesNotAllowNonIntegralCounter() {
+		CouchbaseMappingContext mappingContext = new CouchbaseMappingContext();
+		assertThrows(MappingException.class, () -> mappingContext.getPersistentEntity(WithStringCounter.class));
+	}
+
+	@Test
+	void doesNotAllowCounterWithoutVersion() {
+		CouchbaseMappingContext mappingContext = new CouchbaseMappingContext();
+		assertThrows(MappingException.class, () -> mappingContext.getPersistentEntity(WithUnversionedCounter.class));
+	}
+
 	private BasicCouchbasePersistentEntity getBasicCouchbasePersistentEntity(Class<?> clazz) {
 		BasicCouchbasePersistentEntity basicCouchbasePersistentEntity = new BasicCouchbasePersistentEntity(
 				ClassTypeInformation.from(clazz));
@@ -192,6 +229,23 @@ public class BasicCouchbasePersistentEntityTests {
 
 	class SimpleDocument {}
 
+	static class WithCounter {
+		@Id String id;
+		@Version long version;
+		@Counter long visits;
+	}
+
+	static class WithStringCounter {
+		@Id String id;
+		@Version long version;
+		@Counter String visits;
+	}
+
+	static class WithUnversionedCounter {
+		@Id String id;
+		@Counter long visits;
+	}
+
 	@Document(expiry = 10)
 	class SimpleDocumentWithExpiry {}
 
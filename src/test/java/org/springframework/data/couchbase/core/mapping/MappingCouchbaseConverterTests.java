@@ -151,6 +151,20 @@ public class MappingCouchbaseConverterTests {
 		assertThat(converted.attr0).isEqualTo(source.get("attr0"));
 	}
 
+	@Test
+	void doesNotWriteTextScore() {
+		CouchbaseDocument converted = new CouchbaseDocument();
+		TextScoreEntity entity = new TextScoreEntity("foobar");
+		entity.score = 1.5;
+
+		converter.write(entity, converted);
+		Map<String, Object> result = converted.export();
+		assertThat(result.get("attr0")).isEqualTo(entity.attr0);
+		assertThat(result).doesNotContainKey("score");
+		assertThat(converter.getMappingContext().getRequiredPersistentEntity(TextScoreEntity.class).getTextScoreProperty()
+				.getName()).isEqualTo("score");
+	}
+
 	@Test
 	void writesBigInteger() {
 		CouchbaseDocument converted = new CouchbaseDocument();
@@ -396,6 +410,54 @@ public class MappingCouchbaseConverterTests {
 		assertThat(readConverted.attr2.get(0).size()).isEqualTo(2);
 	}
 
+	@Test
+	void writesWithoutValueTypeVerification() {
+		MappingCouchbaseConverter unverified = new MappingCouchbaseConverter();
+		unverified.setVerifyValueTypes(false);
+		unverified.afterPropertiesSet();
+		List<String> attr0 = Arrays.asList("foo", "bar");
+		ListEntity entity = new ListEntity(attr0, new ArrayList<>(), Arrays.asList(attr0));
+
+		CouchbaseDocument verified = new CouchbaseDocument();
+		converter.write(entity, verified);
+		CouchbaseDocument converted = new CouchbaseDocument();
+		unverified.write(entity, converted);
+
+		assertThat(converted.isVerifyValueTypes()).isFalse();
+		assertThat(((CouchbaseList) converted.get("attr2")).isVerifyValueTypes()).isFalse();
+		assertThat(converted.export()).isEqualTo(verified.export());
+	}
+
+	@Test
+	void exportsSortedCopyAndConvertsToMapInOrder() {
+		CouchbaseDocument flat = new CouchbaseDocument().put("b", "b").put("a", "a");
+		assertThat(flat.export()).isNotSameAs(flat.getContent());
+		assertThat(flat.export().keySet()).containsExactly("a", "b");
+		assertThat(flat.toMap()).isNotSameAs(flat.getContent());
+		assertThat(flat.toMap().keySet()).containsExactly("b", "a");
+
+		CouchbaseDocument nested = new CouchbaseDocument().put("z", 1).put("flat", flat).put("list",
+				new CouchbaseList().put(flat));
+		TreeMap<String, Object> exported = nested.export();
+		assertThat(exported.keySet()).containsExactly("flat", "list", "z");
+		assertThat(exported.get("flat")).isInstanceOf(TreeMap.class).isEqualTo(flat.getContent());
+		assertThat(exported.get("list")).isEqualTo(Arrays.asList(flat.getContent()));
+
+		Map<String, Object> converted = nested.toMap();
+		assertThat(converted.keySet()).containsExactly("z", "flat", "list");
+		assertThat(converted.get("flat")).isNotSameAs(flat.getContent()).isEqualTo(flat.getContent());
+		assertThat(converted.get("list")).isEqualTo(Arrays.asList(flat.getContent()));
+		converted.put("z", 2);
+		assertThat(nested.get("z")).isEqualTo(1);
+		assertThat(nested.get("flat")).isSameAs(flat);
+	}
+
+	@Test
+	void countsPersistentProperties() {
+		assertThat(converter.getMappingContext().getRequiredPersistentEntity(Counted.class).getPropertyCount())
+				.isEqualTo(3);
+	}
+
 	@Test
 	void writesAndReadsSetAndNestedSet() {
 		CouchbaseDocument converted = new CouchbaseDocument();
@@ -759,6 +821,15 @@ public class MappingCouchbaseConverterTests {
 		}
 	}
 
+	static class TextScoreEntity extends BaseEntity {
+		private String attr0;
+		@TextScore private Double score;
+
+		public TextScoreEntity(String attr0) {
+			this.attr0 = attr0;
+		}
+	}
+
 	static class BigIntegerEntity extends BaseEntity {
 		private BigInteger attr0;
 
@@ -826,6 +897,13 @@ public class MappingCouchbaseConverterTests {
 		}
 	}
 
+	static class Counted {
+		@Id String id;
+		String name;
+		int count;
+		transient String ignored;
+	}
+
 	static class ListEntity extends BaseEntity {
 		private List<String> attr0;
 		private List<Integer> attr1;
@@ -1084,6 +1162,37 @@ public class MappingCouchbaseConverterTests {
 		assertThat(converted.getId()).isEqualTo(entity.prefix1 + '.' + entity.someId + '.' + entity.suffix);
 	}
 
+	@Test
+	void idIsGeneratedWithRegisteredGenerator() {
+		class Entity {
+			@GeneratedValue(strategy = GenerationStrategy.SEQUENCE) @Id String id;
+			@IdPrefix public String prefix = "order";
+			@IdSuffix public String suffix = "eu";
+		}
+		MappingCouchbaseConverter sequenceConverter = new MappingCouchbaseConverter();
+		sequenceConverter.afterPropertiesSet();
+		assertThrows(MappingException.class, () -> sequenceConverter.write(new Entity(), new CouchbaseDocument()));
+		sequenceConverter.setIdGenerator(GenerationStrategy.SEQUENCE, entity -> "42");
+		CouchbaseDocument converted = new CouchbaseDocument();
+		sequenceConverter.write(new Entity(), converted);
+		assertThat(converted.getId()).isEqualTo("order.42.eu");
+		assertThat(converted.containsKey("prefix")).isFalse();
+		Entity withoutPrefix = new Entity();
+		withoutPrefix.prefix = null;
+		assertThrows(MappingException.class, () -> sequenceConverter.write(withoutPrefix, new CouchbaseDocument()));
+	}
+
+	@Test
+	void sequenceIdNeedsIdPrefix() {
+		class Entity {
+			@GeneratedValue(strategy = GenerationStrategy.SEQUENCE) @Id String id;
+		}
+		MappingCouchbaseConverter sequenceConverter = new MappingCouchbaseConverter();
+		sequenceConverter.afterPropertiesSet();
+		sequenceConverter.setIdGenerator(GenerationStrategy.SEQUENCE, entity -> "42");
+		assertThrows(MappingException.class, () -> sequenceConverter.write(new Entity(), new CouchbaseDocument()));
+	}
+
 	@Test
 	void idHasIdFieldOnly() {
 		class Entity {
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.core.mapping.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+
+/**
+ * Unit tests for {@link CouchbaseMappingEventDispatcher}.
+ */
+class CouchbaseMappingEventDispatcherTests {
+
+	@Test
+	void publishModeAlwaysReportsListeners() {
+		CouchbaseMappingEventDispatcher dispatcher = dispatcher(MappingEventDispatchMode.PUBLISH, new StringListener());
+		assertThat(dispatcher.hasListeners(BeforeSaveEvent.class, Integer.class)).isTrue();
+	}
+
+	@Test
+	void filteredModeResolvesListenersPerDomainType() {
+		StringListener listener = new StringListener();
+		CouchbaseMappingEventDispatcher dispatcher = dispatcher(MappingEventDispatchMode.FILTERED, listener);
+
+		assertThat(dispatcher.hasListeners(BeforeSaveEvent.class, String.class)).isTrue();
+		assertThat(dispatcher.hasListeners(BeforeSaveEvent.class, Integer.class)).isFalse();
+
+		dispatcher.dispatch(new BeforeSaveEvent<>("a", new CouchbaseDocument()));
+		dispatcher.dispatch(new BeforeSaveEvent<>(1, new CouchbaseDocument()));
+		assertThat(listener.saved).containsExactly("a");
+	}
+
+	@Test
+	void filteredModeFindsListenersAddedLater() {
+		StringListener listener = new StringListener();
+		StaticApplicationContext context = context(listener);
+		CouchbaseMappingEventDispatcher dispatcher = new CouchbaseMappingEventDispatcher(MappingEventDispatchMode.FILTERED);
+		dispatcher.setApplicationContext(context);
+		dispatcher.dispatch(new BeforeSaveEvent<>("a", new CouchbaseDocument()));
+
+		StringListener added = new StringListener();
+		context.addApplicationListener(added);
+		dispatcher.dispatch(new BeforeSaveEvent<>("b", new CouchbaseDocument()));
+
+		StringListener bean = new StringListener();
+		context.getBeanFactory().registerSingleton("stringListener", bean);
+		dispatcher.onApplicationEvent(new ContextRefreshedEvent(context));
+		dispatcher.dispatch(new BeforeSaveEvent<>("c", new CouchbaseDocument()));
+
+		assertThat(listener.saved).containsExactly("a", "b", "c");
+		assertThat(added.saved).containsExactly("b", "c");
+		assertThat(bean.saved).containsExactly("c");
+	}
+
+	@Test
+	void asyncModeDeliversAfterEventsInBatches() throws Exception {
+		StringListener listener = new StringListener();
+		CouchbaseMappingEventDispatcher dispatcher = new CouchbaseMappingEventDispatcher(
+				MappingEventDispatchMode.FILTERED_ASYNC_AFTER_EVENTS, 2, Duration.ofMillis(5));
+		dispatcher.setApplicationContext(context(listener));
+
+		dispatcher.dispatch(new AfterSaveEvent<>("a", new CouchbaseDocument()));
+		dispatcher.dispatch(new AfterSaveEvent<>("b", new CouchbaseDocument()));
+		dispatcher.dispatch(new AfterSaveEvent<>("c", new CouchbaseDocument()));
+
+		for (int i = 0; i < 100 && listener.afterSaved.size() < 3; i++) {
+			Thread.sleep(10);
+		}
+		assertThat(listener.afterSaved).containsExactly("a", "b", "c");
+		dispatcher.destroy();
+	}
+
+	private static CouchbaseMappingEventDispatcher dispatcher(MappingEventDispatchMode mode, StringListener listener) {
+		CouchbaseMappingEventDispatcher dispatcher = new CouchbaseMappingEventDispatcher(mode);
+		dispatcher.setApplicationContext(context(listener));
+		return dispatcher;
+	}
+
+	private static StaticApplicationContext context(StringListener listener) {
+		StaticApplicationContext context = new StaticApplicationContext();
+		context.addApplicationListener(listener);
+		context.refresh();
+		return context;
+	}
+
+	static class StringListener extends AbstractCouchbaseEventListener<String> {
+
+		final List<String> saved = new CopyOnWriteArrayList<>();
+		final List<String> afterSaved = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void onBeforeSave(String source, CouchbaseDocument doc) {
+			saved.add(source);
+		}
+
+		@Override
+		public void onAfterSave(String source, CouchbaseDocument doc) {
+			afterSaved.add(source);
+		}
+	}
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.mapping.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link Base62IdGenerator}.
+ */
+class Base62IdGeneratorTests {
+
+	@Test
+	void generatesFixedWidthBase62Ids() {
+		Base62IdGenerator generator = new Base62IdGenerator();
+		assertThat(generator.generateId(null)).matches("[0-9A-Za-z]{22}");
+		assertThat(generator.generateId(null)).isNotEqualTo(generator.generateId(null));
+	}
+
+	@Test
+	void encodesUnsignedValues() {
+		char[] digits = new char[11];
+		Base62IdGenerator.encode(61, digits, 0);
+		assertThat(new String(digits)).isEqualTo("0000000000z");
+		Base62IdGenerator.encode(-1, digits, 0);
+		assertThat(new String(digits)).isEqualTo("LygHa16AHYF");
+	}
+
+}
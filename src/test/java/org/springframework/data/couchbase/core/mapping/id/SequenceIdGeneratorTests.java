@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.mapping.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+
+import com.couchbase.client.core.error.CouchbaseException;
+import com.couchbase.client.java.AsyncBinaryCollection;
+import com.couchbase.client.java.AsyncCollection;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.kv.CounterResult;
+import com.couchbase.client.java.kv.IncrementOptions;
+
+/**
+ * Unit tests for {@link SequenceIdGenerator}.
+ */
+class SequenceIdGeneratorTests {
+
+	private static final String KEY = SequenceIdGenerator.DEFAULT_KEY_PREFIX + Order.class.getName();
+
+	private Collection collection;
+	private AsyncBinaryCollection binary;
+	private CouchbasePersistentEntity<?> entity;
+
+	@BeforeEach
+	void setUp() {
+		collection = mock(Collection.class);
+		AsyncCollection async = mock(AsyncCollection.class);
+		binary = mock(AsyncBinaryCollection.class);
+		when(collection.async()).thenReturn(async);
+		when(async.binary()).thenReturn(binary);
+		entity = entity(Order.class);
+	}
+
+	@Test
+	void reservesBlocksOfIds() {
+		when(binary.increment(eq(KEY), any(IncrementOptions.class))).thenReturn(counter(4), counter(8), counter(12));
+		SequenceIdGenerator generator = new SequenceIdGenerator(collection, 4);
+
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			ids.add(generator.generateId(entity));
+		}
+
+		assertThat(ids).containsExactly("1", "2", "3", "4", "5", "6", "7", "8");
+		// the first block, and the next ones when half of a block is used
+		ArgumentCaptor<IncrementOptions> options = ArgumentCaptor.forClass(IncrementOptions.class);
+		verify(binary, times(3)).increment(eq(KEY), options.capture());
+		assertThat(options.getValue().build().delta()).isEqualTo(4);
+		assertThat(options.getValue().build().initial()).contains(4L);
+	}
+
+	@Test
+	void continuesWithTheBlockReservedByTheCounter() {
+		when(binary.increment(eq(KEY), any(IncrementOptions.class))).thenReturn(counter(300));
+		SequenceIdGenerator generator = new SequenceIdGenerator(collection, 100);
+
+		assertThat(generator.generateId(entity)).isEqualTo("201");
+	}
+
+	@Test
+	void readyCompletesWhenTheBlockIsReserved() {
+		CompletableFuture<CounterResult> pending = new CompletableFuture<>();
+		when(binary.increment(eq(KEY), any(IncrementOptions.class))).thenReturn(pending);
+		SequenceIdGenerator generator = new SequenceIdGenerator(collection, 10);
+
+		CompletableFuture<Void> ready = generator.ready(entity).toFuture();
+		assertThat(ready).isNotDone();
+		pending.complete(counterResult(10));
+
+		assertThat(ready).isDone();
+		assertThat(generator.ready(entity).toFuture()).isDone();
+		assertThat(generator.generateId(entity)).isEqualTo("1");
+		verify(binary, times(1)).increment(eq(KEY), any(IncrementOptions.class));
+	}
+
+	@Test
+	void failedReservationIsThrownAndRetried() {
+		CouchbaseException failure = new CouchbaseException("counter not incremented");
+		when(binary.increment(eq(KEY), any(IncrementOptions.class))).thenReturn(CompletableFuture.failedFuture(failure),
+				counter(10));
+		SequenceIdGenerator generator = new SequenceIdGenerator(collection, 10);
+
+		assertThat(generator.ready(entity).toFuture()).isDone();
+		assertThat(assertThrows(CouchbaseException.class, () -> generator.generateId(entity))).isSameAs(failure);
+		assertThat(generator.generateId(entity)).isEqualTo("1");
+	}
+
+	@Test
+	void countsEveryEntityTypeWithItsOwnCounter() {
+		String customerKey = SequenceIdGenerator.DEFAULT_KEY_PREFIX + Customer.class.getName();
+		when(binary.increment(eq(KEY), any(IncrementOptions.class))).thenReturn(counter(10));
+		when(binary.increment(eq(customerKey), any(IncrementOptions.class))).thenReturn(counter(10));
+		SequenceIdGenerator generator = new SequenceIdGenerator(collection, 10);
+
+		assertThat(generator.generateId(entity)).isEqualTo("1");
+		assertThat(generator.generateId(entity(Customer.class))).isEqualTo("1");
+		assertThat(generator.generateId(entity)).isEqualTo("2");
+	}
+
+	private static CouchbasePersistentEntity<?> entity(Class<?> type) {
+		CouchbasePersistentEntity<?> entity = mock(CouchbasePersistentEntity.class);
+		doReturn(type).when(entity).getType();
+		return entity;
+	}
+
+	private static CompletableFuture<CounterResult> counter(long content) {
+		return CompletableFuture.completedFuture(counterResult(content));
+	}
+
+	private static CounterResult counterResult(long content) {
+		CounterResult result = mock(CounterResult.class);
+		when(result.content()).thenReturn(content);
+		return result;
+	}
+
+	static class Order {}
+
+	static class Customer {}
+
+}
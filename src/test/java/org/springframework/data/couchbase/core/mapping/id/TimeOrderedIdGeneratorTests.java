@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.mapping.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TimeOrderedIdGenerator}.
+ */
+class TimeOrderedIdGeneratorTests {
+
+	@Test
+	void generatesIncreasingVersion7Uuids() {
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+		String first = generator.generateId(null);
+		String second = generator.generateId(null);
+		assertThat(UUID.fromString(first).version()).isEqualTo(7);
+		assertThat(first).isLessThan(second);
+	}
+
+}
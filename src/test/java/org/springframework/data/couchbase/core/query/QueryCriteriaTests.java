@@ -27,6 +27,10 @@ import static org.springframework.data.couchbase.repository.query.support.N1qlUt
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.data.geo.Box;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Point;
+import org.springframework.data.geo.Polygon;
 
 import com.couchbase.client.java.json.JsonArray;
 
@@ -42,6 +46,41 @@ class QueryCriteriaTests {
 		assertEquals("`name` = \"Bubba\"", c.export());
 	}
 
+	@Test
+	void testExportAppendsToStatement() {
+		QueryCriteria c = where(i("name")).startingWith("Bu").and(i("age")).between(20, 30);
+		JsonArray parameters = JsonArray.create().add("Bubba");
+		StringBuilder statement = new StringBuilder("SELECT * FROM b WHERE `nick` = $1 AND ");
+		c.export(statement, new int[] { 1 }, parameters, null);
+		assertEquals("SELECT * FROM b WHERE `nick` = $1 AND `name` like ($2||\"%\") and `age` between $3 and $4",
+				statement.toString());
+		assertEquals(JsonArray.from("Bubba", "Bu", 20, 30), parameters);
+	}
+
+	@Test
+	void testWithinBox() {
+		QueryCriteria c = where(i("location")).within(new Box(new Point(3, 4), new Point(1, 2)));
+		assertEquals("(`location`.x between 1.0 and 3.0 and `location`.y between 2.0 and 4.0)", c.export());
+	}
+
+	@Test
+	void testNear() {
+		QueryCriteria c = where(i("location")).near(new Point(1, 2), new Distance(2));
+		assertEquals("(`location`.x between -1.0 and 3.0 and `location`.y between 0.0 and 4.0"
+				+ " and POWER(`location`.x - 1.0, 2) + POWER(`location`.y - 2.0, 2) <= 4.0)", c.export());
+	}
+
+	@Test
+	void testWithinPolygon() {
+		QueryCriteria c = where(i("location")).within(new Polygon(new Point(0, 0), new Point(2, 0), new Point(0, 2)))
+				.and(i("name")).is("Bubba");
+		assertEquals("(`location`.x between 0.0 and 2.0 and `location`.y between 0.0 and 2.0"
+				+ " and ARRAY_LENGTH(ARRAY 1 FOR e IN [[0.0, 0.0, 2.0, 0.0], [2.0, 0.0, 0.0, 2.0], [0.0, 2.0, 0.0, 0.0]]"
+				+ " WHEN (e[1] > `location`.y) != (e[3] > `location`.y)"
+				+ " AND `location`.x < (e[2] - e[0]) * (`location`.y - e[1]) / (e[3] - e[1]) + e[0] END) % 2 = 1)"
+				+ " and `name` = $1", c.export(new int[1], JsonArray.create(), null));
+	}
+
 	@Test
 	public void testNullValue() {
 		QueryCriteria c = where(i("name")).is(null);
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
+
+/**
+ * Tests how {@link PseudoArgs} of scoped repository calls reach the operations.
+ */
+class PseudoArgsTests {
+
+	private ReactiveCouchbaseTemplate template;
+
+	@BeforeEach
+	void beforeEach() {
+		template = mock(ReactiveCouchbaseTemplate.class);
+	}
+
+	@Test
+	void carriesPseudoArgsOfCallingThreadAcrossThreadHops() {
+		when(template.getPseudoArgs()).thenReturn((PseudoArgs) new PseudoArgs<>("s", "c", null));
+		Function<Context, Context> fromCallingThread = PseudoArgs.fromCallingThread(template);
+		when(template.getPseudoArgs()).thenReturn(null);
+
+		PseudoArgs<?> resolved = resolve().subscribeOn(Schedulers.boundedElastic()).contextWrite(fromCallingThread).block();
+
+		assertThat(resolved.getScope()).as("scope of the calling thread!").isEqualTo("s");
+		assertThat(resolved.getCollection()).as("collection of the calling thread!").isEqualTo("c");
+	}
+
+	@Test
+	void ignoresThreadWithoutContext() {
+		when(template.getPseudoArgs()).thenReturn((PseudoArgs) new PseudoArgs<>("s", "c", null));
+
+		PseudoArgs<?> resolved = resolve().block();
+
+		assertThat(resolved.getScope()).as("no scope without subscriber context!").isNull();
+		assertThat(resolved.getCollection()).as("no collection without subscriber context!").isNull();
+	}
+
+	@Test
+	void keepsPseudoArgsOfReactiveCall() {
+		when(template.getPseudoArgs()).thenReturn((PseudoArgs) new PseudoArgs<>("s", "c", null));
+
+		PseudoArgs<?> resolved = resolve().contextWrite(PseudoArgs.fromCallingThread(template))
+				.contextWrite(context -> PseudoArgs.putInContext(context, new PseudoArgs<>("r", "rc", null))).block();
+
+		assertThat(resolved.getScope()).as("scope of the reactive call!").isEqualTo("r");
+		assertThat(resolved.getCollection()).as("collection of the reactive call!").isEqualTo("rc");
+	}
+
+	private Mono<PseudoArgs<Object>> resolve() {
+		return Mono
+				.deferContextual(context -> Mono.just(new PseudoArgs<>(template, context, null, null, null, Object.class)));
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.domain;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.couchbase.core.mapping.Counter;
+import org.springframework.data.couchbase.core.mapping.Document;
+
+/**
+ * PageViews entity with a counter for tests
+ */
+@Document
+public class PageViews extends ComparableEntity {
+	@Id private final String id;
+	@Version private long version;
+	private String title;
+	@Counter private long views;
+	private Long shares;
+
+	public PageViews(String id, String title, long views) {
+		this.id = id;
+		this.title = title;
+		this.views = views;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public long getViews() {
+		return views;
+	}
+
+	public Long getShares() {
+		return shares;
+	}
+
+}
@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.springframework.data.couchbase.repository.Query;
 import org.springframework.data.couchbase.repository.ReactiveCouchbaseRepository;
+import org.springframework.data.querydsl.ReactiveQuerydslPredicateExecutor;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -27,7 +28,8 @@ import org.springframework.stereotype.Repository;
  * @author Michael Reiche
  */
 @Repository
-public interface ReactiveAirlineRepository extends ReactiveCouchbaseRepository<Airline, String> {
+public interface ReactiveAirlineRepository extends ReactiveCouchbaseRepository<Airline, String>,
+		ReactiveQuerydslPredicateExecutor<Airline> {
 
 	@Query("#{#n1ql.selectEntity} where #{#n1ql.filter} and (name = $1)")
 	List<User> getByName(@Param("airline_name") String airlineName);
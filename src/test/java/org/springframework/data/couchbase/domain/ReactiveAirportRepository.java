@@ -31,6 +31,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
 import com.couchbase.client.java.json.JsonArray;
@@ -110,6 +111,16 @@ public interface ReactiveAirportRepository
 	@Collection("bogus_collection")
 	Flux<RemoveResult> deleteByIataAnnotated(String iata);
 
+	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
+	Mono<Page<Airport>> findAllByIataNot(String iata, Pageable pageable);
+
+	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
+	Mono<Slice<Airport>> findSliceByIataLike(String iata, Pageable pageable);
+
+	@Query("#{#n1ql.selectEntity} WHERE #{#n1ql.filter} AND iata  between $1 and $2")
+	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
+	Mono<Page<Airport>> fetchPage(String startIata, String iata, Pageable pageable);
+
 	// This is not efficient. See findAllByIataLike for efficient reactive paging
 	default public Mono<Page<Airport>> findAllAirportsPaged(Pageable pageable) {
 		return count().flatMap(airportCount -> {
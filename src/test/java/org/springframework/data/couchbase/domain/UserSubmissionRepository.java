@@ -35,4 +35,8 @@ public interface UserSubmissionRepository extends CouchbaseRepository<UserSubmis
 	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
 	List<UserSubmission> findByUsername(String username);
 
+	UserSubmissionProjected findProjectedById(String id);
+
+	UserSubmissionUsername findUsernameById(String id);
+
 }
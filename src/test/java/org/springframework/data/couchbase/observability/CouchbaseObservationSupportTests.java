@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.domain.User;
+
+/**
+ * Unit tests for {@link CouchbaseObservationSupport} and {@link CouchbaseMeterObservationHandler}.
+ */
+class CouchbaseObservationSupportTests {
+
+	private SimpleMeterRegistry meterRegistry;
+	private CouchbaseObservationSupport observations;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+		registry.observationConfig().observationHandler(new CouchbaseMeterObservationHandler(meterRegistry));
+		observations = new CouchbaseObservationSupport(registry, null);
+	}
+
+	@Test
+	void recordsPhasesDocumentSizeAndRows() {
+		String json = "{\"firstname\":\"Dave\"}";
+		Mono<String> operation = Mono.deferContextual(context -> observations.observe("findById", User.class, null, null,
+				context,
+				observations.network(Mono.just(json)).flatMap(source -> observations.decode(Mono.just("Dave"), source))));
+
+		assertThat(operation.block()).isEqualTo("Dave");
+
+		Timer timer = meterRegistry.get(DefaultCouchbaseObservationConvention.NAME)
+				.tag(DefaultCouchbaseObservationConvention.OPERATION, "findById")
+				.tag(DefaultCouchbaseObservationConvention.DOMAIN_TYPE, "User")
+				.tag(DefaultCouchbaseObservationConvention.SCOPE, "_default")
+				.tag(DefaultCouchbaseObservationConvention.COLLECTION, "_default")
+				.tag(DefaultCouchbaseObservationConvention.REPOSITORY_METHOD, "none").timer();
+		assertThat(timer.count()).isEqualTo(1);
+		assertThat(meterRegistry.get(CouchbaseMeterObservationHandler.PHASE).tag("phase", "network").timer().count())
+				.isEqualTo(1);
+		assertThat(meterRegistry.get(CouchbaseMeterObservationHandler.PHASE).tag("phase", "decode").timer().count())
+				.isEqualTo(1);
+		assertThat(meterRegistry.find(CouchbaseMeterObservationHandler.PHASE).tag("phase", "encode").timer()).isNull();
+		DistributionSummary size = meterRegistry.get(CouchbaseMeterObservationHandler.DOCUMENT_SIZE).summary();
+		assertThat(size.totalAmount()).isEqualTo(json.length());
+		assertThat(meterRegistry.get(CouchbaseMeterObservationHandler.ROWS).summary().totalAmount()).isEqualTo(1);
+	}
+
+	@Test
+	void countsRowsOfQueries() {
+		Flux<Integer> operation = Flux.deferContextual(
+				context -> observations.observe("findByQuery", User.class, "my_scope", "my_collection", context,
+						Flux.just(1, 2, 3)));
+
+		assertThat(operation.collectList().block()).containsExactly(1, 2, 3);
+		DistributionSummary rows = meterRegistry.get(CouchbaseMeterObservationHandler.ROWS)
+				.tag(DefaultCouchbaseObservationConvention.SCOPE, "my_scope")
+				.tag(DefaultCouchbaseObservationConvention.COLLECTION, "my_collection").summary();
+		assertThat(rows.totalAmount()).isEqualTo(3);
+	}
+
+	@Test
+	void tagsErrors() {
+		Mono<Object> operation = Mono.deferContextual(context -> observations.observe("removeById", User.class, null,
+				null, context, Mono.error(new IllegalStateException("failed"))));
+
+		assertThatThrownBy(operation::block).isInstanceOf(IllegalStateException.class);
+		assertThat(meterRegistry.get(CouchbaseMeterObservationHandler.ROWS).tag("error", "IllegalStateException")
+				.summary().count()).isEqualTo(1);
+	}
+
+	@Test
+	void tagsRepositoryMethods() {
+		Mono<String> reactive = Mono
+				.deferContextual(context -> observations.observe("findByQuery", User.class, null, null, context,
+						Mono.just("reactive")))
+				.contextWrite(context -> CouchbaseObservationSupport.putRepositoryMethod(context, "UserRepository.reactive"));
+		reactive.block();
+
+		CouchbaseObservationSupport.setRepositoryMethod("UserRepository.blocking");
+		try {
+			Mono.deferContextual(context -> observations.observe("findByQuery", User.class, null, null, context,
+					Mono.just("blocking"))).block();
+		} finally {
+			CouchbaseObservationSupport.setRepositoryMethod(null);
+		}
+
+		assertThat(meterRegistry.get(DefaultCouchbaseObservationConvention.NAME)
+				.tag(DefaultCouchbaseObservationConvention.REPOSITORY_METHOD, "UserRepository.reactive").timer().count())
+						.isEqualTo(1);
+		assertThat(meterRegistry.get(DefaultCouchbaseObservationConvention.NAME)
+				.tag(DefaultCouchbaseObservationConvention.REPOSITORY_METHOD, "UserRepository.blocking").timer().count())
+						.isEqualTo(1);
+	}
+
+	@Test
+	void doesNotWrapWithNoopRegistry() {
+		Mono<String> source = Mono.just("value");
+
+		assertThat(CouchbaseObservationSupport.NOOP.network(source)).isSameAs(source);
+		assertThat(CouchbaseObservationSupport.NOOP.encode(source)).isSameAs(source);
+		assertThat(CouchbaseObservationSupport.NOOP.decode(source, "{}")).isSameAs(source);
+		assertThat(Mono.deferContextual(context -> CouchbaseObservationSupport.NOOP.observe("findById", User.class, null,
+				null, context, source)).block()).isEqualTo("value");
+	}
+
+}
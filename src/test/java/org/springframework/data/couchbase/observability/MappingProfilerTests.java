@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.domain.Airport;
+import org.springframework.data.couchbase.domain.User;
+
+/**
+ * Unit tests for {@link MappingProfiler} and {@link MappingProfilerMetrics}.
+ */
+class MappingProfilerTests {
+
+	@Test
+	void samplesNothingByDefault() {
+		MappingProfiler profiler = new MappingProfiler();
+
+		assertThat(profiler.sample()).isFalse();
+		profiler.setSampleRate(1);
+		assertThat(profiler.sample()).isTrue();
+		assertThatIllegalArgumentException().isThrownBy(() -> profiler.setSampleRate(2));
+	}
+
+	@Test
+	void listsMostExpensiveTypesFirst() {
+		MappingProfiler profiler = new MappingProfiler();
+		profiler.recordDecode(User.class, 100, 40, 4);
+		profiler.recordDecode(Airport.class, 300, 80, 6);
+		profiler.recordEncode(User.class, 50, 40, 4);
+
+		assertThat(profiler.getProfiles()).extracting(MappingProfiler.TypeProfile::getType)
+				.containsExactly(Airport.class, User.class);
+		MappingProfiler.TypeProfile user = profiler.getProfiles().get(1);
+		assertThat(user.getTotalNanos()).isEqualTo(150);
+		assertThat(user.getDecode().getBytes()).isEqualTo(40);
+		assertThat(user.getEncode().getProperties()).isEqualTo(4);
+	}
+
+	@Test
+	void measuresUtf8Bytes() {
+		for (String json : new String[] { "", "{\"name\":\"Dave\"}", "{\"name\":\"Zoë\"}", "{\"city\":\"東京\"}",
+				"{\"emoji\":\"\uD83D\uDE00\"}" }) {
+			assertThat(MappingProfiler.utf8Length(json)).isEqualTo(json.getBytes(StandardCharsets.UTF_8).length);
+		}
+		assertThat(MappingProfiler.utf8Length("東京")).isEqualTo(6);
+	}
+
+	@Test
+	void exportsMeters() {
+		MappingProfiler profiler = new MappingProfiler();
+		profiler.recordDecode(User.class, 100, 40, 4);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new MappingProfilerMetrics(profiler).bindTo(registry);
+		profiler.recordDecode(User.class, 200, 60, 4);
+		profiler.recordEncode(Airport.class, 300, 80, 6);
+
+		FunctionTimer decode = registry.get(MappingProfilerMetrics.TIME)
+				.tags(DefaultCouchbaseObservationConvention.DOMAIN_TYPE, "User", "direction", "decode").functionTimer();
+		assertThat(decode.count()).isEqualTo(2);
+		assertThat(decode.totalTime(TimeUnit.NANOSECONDS)).isEqualTo(300);
+		assertThat(registry.get(MappingProfilerMetrics.BYTES)
+				.tags(DefaultCouchbaseObservationConvention.DOMAIN_TYPE, "Airport", "direction", "encode").functionCounter()
+				.count()).isEqualTo(80);
+	}
+
+}
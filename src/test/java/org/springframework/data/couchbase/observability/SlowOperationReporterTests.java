@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryProfile;
+
+/**
+ * Unit tests for {@link SlowOperationReporter}.
+ */
+class SlowOperationReporterTests {
+
+	@Test
+	void requestsNothingWithoutThreshold() {
+		SlowOperationReporter reporter = new SlowOperationReporter();
+		reporter.setProfile(QueryProfile.PHASES);
+
+		JsonObject params = JsonObject.create();
+		reporter.apply(QueryOptions.queryOptions()).build().injectParams(params);
+
+		assertThat(Boolean.TRUE.equals(params.getBoolean("metrics"))).isFalse();
+		assertThat(params.containsKey("profile")).isFalse();
+	}
+
+	@Test
+	void requestsMetricsAndProfileWithThreshold() {
+		SlowOperationReporter reporter = new SlowOperationReporter();
+		reporter.setThreshold(Duration.ofMillis(100));
+		reporter.setProfile(QueryProfile.PHASES);
+
+		JsonObject params = JsonObject.create();
+		reporter.apply(QueryOptions.queryOptions()).build().injectParams(params);
+
+		assertThat(params.getBoolean("metrics")).isTrue();
+		assertThat(params.getString("profile")).isEqualTo("phases");
+	}
+
+	@Test
+	void doesNotModifyOptionsOfCaller() {
+		SlowOperationReporter reporter = new SlowOperationReporter();
+		reporter.setThreshold(Duration.ofMillis(100));
+		reporter.setProfile(QueryProfile.TIMINGS);
+		QueryOptions options = QueryOptions.queryOptions().parameters(JsonObject.create().put("firstname", "Dave"))
+				.readonly(true).timeout(Duration.ofSeconds(5)).clientContextId("ctx");
+
+		QueryOptions applied = reporter.apply(options);
+
+		assertThat(applied).isNotSameAs(options);
+		JsonObject original = JsonObject.create();
+		options.build().injectParams(original);
+		assertThat(Boolean.TRUE.equals(original.getBoolean("metrics"))).isFalse();
+		assertThat(original.containsKey("profile")).isFalse();
+
+		JsonObject params = JsonObject.create();
+		applied.build().injectParams(params);
+		assertThat(params.getBoolean("metrics")).isTrue();
+		assertThat(params.getString("profile")).isEqualTo("timings");
+		assertThat(params.getString("$firstname")).isEqualTo("Dave");
+		assertThat(params.getBoolean("readonly")).isTrue();
+		assertThat(params.getString("client_context_id")).isEqualTo("ctx");
+		assertThat(applied.build().timeout()).contains(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void namesParametersWithoutValues() {
+		assertThat(SlowOperationReporter.parameterNames(QueryOptions.queryOptions().parameters(JsonArray.from("a", "b"))))
+				.containsExactly("$1", "$2");
+		assertThat(SlowOperationReporter
+				.parameterNames(QueryOptions.queryOptions().parameters(JsonObject.create().put("firstname", "Dave"))))
+				.containsExactly("$firstname");
+	}
+
+}
@@ -20,6 +20,7 @@ import static com.couchbase.client.java.query.QueryScanConsistency.REQUEST_PLUS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -51,7 +52,9 @@ import org.springframework.data.couchbase.domain.SubscriptionTokenRepository;
 import org.springframework.data.couchbase.domain.User;
 import org.springframework.data.couchbase.domain.UserRepository;
 import org.springframework.data.couchbase.domain.UserSubmission;
+import org.springframework.data.couchbase.domain.UserSubmissionProjected;
 import org.springframework.data.couchbase.domain.UserSubmissionRepository;
+import org.springframework.data.couchbase.domain.UserSubmissionUsername;
 import org.springframework.data.couchbase.repository.config.EnableCouchbaseRepositories;
 import org.springframework.data.couchbase.util.ClusterAwareIntegrationTests;
 import org.springframework.data.couchbase.util.ClusterType;
@@ -198,6 +201,41 @@ public class CouchbaseRepositoryKeyValueIntegrationTests extends ClusterAwareInt
 		userSubmissionRepository.delete(user);
 	}
 
+	@Test
+	@IgnoreWhen(clusterTypes = ClusterType.MOCKED)
+	void findProjectionById() {
+		UserSubmission user = new UserSubmission();
+		user.setId(UUID.randomUUID().toString());
+		user.setUsername("dave");
+		user.setEmail("dave@example.com");
+		user.setRoles(Arrays.asList("role1", "role2"));
+		userSubmissionRepository.save(user);
+
+		UserSubmissionProjected projected = userSubmissionRepository.findProjectedById(user.getId());
+		assertEquals(user.getId(), projected.getId());
+		assertEquals(user.getUsername(), projected.getUsername());
+		assertEquals(user.getRoles(), projected.getRoles());
+
+		UserSubmissionUsername username = userSubmissionRepository.findUsernameById(user.getId());
+		assertEquals(user.getUsername(), username.getUsername());
+		assertEquals(user.getRoles(), username.getRoles());
+
+		assertNull(userSubmissionRepository.findProjectedById(UUID.randomUUID().toString()));
+		assertNull(userSubmissionRepository.findUsernameById(UUID.randomUUID().toString()));
+		userSubmissionRepository.delete(user);
+	}
+
+	@Test
+	@IgnoreWhen(clusterTypes = ClusterType.MOCKED)
+	void findProjectionByIdSkipsDocumentOfOtherType() {
+		User user = new User(UUID.randomUUID().toString(), "dave", "wilson");
+		userRepository.save(user);
+
+		assertNull(userSubmissionRepository.findProjectedById(user.getId()));
+		assertNull(userSubmissionRepository.findUsernameById(user.getId()));
+		userRepository.delete(user);
+	}
+
 	@Configuration
 	@EnableCouchbaseRepositories("org.springframework.data.couchbase")
 	static class Config extends AbstractCouchbaseConfiguration {
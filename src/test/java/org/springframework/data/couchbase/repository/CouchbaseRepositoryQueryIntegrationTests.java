@@ -704,6 +704,12 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 			assertEquals(2, airportSlice.getSize());
 			assertEquals("LAX", airportSlice.getContent().get(0).getIata());
 			assertEquals("PHX", airportSlice.getContent().get(1).getIata());
+			assertTrue(airportSlice.hasNext());
+
+			airportSlice = airportRepository.fetchSlice("AAA", "zzz", PageRequest.of(3, 2, Sort.by("iata")));
+			assertEquals(1, airportSlice.getContent().size());
+			assertEquals("SJC", airportSlice.getContent().get(0).getIata());
+			assertFalse(airportSlice.hasNext());
 
 			pageable = PageRequest.of(1, 2, Sort.by("iata"));
 			Page<Airport> airportPage = airportRepository.fetchPage("AAA", "zzz", pageable);
@@ -27,8 +27,10 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
@@ -53,7 +55,11 @@ import org.springframework.data.couchbase.util.Capabilities;
 import org.springframework.data.couchbase.util.ClusterType;
 import org.springframework.data.couchbase.util.IgnoreWhen;
 import org.springframework.data.couchbase.util.JavaIntegrationTests;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import com.couchbase.client.core.deps.io.netty.handler.ssl.util.InsecureTrustManagerFactory;
@@ -214,6 +220,38 @@ public class ReactiveCouchbaseRepositoryQueryIntegrationTests extends JavaIntegr
 		}
 	}
 
+	@Test
+	void pageAndSlice() {
+		String[] iatas = { "JFK", "IAD", "SFO", "SJC", "SEA", "LAX", "PHX" };
+		try {
+			Flux.fromArray(iatas).flatMap(iata -> reactiveAirportRepository
+					.save(new Airport("airports::" + iata, iata, iata.toLowerCase(Locale.ROOT)))).blockLast();
+
+			Pageable pageable = PageRequest.of(0, 2, Sort.by("iata"));
+			Page<Airport> page = reactiveAirportRepository.findAllByIataNot("JFK", pageable).block();
+			assertEquals(iatas.length - 1, page.getTotalElements());
+			assertEquals(pageable.getPageSize(), page.getContent().size());
+			assertEquals("IAD", page.getContent().get(0).getIata());
+
+			page = reactiveAirportRepository.fetchPage("AAA", "zzz", PageRequest.of(1, 2, Sort.by("iata"))).block();
+			assertEquals(iatas.length, page.getTotalElements());
+			assertEquals("LAX", page.getContent().get(0).getIata());
+			assertEquals("PHX", page.getContent().get(1).getIata());
+
+			Slice<Airport> slice = reactiveAirportRepository.findSliceByIataLike("S%", PageRequest.of(0, 2, Sort.by("iata")))
+					.block();
+			assertEquals(2, slice.getContent().size());
+			assertTrue(slice.hasNext());
+			slice = reactiveAirportRepository.findSliceByIataLike("S%", slice.nextPageable()).block();
+			assertEquals(1, slice.getContent().size());
+			assertEquals("SJC", slice.getContent().get(0).getIata());
+			assertFalse(slice.hasNext());
+		} finally {
+			reactiveAirportRepository.deleteAllById(Arrays.stream(iatas).map(iata -> "airports::" + iata).collect(
+					Collectors.toList())).block();
+		}
+	}
+
 	@Test
 	// DATACOUCH-650
 	void deleteAllById() {
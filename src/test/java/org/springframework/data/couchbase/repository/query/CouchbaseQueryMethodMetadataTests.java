@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
+import org.springframework.data.couchbase.core.query.Meta;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.domain.User;
+import org.springframework.data.couchbase.domain.UserRepository;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+/**
+ * Unit tests for {@link CouchbaseQueryMethodMetadata}.
+ */
+class CouchbaseQueryMethodMetadataTests {
+
+	@Test
+	void resolvesAnnotationsOfRepositoryInterface() throws Exception {
+		CouchbaseQueryMethod queryMethod = queryMethod("findByFirstname", String.class);
+		CouchbaseQueryMethodMetadata metadata = queryMethod.getQueryMetadata();
+
+		assertThat(metadata.getScanConsistency().query()).isEqualTo(QueryScanConsistency.REQUEST_PLUS);
+		assertThat(metadata.getScope()).isNull();
+		assertThat(metadata.getCollection()).isNull();
+		assertThat(metadata.getInlineN1qlQuery()).isNull();
+		assertThat(metadata.getTimeout()).isNull();
+		assertThat(queryMethod.getScanConsistencyAnnotation()).isSameAs(metadata.getScanConsistency());
+	}
+
+	@Test
+	void buildsNewMetaForEveryExecution() throws Exception {
+		CouchbaseQueryMethod queryMethod = queryMethod("findByFirstname", String.class);
+
+		Meta first = OptionsBuilder.buildMeta(queryMethod, User.class);
+		Meta second = OptionsBuilder.buildMeta(queryMethod, User.class);
+
+		assertThat(first).isNotSameAs(second);
+		assertThat((Object) first.get(Meta.MetaKey.SCAN_CONSISTENCY))
+				.isSameAs(queryMethod.getQueryMetadata().getScanConsistency());
+	}
+
+	private static CouchbaseQueryMethod queryMethod(String name, Class<?>... parameterTypes) throws Exception {
+		Method method = UserRepository.class.getMethod(name, parameterTypes);
+		return new CouchbaseQueryMethod(method, new DefaultRepositoryMetadata(UserRepository.class),
+				new SpelAwareProxyProjectionFactory(), new CouchbaseMappingContext());
+	}
+
+}
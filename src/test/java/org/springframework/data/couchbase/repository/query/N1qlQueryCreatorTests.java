@@ -16,6 +16,7 @@
 package org.springframework.data.couchbase.repository.query;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.springframework.data.couchbase.core.query.N1QLExpression.i;
 import static org.springframework.data.couchbase.core.query.N1QLExpression.x;
 import static org.springframework.data.couchbase.core.query.QueryCriteria.where;
@@ -26,6 +27,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
 import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
 import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
@@ -36,8 +38,14 @@ import org.springframework.data.couchbase.domain.Person;
 import org.springframework.data.couchbase.domain.PersonRepository;
 import org.springframework.data.couchbase.domain.User;
 import org.springframework.data.couchbase.domain.UserRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.data.repository.query.DefaultParameters;
 import org.springframework.data.repository.query.ParameterAccessor;
@@ -209,6 +217,70 @@ class N1qlQueryCreatorTests {
 				query.export());
 	}
 
+	@Test
+	void createsExistsQuery() throws Exception {
+		String input = "findByFirstname";
+		PartTree tree = new PartTree(input, User.class);
+		Method method = UserRepository.class.getMethod(input, String.class);
+		QueryMethod queryMethod = new QueryMethod(method, new DefaultRepositoryMetadata(UserRepository.class),
+				new SpelAwareProxyProjectionFactory());
+		N1qlQueryCreator creator = new N1qlQueryCreator(tree, getAccessor(getParameters(method), "Oliver"), queryMethod,
+				converter, bucketName);
+		Query query = creator.createQuery().with(Sort.by("lastname")).limit(10);
+
+		assertEquals(
+				"SELECT RAW 1 FROM `" + bucketName + "` WHERE `_class` = \"abstractuser\" AND `firstname` = $1 LIMIT 1",
+				query.toN1qlExistsString(converter, bucketName, null, null, User.class));
+	}
+
+	@Test
+	void createsNearQueryWithPointAndDistance() throws Exception {
+		String input = "findByLocationNear";
+		PartTree tree = new PartTree(input, Place.class);
+		Method method = PlaceRepository.class.getMethod(input, Point.class, Distance.class);
+		QueryMethod queryMethod = new QueryMethod(method, new DefaultRepositoryMetadata(PlaceRepository.class),
+				new SpelAwareProxyProjectionFactory());
+		N1qlQueryCreator creator = new N1qlQueryCreator(tree,
+				getAccessor(getParameters(method), new Point(13.4, 52.5), new Distance(100, Metrics.KILOMETERS)),
+				queryMethod, converter, bucketName);
+		Query query = creator.createQuery();
+
+		// 100km is 100 / 6378.137 radians of the earth, 0.898 degrees of latitude
+		assertEquals(" WHERE (`location`.y between 51.60168471588048 and 53.39831528411952"
+				+ " and ACOS(LEAST(1, SIN(RADIANS(`location`.y)) * 0.7933533402912352"
+				+ " + COS(RADIANS(`location`.y)) * 0.6087614290087207"
+				+ " * COS(RADIANS(`location`.x) - 0.23387411976724015))) <= 0.01567855942887398)", query.export());
+	}
+
+	@Test
+	void createsNearQueryWithCircle() throws Exception {
+		String input = "findByLocationNear";
+		PartTree tree = new PartTree(input, Place.class);
+		Method method = PlaceRepository.class.getMethod(input, Circle.class);
+		QueryMethod queryMethod = new QueryMethod(method, new DefaultRepositoryMetadata(PlaceRepository.class),
+				new SpelAwareProxyProjectionFactory());
+		N1qlQueryCreator creator = new N1qlQueryCreator(tree,
+				getAccessor(getParameters(method), new Circle(new Point(1, 2), new Distance(2))), queryMethod, converter,
+				bucketName);
+		Query query = creator.createQuery();
+
+		assertEquals(" WHERE (`location`.x between -1.0 and 3.0 and `location`.y between 0.0 and 4.0"
+				+ " and POWER(`location`.x - 1.0, 2) + POWER(`location`.y - 2.0, 2) <= 4.0)", query.export());
+	}
+
+	@Test
+	void rejectsNearQueryWithoutDistance() throws Exception {
+		String input = "findByLocationNear";
+		PartTree tree = new PartTree(input, Place.class);
+		Method method = PlaceRepository.class.getMethod(input, Point.class, Distance.class);
+		QueryMethod queryMethod = new QueryMethod(method, new DefaultRepositoryMetadata(PlaceRepository.class),
+				new SpelAwareProxyProjectionFactory());
+		N1qlQueryCreator creator = new N1qlQueryCreator(tree,
+				getAccessor(getParameters(method), new Point(1, 2), null), queryMethod, converter, bucketName);
+
+		assertThrows(IllegalArgumentException.class, creator::createQuery);
+	}
+
 	private ParameterAccessor getAccessor(Parameters<?, ?> params, Object... values) {
 		return new ParametersParameterAccessor(params, values);
 	}
@@ -217,4 +289,17 @@ class N1qlQueryCreatorTests {
 		return new DefaultParameters(method);
 	}
 
+	static class Place {
+		@Id String id;
+		Point location;
+	}
+
+	interface PlaceRepository extends Repository<Place, String> {
+
+		List<Place> findByLocationNear(Point location, Distance distance);
+
+		List<Place> findByLocationNear(Circle circle);
+
+	}
+
 }
@@ -16,8 +16,13 @@
 package org.springframework.data.couchbase.repository.query;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 import java.util.List;
 
 import org.junit.jupiter.api.AfterAll;
@@ -215,6 +220,28 @@ public class ReactiveCouchbaseRepositoryQueryCollectionIntegrationTests extends
 		}
 	}
 
+	@Test
+	public void testScopedRepositoryAcrossThreads() {
+		ReactiveUserColRepository scoped = userColRepository.withScope(scopeName).withCollection(collectionName);
+		assertSame(scoped, userColRepository.withScope(scopeName).withCollection(collectionName),
+				"scoped repositories should be cached");
+		UserCol user1 = new UserCol("1", "Dave", "Wilson");
+		UserCol user2 = new UserCol("2", "Dave", "Smith");
+		try {
+			List<UserCol> saved = scoped.saveAll(Flux.just(user1, user2).publishOn(Schedulers.parallel())).collectList()
+					.block();
+			assertEquals(2, saved.size());
+			assertEquals(2, Flux.just(user1.getId(), user2.getId()).publishOn(Schedulers.parallel())
+					.flatMap(scoped::findById).collectList().block().size(), "should have found both in the collection");
+			assertEquals(0, userColRepository.withScope(CollectionIdentifier.DEFAULT_SCOPE)
+					.withCollection(CollectionIdentifier.DEFAULT_COLLECTION).findByFirstname(user1.getFirstname())
+					.collectList().block().size(), "should not have found what was saved");
+		} finally {
+			scoped.deleteAll(Flux.just(user1, user2)).onErrorResume(DataRetrievalFailureException.class, e -> Mono.empty())
+					.block();
+		}
+	}
+
 	@Test
 	void stringDeleteCollectionTest() {
 		Airport airport = new Airport(loc(), "vie", "abc");
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.repository.query;
+
+import static com.couchbase.client.java.query.QueryScanConsistency.REQUEST_PLUS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.data.couchbase.util.Util.comprises;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.couchbase.config.AbstractCouchbaseConfiguration;
+import org.springframework.data.couchbase.core.CouchbaseTemplate;
+import org.springframework.data.couchbase.domain.Airline;
+import org.springframework.data.couchbase.domain.QAirline;
+import org.springframework.data.couchbase.domain.ReactiveAirlineRepository;
+import org.springframework.data.couchbase.repository.config.EnableReactiveCouchbaseRepositories;
+import org.springframework.data.couchbase.util.Capabilities;
+import org.springframework.data.couchbase.util.ClusterType;
+import org.springframework.data.couchbase.util.IgnoreWhen;
+import org.springframework.data.couchbase.util.JavaIntegrationTests;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.couchbase.client.core.deps.io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import com.couchbase.client.core.env.SecurityConfig;
+import com.couchbase.client.java.env.ClusterEnvironment;
+import com.querydsl.core.types.dsl.BooleanExpression;
+
+/**
+ * Reactive Querydsl repository tests
+ */
+@SpringJUnitConfig(ReactiveCouchbaseRepositoryQuerydslIntegrationTests.Config.class)
+@IgnoreWhen(missesCapabilities = Capabilities.QUERY, clusterTypes = ClusterType.MOCKED)
+public class ReactiveCouchbaseRepositoryQuerydslIntegrationTests extends JavaIntegrationTests {
+
+	@Autowired ReactiveAirlineRepository airlineRepository;
+
+	static QAirline airline = QAirline.airline;
+	static Airline united = new Airline("reactive-1", "United Airlines", "US");
+	static Airline lufthansa = new Airline("reactive-2", "Lufthansa", "DE");
+	static Airline unitedLowercase = new Airline("reactive-3", "united airlines", "US");
+	static Airline[] saved = new Airline[] { united, lufthansa, unitedLowercase };
+
+	@BeforeAll
+	static public void beforeAll() {
+		callSuperBeforeAll(new Object() {});
+		ApplicationContext ac = new AnnotationConfigApplicationContext(
+				ReactiveCouchbaseRepositoryQuerydslIntegrationTests.Config.class);
+		CouchbaseTemplate template = (CouchbaseTemplate) ac.getBean("couchbaseTemplate");
+		for (Airline airline : saved) {
+			template.insertById(Airline.class).one(airline);
+		}
+		template.findByQuery(Airline.class).withConsistency(REQUEST_PLUS).all();
+	}
+
+	@AfterAll
+	static public void afterAll() {
+		ApplicationContext ac = new AnnotationConfigApplicationContext(
+				ReactiveCouchbaseRepositoryQuerydslIntegrationTests.Config.class);
+		CouchbaseTemplate template = (CouchbaseTemplate) ac.getBean("couchbaseTemplate");
+		for (Airline airline : saved) {
+			template.removeById(Airline.class).one(airline.getId());
+		}
+		template.findByQuery(Airline.class).withConsistency(REQUEST_PLUS).all();
+		callSuperAfterAll(new Object() {});
+	}
+
+	@Test
+	void testFindAll() {
+		BooleanExpression predicate = airline.hqCountry.eq(united.getHqCountry());
+		List<Airline> result = airlineRepository.findAll(predicate).collectList().block();
+		assertNull(comprises(result, united, unitedLowercase), "[unexpected] -> [missing]");
+		List<Airline> sorted = airlineRepository.findAll(predicate, Sort.by("name")).collectList().block();
+		assertEquals(Arrays.asList(united, unitedLowercase), sorted);
+	}
+
+	@Test
+	void testFindOne() {
+		assertEquals(lufthansa, airlineRepository.findOne(airline.name.eq(lufthansa.getName())).block());
+		assertNull(airlineRepository.findOne(airline.name.eq("Fly By Night")).block());
+		assertThrows(IncorrectResultSizeDataAccessException.class,
+				() -> airlineRepository.findOne(airline.hqCountry.eq(united.getHqCountry())).block());
+	}
+
+	@Test
+	void testCountAndExists() {
+		BooleanExpression predicate = airline.hqCountry.eq(united.getHqCountry());
+		assertEquals(2L, airlineRepository.count(predicate).block());
+		assertTrue(airlineRepository.exists(predicate).block());
+		assertFalse(airlineRepository.exists(airline.name.eq("Fly By Night")).block());
+	}
+
+	@Test
+	void testFindByPage() {
+		BooleanExpression predicate = airline.hqCountry.eq(united.getHqCountry());
+		Page<Airline> page = airlineRepository
+				.findBy(predicate, query -> query.sortBy(Sort.by("name")).page(PageRequest.of(0, 1))).block();
+		assertEquals(Arrays.asList(united), page.getContent());
+		assertEquals(2L, page.getTotalElements());
+	}
+
+	@Configuration
+	@EnableReactiveCouchbaseRepositories("org.springframework.data.couchbase")
+	static class Config extends AbstractCouchbaseConfiguration {
+
+		@Override
+		public String getConnectionString() {
+			return connectionString();
+		}
+
+		@Override
+		public String getUserName() {
+			return config().adminUsername();
+		}
+
+		@Override
+		public String getPassword() {
+			return config().adminPassword();
+		}
+
+		@Override
+		public String getBucketName() {
+			return bucketName();
+		}
+
+		@Override
+		public void configureEnvironment(final ClusterEnvironment.Builder builder) {
+			if (config().isUsingCloud()) {
+				builder.securityConfig(
+						SecurityConfig.builder().trustManagerFactory(InsecureTrustManagerFactory.INSTANCE).enableTls(true));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.query.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Point;
+import org.springframework.data.geo.Polygon;
+
+/**
+ * Unit tests for {@link ArrayPointInShapeEvaluator}.
+ */
+class ArrayPointInShapeEvaluatorTests {
+
+	ArrayPointInShapeEvaluator evaluator = new ArrayPointInShapeEvaluator();
+	AwtPointInShapeEvaluator awt = new AwtPointInShapeEvaluator();
+
+	@Test
+	void agreesWithAwtEvaluator() {
+		Polygon polygon = new Polygon(new Point(0, 0), new Point(10, 0), new Point(10, 10), new Point(5, 3),
+				new Point(0, 10));
+		Circle circle = new Circle(new Point(5, 5), new Distance(4));
+		for (double x = -1.03; x < 11; x += 0.37) {
+			for (double y = -1.01; y < 11; y += 0.41) {
+				Point p = new Point(x, y);
+				assertThat(evaluator.pointInPolygon(p, polygon)).as(p.toString()).isEqualTo(awt.pointInPolygon(p, polygon));
+				assertThat(evaluator.pointInCircle(p, circle)).as(p.toString()).isEqualTo(awt.pointInCircle(p, circle));
+			}
+		}
+	}
+
+	@Test
+	void removesFalsePositivesInOrder() {
+		List<Point> points = Arrays.asList(new Point(1, 1), new Point(9, 9), new Point(2, 1), new Point(5, 8));
+		Polygon triangle = new Polygon(new Point(0, 0), new Point(4, 0), new Point(0, 4));
+
+		assertThat(evaluator.removeFalsePositives(points, p -> p, triangle)).containsExactly(new Point(1, 1),
+				new Point(2, 1));
+		assertThat(evaluator.removeFalsePositives(points, p -> p, new Point(5, 5), new Distance(4)))
+				.containsExactly(new Point(5, 8));
+	}
+
+}
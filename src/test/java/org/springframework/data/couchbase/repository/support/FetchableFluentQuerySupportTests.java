@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Unit tests for {@link FetchableFluentQuerySupport}.
+ */
+class FetchableFluentQuerySupportTests {
+
+	@Test
+	void composesSortProjectionAndResultType() {
+		FetchableFluentQuerySupport<String, Object> query = new Fluent<>("predicate", Sort.unsorted(), Object.class,
+				Collections.emptyList());
+
+		FetchableFluentQuerySupport<String, String> derived = (FetchableFluentQuerySupport<String, String>) query
+				.sortBy(Sort.by("name")).project("name").project(Arrays.asList("hqCountry")).sortBy(Sort.by("id"))
+				.as(String.class);
+
+		assertThat(derived.getPredicate()).isEqualTo("predicate");
+		assertThat(derived.getSort()).isEqualTo(Sort.by("name", "id"));
+		assertThat(derived.getFieldsToInclude()).containsExactly("name", "hqCountry");
+		assertThat(derived.getResultType()).isEqualTo(String.class);
+		assertThat(query.getSort().isSorted()).isFalse();
+		assertThat(query.getFieldsToInclude()).isEmpty();
+	}
+
+	static class Fluent<T> extends FetchableFluentQuerySupport<String, T> {
+
+		Fluent(String predicate, Sort sort, Class<T> resultType, List<String> fieldsToInclude) {
+			super(predicate, sort, resultType, fieldsToInclude);
+		}
+
+		@Override
+		protected <R> Fluent<R> create(String predicate, Sort sort, Class<R> resultType, List<String> fieldsToInclude) {
+			return new Fluent<>(predicate, sort, resultType, fieldsToInclude);
+		}
+
+		@Override
+		public T oneValue() {
+			return null;
+		}
+
+		@Override
+		public T firstValue() {
+			return null;
+		}
+
+		@Override
+		public List<T> all() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public Page<T> page(Pageable pageable) {
+			return Page.empty(pageable);
+		}
+
+		@Override
+		public Stream<T> stream() {
+			return Stream.empty();
+		}
+
+		@Override
+		public long count() {
+			return 0;
+		}
+
+		@Override
+		public boolean exists() {
+			return false;
+		}
+	}
+
+}